@@ -0,0 +1,41 @@
+/*
+ * Mars Simulation Project
+ * BenchmarkRunner.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mars_sim.core.SimulationRuntime;
+
+/**
+ * Runs the benchmarks. Takes the same arguments as the JMH runner but the results are
+ * written as JSON to a file named after the build unless another is given, so runs of
+ * different builds can be compared.
+ */
+public class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		var cmd = new CommandLineOptions(args);
+
+		var builder = new OptionsBuilder().parent(cmd);
+		if (cmd.getResult().hasValue()) {
+			builder.result(cmd.getResult().get());
+		}
+		else {
+			builder.result("jmh-" + SimulationRuntime.VERSION.getBuild() + ".json");
+		}
+		builder.resultFormat(cmd.getResultFormat().orElse(ResultFormatType.JSON));
+
+		new Runner(builder.build()).run();
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Mars Simulation Project
+ * BuildingPathBenchmark.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.map.location.BoundedObject;
+import com.mars_sim.core.map.location.LocalPosition;
+import com.mars_sim.core.structure.building.Building;
+import com.mars_sim.core.structure.building.BuildingTemplate;
+import com.mars_sim.core.structure.building.MockBuilding;
+import com.mars_sim.core.structure.building.connection.BuildingConnectorManager;
+import com.mars_sim.core.structure.building.connection.InsideBuildingPath;
+
+/**
+ * Shortest path through a row of buildings joined by connectors. The layout follows
+ * the one of the BuildingConnectorManager unit test repeated along the X axis.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuildingPathBenchmark {
+
+	private static final double SPACING = 12D;
+
+	/** Number of buildings in the row, not counting the connectors. */
+	@Param({"5", "20"})
+	private int buildings;
+
+	private BuildingConnectorManager manager;
+	private Building first;
+	private Building last;
+	private Building middle;
+
+	@Setup
+	public void setUp() {
+		var fixture = new SimFixture();
+		var settlement = fixture.buildSettlement("Path");
+		var bm = settlement.getBuildingManager();
+
+		List<BuildingTemplate> templates = new ArrayList<>();
+		List<Building> halls = new ArrayList<>();
+		for (int k = 0; k < buildings; k++) {
+			// Hall k then the connector to hall k+1
+			int hallId = 2 * k;
+			var hallBounds = new BoundedObject(-SPACING * k, 0D, 6D, 9D, 270D);
+			var hall = new MockBuilding(settlement, hallId, hallBounds);
+			var hallTemplate = new BuildingTemplate(Integer.toString(hallId), 0, "hall", "hall " + k,
+											hallBounds);
+			if (k > 0) {
+				hallTemplate.addBuildingConnection(Integer.toString(hallId - 1), new LocalPosition(0D, 4.5D));
+			}
+			if (k < buildings - 1) {
+				hallTemplate.addBuildingConnection(Integer.toString(hallId + 1), new LocalPosition(0D, -4.5D));
+			}
+			bm.addBuilding(hall, false);
+			templates.add(hallTemplate);
+			halls.add(hall);
+
+			if (k < buildings - 1) {
+				int linkId = hallId + 1;
+				var linkBounds = new BoundedObject((-SPACING * k) - 6D, 0D, 2D, 3D, 270D);
+				var link = new MockBuilding(settlement, linkId, linkBounds);
+				var linkTemplate = new BuildingTemplate(Integer.toString(linkId), 0, "link", "link " + k,
+											linkBounds);
+				linkTemplate.addBuildingConnection(Integer.toString(hallId), new LocalPosition(0D, 1.5D));
+				linkTemplate.addBuildingConnection(Integer.toString(hallId + 2), new LocalPosition(0D, -1.5D));
+				bm.addBuilding(link, false);
+				templates.add(linkTemplate);
+			}
+		}
+
+		manager = new BuildingConnectorManager(settlement, templates);
+		first = halls.get(0);
+		middle = halls.get(buildings / 2);
+		last = halls.get(buildings - 1);
+	}
+
+	@Benchmark
+	public InsideBuildingPath endToEnd() {
+		return manager.determineShortestPath(first, first.getPosition(), last, last.getPosition());
+	}
+
+	@Benchmark
+	public InsideBuildingPath toMiddle() {
+		return manager.determineShortestPath(first, first.getPosition(), middle, middle.getPosition());
+	}
+}
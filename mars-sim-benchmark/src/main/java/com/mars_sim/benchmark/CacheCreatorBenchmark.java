@@ -0,0 +1,71 @@
+/*
+ * Mars Simulation Project
+ * CacheCreatorBenchmark.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.data.Rating;
+import com.mars_sim.core.data.RatingScore;
+import com.mars_sim.core.person.ai.CacheCreator;
+import com.mars_sim.core.tool.RandomUtil;
+
+/**
+ * Weighted random selection as used to pick the next task or mission.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCreatorBenchmark {
+
+	private record Choice(String name, RatingScore score) implements Rating {
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public RatingScore getScore() {
+			return score;
+		}
+	}
+
+	/** Number of choices in the cache; a person typically has a few dozen tasks. */
+	@Param({"10", "50", "200"})
+	private int choices;
+
+	private CacheCreator<Choice> cache;
+
+	@Setup
+	public void setUp() {
+		RandomUtil.setMasterSeed(SimFixture.SEED);
+
+		// No created time so a selection is not removed
+		cache = new CacheCreator<>("Benchmark", null);
+		for (int i = 0; i < choices; i++) {
+			cache.put(new Choice("Choice " + i, new RatingScore(1D + (i % 7))));
+		}
+	}
+
+	@Benchmark
+	public Choice randomSelection() {
+		return cache.getRandomSelection();
+	}
+}
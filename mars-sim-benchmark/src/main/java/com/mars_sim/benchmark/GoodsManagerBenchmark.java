@@ -0,0 +1,58 @@
+/*
+ * Mars Simulation Project
+ * GoodsManagerBenchmark.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.goods.GoodsManager;
+import com.mars_sim.core.map.location.LocalPosition;
+
+/**
+ * A full review of the value of every good of a settlement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GoodsManagerBenchmark {
+
+	private static final int PEOPLE = 8;
+
+	private GoodsManager goods;
+
+	@Setup
+	public void setUp() {
+		var fixture = new SimFixture();
+		var settlement = fixture.buildSettlement("Goods");
+		var bm = settlement.getBuildingManager();
+		fixture.buildGrid(settlement, 3, 2);
+		fixture.buildResearch(bm, new LocalPosition(-20D, 0D), 0D, bm.getNumBuildings());
+		for (int i = 0; i < PEOPLE; i++) {
+			fixture.buildPerson("Person " + i, settlement);
+		}
+
+		goods = new GoodsManager(settlement);
+	}
+
+	@Benchmark
+	public GoodsManager updateGoodValues() {
+		goods.updateGoodValues();
+		return goods;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Mars Simulation Project
+ * LocalAreaBenchmark.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.benchmark;
+
+import java.awt.geom.Line2D;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.LocalAreaUtil;
+import com.mars_sim.core.map.location.Coordinates;
+import com.mars_sim.core.map.location.LocalPosition;
+
+/**
+ * Collision checks against the buildings of a settlement, as done when placing
+ * vehicles and walking outside.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalAreaBenchmark {
+
+	private static final int SAMPLES = 256;
+
+	/** Buildings along each side of the square settlement. */
+	@Param({"3", "8"})
+	private int side;
+
+	private Coordinates location;
+	private LocalPosition[] positions;
+	private Line2D[] lines;
+	private int next = 0;
+
+	@Setup
+	public void setUp() {
+		var fixture = new SimFixture();
+		var settlement = fixture.buildSettlement("Collisions");
+		fixture.buildGrid(settlement, side, side);
+		location = settlement.getCoordinates();
+
+		// Spread over the settlement and a margin around it
+		Random rand = new Random(SimFixture.SEED);
+		double extent = side * 18D;
+		positions = new LocalPosition[SAMPLES];
+		lines = new Line2D[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++) {
+			double x = (rand.nextDouble() * extent * 1.5D) - (extent * 0.25D);
+			double y = (rand.nextDouble() * extent * 1.5D) - (extent * 0.25D);
+			positions[i] = new LocalPosition(x, y);
+			lines[i] = new Line2D.Double(x, y, x + (rand.nextDouble() * 40D) - 20D,
+										y + (rand.nextDouble() * 40D) - 20D);
+		}
+	}
+
+	private int nextSample() {
+		int i = next;
+		next = (next + 1) % SAMPLES;
+		return i;
+	}
+
+	@Benchmark
+	public boolean positionCollision() {
+		return LocalAreaUtil.isPositionCollisionFree(positions[nextSample()], location);
+	}
+
+	@Benchmark
+	public boolean vehicleFootprintCollision() {
+		var p = positions[nextSample()];
+		return LocalAreaUtil.isObjectCollisionFree(null, 4D, 8D, p.getX(), p.getY(), 45D, location);
+	}
+
+	@Benchmark
+	public boolean lineCollision() {
+		return LocalAreaUtil.isLinePathCollisionFree(lines[nextSample()], location, true);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Mars Simulation Project
+ * MicroInventoryBenchmark.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.equipment.MicroInventory;
+import com.mars_sim.core.resource.ResourceUtil;
+
+/**
+ * Storing and retrieving amount resources; done by every container on every pulse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MicroInventoryBenchmark {
+
+	private static final double CAPACITY = 1000D;
+	private static final double AMOUNT = 0.5D;
+
+	private MicroInventory inv;
+	private int[] resources;
+	private int next = 0;
+
+	@Setup
+	public void setUp() {
+		var fixture = new SimFixture();
+		var settlement = fixture.buildSettlement("Inventory");
+
+		resources = new int[] {ResourceUtil.oxygenID, ResourceUtil.waterID, ResourceUtil.co2ID,
+								ResourceUtil.foodID, ResourceUtil.iceID, ResourceUtil.methaneID};
+		inv = new MicroInventory(settlement);
+		for (int r : resources) {
+			inv.setCapacity(r, CAPACITY);
+			inv.storeAmountResource(r, CAPACITY / 2);
+		}
+	}
+
+	/**
+	 * Stores then retrieves the same amount so the inventory does not drift.
+	 */
+	@Benchmark
+	public double storeAndRetrieve() {
+		int r = resources[next];
+		next = (next + 1) % resources.length;
+		double excess = inv.storeAmountResource(r, AMOUNT);
+		return excess + inv.retrieveAmountResource(r, AMOUNT);
+	}
+}
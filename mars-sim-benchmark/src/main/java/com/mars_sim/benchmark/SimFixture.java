@@ -0,0 +1,58 @@
+/*
+ * Mars Simulation Project
+ * SimFixture.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.benchmark;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+import com.mars_sim.core.map.location.LocalPosition;
+import com.mars_sim.core.structure.Settlement;
+import com.mars_sim.core.structure.building.Building;
+import com.mars_sim.core.tool.RandomUtil;
+
+/**
+ * Builds the simulation used by the benchmarks with the same support code as the unit
+ * tests. The random numbers are seeded so every run starts from the same state.
+ */
+public class SimFixture extends AbstractMarsSimUnitTest {
+
+	/** Seed of all the random numbers used by the benchmarks. */
+	public static final long SEED = 20250217L;
+
+	/**
+	 * Creates a simulation with the configuration loaded and no settlements.
+	 */
+	public SimFixture() {
+		super("benchmark");
+		RandomUtil.setMasterSeed(SEED);
+		setUp();
+	}
+
+	@Override
+	public Settlement buildSettlement(String name) {
+		return super.buildSettlement(name);
+	}
+
+	/**
+	 * Builds a grid of buildings in a settlement.
+	 * 
+	 * @param settlement
+	 * @param columns Buildings in each row
+	 * @param rows
+	 * @return
+	 */
+	public Building[] buildGrid(Settlement settlement, int columns, int rows) {
+		Building[] result = new Building[columns * rows];
+		var bm = settlement.getBuildingManager();
+		double spacing = BUILDING_WIDTH * 2;
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				int id = r * columns + c;
+				var pos = new LocalPosition(c * spacing, r * spacing);
+				result[id] = buildBuilding(bm, pos, 0D, id);
+			}
+		}
+		return result;
+	}
+}
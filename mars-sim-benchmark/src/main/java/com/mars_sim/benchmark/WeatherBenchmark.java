@@ -0,0 +1,80 @@
+/*
+ * Mars Simulation Project
+ * WeatherBenchmark.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.environment.Weather;
+import com.mars_sim.core.map.location.Coordinates;
+
+/**
+ * Weather lookups at a spread of locations, as done by vehicles and EVA checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherBenchmark {
+
+	private static final int LOCATIONS = 64;
+
+	private Weather weather;
+	private Coordinates[] locations;
+	private int next = 0;
+
+	@Setup
+	public void setUp() {
+		var fixture = new SimFixture();
+		weather = fixture.getSim().getWeather();
+
+		// Fixed grid so every run looks at the same places
+		locations = new Coordinates[LOCATIONS];
+		for (int i = 0; i < LOCATIONS; i++) {
+			double phi = Math.PI * (i % 8 + 0.5D) / 8D;
+			double theta = 2D * Math.PI * (i / 8 + 0.5D) / 8D;
+			locations[i] = new Coordinates(phi, theta);
+		}
+	}
+
+	private Coordinates nextLocation() {
+		Coordinates c = locations[next];
+		next = (next + 1) % LOCATIONS;
+		return c;
+	}
+
+	@Benchmark
+	public double temperature() {
+		return weather.getTemperature(nextLocation());
+	}
+
+	@Benchmark
+	public double airPressure() {
+		return weather.getAirPressure(nextLocation());
+	}
+
+	@Benchmark
+	public double windSpeed() {
+		return weather.getWindSpeed(nextLocation());
+	}
+
+	@Benchmark
+	public double airDensity() {
+		return weather.computeAirDensity(nextLocation());
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Mars Simulation Project
+ * MapProjectionBenchmark.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.map;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.benchmark.SimFixture;
+
+/**
+ * Projection of a map onto the globe view, as done for every repaint of the navigator.
+ * It lives in the map package to reach the projection code directly. The map pixels are
+ * generated as the real maps are downloaded on first use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapProjectionBenchmark {
+
+	private static final int MAP_WIDTH = 2048;
+	private static final int MAP_HEIGHT = MAP_WIDTH / 2;
+	private static final double CENTER_PHI = Math.PI / 3;
+	private static final double CENTER_THETA = Math.PI / 4;
+
+	/** Size of the map box in pixels. */
+	@Param({"300", "512"})
+	private int box;
+
+	private int[] pixels;
+	private MapTiles tiles;
+	private int[] mapArray;
+	private double rho;
+
+	@Setup
+	public void setUp() {
+		Random rand = new Random(SimFixture.SEED);
+		pixels = new int[MAP_WIDTH * MAP_HEIGHT];
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] = rand.nextInt() | 0xff000000;
+		}
+		tiles = new MapTiles(pixels, MAP_WIDTH, new MapTileCache(MapTileCache.DEFAULT_BUDGET));
+		mapArray = new int[box * box];
+		rho = MAP_HEIGHT / Math.PI;
+	}
+
+	@Benchmark
+	public int[] singleThread() {
+		IntegerMapData.cpu0(pixels, MAP_WIDTH, CENTER_PHI, CENTER_THETA, box, box, rho, mapArray);
+		return mapArray;
+	}
+
+	@Benchmark
+	public int[] tiled() {
+		IntegerMapData.cpu(tiles, 0, CENTER_PHI, CENTER_THETA, box, box, rho, mapArray);
+		return mapArray;
+	}
+
+	@Benchmark
+	public int[] tiledZoomedOut() {
+		// Whole globe in the box so a smaller level is read
+		double smallRho = box / Math.PI;
+		IntegerMapData.cpu(tiles, tiles.chooseLevel(smallRho), CENTER_PHI, CENTER_THETA, box, box,
+							smallRho, mapArray);
+		return mapArray;
+	}
+}
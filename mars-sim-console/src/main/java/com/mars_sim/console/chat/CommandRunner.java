@@ -0,0 +1,297 @@
+/*
+ * Mars Simulation Project
+ * CommandRunner.java
+ * @date 2026-10-19
+ */
+
+package com.mars_sim.console.chat;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Runs a command on a worker thread and streams what it prints back to the user.
+ * The worker holds the read side of the pulse lock of the clock so the simulation does
+ * not change whilst the command works out a piece of output. The lock is let go every
+ * time a piece is passed on, so a pulse is only held up for as long as one piece takes
+ * and never by a slow user: the output is queued and the worker waits for the user,
+ * either because the queue is full or because it asks for input, without the lock.
+ * Long output is shown a page at a time and the user can stop the command.
+ */
+final class CommandRunner implements CancellableCommand {
+
+	/**
+	 * Text to show or, if there is a reply, a prompt for the user.
+	 */
+	private record Item(String text, boolean newLine, CompletableFuture<String> reply) {}
+
+	private static final Item END = new Item(null, false, null);
+
+	/** Items queued before the worker has to wait for the user. */
+	static final int MAX_QUEUED = 5000;
+
+	private static final String MORE_PROMPT = "-- More: Enter to continue, q to stop --";
+
+	private static final ExecutorService workers = Executors.newCachedThreadPool(r -> {
+		Thread t = new Thread(r, "console-command");
+		t.setDaemon(true);
+		return t;
+	});
+
+	private final Conversation context;
+	private final ChatCommand command;
+	private final String parameter;
+	private final Lock snapshot;
+	private final BlockingQueue<Item> queue = new LinkedBlockingQueue<>(MAX_QUEUED);
+
+	private volatile boolean cancelled = false;
+	private volatile Thread worker;
+
+	// Only used by the worker
+	private boolean locked = false;
+
+	// Published to the session by the end item
+	private boolean result = false;
+	private RuntimeException failure;
+
+	/**
+	 * Creates a run of a command.
+	 *
+	 * @param context Conversation of the user
+	 * @param command
+	 * @param parameter
+	 * @param snapshot Held while the command reads the simulation; may be null
+	 */
+	CommandRunner(Conversation context, ChatCommand command, String parameter, Lock snapshot) {
+		this.context = context;
+		this.command = command;
+		this.parameter = parameter;
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * Runs the command and shows the output until it completes or is cancelled.
+	 * Must be called by the session thread.
+	 *
+	 * @return Did the command execute
+	 */
+	boolean run() {
+		CancellableCommand previous = context.getActiveCommand();
+		context.setActiveCommand(this);
+		workers.execute(this::work);
+
+		boolean finished = false;
+		try {
+			stream();
+			finished = true;
+		}
+		finally {
+			if (!finished) {
+				// Nobody is left to drain the queue so do not leave the worker waiting on it
+				cancel();
+				queue.clear();
+			}
+			if (context.getActiveCommand() == this) {
+				context.setActiveCommand(previous);
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+		return result;
+	}
+
+	/**
+	 * Takes the queued items and passes them to the user.
+	 */
+	private void stream() {
+		int pageSize = context.getPageSize();
+		int lines = 0;
+		try {
+			Item item = queue.take();
+			while (item != END) {
+				if (cancelled) {
+					if (item.reply() != null) {
+						item.reply().cancel(false);
+					}
+				}
+				else if (item.reply() != null) {
+					item.reply().complete(context.getChannel().getInput(item.text()));
+					lines = 0;
+				}
+				else {
+					lines = show(item, lines, pageSize);
+				}
+				item = queue.take();
+			}
+		}
+		catch (InterruptedException e) {
+			cancel();
+			queue.clear();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Shows some text pausing at the end of each page.
+	 *
+	 * @return Lines shown on the current page
+	 */
+	private int show(Item item, int lines, int pageSize) {
+		UserChannel comms = context.getChannel();
+		if (pageSize <= 0) {
+			if (item.newLine()) {
+				comms.println(item.text());
+			}
+			else {
+				comms.print(item.text());
+			}
+			return 0;
+		}
+
+		String[] parts = item.text().split("\n", -1);
+		for (int i = 0; i < parts.length; i++) {
+			boolean last = (i == parts.length - 1);
+			if (!last || item.newLine()) {
+				comms.println(parts[i]);
+				lines++;
+			}
+			else if (!parts[i].isEmpty()) {
+				comms.print(parts[i]);
+			}
+
+			if ((lines >= pageSize) && (!last || hasMore())) {
+				lines = 0;
+				String answer = comms.getInput(MORE_PROMPT);
+				if ((answer != null) && answer.trim().equalsIgnoreCase("q")) {
+					cancel();
+					return lines;
+				}
+			}
+		}
+		return lines;
+	}
+
+	private boolean hasMore() {
+		Item next = queue.peek();
+		return (next != null) && (next != END);
+	}
+
+	/**
+	 * Executes the command on the worker thread.
+	 */
+	private void work() {
+		worker = Thread.currentThread();
+		lock();
+		try {
+			result = command.execute(context, parameter);
+		}
+		catch (CancellationException e) {
+			// User stopped it
+			result = false;
+		}
+		catch (RuntimeException e) {
+			failure = e;
+		}
+		finally {
+			unlock();
+			worker = null;
+			try {
+				queue.put(END);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Is the calling thread the one executing the command?
+	 */
+	boolean isWorker() {
+		return Thread.currentThread() == worker;
+	}
+
+	/**
+	 * Passes output of the command to the user. Called by the worker.
+	 *
+	 * @param text
+	 * @param newLine Does a new line follow the text
+	 * @throws CancellationException If the user has stopped the command
+	 */
+	void print(String text, boolean newLine) {
+		send(new Item(text, newLine, null));
+	}
+
+	/**
+	 * Asks the user for input on behalf of the command. Called by the worker.
+	 *
+	 * @param prompt
+	 * @return
+	 * @throws CancellationException If the user has stopped the command
+	 */
+	String getInput(String prompt) {
+		var reply = new CompletableFuture<String>();
+		// The user may take a while so let the simulation carry on
+		unlock();
+		try {
+			send(new Item(prompt, false, reply));
+			return reply.join();
+		}
+		finally {
+			lock();
+		}
+	}
+
+	private void send(Item item) {
+		if (cancelled) {
+			throw new CancellationException("Command stopped");
+		}
+
+		// Let a waiting pulse go ahead; this also means the simulation carries on
+		// if the user has fallen behind and the queue is full
+		boolean relock = locked;
+		unlock();
+		try {
+			queue.put(item);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Command interrupted");
+		}
+		finally {
+			if (relock) {
+				lock();
+			}
+		}
+	}
+
+	private void lock() {
+		if ((snapshot != null) && !locked) {
+			snapshot.lock();
+			locked = true;
+		}
+	}
+
+	private void unlock() {
+		if (locked) {
+			snapshot.unlock();
+			locked = false;
+		}
+	}
+
+	/**
+	 * Stops the command; it ends when it next prints anything and any output still
+	 * queued is dropped.
+	 */
+	@Override
+	public void cancel() {
+		cancelled = true;
+	}
+}
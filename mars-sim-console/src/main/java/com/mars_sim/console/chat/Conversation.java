@@ -15,6 +15,7 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -48,6 +49,10 @@ public class Conversation implements UserOutbound {
 
 	private Simulation sim;
 	private Set<ConversationRole> roles = null;
+
+	// Command being run on a worker thread
+	private volatile CommandRunner running;
+	private int pageSize = 0;
 	
 	/**
 	 * Starts a conversation with the user using a Comms Channel starting with a certain command.
@@ -180,18 +185,93 @@ public class Conversation implements UserOutbound {
 		current = previous.pop();
 	}
 
+	/**
+	 * Executes a command. Interactive commands run on the session thread as they change
+	 * the conversation; others run on a worker thread against a steady simulation and
+	 * their output is streamed back.
+	 * 
+	 * @param command
+	 * @param parameter
+	 * @return Did it execute
+	 */
+	public boolean execute(ChatCommand command, String parameter) {
+		if (command.isInteractive() || (running != null)) {
+			return command.execute(this, parameter);
+		}
+
+		CommandRunner runner = new CommandRunner(this, command, parameter, getSnapshotLock());
+		running = runner;
+		try {
+			return runner.run();
+		}
+		finally {
+			running = null;
+		}
+	}
+
+	/**
+	 * Gets the lock that stops the simulation changing whilst it is held.
+	 */
+	private Lock getSnapshotLock() {
+		if ((sim == null) || (sim.getMasterClock() == null)) {
+			return null;
+		}
+		return sim.getMasterClock().getPulseLock().readLock();
+	}
+
+	/**
+	 * Gets the runner if the caller is the thread executing its command.
+	 */
+	private CommandRunner getRunner() {
+		CommandRunner r = running;
+		return ((r != null) && r.isWorker()) ? r : null;
+	}
+
+	UserChannel getChannel() {
+		return comms;
+	}
+
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * Sets how many lines of output are shown before pausing for the user.
+	 * 
+	 * @param pageSize Zero for no paging
+	 */
+	public void setPageSize(int pageSize) {
+		this.pageSize = pageSize;
+	}
+
 	public String getInput(String prompt) {
+		CommandRunner r = getRunner();
+		if (r != null) {
+			return r.getInput(prompt);
+		}
 		return comms.getInput(prompt);
 	}
 
 
 	public void println(String text) {
-		comms.println(text);
+		CommandRunner r = getRunner();
+		if (r != null) {
+			r.print(text, true);
+		}
+		else {
+			comms.println(text);
+		}
 	}
 
 
 	public void print(String text) {
-		comms.print(text);
+		CommandRunner r = getRunner();
+		if (r != null) {
+			r.print(text, false);
+		}
+		else {
+			comms.print(text);
+		}
 	}
 
 	public CancellableCommand getActiveCommand() {
@@ -137,7 +137,7 @@ public class InteractiveChatCommand extends ChatCommand {
 			if (preamble != null) {
 				context.println(preamble);
 			}
-			return result.command.execute(context, result.parameter);
+			return context.execute(result.command, result.parameter);
 		} else {
 			// Don't know the command so prompt the help
 			context.println("Sorry I didn't understand you. Here is what I know about");
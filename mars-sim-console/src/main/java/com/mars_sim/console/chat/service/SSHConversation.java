@@ -15,6 +15,9 @@ import com.mars_sim.core.Simulation;
 
 public class SSHConversation extends Conversation {
 
+	// Lines shown before pausing; a remote terminal does not scroll back easily
+	private static final int PAGE_SIZE = 40;
+
 	private String username;
 	private RemoteChatService parent;
 
@@ -23,6 +26,7 @@ public class SSHConversation extends Conversation {
 		super(sshChannel, new RemoteTopLevel(username), roles, sim);
 		this.username = username;
 		this.parent = parent;
+		setPageSize(PAGE_SIZE);
 	}
 
 	public RemoteChatService getService() {
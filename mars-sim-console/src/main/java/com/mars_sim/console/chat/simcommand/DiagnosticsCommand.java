@@ -9,18 +9,25 @@ package com.mars_sim.console.chat.simcommand;
 
 import java.io.FileNotFoundException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import com.mars_sim.console.chat.ChatCommand;
 import com.mars_sim.console.chat.Conversation;
 import com.mars_sim.console.chat.ConversationRole;
 import com.mars_sim.core.logging.DiagnosticsManager;
+import com.mars_sim.core.logging.PulseProfiler;
+import com.mars_sim.core.logging.PulseProfiler.Sample;
 
 /**
- * Controls which diagnostics are enabled.
+ * Controls which diagnostics are enabled. The <i>profile</i> argument controls the
+ * pulse profiler and shows where the time goes.
  */
 public class DiagnosticsCommand extends ChatCommand {
 	public static final ChatCommand DIAGNOSTICS = new DiagnosticsCommand();
+
+	private static final String PROFILE = "profile";
+	private static final int DEFAULT_TOP = 10;
 	
 
 	private DiagnosticsCommand() {
@@ -30,6 +37,10 @@ public class DiagnosticsCommand extends ChatCommand {
 
 	@Override
 	public boolean execute(Conversation context, String input) {
+		if ((input != null) && input.trim().toLowerCase().startsWith(PROFILE)) {
+			return executeProfile(context, input.trim().substring(PROFILE.length()).trim());
+		}
+
 		String module = null;
 		boolean enabled = true;
 		if (input != null) {
@@ -69,10 +80,78 @@ public class DiagnosticsCommand extends ChatCommand {
 		return result;
 	}
 	
+	/**
+	 * Controls the pulse profiler or shows the top N entries.
+	 * 
+	 * @param context
+	 * @param arg One of on, off, alloc, reset or the number of entries
+	 * @return
+	 */
+	private boolean executeProfile(Conversation context, String arg) {
+		int top = DEFAULT_TOP;
+		switch (arg.toLowerCase()) {
+			case "on" -> {
+				PulseProfiler.setEnabled(true);
+				context.println("Pulse profiling enabled");
+				return true;
+			}
+			case "off" -> {
+				PulseProfiler.setEnabled(false);
+				PulseProfiler.setAllocationTracking(false);
+				context.println("Pulse profiling disabled");
+				return true;
+			}
+			case "alloc" -> {
+				PulseProfiler.setEnabled(true);
+				PulseProfiler.setAllocationTracking(true);
+				context.println("Pulse profiling enabled with allocation tracking "
+								+ (PulseProfiler.isAllocationTracking() ? "on" : "unsupported"));
+				return true;
+			}
+			case "reset" -> {
+				PulseProfiler.reset();
+				context.println("Pulse profiling reset");
+				return true;
+			}
+			case "" -> top = DEFAULT_TOP;
+			default -> {
+				try {
+					top = Integer.parseInt(arg);
+				}
+				catch (NumberFormatException e) {
+					context.println("Sorry wrong format. Must be " + PROFILE + " [on|off|alloc|reset|<count>]");
+					return false;
+				}
+			}
+		}
+
+		if (!PulseProfiler.isEnabled()) {
+			context.println("Pulse profiling is disabled; use '" + PROFILE + " on'");
+		}
+
+		StructuredResponse response = new StructuredResponse();
+		appendSamples(response, "Subsystem", PulseProfiler.getTopSubsystems(top));
+		response.appendBlankLine();
+		appendSamples(response, "Settlement", PulseProfiler.getTopSources(top));
+		context.println(response.getOutput());
+		return true;
+	}
+
+	private static void appendSamples(StructuredResponse response, String heading, List<Sample> samples) {
+		response.appendTableHeading(heading, CommandHelper.PERSON_WIDTH, "Calls", "Total ms", "Mean us",
+									"P50 us", "P99 us", "Max us", "Alloc KB");
+		for (Sample s : samples) {
+			response.appendTableRow(s.name(), s.calls(), s.getMillis(), s.getMeanMicros(),
+									s.p50Nanos() / 1000D, s.p99Nanos() / 1000D, s.maxNanos() / 1000D,
+									s.allocatedBytes() / 1024);
+		}
+	}
+
 	private void printHelp(Conversation context) {
 		String modules = Arrays.stream(DiagnosticsManager.MODULE_NAMES).collect(
 						Collectors.joining(",", "'", "'"));
 		context.println("Sorry wrong format. Must have arguments of <module name> <Y|N>");
 		context.println("Module names are " + modules);
+		context.println("Or use " + PROFILE + " [on|off|alloc|reset|<count>] to show the pulse timings");
 	}
 }
@@ -9,14 +9,18 @@ package com.mars_sim.console.chat.simcommand;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import com.mars_sim.console.chat.ChatCommand;
 import com.mars_sim.console.chat.Conversation;
+import com.mars_sim.core.events.EventQuery;
 import com.mars_sim.core.events.HistoricalEvent;
+import com.mars_sim.core.events.HistoricalEventCategory;
 import com.mars_sim.core.events.HistoricalEventManager;
 
 /**
- * Command to stop speaking with an entity.
+ * Command to display the recent events. An optional argument picks a category or
+ * settlement.
  * This is a singleton.
  */
 public class EventCommand extends ChatCommand {
@@ -27,12 +31,21 @@ public class EventCommand extends ChatCommand {
 
 	private EventCommand() {
 		super(TopLevel.SIMULATION_GROUP, "ev", "events", "Display recent events");
+		setArguments(HistoricalEventCategory.valuesList().stream()
+						.map(HistoricalEventCategory::getName)
+						.collect(Collectors.toList()));
 	}
 
 	@Override
 	public boolean execute(Conversation context, String input) {
 		HistoricalEventManager mgr = context.getSim().getEventManager();
-		List<HistoricalEvent> events = mgr.getEvents();
+		EventQuery query = EventQuery.all().limit(EVENT_SIZE + 1);
+		if ((input != null) && !input.isBlank()) {
+			HistoricalEventCategory category = HistoricalEventCategory.str2enum(input.trim());
+			query = (category != null ? query.withCategory(category)
+							: query.withSettlement(input.trim()));
+		}
+		List<HistoricalEvent> events = mgr.getEvents(query);
 		
 		if (events.isEmpty()) {
 			context.println("None to display");
@@ -40,10 +53,7 @@ public class EventCommand extends ChatCommand {
 		else {
 			StructuredResponse response = new StructuredResponse();
 			
-			int latest = events.size() - 1;
-			int lastId = Math.max(latest - EVENT_SIZE, 0);
-			for(int idx = latest; idx >= lastId; idx--) {
-				HistoricalEvent e = events.get(idx);
+			for(HistoricalEvent e : events) {
 				String source = Objects.requireNonNullElse(e.getSource(), "").toString();
 				
 				response.appendHeading(e.getCategory().getName() + " @ " + e.getTimestamp().getDateTimeStamp());
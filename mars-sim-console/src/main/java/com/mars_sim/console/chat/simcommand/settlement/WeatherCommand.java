@@ -16,6 +16,7 @@ import com.mars_sim.console.chat.ConversationRole;
 import com.mars_sim.console.chat.simcommand.CommandHelper;
 import com.mars_sim.console.chat.simcommand.StructuredResponse;
 import com.mars_sim.core.Simulation;
+import com.mars_sim.core.data.TimeSeriesView;
 import com.mars_sim.core.environment.DustStorm;
 import com.mars_sim.core.environment.DustStormType;
 import com.mars_sim.core.environment.OrbitInfo;
@@ -29,6 +30,7 @@ public class WeatherCommand extends AbstractSettlementCommand {
 
 	private static final String AIR_DENSITY = "%.2f g/m\u00B3";
 	private static final String SOLAR_IRR =  "%.2f W/m\u00B2";
+	private static final int RECORDED_SOLS = 7;
 	
 	private WeatherCommand() {
 		super("w", "weather", "Settlement weather");
@@ -41,6 +43,23 @@ public class WeatherCommand extends AbstractSettlementCommand {
 		response.appendLabeledString("Size", String.format(CommandHelper.KM_FORMAT, (double)ds.getSize()));
 	}
 
+	private void outputRecorded(TimeSeriesView history, StructuredResponse response) {
+		response.appendHeading("Recorded Weather");
+		response.appendTableHeading("Metric", 20, "Average", "Min", "Max");
+		outputRecordedRow(history, Weather.TEMPERATURE, "Temperature", CommandHelper.CELSIUS_FORMAT, response);
+		outputRecordedRow(history, Weather.AIR_PRESSURE, "Air Pressure", CommandHelper.KPA_FORMAT, response);
+		outputRecordedRow(history, Weather.WIND_SPEED, "Wind Speed", CommandHelper.MS_FORMAT, response);
+		outputRecordedRow(history, Weather.SOLAR_IRRADIANCE, "Solar Irradiance", SOLAR_IRR, response);
+		outputRecordedRow(history, Weather.OPTICAL_DEPTH, "Optical Depth", CommandHelper.DOUBLE_FORMAT, response);
+	}
+
+	private void outputRecordedRow(TimeSeriesView history, int column, String label, String format,
+									StructuredResponse response) {
+		response.appendTableRow(label, String.format(format, history.getAverage(column, RECORDED_SOLS)),
+								String.format(format, history.getMin(column, RECORDED_SOLS)),
+								String.format(format, history.getMax(column, RECORDED_SOLS)));
+	}
+
 	@Override
 	protected boolean execute(Conversation context, String input, Settlement settlement) {
 		StructuredResponse response = new StructuredResponse();
@@ -76,6 +95,11 @@ public class WeatherCommand extends AbstractSettlementCommand {
 		double si = surfaceFeatures.getSolarIrradiance(location);
 		response.appendLabeledString("Solar Irradiance", String.format(SOLAR_IRR, si));
 		
+		TimeSeriesView history = weather.getWeatherHistory(location);
+		if (history != null) {
+			outputRecorded(history, response);
+		}
+
 		DustStorm ds = settlement.getDustStorm();
 		if (ds != null) {
 			outputDustStorm(ds, response);
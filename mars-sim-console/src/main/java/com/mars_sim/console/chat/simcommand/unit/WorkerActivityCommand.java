@@ -13,6 +13,7 @@ import com.mars_sim.console.chat.Conversation;
 import com.mars_sim.console.chat.simcommand.StructuredResponse;
 import com.mars_sim.core.Unit;
 import com.mars_sim.core.data.History.HistoryItem;
+import com.mars_sim.core.person.ai.task.util.ActivityJournal;
 import com.mars_sim.core.person.ai.task.util.OneActivity;
 import com.mars_sim.core.person.ai.task.util.TaskManager;
 import com.mars_sim.core.person.ai.task.util.Worker;
@@ -22,8 +23,11 @@ import com.mars_sim.core.person.ai.task.util.Worker;
  */
 public class WorkerActivityCommand extends AbstractUnitCommand {
 	
+	// Matches the columns of the table heading
+	private static final String ROW_FORMAT = "%8s | %20s | %-32s | %5s";
+
 	public WorkerActivityCommand(String group) {
-		super(group, "ac", "activities", "Activites done by the Worker");
+		super(group, "ac", "activities", "Activites done by the Worker; 'archive' shows the older ones");
 	}
 
 	/** 
@@ -42,13 +46,14 @@ public class WorkerActivityCommand extends AbstractUnitCommand {
 			return false;
 		}
 		
+		if ("archive".equalsIgnoreCase(input)) {
+			showArchived(context, tManager.getAllActivities());
+			return true;
+		}
+
 		List<HistoryItem<OneActivity>> tasks = tManager.getAllActivities().getChanges();
 		
-		StructuredResponse response = new StructuredResponse();
-		response.appendTableHeading("When", 8,
-						"Task", 20,
-									"Activity", -32,
-									"Phase");
+		StructuredResponse response = createHeading();
 		for (HistoryItem<OneActivity> attr : tasks) {
 			OneActivity act = attr.getWhat();
 			response.appendTableRow(attr.getWhen().getDateTimeStamp(),
@@ -60,4 +65,26 @@ public class WorkerActivityCommand extends AbstractUnitCommand {
 		
 		return true;
 	}
+
+	private static StructuredResponse createHeading() {
+		StructuredResponse response = new StructuredResponse();
+		response.appendTableHeading("When", 8,
+						"Task", 20,
+									"Activity", -32,
+									"Phase");
+		return response;
+	}
+
+	/**
+	 * Shows the archived activities a row at a time as they are read so a long archive
+	 * is paged and can be stopped.
+	 */
+	private static void showArchived(Conversation context, ActivityJournal journal) {
+		context.print(createHeading().getOutput());
+		journal.readArchived(i -> {
+			OneActivity act = i.getWhat();
+			context.println(String.format(ROW_FORMAT, i.getWhen().getDateTimeStamp(),
+									act.getTaskName(), act.getDescription(), act.getPhase()));
+		});
+	}
 }
@@ -0,0 +1,322 @@
+package com.mars_sim.console.chat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+
+import org.junit.jupiter.api.Test;
+
+class CommandRunnerTest {
+
+    /**
+     * Channel that records the output and answers prompts from a script.
+     */
+    private static class FakeChannel implements UserChannel {
+        final List<String> output = Collections.synchronizedList(new ArrayList<>());
+        final List<String> prompts = new ArrayList<>();
+        final Deque<String> answers = new ArrayDeque<>();
+
+        @Override
+        public String getInput(String prompt) {
+            prompts.add(prompt);
+            String answer = answers.poll();
+            return (answer != null ? answer : "");
+        }
+
+        @Override
+        public void println(String text) {
+            output.add(text);
+        }
+
+        @Override
+        public void print(String text) {
+            output.add(text);
+        }
+
+        @Override
+        public void close() {
+            // Nothing to close
+        }
+
+        @Override
+        public boolean registerHandler(String keyStroke, UserOutbound listener, boolean interuptExecution) {
+            return true;
+        }
+
+        @Override
+        public String getPartialInput() {
+            return "";
+        }
+
+        @Override
+        public void replaceUserInput(String replacement) {
+            // Nothing to replace
+        }
+    }
+
+    private static ChatCommand command(BiPredicate<Conversation, String> action) {
+        return new ChatCommand("Test", "t", "test", "Command under test") {
+            @Override
+            public boolean execute(Conversation context, String input) {
+                return action.test(context, input);
+            }
+        };
+    }
+
+    private static Conversation createConversation(FakeChannel channel, int pageSize) {
+        var context = new Conversation(channel, null, Set.of(), null);
+        context.setPageSize(pageSize);
+        return context;
+    }
+
+    @Test
+    void testPaging() {
+        var channel = new FakeChannel();
+        var context = createConversation(channel, 2);
+
+        var cmd = command((c, i) -> {
+            c.println("1\n2\n3\n4\n5");
+            return true;
+        });
+
+        assertTrue("Command executed", context.execute(cmd, null));
+        assertEquals("All lines shown", List.of("1", "2", "3", "4", "5"), channel.output);
+        assertEquals("Pause after each full page", 2, channel.prompts.size());
+        assertNull("Active command restored", context.getActiveCommand());
+    }
+
+    @Test
+    void testQuitAtMore() {
+        var channel = new FakeChannel();
+        channel.answers.add("q");
+        var context = createConversation(channel, 2);
+
+        var cmd = command((c, i) -> {
+            c.println("1\n2\n3\n4");
+            while (true) {
+                c.println("more");
+            }
+        });
+
+        assertFalse("Command stopped", context.execute(cmd, null));
+        assertEquals("Only first page shown", List.of("1", "2"), channel.output);
+        assertEquals("One pause", 1, channel.prompts.size());
+    }
+
+    @Test
+    void testCancel() throws InterruptedException {
+        var channel = new FakeChannel();
+        var context = createConversation(channel, 0);
+
+        var started = new CountDownLatch(1);
+        var cmd = command((c, i) -> {
+            started.countDown();
+            while (true) {
+                c.println("tick");
+                try {
+                    Thread.sleep(1);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return true;
+                }
+            }
+        });
+
+        // Escape key comes in on another thread
+        Thread user = new Thread(() -> {
+            try {
+                started.await();
+                context.keyStrokeApplied(Conversation.CANCEL_KEY);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        user.start();
+
+        assertFalse("Command cancelled", context.execute(cmd, null));
+        user.join();
+        assertNull("Active command cleared", context.getActiveCommand());
+    }
+
+    @Test
+    void testGetInput() {
+        var channel = new FakeChannel();
+        channel.answers.add("Mars");
+        var context = createConversation(channel, 0);
+
+        var cmd = command((c, i) -> {
+            String reply = c.getInput("Planet?");
+            c.println("Hello " + reply);
+            return true;
+        });
+
+        assertTrue("Command executed", context.execute(cmd, null));
+        assertEquals("Prompt passed to user", List.of("Planet?"), channel.prompts);
+        assertEquals("Reply passed to command", List.of("Hello Mars"), channel.output);
+    }
+
+    @Test
+    void testFailure() {
+        var channel = new FakeChannel();
+        var context = createConversation(channel, 0);
+
+        var problem = new IllegalStateException("Broken");
+        var cmd = command((c, i) -> {
+            c.println("Before");
+            throw problem;
+        });
+
+        var thrown = assertThrows(IllegalStateException.class, () -> context.execute(cmd, null));
+        assertSame("Failure passed to session", problem, thrown);
+        assertEquals("Output before the failure shown", List.of("Before"), channel.output);
+    }
+
+    @Test
+    void testFullQueue() throws Exception {
+        var userStuck = new CountDownLatch(1);
+        var channel = new FakeChannel() {
+            @Override
+            public void println(String text) {
+                try {
+                    userStuck.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.println(text);
+            }
+        };
+        var context = createConversation(channel, 0);
+
+        int total = CommandRunner.MAX_QUEUED + 10;
+        var sent = new AtomicInteger();
+        var runner = new AtomicReference<CommandRunner>();
+        var cmd = command((c, i) -> {
+            for (int l = 0; l < total; l++) {
+                runner.get().print("Line " + l, true);
+                sent.incrementAndGet();
+            }
+            return true;
+        });
+
+        var lock = new ReentrantReadWriteLock();
+        runner.set(new CommandRunner(context, cmd, null, lock.readLock()));
+
+        ExecutorService session = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> result = session.submit(() -> runner.get().run());
+
+            // One line with the user and a full queue
+            int expected = CommandRunner.MAX_QUEUED + 1;
+            long deadline = System.currentTimeMillis() + 10000;
+            while ((sent.get() < expected) && (System.currentTimeMillis() < deadline)) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(200);
+            assertEquals("Command waits for the user", expected, sent.get());
+
+            // Simulation is not held up whilst waiting
+            boolean pulse = lock.writeLock().tryLock(5, TimeUnit.SECONDS);
+            assertTrue("Pulse not blocked", pulse);
+            lock.writeLock().unlock();
+
+            userStuck.countDown();
+            assertTrue("Command completed", result.get(10, TimeUnit.SECONDS));
+            assertEquals("All lines shown", total, channel.output.size());
+            assertEquals("Last line", "Line " + (total - 1), channel.output.get(total - 1));
+        }
+        finally {
+            userStuck.countDown();
+            session.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPulseBetweenOutput() throws Exception {
+        var channel = new FakeChannel();
+        var context = createConversation(channel, 0);
+        var lock = new ReentrantReadWriteLock();
+
+        var pulsed = new AtomicReference<Boolean>(false);
+        Thread clock = new Thread(() -> {
+            lock.writeLock().lock();
+            pulsed.set(true);
+            lock.writeLock().unlock();
+        });
+
+        var runner = new AtomicReference<CommandRunner>();
+        var pulseBeforeOutput = new AtomicReference<Boolean>();
+        var pulseAfterOutput = new AtomicReference<Boolean>();
+        var cmd = command((c, i) -> {
+            // Pulse waits for the command
+            clock.start();
+            while (!lock.hasQueuedThreads()) {
+                Thread.onSpinWait();
+            }
+            pulseBeforeOutput.set(pulsed.get());
+            runner.get().print("Line", true);
+            pulseAfterOutput.set(pulsed.get());
+            return true;
+        });
+        runner.set(new CommandRunner(context, cmd, null, lock.readLock()));
+
+        assertTrue("Command executed", runner.get().run());
+        clock.join();
+        assertFalse("Pulse held whilst reading", pulseBeforeOutput.get());
+        assertTrue("Pulse let through by the output", pulseAfterOutput.get());
+    }
+
+    @Test
+    void testLockReleasedForInput() throws Exception {
+        var lock = new ReentrantReadWriteLock();
+        var pulseDuringInput = new AtomicReference<Boolean>();
+        var channel = new FakeChannel() {
+            @Override
+            public String getInput(String prompt) {
+                // A pulse can happen whilst the user thinks
+                boolean pulse = lock.writeLock().tryLock();
+                if (pulse) {
+                    lock.writeLock().unlock();
+                }
+                pulseDuringInput.set(pulse);
+                return super.getInput(prompt);
+            }
+        };
+        var context = createConversation(channel, 0);
+
+        var runner = new AtomicReference<CommandRunner>();
+        var heldWhilstRunning = new AtomicReference<Boolean>();
+        var cmd = command((c, i) -> {
+            heldWhilstRunning.set(lock.getReadLockCount() == 1);
+            runner.get().getInput("Continue?");
+            return true;
+        });
+        runner.set(new CommandRunner(context, cmd, null, lock.readLock()));
+
+        assertTrue("Command executed", runner.get().run());
+        assertTrue("Snapshot held by the command", heldWhilstRunning.get());
+        assertTrue("Snapshot released for input", pulseDuringInput.get());
+        assertEquals("Snapshot released at the end", 0, lock.getReadLockCount());
+    }
+}
@@ -13,10 +13,8 @@ import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Set;
 
 import com.mars_sim.core.map.location.Coordinates;
@@ -25,7 +23,6 @@ import com.mars_sim.core.map.location.LocalPosition;
 import com.mars_sim.core.structure.Settlement;
 import com.mars_sim.core.structure.building.Building;
 import com.mars_sim.core.structure.construction.ConstructionSite;
-import com.mars_sim.core.time.MarsTime;
 import com.mars_sim.core.time.MasterClock;
 import com.mars_sim.core.tool.RandomUtil;
 import com.mars_sim.core.vehicle.Vehicle;
@@ -36,9 +33,6 @@ import com.mars_sim.core.vehicle.Vehicle;
  */
 public class LocalAreaUtil {
 
-	// Record representing an Area and when it was calculated
-	private record CachedArea(Area area, MarsTime when) {};
-
 	/** default logger. */
 	// May add back private static SimLogger logger = SimLogger.getLogger(LocalAreaUtil.class.getName())
 
@@ -49,13 +43,7 @@ public class LocalAreaUtil {
 	
 	private static final double DEGREE_PER_RAD = 180 / Math.PI;
 
-	/**
-	 * Cache for total area containing obstacles for a given coordinate location.
-	 */
-	private static final Map<Coordinates, CachedArea> obstacleAreaCache = new HashMap<>();
-
 	private static UnitManager unitManager;
-	private static MasterClock master;
 
 	/**
 	 * Private empty constructor for utility class.
@@ -246,50 +234,18 @@ public class LocalAreaUtil {
 	 * @return true if location doesn't collide with anything.
 	 */
 	public static boolean isPositionCollisionFree(LocalPosition pos, Coordinates coordinates) {
-
-//		Iterator<LocalBoundedObject> i = getAllLocalBoundedObjectsAtLocation(coordinates).iterator();
-//		while (i.hasNext()) {
-//			if (isPositionWithinLocalBoundedObject(pos, i.next())) {
-//				return false;
-//			}
-//		}
-
-		// Add all vehicles at location.
-		Iterator<Vehicle> i = unitManager.getVehicles().iterator();
-		while (i.hasNext()) {
-			Vehicle vehicle = i.next();
-			if (vehicle.getCoordinates().equals(coordinates)) {
-				if (isPositionWithinLocalBoundedObject(pos, vehicle)) {
-					return false;
-				}
-			}
+		Settlement settlement = getSettlementAt(coordinates);
+		if (settlement != null) {
+			return settlement.getLocalArea().isPositionCollisionFree(pos);
 		}
 
-		// Check for any settlements at coordinates.
-		Iterator<Settlement> l = unitManager.getSettlements().iterator();
-		while (l.hasNext()) {
-			Settlement settlement = l.next();
-			if (settlement.getCoordinates().equals(coordinates)) {
-
-				// Add all buildings at settlement.
-				Iterator<Building> j = settlement.getBuildingManager().getBuildingSet().iterator();
-				while (j.hasNext()) {
-					if (isPositionWithinLocalBoundedObject(pos, j.next())) {
-						return false;
-					}
-				}
-
-				
-				// Check all construction sites at settlement.
-				Iterator<ConstructionSite> k = settlement.getConstructionManager().getConstructionSites().iterator();
-				while (k.hasNext()) {
-					if (isPositionWithinLocalBoundedObject(pos, k.next())) {
-						return false;
-					}
-				}
+		// No settlement so only vehicles
+		for (Vehicle vehicle : unitManager.getVehicles()) {
+			if (vehicle.getCoordinates().equals(coordinates)
+					&& isPositionWithinLocalBoundedObject(pos, vehicle)) {
+				return false;
 			}
 		}
-		
 		return true;
 	}
 
@@ -325,34 +281,22 @@ public class LocalAreaUtil {
 	 */
 	public static boolean isVehicleBoundedOjectIntersected(LocalBoundedObject object, Coordinates coordinates,
 			boolean needToMove) {
-		
-//		boolean result = false;
-
-//		Iterator<LocalBoundedObject> i = getAllVehicleBoundedObjectsAtLocation(coordinates).iterator();
-//		while (i.hasNext()) {
-//			LocalBoundedObject vehicle = i.next();
-//
-//			if (isTwoBoundedOjectsIntersected(object, vehicle)) {
-//				result = true;
-//				if (needToMove) {
-//					Vehicle v = (Vehicle) vehicle;
-//					logger.info(v, "Collided with '" + object + "'.");
-//					v.findNewParkingLoc();
-//					// Call again recursively to clear any vehicles
-//					result = isVehicleBoundedOjectIntersected(object, coordinates, needToMove);
-//				}
-//			}
-//		}
-		
-		// Add all vehicles at location.
-		Iterator<Vehicle> i = unitManager.getVehicles().iterator();
-		while (i.hasNext()) {
-			Vehicle vehicle = i.next();
-			if (vehicle.getCoordinates().equals(coordinates)) {				
-				if (isTwoBoundedOjectsIntersected(object, vehicle)) {
+		Settlement settlement = getSettlementAt(coordinates);
+		if (settlement != null) {
+			for (LocalBoundedObject o : settlement.getLocalArea().getObjects()) {
+				if ((o instanceof Vehicle) && isTwoBoundedOjectsIntersected(object, o)) {
 					return true;
 				}
 			}
+			return false;
+		}
+
+		// Add all vehicles at location.
+		for (Vehicle vehicle : unitManager.getVehicles()) {
+			if (vehicle.getCoordinates().equals(coordinates)
+					&& isTwoBoundedOjectsIntersected(object, vehicle)) {
+				return true;
+			}
 		}
 
 		return false;
@@ -389,35 +333,13 @@ public class LocalAreaUtil {
 	 * @param Coordinates        coordinates
 	 */
 	public static boolean isImmovableBoundedOjectIntersected(LocalBoundedObject object, Coordinates coordinates) { 
-//		Iterator<LocalBoundedObject> i = getAllImmovableBoundedObjectsAtLocation(coordinates).iterator();
-//		while (i.hasNext()) {
-//			LocalBoundedObject immovable = i.next();
-//			if (isTwoBoundedOjectsIntersected(object, immovable)) {
-//				return true;
-//			}
-//		}
-		
-		// Check for any settlements at coordinates.
-		Iterator<Settlement> l = unitManager.getSettlements().iterator();
-		while (l.hasNext()) {
-			Settlement settlement = l.next();
-			if (settlement.getCoordinates().equals(coordinates)) {
-
-				// Add all buildings at settlement.
-				Iterator<Building> j = settlement.getBuildingManager().getBuildingSet().iterator();
-				while (j.hasNext()) {
-					Building b = j.next();
-					if (!b.getInTransport() && isTwoBoundedOjectsIntersected(object, b)) {
-						return true;
-					}
-				}
-
-				// Check all construction sites at settlement.
-				Iterator<ConstructionSite> k = settlement.getConstructionManager().getConstructionSites().iterator();
-				while (k.hasNext()) {
-					if (isTwoBoundedOjectsIntersected(object, k.next())) {
-						return true;
-					}
+		Settlement settlement = getSettlementAt(coordinates);
+		if (settlement != null) {
+			for (LocalBoundedObject o : settlement.getLocalArea().getObjects()) {
+				boolean immovable = ((o instanceof Building b) && !b.getInTransport())
+										|| (o instanceof ConstructionSite);
+				if (immovable && isTwoBoundedOjectsIntersected(object, o)) {
+					return true;
 				}
 			}
 		}
@@ -468,43 +390,36 @@ public class LocalAreaUtil {
 	 * @return set of local bounded objects at location (may be empty).
 	 */
 	public static Set<LocalBoundedObject> getAllLocalBoundedObjectsAtLocation(Coordinates coordinates) {
+		Settlement settlement = getSettlementAt(coordinates);
+		if (settlement != null) {
+			return new HashSet<>(settlement.getLocalArea().getObjects());
+		}
 
 		Set<LocalBoundedObject> result = new HashSet<>();
 
 		// Add all vehicles at location.
-		Iterator<Vehicle> i = unitManager.getVehicles().iterator();
-		while (i.hasNext()) {
-			Vehicle vehicle = i.next();
+		for (Vehicle vehicle : unitManager.getVehicles()) {
 			if (vehicle.getCoordinates().equals(coordinates)) {
 				result.add(vehicle);
 			}
 		}
 
-		// Check for any settlements at coordinates.
-		Iterator<Settlement> l = unitManager.getSettlements().iterator();
-		while (l.hasNext()) {
-			Settlement settlement = l.next();
-			if (settlement.getCoordinates().equals(coordinates)) {
-
-				// Add all buildings at settlement.
-//				Iterator<Building> j = settlement.getBuildingManager().getBuildingSet().iterator();
-//				while (j.hasNext()) {
-//					result.add(j.next());
-//				}
+		return result;
+	}
 
-				result.addAll(settlement.getBuildingManager().getBuildingSet());
-				
-				// Check all construction sites at settlement.
-//				Iterator<ConstructionSite> k = settlement.getConstructionManager().getConstructionSites().iterator();
-//				while (k.hasNext()) {
-//					result.add(k.next());
-//				}
-				
-				result.addAll(settlement.getConstructionManager().getConstructionSites());
+	/**
+	 * Finds the settlement at a location.
+	 *
+	 * @param coordinates
+	 * @return Settlement or null if none
+	 */
+	private static Settlement getSettlementAt(Coordinates coordinates) {
+		for (Settlement settlement : unitManager.getSettlements()) {
+			if (settlement.getCoordinates().equals(coordinates)) {
+				return settlement;
 			}
 		}
-
-		return result;
+		return null;
 	}
 
 	/**
@@ -567,7 +482,7 @@ public class LocalAreaUtil {
 		Rectangle2D objectRect = new Rectangle2D.Double(xLoc - (width / 2D), yLoc - (length / 2D), width, length);
 		Path2D objectPath = getPathFromRectangleRotation(objectRect, facing);
 
-		result = isPathCollisionFree(object, objectPath, coordinates, false);
+		result = isPathCollisionFree(object, objectPath, coordinates);
 
 		return result;
 	}
@@ -578,14 +493,11 @@ public class LocalAreaUtil {
 	 *
 	 * @param line        the line.
 	 * @param coordinates the global coordinate location to check.
-	 * @param useCache    true if caching should be used.
+	 * @param useCache    no longer used; the settlement cache is always up to date.
 	 * @return true if line path doesn't collide with anything.
 	 */
 	public static boolean isLinePathCollisionFree(Line2D line, Coordinates coordinates, boolean useCache) {
-		// Create line path
-//		Path2D linePath = createLinePath(line);
-
-		return isPathCollisionFree(null, createLinePath(line), coordinates, useCache);
+		return isPathCollisionFree(null, createLinePath(line), coordinates);
 
 	}
 
@@ -645,7 +557,7 @@ public class LocalAreaUtil {
 	 * @param object
 	 * @return
 	 */
-	private static Area getBoundedObjectArea(LocalBoundedObject object) {
+	public static Area getBoundedObjectArea(LocalBoundedObject object) {
 
 		Rectangle2D rect = new Rectangle2D.Double(object.getXLocation() - (object.getWidth() / 2D),
 				object.getYLocation() - (object.getLength() / 2D), object.getWidth(), object.getLength());
@@ -737,75 +649,46 @@ public class LocalAreaUtil {
 
 	/**
 	 * Checks if a path collides with an existing building, construction site, or
-	 * vehicle at a location.
+	 * vehicle at a location. A settlement uses the cached geometry of its local area
+	 * which is only rebuilt when something is placed or moved.
 	 *
 	 * @param object      the object being checked (may be null if no object).
 	 * @param path        the path to check.
 	 * @param coordinates the global coordinate location to check.
-	 * @param useCache    true if caching should be used.
 	 * @return true if path doesn't collide with anything.
 	 */
-	private static boolean isPathCollisionFree(Object object, Path2D path, Coordinates coordinates, boolean useCache) {
-
-		boolean result = true;
-
-		// Check if obstacle area has been cached for this coordinate location if using
-		// cache.
-		boolean cached = false;
-		Area obstacleArea = null;
-		if (useCache && obstacleAreaCache.containsKey(coordinates)) {
-			CachedArea cachedArea = obstacleAreaCache.get(coordinates);
-			if (master.getMarsTime().equals(cachedArea.when())) {
-				cached = true;
-				obstacleArea = cachedArea.area();
-			}
+	private static boolean isPathCollisionFree(Object object, Path2D path, Coordinates coordinates) {
+		Settlement settlement = getSettlementAt(coordinates);
+		if (settlement != null) {
+			return settlement.getLocalArea().isPathCollisionFree(object, path);
 		}
 
-		if (!cached) {
-			// Add all obstacle areas at location together to create a total obstacle area.
-			Iterator<LocalBoundedObject> i = getAllLocalBoundedObjectsAtLocation(coordinates).iterator();
-			while (i.hasNext()) {
-				LocalBoundedObject lbo = i.next();
-				if (object == null || lbo != object) {
-					Rectangle2D objectRect = new Rectangle2D.Double(lbo.getXLocation() - (lbo.getWidth() / 2D),
-							lbo.getYLocation() - (lbo.getLength() / 2D), lbo.getWidth(), lbo.getLength());
-					Path2D objectPath = getPathFromRectangleRotation(objectRect, lbo.getFacing());
-					Area objectArea = new Area(objectPath);
-					if (obstacleArea == null) {
-						obstacleArea = objectArea;
-					} else {
-						obstacleArea.add(objectArea);
+		// Only vehicles away from a settlement so no cache
+		Rectangle2D pathBounds = path.getBounds2D();
+		Area pathArea = null;
+		for (Vehicle vehicle : unitManager.getVehicles()) {
+			if ((vehicle != object) && vehicle.getCoordinates().equals(coordinates)) {
+				Area vehicleArea = getBoundedObjectArea(vehicle);
+				if (pathBounds.intersects(vehicleArea.getBounds2D())) {
+					if (pathArea == null) {
+						pathArea = new Area(path);
+					}
+					if (doAreasCollide(pathArea, vehicleArea)) {
+						return false;
 					}
 				}
 			}
 		}
-
-		if (obstacleArea != null) {
-			// Check for intersection of obstacle and path bounding rectangles first
-			// (faster).
-			Rectangle2D pathBounds = path.getBounds2D();
-			Rectangle2D obstacleBounds = obstacleArea.getBounds2D();
-			if (pathBounds.intersects(obstacleBounds)) {
-				// If rectangles intersect, check for collision of path and obstacle areas
-				// (slower).
-				Area pathArea = new Area(path);
-				result = !doAreasCollide(pathArea, obstacleArea);
-			}
-		}
-
-		// Store cached obstacle area for location with current timestamp if needed.
-		if (useCache && !cached && (obstacleArea != null)) {
-			obstacleAreaCache.put(coordinates, new CachedArea(obstacleArea, master.getMarsTime()));
-		}
-
-		return result;
+		return true;
 	}
 
 	/**
-	 * Clears the obstacle area cache and time stamps.
+	 * Clears the cached obstacle areas of every settlement.
 	 */
 	public static void clearObstacleCache() {
-		obstacleAreaCache.clear();
+		for (Settlement settlement : unitManager.getSettlements()) {
+			settlement.getLocalArea().placementChanged();
+		}
 	}
 
 	/**
@@ -841,10 +724,9 @@ public class LocalAreaUtil {
 	 * Initializes the simulation globals.
 	 * 
 	 * @param unitMgr
-	 * @param marsClk
+	 * @param clock
 	 */
 	public static void initializeInstances(UnitManager unitMgr, MasterClock clock) {
 		unitManager = unitMgr;
-		master = clock;
 	}
 }
\ No newline at end of file
@@ -59,6 +59,7 @@ import com.mars_sim.core.person.ai.mission.AbstractMission;
 import com.mars_sim.core.person.ai.mission.MissionManager;
 import com.mars_sim.core.person.ai.role.RoleUtil;
 import com.mars_sim.core.person.ai.social.Relation;
+import com.mars_sim.core.person.ai.task.util.ActivityJournal;
 import com.mars_sim.core.person.ai.task.util.MetaTaskUtil;
 import com.mars_sim.core.person.ai.task.util.TaskManager;
 import com.mars_sim.core.person.health.MedicalConfig;
@@ -86,6 +87,7 @@ import com.mars_sim.core.time.MasterClock;
 import com.mars_sim.core.time.SystemDateTime;
 import com.mars_sim.core.tool.CheckSerializedSize;
 import com.mars_sim.core.tool.Msg;
+import com.mars_sim.core.tool.RandomUtil;
 
 /**
  * The Simulation class is the primary singleton class in the MSP simulation.
@@ -321,6 +323,7 @@ public class Simulation implements ClockListener, Serializable {
 		// Set instances for logging
 		SimuLoggingFormatter.initializeInstances(masterClock);
 		History.initializeInstances(masterClock);
+		ActivityJournal.initializeInstances(masterClock);
 		
 		// Create lunar world instance
 		lunarWorld = new LunarWorld(); 
@@ -413,6 +416,10 @@ public class Simulation implements ClockListener, Serializable {
 		CropConfig cc = simulationConfig.getCropConfiguration();
 		MedicalConfig mc = simulationConfig.getMedicalConfiguration();
 		
+		// Seed the random streams before anything is created
+		RandomUtil.setMasterSeed(simulationConfig.getRandomSeed());
+		logger.config("Random master seed is " + RandomUtil.getMasterSeed());
+
 		// Clock is always first
 		masterClock = new MasterClock(simulationConfig, timeRatio);
 
@@ -489,6 +496,7 @@ public class Simulation implements ClockListener, Serializable {
         RoleUtil.initialize();
         // Initialize RoleU
 		History.initializeInstances(masterClock);
+		ActivityJournal.initializeInstances(masterClock);
 		// Re-initialize Person/Robot related class
 		Mind.initializeInstances(missionManager);
 		
@@ -619,6 +627,7 @@ public class Simulation implements ClockListener, Serializable {
         RoleUtil.initialize();
         // Initialize RoleU
 		History.initializeInstances(masterClock);
+		ActivityJournal.initializeInstances(masterClock);
 		// Re-initialize Person/Robot related class
 		Mind.initializeInstances(missionManager);
 		
@@ -1504,7 +1513,10 @@ public class Simulation implements ClockListener, Serializable {
 			scientificStudyManager = null;
 		}
 
-		eventManager = null;
+		if (eventManager != null) {
+			eventManager.destroy();
+			eventManager = null;
+		}
 
 		 logger.config("Done with Simulation's destroyOldSimulation()");
 	}
@@ -47,6 +47,7 @@ public class SimulationBuilder {
 	private static final String CREW_ARG = "crew";
 	private static final String DIAGNOSTICS_ARG = "diags";
 	private static final String SCENARIO_ARG = "scenario";
+	private static final String SEED_ARG = "seed";
 	private static final String WHITESPACES = "---------------------------------------------------";
 	
 	private static final Logger logger = Logger.getLogger(SimulationBuilder.class.getName());
@@ -61,6 +62,8 @@ public class SimulationBuilder {
 	private boolean useCrews = true;
 	private UserConfigurableConfig<Crew> crewConfig;
 	private Scenario bootstrap;
+	private Long randomSeed = null;
+	private double fixedPulseTime = 0D;
 
 	public SimulationBuilder() {
 		super();
@@ -162,6 +165,25 @@ public class SimulationBuilder {
 		this.bootstrap = scenario;
 	}
 	
+	/**
+	 * Sets the master seed of the random streams. Overrides the simulation configuration.
+	 * 
+	 * @param seed
+	 */
+	public void setRandomSeed(long seed) {
+		this.randomSeed = seed;
+	}
+
+	/**
+	 * Runs the clock without real time pacing using a fixed pulse width.
+	 * 
+	 * @param pulseTime Pulse width in millisols
+	 * @see com.mars_sim.core.time.MasterClock#setFixedPulseTime(double)
+	 */
+	public void setFixedPulseTime(double pulseTime) {
+		this.fixedPulseTime = pulseTime;
+	}
+
 	/**
 	 * Gets the list of core command line options that are supported by this builder.
 	 * 
@@ -193,6 +215,8 @@ public class SimulationBuilder {
 				.desc("Enable or disable use of the crews").build());	
 		options.add(Option.builder(DIAGNOSTICS_ARG).argName("<module>,<module>.....").hasArg()
 				.desc("Enable diagnositics modules").build());	
+		options.add(Option.builder(SEED_ARG).argName("number").hasArg()
+				.desc("Master seed for a reproducible new simulation").build());	
 		return options;
 	}
 
@@ -236,6 +260,9 @@ public class SimulationBuilder {
 		if (line.hasOption(DIAGNOSTICS_ARG)) {
 			setDiagnostics(line.getOptionValue(DIAGNOSTICS_ARG));
 		}		
+		if (line.hasOption(SEED_ARG)) {
+			setRandomSeed(Long.parseLong(line.getOptionValue(SEED_ARG)));
+		}
 	}
 
 	/**
@@ -276,6 +303,9 @@ public class SimulationBuilder {
 		// the data directory
 		SimulationConfig simConfig = SimulationConfig.instance();
 		simConfig.loadConfig();
+		if (randomSeed != null) {
+			simConfig.setRandomSeed(randomSeed);
+		}
 		
 		// Initialize storage manager
 //		simConfig.createStorageManager();
@@ -331,6 +361,9 @@ public class SimulationBuilder {
 				TimeUnit.MILLISECONDS.sleep(1000);
 				if (!sim.isUpdating()) {
 					logger.config("Starting the Master Clock...");		
+					if (fixedPulseTime > 0D) {
+						sim.getMasterClock().setFixedPulseTime(fixedPulseTime);
+					}
 					sim.startClock(false);
 					break;
 				}
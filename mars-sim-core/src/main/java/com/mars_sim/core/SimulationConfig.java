@@ -10,17 +10,17 @@ import java.io.File;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-
-import javax.xml.XMLConstants;
+import java.util.List;
+import java.util.Map;
 
 import com.mars_sim.core.structure.SettlementTemplateConfig;
 import org.apache.commons.io.FileUtils;
 import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.JDOMException;
-import org.jdom2.input.SAXBuilder;
 
 import com.mars_sim.core.authority.AuthorityFactory;
+import com.mars_sim.core.configuration.XMLDocumentLoader;
 import com.mars_sim.core.environment.LandmarkConfig;
 import com.mars_sim.core.food.FoodProductionConfig;
 import com.mars_sim.core.interplanetary.transport.resupply.ResupplyConfig;
@@ -45,6 +45,7 @@ import com.mars_sim.core.structure.building.function.farming.CropConfig;
 import com.mars_sim.core.structure.construction.ConstructionConfig;
 import com.mars_sim.core.time.MasterClock;
 import com.mars_sim.core.tool.ResourceCache;
+import com.mars_sim.core.tool.RandomUtil;
 import com.mars_sim.core.vehicle.VehicleConfig;
 
 /**
@@ -82,6 +83,13 @@ public class SimulationConfig {
 	private static final String MEAL_FILE = "meals";
 	private static final String ROBOT_FILE = "robots";
 //	private static final String QUOTATION_FILE = "quotations";
+
+	// All the files loaded at start up
+	private static final List<String> CONFIG_FILES = List.of(SIMULATION_FILE, GOVERNANCE_FILE, RESOURCE_FILE,
+							PART_FILE, PART_PACKAGE_FILE, BUILDING_PACKAGE_FILE, PEOPLE_FILE, MEDICAL_FILE,
+							LANDMARK_FILE, MINERAL_MAP_FILE, MANUFACTURE_FILE, MALFUNCTION_FILE, CROP_FILE,
+							VEHICLE_FILE, RESPROCESS_FILE, BUILDING_FILE, RESUPPLY_FILE, SETTLEMENT_FILE,
+							SETTLEMENT_TEMPLATE_FILE, CONSTRUCTION_FILE, FOODPRODUCTION_FILE, MEAL_FILE, ROBOT_FILE);
 	private static final String VALUE = "value";
 
 	// Simulation element names.
@@ -100,6 +108,7 @@ public class SimulationConfig {
 	private static final String DEFAULT_TIME_PULSE = "default-time-pulse";
 	private static final String BASE_TIME_RATIO = "base-time-ratio";
 	private static final String DEFAULT_UNUSEDCORES = "unused-cores";
+	private static final String RANDOM_SEED = "random-seed";
 
 	private static final String MISSION_CONFIGURATION = "mission-configuration";
 	private static final String EVA_LIGHT = "min-eva-light";
@@ -121,6 +130,7 @@ public class SimulationConfig {
 	private int numberOfAutoSaves = 0;
 	private int averageTransitTime = 0;
 	private int unusedCores = 0;	
+	private long randomSeed = RandomUtil.UNSEEDED;
 	private boolean loaded = false;
 	
 	/*
@@ -209,8 +219,12 @@ public class SimulationConfig {
 				FileUtils.deleteDirectory(backupDir); 
 			}
 
+			// Parse all the documents up front in parallel
+			var loader = new XMLDocumentLoader(this::getBundledXML);
+			Map<String, Document> docs = loader.load(CONFIG_FILES);
+
 			// Load simulation document
-			Document simulationDoc = parseXMLFileAsJDOMDocument(SIMULATION_FILE, true);
+			Document simulationDoc = docs.get(SIMULATION_FILE);
 
 			// Load key attributes
 			Element root = simulationDoc.getRootElement();
@@ -233,12 +247,15 @@ public class SimulationConfig {
 			averageTransitTime = loadIntValue(timeConfig, AVERAGE_TRANSIT_TIME, 0, 430);
 			autosaveInterval = loadIntValue(timeConfig, AUTOSAVE_INTERVAL, 1, 360);
 			numberOfAutoSaves = loadIntValue(timeConfig, AUTOSAVE_NUMBER, 1, 100);
+			if (timeConfig.getChild(RANDOM_SEED) != null) {
+				randomSeed = Long.parseLong(loadValue(timeConfig, RANDOM_SEED));
+			}
 
 			// Load Mission Types
 			Element missionConfig = root.getChild(MISSION_CONFIGURATION);
 			minEVALight = loadDoubleValue(missionConfig, EVA_LIGHT, 0D, 1000D);
 
-			loadDefaultConfiguration();
+			loadDefaultConfiguration(docs);
 
 			loaded = true;
 
@@ -387,6 +404,25 @@ public class SimulationConfig {
 	public int getUnusedCores() {
 		return unusedCores;
 	}
+
+	/**
+	 * Gets the master seed for the random streams. A value of {@link RandomUtil#UNSEEDED}
+	 * means every run will differ.
+	 * 
+	 * @return
+	 */
+	public long getRandomSeed() {
+		return randomSeed;
+	}
+
+	/**
+	 * Overrides the master seed for the random streams, e.g. for a reproducible benchmark run.
+	 * 
+	 * @param seed
+	 */
+	public void setRandomSeed(long seed) {
+		this.randomSeed = seed;
+	}
 	
 	/**
 	 * Gets the min EVA light.
@@ -644,10 +680,7 @@ public class SimulationConfig {
 			throws JDOMException, IOException {
 		File f = getBundledXML(filename);
 		if (f != null) {
-			SAXBuilder builder = new SAXBuilder();
-			builder.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-			builder.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-			return builder.build(f);
+			return XMLDocumentLoader.parse(f);
 		}
 		else {
 			logger.warning("Can not find default XML " + filename);
@@ -657,39 +690,40 @@ public class SimulationConfig {
 
 
 	/**
-	 * load the default config files
-	 * @throws IOException
-	 * @throws JDOMException
+	 * Creates the configurations from the parsed documents. The order matters as
+	 * later configurations look up the resources and parts registered by earlier ones.
+	 * 
+	 * @param docs Documents keyed on file name
 	 */
-	private void loadDefaultConfiguration() throws JDOMException, IOException {
+	private void loadDefaultConfiguration(Map<String, Document> docs) {
   BuildingPackageConfig buildingPackageConfig;
 
 		// Load subset configuration classes.
-		raFactory = new AuthorityFactory(parseXMLFileAsJDOMDocument(GOVERNANCE_FILE, true));
-		resourceConfig = new AmountResourceConfig(parseXMLFileAsJDOMDocument(RESOURCE_FILE, true));
-		partConfig = new PartConfig(parseXMLFileAsJDOMDocument(PART_FILE, true));
-		PartPackageConfig partPackageConfig = new PartPackageConfig(parseXMLFileAsJDOMDocument(PART_PACKAGE_FILE, true));
-		buildingPackageConfig = new BuildingPackageConfig(parseXMLFileAsJDOMDocument(BUILDING_PACKAGE_FILE, true));
-		personConfig = new PersonConfig(parseXMLFileAsJDOMDocument(PEOPLE_FILE, true));
-		medicalConfig = new MedicalConfig(parseXMLFileAsJDOMDocument(MEDICAL_FILE, true));
-		landmarkConfig = new LandmarkConfig(parseXMLFileAsJDOMDocument(LANDMARK_FILE, true));
-		mineralMapConfig = new MineralMapConfig(parseXMLFileAsJDOMDocument(MINERAL_MAP_FILE, true));
-		manufactureConfig = new ManufactureConfig(parseXMLFileAsJDOMDocument(MANUFACTURE_FILE, true));
-		malfunctionConfig = new MalfunctionConfig(parseXMLFileAsJDOMDocument(MALFUNCTION_FILE, true));
-		cropConfig = new CropConfig(parseXMLFileAsJDOMDocument(CROP_FILE, true), personConfig);
-		vehicleConfig = new VehicleConfig(parseXMLFileAsJDOMDocument(VEHICLE_FILE, true), manufactureConfig);
-		ResourceProcessConfig resourceProcessConfig = new ResourceProcessConfig(parseXMLFileAsJDOMDocument(RESPROCESS_FILE, true));
-		buildingConfig = new BuildingConfig(parseXMLFileAsJDOMDocument(BUILDING_FILE, true), resourceProcessConfig);
-		ResupplyConfig resupplyConfig = new ResupplyConfig(parseXMLFileAsJDOMDocument(RESUPPLY_FILE, true), partPackageConfig);
-		settlementConfig = new SettlementConfig(parseXMLFileAsJDOMDocument(SETTLEMENT_FILE, true));
-		settlementTemplateConfig = new SettlementTemplateConfig(parseXMLFileAsJDOMDocument(
-				SETTLEMENT_TEMPLATE_FILE, true), partPackageConfig, buildingPackageConfig, resupplyConfig, settlementConfig);
-
-
-		constructionConfig = new ConstructionConfig(parseXMLFileAsJDOMDocument(CONSTRUCTION_FILE, true));
-		foodProductionConfig = new FoodProductionConfig(parseXMLFileAsJDOMDocument(FOODPRODUCTION_FILE, true));
-		mealConfig = new MealConfig(parseXMLFileAsJDOMDocument(MEAL_FILE, true));
-		robotConfig = new RobotConfig(parseXMLFileAsJDOMDocument(ROBOT_FILE, true));
+		raFactory = new AuthorityFactory(docs.get(GOVERNANCE_FILE));
+		resourceConfig = new AmountResourceConfig(docs.get(RESOURCE_FILE));
+		partConfig = new PartConfig(docs.get(PART_FILE));
+		PartPackageConfig partPackageConfig = new PartPackageConfig(docs.get(PART_PACKAGE_FILE));
+		buildingPackageConfig = new BuildingPackageConfig(docs.get(BUILDING_PACKAGE_FILE));
+		personConfig = new PersonConfig(docs.get(PEOPLE_FILE));
+		medicalConfig = new MedicalConfig(docs.get(MEDICAL_FILE));
+		landmarkConfig = new LandmarkConfig(docs.get(LANDMARK_FILE));
+		mineralMapConfig = new MineralMapConfig(docs.get(MINERAL_MAP_FILE));
+		manufactureConfig = new ManufactureConfig(docs.get(MANUFACTURE_FILE));
+		malfunctionConfig = new MalfunctionConfig(docs.get(MALFUNCTION_FILE));
+		cropConfig = new CropConfig(docs.get(CROP_FILE), personConfig);
+		vehicleConfig = new VehicleConfig(docs.get(VEHICLE_FILE), manufactureConfig);
+		ResourceProcessConfig resourceProcessConfig = new ResourceProcessConfig(docs.get(RESPROCESS_FILE));
+		buildingConfig = new BuildingConfig(docs.get(BUILDING_FILE), resourceProcessConfig);
+		ResupplyConfig resupplyConfig = new ResupplyConfig(docs.get(RESUPPLY_FILE), partPackageConfig);
+		settlementConfig = new SettlementConfig(docs.get(SETTLEMENT_FILE));
+		settlementTemplateConfig = new SettlementTemplateConfig(docs.get(
+				SETTLEMENT_TEMPLATE_FILE), partPackageConfig, buildingPackageConfig, resupplyConfig, settlementConfig);
+
+
+		constructionConfig = new ConstructionConfig(docs.get(CONSTRUCTION_FILE));
+		foodProductionConfig = new FoodProductionConfig(docs.get(FOODPRODUCTION_FILE));
+		mealConfig = new MealConfig(docs.get(MEAL_FILE));
+		robotConfig = new RobotConfig(docs.get(ROBOT_FILE));
 		// Note: Do NOT delete QuotationConfig. 
 		//       Will reinstate quoatation config after deciding how to best make use of the quotes
 //		quotationConfig = new QuotationConfig(parseXMLFileAsJDOMDocument(QUOTATION_FILE, true));
@@ -12,6 +12,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.mars_sim.core.environment.Weather;
+import com.mars_sim.core.logging.PulseProfiler;
+import com.mars_sim.core.logging.PulseProfiler.Subsystem;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.person.ai.mission.MissionManager;
 import com.mars_sim.core.structure.Settlement;
@@ -295,6 +297,7 @@ public abstract class Unit implements UnitIdentifer, Comparable<Unit> {
 		if (listeners == null || listeners.isEmpty()) {
 			return;
 		}
+		long start = PulseProfiler.start(Subsystem.LISTENER);
 		final UnitEvent ue = new UnitEvent(this, updateType, target);
 		synchronized (listeners) {
 			for(UnitListener i : listeners) {
@@ -307,6 +310,7 @@ public abstract class Unit implements UnitIdentifer, Comparable<Unit> {
 				}
 			}
 		}
+		PulseProfiler.stop(Subsystem.LISTENER, start);
 	}
 
 	/**
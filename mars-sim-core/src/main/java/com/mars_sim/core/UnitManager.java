@@ -28,6 +28,8 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mars_sim.core.environment.MarsSurface;
 import com.mars_sim.core.environment.OuterSpace;
 import com.mars_sim.core.equipment.Equipment;
+import com.mars_sim.core.logging.PulseProfiler;
+import com.mars_sim.core.logging.PulseProfiler.Subsystem;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.malfunction.MalfunctionFactory;
 import com.mars_sim.core.map.location.Coordinates;
@@ -39,6 +41,7 @@ import com.mars_sim.core.structure.building.Building;
 import com.mars_sim.core.structure.construction.ConstructionSite;
 import com.mars_sim.core.time.ClockPulse;
 import com.mars_sim.core.time.Temporal;
+import com.mars_sim.core.tool.RandomUtil;
 import com.mars_sim.core.vehicle.Vehicle;
 
 /**
@@ -723,8 +726,10 @@ public class UnitManager implements Serializable, Temporal {
 		public String call() throws Exception {
 			try {
 				activeSettlement.set(settlement);
+				RandomUtil.setActiveStream(settlement.getRandomStream());
+				long start = PulseProfiler.start(Subsystem.SETTLEMENT);
 				settlement.timePassing(currentPulse);
-				activeSettlement.remove();
+				PulseProfiler.stop(Subsystem.SETTLEMENT, start, settlement.getName());
 			}
 			catch (RuntimeException rte) {
 				String msg = "Problem with pulse on " + settlement.getName()
@@ -732,6 +737,10 @@ public class UnitManager implements Serializable, Temporal {
 	            logger.severe(msg, rte);
 	            return msg;
 			}
+			finally {
+				activeSettlement.remove();
+				RandomUtil.setActiveStream(null);
+			}
 			return settlement.getName() + " completed pulse #" + currentPulse.getId();
 		}
 	}
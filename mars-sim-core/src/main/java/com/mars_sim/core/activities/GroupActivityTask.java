@@ -57,6 +57,14 @@ public class GroupActivityTask extends Task {
         };
     }
 
+    /**
+     * The activity only changes state between pulses so the time can be taken in one step.
+     */
+    @Override
+    protected double getStableTime() {
+        return getTimeLeft();
+    }
+
     @Override
     protected double performMappedPhase(double time) {
         if (!activity.isActive()) {
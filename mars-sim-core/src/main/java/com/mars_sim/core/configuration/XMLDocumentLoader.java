@@ -0,0 +1,126 @@
+/*
+ * Mars Simulation Project
+ * XMLDocumentLoader.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.configuration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import javax.xml.XMLConstants;
+
+import org.jdom2.Document;
+import org.jdom2.JDOMException;
+import org.jdom2.input.SAXBuilder;
+
+/**
+ * Loads a set of XML files into JDOM documents. The files are parsed in parallel.
+ */
+public class XMLDocumentLoader {
+
+	/**
+	 * A task that loads something about a named file.
+	 */
+	@FunctionalInterface
+	private interface FileTask<T> {
+		T apply(String name) throws IOException, JDOMException;
+	}
+
+	private final Function<String, File> locator;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param locator Finds the file of a name; returns null if there is no file
+	 */
+	public XMLDocumentLoader(Function<String, File> locator) {
+		this.locator = locator;
+	}
+
+	/**
+	 * Parses an XML file into a document.
+	 *
+	 * @param f
+	 * @return
+	 * @throws JDOMException
+	 * @throws IOException
+	 */
+	public static Document parse(File f) throws JDOMException, IOException {
+		SAXBuilder builder = new SAXBuilder();
+		builder.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+		builder.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+		return builder.build(f);
+	}
+
+	/**
+	 * Loads the documents of a set of names.
+	 *
+	 * @param names Names of the files
+	 * @return Documents keyed on name
+	 * @throws JDOMException
+	 * @throws IOException
+	 */
+	public Map<String, Document> load(Collection<String> names) throws JDOMException, IOException {
+		List<String> unique = new ArrayList<>(new LinkedHashSet<>(names));
+
+		Map<String, File> files = new HashMap<>();
+		for (String name : unique) {
+			// Extraction of the bundled files is quick so is done in sequence
+			File f = locator.apply(name);
+			if (f == null) {
+				throw new IllegalStateException("Can not find default XML " + name);
+			}
+			files.put(name, f);
+		}
+
+		return runAll(unique, n -> parse(files.get(n)));
+	}
+
+	/**
+	 * Runs a task on every name in parallel.
+	 */
+	private static <T> Map<String, T> runAll(List<String> names, FileTask<T> task)
+					throws JDOMException, IOException {
+		int threads = Math.max(1, Math.min(names.size(), Runtime.getRuntime().availableProcessors()));
+		Map<String, T> result = new HashMap<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			Map<String, Future<T>> futures = new HashMap<>();
+			for (String n : names) {
+				futures.put(n, executor.submit(() -> task.apply(n)));
+			}
+			for (var e : futures.entrySet()) {
+				result.put(e.getKey(), e.getValue().get());
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted loading XML", e);
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException ioe) {
+				throw ioe;
+			}
+			if (cause instanceof JDOMException je) {
+				throw je;
+			}
+			if (cause instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new IllegalStateException("Problem loading XML", cause);
+		}
+		return result;
+	}
+}
@@ -7,9 +7,10 @@
 
 package com.mars_sim.core.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -18,7 +19,8 @@ import com.mars_sim.core.time.MarsTime;
 
 /**
  * Logs data items according to the current Sol. Each sol is a single data item.
- * Only a maximum number of sols is retained.
+ * Only a maximum number of sols is retained in a ring buffer so a sol is found
+ * without walking the history.
  * The timestamp of the logger is shifted automatically via the Simulation.
  * 
  * @param <T> Data item being recorded
@@ -28,19 +30,57 @@ public abstract class DataLogger<T> implements Serializable {
 	/** default serial id. */
 	private static final long serialVersionUID = 1L;
 
-	private static int currentSol = 1;
+	static int currentSol = 1;
 	protected static int currentMsol = 0;
 	
 	private int maxSols = 7;
 	private int latestSol = 0;
 	protected T currentData = null;
-	protected List<T> dailyData = new LinkedList<T>();
+
+	// Ring of daily data; head is the slot of the latest sol
+	private Object[] dailyRing;
+	private int head = -1;
+	private int size = 0;
 	
 	public DataLogger(int maxSols) {
 		super();
 		this.maxSols = maxSols;
+		this.dailyRing = new Object[maxSols];
 	}
 	
+	/**
+	 * Loads the logger. A save made before the ring was introduced holds the daily
+	 * data as a list with the latest sol first, so it is copied into a ring.
+	 * 
+	 * @param in
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = in.readFields();
+		maxSols = fields.get("maxSols", 7);
+		latestSol = fields.get("latestSol", 0);
+		currentData = (T) fields.get("currentData", null);
+		dailyRing = (Object[]) fields.get("dailyRing", null);
+		head = fields.get("head", -1);
+		size = fields.get("size", 0);
+
+		if (dailyRing == null) {
+			List<T> oldData = (List<T>) fields.get("dailyData", null);
+			dailyRing = new Object[maxSols];
+			head = -1;
+			size = 0;
+			if (oldData != null) {
+				for (int i = Math.min(oldData.size(), maxSols) - 1; i >= 0; i--) {
+					head = (head + 1) % maxSols;
+					dailyRing[head] = oldData.get(i);
+					size++;
+				}
+			}
+		}
+	}
+
 	/**
 	 * Moves time onwards.
 	 * 
@@ -59,10 +99,39 @@ public abstract class DataLogger<T> implements Serializable {
 	private void newSol(int newSol) {
 		latestSol = newSol;
 		currentData = getNewDataItem(); 
-		dailyData.add(0, currentData);
-		if (dailyData.size() > maxSols) {
-			dailyData.remove(maxSols-1);
-		}
+		head = (head + 1) % maxSols;
+		dailyRing[head] = currentData;
+		size = Math.min(size + 1, maxSols);
+	}
+
+	/**
+	 * Gets the number of sols held.
+	 * 
+	 * @return
+	 */
+	protected int getNumSols() {
+		return size;
+	}
+
+	/**
+	 * Gets the data of a sol counting back from the latest sol.
+	 * 
+	 * @param age Zero is the latest sol
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	protected T getDataByAge(int age) {
+		return (T) dailyRing[(head - age + maxSols) % maxSols];
+	}
+
+	/**
+	 * Replaces the data of the latest sol. Used when the data item is not held by reference.
+	 * 
+	 * @param data
+	 */
+	protected void setTodayData(T data) {
+		currentData = data;
+		dailyRing[head] = data;
 	}
 	
 	/**
@@ -88,9 +157,8 @@ public abstract class DataLogger<T> implements Serializable {
 	 */
 	public Map<Integer, T> getHistory() {
 		Map<Integer, T> results = new HashMap<>();
-		int sol = latestSol;
-		for (T t : dailyData) {
-			results.put(sol--, t);
+		for (int age = 0; age < size; age++) {
+			results.put(latestSol - age, getDataByAge(age));
 		}
 		return results;
 	}
@@ -101,11 +169,7 @@ public abstract class DataLogger<T> implements Serializable {
 	 * @return
 	 */
 	public double getTodayDataValue() {
-		double value = 0;
-		if (getHistory().containsKey(currentSol)
-				&& getHistory().get(currentSol) instanceof Double)
-			value = convertGenericToDouble(getHistory().get(currentSol));
-		return value;
+		return getDataValue(currentSol);
 	}
 	
 	/**
@@ -114,11 +178,11 @@ public abstract class DataLogger<T> implements Serializable {
 	 * @return
 	 */
 	public double getDataValue(int sol) {
-		double value = 0;
-		if (getHistory().containsKey(sol)
-				&& getHistory().get(sol) instanceof Double)
-			value = convertGenericToDouble(getHistory().get(sol));
-		return value;
+		T data = (sol < 1 ? null : getSolData(sol));
+		if (data instanceof Double d) {
+			return d;
+		}
+		return 0;
 	}
 	
 	
@@ -158,11 +222,11 @@ public abstract class DataLogger<T> implements Serializable {
 			throw new IllegalArgumentException("Mission Sol cannot be less than 1");
 		}
 		int idx = latestSol - sol;
-		if ((idx < 0) || (idx >= dailyData.size())) {
+		if ((idx < 0) || (idx >= size)) {
 			return null;
 		}
 		else {
-			return dailyData.get(idx);
+			return getDataByAge(idx);
 		}
 	}
 	
@@ -6,29 +6,35 @@
  */
 package com.mars_sim.core.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
-import com.mars_sim.core.time.MarsDate;
 import com.mars_sim.core.time.MarsTime;
 import com.mars_sim.core.time.MasterClock;
 
 /**
  * Represents the history a value that changes over time.
  * Whenever a value is added it is timestamped with the current martian time.
+ * The values are held in a ring buffer so a full history overwrites the oldest
+ * value without moving the others. The timestamps are held as ticks so adding a
+ * value does not keep a reference to the clock's time.
  */
-public class History<T> implements Serializable {
+public class History<T> implements HistoryView<T>, Serializable {
 
 	private static final long serialVersionUID = 1L;
 
+	private static final int INITIAL_CAPACITY = 8;
+
 	/**
      * Something happened in the history of this object.
      */
     public static class HistoryItem<T> implements Serializable {
-    
+
 		private static final long serialVersionUID = 1L;
-		
+
 		private MarsTime when;
         private T what;
 
@@ -43,20 +49,25 @@ public class History<T> implements Serializable {
         public T getWhat() {
             return what;
         }
-        
+
     }
 
     private static MasterClock master;
-    private List<HistoryItem<T>> history = new ArrayList<>();
+
+    // Created on the first add
+    private long[] whens;
+    private Object[] whats;
+    private int head = 0;
+    private int size = 0;
     private int maxItems;
-    
+
     static MarsTime getMarsTime() {
         return master.getMarsTime();
     }
 
     /**
      * Creates a History but define the maximum items to hold.
-     * 
+     *
      * @param maxItems
      */
     public History(int maxItems) {
@@ -71,56 +82,148 @@ public class History<T> implements Serializable {
     }
 
     /**
-     * Adds a value to the history and timestamp it. If the value is the same as the previous item 
+     * Adds a value to the history and timestamp it. If the value is the same as the previous item
      * this the item is not added.
      * If the timestamp of the previous item has not advance; then it is overwritten.
-     * 
+     *
      * @param value New value to add
      */
     public boolean add(T value) {
-        MarsTime now = getMarsTime();
-        if (!history.isEmpty()) {
-            HistoryItem<T> previous = history.get(history.size()-1);
-            if (now.equals(previous.getWhen())) {
+        long now = getMarsTime().getTicks();
+        if (size > 0) {
+            int last = slot(size - 1);
+            if (now == whens[last]) {
                 // Time has not advance so replace existing
-                history.remove(history.size()-1);
+                whats[last] = value;
+                return true;
             }
-            else if (value.equals(previous.getWhat())) {
+            else if (value.equals(whats[last])) {
                 // Same value as last time so ignore
                 return false;
             }
         }
 
-        if (history.size() == maxItems) {
-            // Remove first item (oldest)
-            history.remove(0);
+        if (size == maxItems) {
+            // Overwrite first item (oldest)
+            whens[head] = now;
+            whats[head] = value;
+            head = (head + 1) % whens.length;
+        }
+        else {
+            ensureCapacity();
+            int next = slot(size++);
+            whens[next] = now;
+            whats[next] = value;
         }
-        history.add(new HistoryItem<>(now, value));
 
         return true;
     }
 
     /**
-     * Gets the changes that have occurred over time.
-     * 
-     * @return List of changes.
+     * Makes room for one more item. A bounded history is allocated at full size
+     * on the first add; an unbounded one doubles.
      */
-    public List<HistoryItem<T>> getChanges() {
-        return history;
+    private void ensureCapacity() {
+        if (whens == null) {
+            int capacity = (maxItems > 0 ? maxItems : INITIAL_CAPACITY);
+            whens = new long[capacity];
+            whats = new Object[capacity];
+        }
+        else if (size == whens.length) {
+            // Unroll the ring into larger arrays
+            int capacity = whens.length * 2;
+            long[] newWhens = new long[capacity];
+            Object[] newWhats = new Object[capacity];
+            for (int i = 0; i < size; i++) {
+                newWhens[i] = whens[slot(i)];
+                newWhats[i] = whats[slot(i)];
+            }
+            whens = newWhens;
+            whats = newWhats;
+            head = 0;
+        }
     }
 
     /**
-     * Gets the range of dates covered by this history.
-     * 
+     * Converts a position in the history to the position in the arrays.
+     *
+     * @param index 0 is the oldest
      * @return
      */
-    public List<MarsDate> getRange() {
-        return history.stream().map(i -> i.getWhen().getDate()).distinct().toList();
+    private int slot(int index) {
+        return (head + index) % whens.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public MarsTime getWhen(int index) {
+        checkIndex(index);
+        return getMarsTime().atTicks(whens[slot(index)]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getWhat(int index) {
+        checkIndex(index);
+        return (T) whats[slot(index)];
+    }
+
+    private void checkIndex(int index) {
+        if ((index < 0) || (index >= size)) {
+            throw new IndexOutOfBoundsException("Index " + index + " outside history of " + size);
+        }
+    }
+
+    /**
+     * Removes all the items.
+     */
+    public void clear() {
+        if (whats != null) {
+            Arrays.fill(whats, null);
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Loads the history. A save made before the ring buffer holds the items as a list,
+     * oldest first, so they are copied into the ring.
+     *
+     * @param in
+     * @throws IOException
+     * @throws ClassNotFoundException
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        maxItems = fields.get("maxItems", -1);
+        if (fields.getObjectStreamClass().getField("history") == null) {
+            whens = (long[]) fields.get("whens", null);
+            whats = (Object[]) fields.get("whats", null);
+            head = fields.get("head", 0);
+            size = fields.get("size", 0);
+            return;
+        }
+
+        List<HistoryItem<T>> oldItems = (List<HistoryItem<T>>) fields.get("history", null);
+        if (oldItems != null) {
+            int first = (maxItems > 0 ? Math.max(0, oldItems.size() - maxItems) : 0);
+            for (HistoryItem<T> item : oldItems.subList(first, oldItems.size())) {
+                ensureCapacity();
+                int next = slot(size++);
+                whens[next] = item.getWhen().getTicks();
+                whats[next] = item.getWhat();
+            }
+        }
     }
 
     /**
      * Loads up the reference to the master clock.
-     * 
+     *
      * @param mc
      */
     public static void initializeInstances(MasterClock mc) {
@@ -0,0 +1,76 @@
+/*
+ * Mars Simulation Project
+ * HistoryView.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mars_sim.core.data.History.HistoryItem;
+import com.mars_sim.core.time.MarsDate;
+import com.mars_sim.core.time.MarsTime;
+
+/**
+ * A read only view of a value that changes over time. The items are indexed oldest first.
+ *
+ * @param <T> Value being recorded
+ * @see History
+ */
+public interface HistoryView<T> {
+
+	/**
+	 * Gets the number of items held.
+	 *
+	 * @return
+	 */
+	int size();
+
+	/**
+	 * Gets the time of an item.
+	 *
+	 * @param index 0 is the oldest
+	 * @return
+	 */
+	MarsTime getWhen(int index);
+
+	/**
+	 * Gets the value of an item.
+	 *
+	 * @param index 0 is the oldest
+	 * @return
+	 */
+	T getWhat(int index);
+
+	/**
+	 * Gets the changes that have occurred over time. This is a copy, oldest first.
+	 *
+	 * @return List of changes.
+	 */
+	default List<HistoryItem<T>> getChanges() {
+		int count = size();
+		List<HistoryItem<T>> result = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			result.add(new HistoryItem<>(getWhen(i), getWhat(i)));
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the range of dates covered by this history.
+	 *
+	 * @return
+	 */
+	default List<MarsDate> getRange() {
+		List<MarsDate> result = new ArrayList<>();
+		int count = size();
+		for (int i = 0; i < count; i++) {
+			MarsDate d = getWhen(i).getDate();
+			if (result.isEmpty() || !result.get(result.size() - 1).equals(d)) {
+				result.add(d);
+			}
+		}
+		return result;
+	}
+}
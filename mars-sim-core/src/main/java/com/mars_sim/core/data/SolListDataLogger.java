@@ -49,20 +49,6 @@ public class SolListDataLogger<T> extends DataLogger<List<T>> {
 			return 0;
 		}
 		
-//		int count = 0;
-//		double sum = 0;
-//		
-//		for (double sol: getHistory().keySet()) {
-//			List<MSolDataItem<Integer>> powers = getHistory().get(sol);
-//			for (MSolDataItem<Integer> s: powers) {
-//				count++;
-//				sum += s.getData();
-//			}
-//		}
-//		
-//		if (count > 0 && sum > 0)
-//			return sum / count;
-		
 		double sum = 0;
 		int num = 0;
 		int size = currentData.size();
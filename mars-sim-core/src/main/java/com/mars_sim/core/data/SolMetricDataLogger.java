@@ -65,7 +65,8 @@ public class SolMetricDataLogger<K> extends DataLogger<Map<K,Double>> {
 		double sum = 0;
 		int numSols = 0;
 
-		for (Map<K, Double> oneDay : dailyData) {
+		for (int age = 0; age < getNumSols(); age++) {
+			Map<K, Double> oneDay = getDataByAge(age);
 			// Get metric for the day; there may not be any
 			double dailyTotal = 0;
 			if (oneDay.containsKey(metric)) {
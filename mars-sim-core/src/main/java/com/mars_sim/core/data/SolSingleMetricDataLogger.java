@@ -37,11 +37,10 @@ public class SolSingleMetricDataLogger extends DataLogger<Double> {
 		
 		double current = (currentData == null ? 0 : currentData);
 		current += increment;
-		currentData = current;
 		
 		// For a single data item, the item needs to be refreshed
 		// because current data is not by reference
-		dailyData.set(0, currentData);
+		setTodayData(current);
 	}
 	
 	/**
@@ -54,7 +53,8 @@ public class SolSingleMetricDataLogger extends DataLogger<Double> {
 		double sum = 0;
 		int numSols = 0;
 
-		for (Double dailyTotal : dailyData) {
+		for (int age = 0; age < getNumSols(); age++) {
+			double dailyTotal = getDataByAge(age);
 	
 			// First entry is always today
 			if (numSols == 0) {
@@ -82,7 +82,8 @@ public class SolSingleMetricDataLogger extends DataLogger<Double> {
 		double sum = 0;
 		int numSols = 0;
 
-		for (Double dailyTotal : dailyData) {
+		for (int age = 0; age < getNumSols(); age++) {
+			double dailyTotal = getDataByAge(age);
 	
 			// First entry is always today
 			if (numSols == 0) {
@@ -0,0 +1,208 @@
+/*
+ * Mars Simulation Project
+ * SolTimeSeries.java
+ * @date 2026-10-19
+ */
+
+package com.mars_sim.core.data;
+
+import java.io.Serializable;
+
+/**
+ * Records numeric samples against the current sol and msol in fixed size ring buffers.
+ * Each column is held as a primitive array so adding a sample does not allocate.
+ * A sol is held in the slot given by the sol modulo the maximum sols; a slot is reused
+ * when a new sol starts. Once a sol holds the maximum samples any further samples only
+ * update the running total, minimum and maximum of that sol.
+ * The timestamp is shifted via {@link DataLogger#changeTime(com.mars_sim.core.time.MarsTime)}.
+ */
+public class SolTimeSeries implements TimeSeriesView, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int maxSols;
+	private final int maxSamples;
+	private final int numColumns;
+
+	private int latestSol = 0;
+	private int current = -1;
+
+	// Per slot
+	private final int[] slotSol;
+	private final int[] stored;
+	private final int[] seen;
+
+	// Per sample
+	private final int[] msols;
+	private final double[][] values;
+
+	// Per column and slot
+	private final double[][] totals;
+	private final double[][] mins;
+	private final double[][] maxs;
+
+	/**
+	 * Creates a series.
+	 *
+	 * @param maxSols Maximum sols retained
+	 * @param maxSamples Maximum samples retained for each sol
+	 * @param numColumns Number of values in each sample
+	 */
+	public SolTimeSeries(int maxSols, int maxSamples, int numColumns) {
+		this.maxSols = maxSols;
+		this.maxSamples = maxSamples;
+		this.numColumns = numColumns;
+
+		slotSol = new int[maxSols];
+		stored = new int[maxSols];
+		seen = new int[maxSols];
+		msols = new int[maxSols * maxSamples];
+		values = new double[numColumns][maxSols * maxSamples];
+		totals = new double[numColumns][maxSols];
+		mins = new double[numColumns][maxSols];
+		maxs = new double[numColumns][maxSols];
+	}
+
+	/**
+	 * Finds the slot holding a sol.
+	 *
+	 * @param sol
+	 * @return -1 if the sol is not held
+	 */
+	private int findSlot(int sol) {
+		if (sol < 1) {
+			return -1;
+		}
+		int slot = sol % maxSols;
+		return (slotSol[slot] == sol ? slot : -1);
+	}
+
+	/**
+	 * Starts a new sample at the current time. The values are then set with
+	 * {@link #setValue(int, double)}.
+	 */
+	public void startSample() {
+		int sol = DataLogger.currentSol;
+		int slot = sol % maxSols;
+		if (slotSol[slot] != sol) {
+			// Reuse the slot for the new sol
+			slotSol[slot] = sol;
+			stored[slot] = 0;
+			seen[slot] = 0;
+			for (int c = 0; c < numColumns; c++) {
+				totals[c][slot] = 0D;
+				mins[c][slot] = Double.POSITIVE_INFINITY;
+				maxs[c][slot] = Double.NEGATIVE_INFINITY;
+			}
+		}
+		latestSol = sol;
+
+		seen[slot]++;
+		if (stored[slot] < maxSamples) {
+			current = slot * maxSamples + stored[slot]++;
+			msols[current] = DataLogger.currentMsol;
+		}
+		else {
+			current = -1;
+		}
+	}
+
+	/**
+	 * Sets a value of the current sample.
+	 *
+	 * @param column
+	 * @param value
+	 */
+	public void setValue(int column, double value) {
+		int slot = latestSol % maxSols;
+		if (current >= 0) {
+			values[column][current] = value;
+		}
+		totals[column][slot] += value;
+		mins[column][slot] = Math.min(mins[column][slot], value);
+		maxs[column][slot] = Math.max(maxs[column][slot], value);
+	}
+
+	/**
+	 * Adds a sample with a single value at the current time.
+	 *
+	 * @param value
+	 */
+	public void addSample(double value) {
+		startSample();
+		setValue(0, value);
+	}
+
+	@Override
+	public int getNumColumns() {
+		return numColumns;
+	}
+
+	@Override
+	public int getLatestSol() {
+		return latestSol;
+	}
+
+	@Override
+	public int getSampleCount(int sol) {
+		int slot = findSlot(sol);
+		return (slot >= 0 ? stored[slot] : 0);
+	}
+
+	@Override
+	public int getMsol(int sol, int index) {
+		return msols[sampleIndex(sol, index)];
+	}
+
+	@Override
+	public double getValue(int sol, int index, int column) {
+		return values[column][sampleIndex(sol, index)];
+	}
+
+	private int sampleIndex(int sol, int index) {
+		int slot = findSlot(sol);
+		if ((slot < 0) || (index < 0) || (index >= stored[slot])) {
+			throw new IllegalArgumentException("No sample " + index + " on sol " + sol);
+		}
+		return slot * maxSamples + index;
+	}
+
+	@Override
+	public double getAverage(int column, int sols) {
+		double sum = 0;
+		int count = 0;
+		int last = Math.min(sols, maxSols);
+		for (int s = 0; s < last; s++) {
+			int slot = findSlot(latestSol - s);
+			if (slot >= 0) {
+				sum += totals[column][slot];
+				count += seen[slot];
+			}
+		}
+		return (count > 0 ? sum / count : 0D);
+	}
+
+	@Override
+	public double getMin(int column, int sols) {
+		double result = fold(mins[column], sols, Double.POSITIVE_INFINITY, true);
+		return (Double.isInfinite(result) ? 0D : result);
+	}
+
+	@Override
+	public double getMax(int column, int sols) {
+		double result = fold(maxs[column], sols, Double.NEGATIVE_INFINITY, false);
+		return (Double.isInfinite(result) ? 0D : result);
+	}
+
+	private double fold(double[] perSlot, int sols, double initial, boolean lowest) {
+		double result = initial;
+		int last = Math.min(sols, maxSols);
+		for (int s = 0; s < last; s++) {
+			int slot = findSlot(latestSol - s);
+			if ((slot >= 0) && (seen[slot] > 0)) {
+				result = (lowest ? Math.min(result, perSlot[slot]) : Math.max(result, perSlot[slot]));
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Mars Simulation Project
+ * TimeSeriesView.java
+ * @date 2026-10-19
+ */
+
+package com.mars_sim.core.data;
+
+/**
+ * A read only view of a time series that holds a number of numeric columns per sample.
+ * Samples are grouped by sol and timestamped with the msol they were taken.
+ *
+ * @see SolTimeSeries
+ */
+public interface TimeSeriesView {
+
+	/**
+	 * Gets the number of values in each sample.
+	 *
+	 * @return
+	 */
+	int getNumColumns();
+
+	/**
+	 * Gets the latest sol that has been recorded.
+	 *
+	 * @return
+	 */
+	int getLatestSol();
+
+	/**
+	 * Gets the number of samples held for a sol.
+	 *
+	 * @param sol Mission sol
+	 * @return Zero if the sol is not held
+	 */
+	int getSampleCount(int sol);
+
+	/**
+	 * Gets the msol a sample was taken.
+	 *
+	 * @param sol Mission sol
+	 * @param index Index of the sample within the sol
+	 * @return
+	 */
+	int getMsol(int sol, int index);
+
+	/**
+	 * Gets a value of a sample.
+	 *
+	 * @param sol Mission sol
+	 * @param index Index of the sample within the sol
+	 * @param column Column of the value
+	 * @return
+	 */
+	double getValue(int sol, int index, int column);
+
+	/**
+	 * Gets the average of a column over the latest sols.
+	 *
+	 * @param column Column of the value
+	 * @param sols Number of sols including the current one
+	 * @return Zero if there are no samples
+	 */
+	double getAverage(int column, int sols);
+
+	/**
+	 * Gets the minimum of a column over the latest sols.
+	 *
+	 * @param column Column of the value
+	 * @param sols Number of sols including the current one
+	 * @return Zero if there are no samples
+	 */
+	double getMin(int column, int sols);
+
+	/**
+	 * Gets the maximum of a column over the latest sols.
+	 *
+	 * @param column Column of the value
+	 * @param sols Number of sols including the current one
+	 * @return Zero if there are no samples
+	 */
+	double getMax(int column, int sols);
+}
@@ -7,6 +7,8 @@
  */
 package com.mars_sim.core.environment;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -18,8 +20,8 @@ import java.util.concurrent.locks.ReentrantLock;
 import com.mars_sim.core.CollectionUtils;
 import com.mars_sim.core.Simulation;
 import com.mars_sim.core.air.AirComposition;
-import com.mars_sim.core.data.MSolDataItem;
-import com.mars_sim.core.data.MSolDataLogger;
+import com.mars_sim.core.data.SolTimeSeries;
+import com.mars_sim.core.data.TimeSeriesView;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.map.location.Coordinates;
 import com.mars_sim.core.structure.Settlement;
@@ -36,6 +38,15 @@ public class Weather implements Serializable, Temporal {
 	/** default logger. */
 	private static final SimLogger logger = SimLogger.getLogger(Weather.class.getName());
 
+	// Columns of the recorded weather
+	public static final int TEMPERATURE = 0;
+	public static final int AIR_PRESSURE = 1;
+	public static final int AIR_DENSITY = 2;
+	public static final int WIND_SPEED = 3;
+	public static final int SOLAR_IRRADIANCE = 4;
+	public static final int OPTICAL_DEPTH = 5;
+	private static final int NUM_COLUMNS = 6;
+
 	// Non-static data
 	private final int MAX_RECORDED_DAYS = 2;
 	/** The maximum initial windspeed of a new location. */
@@ -84,7 +95,7 @@ public class Weather implements Serializable, Temporal {
 	private double dailyVariationAirPressure = RandomUtil.getRandomDouble(.01); // tentatively only
 	
 	// Singleton only updated in one method
-	private Map<Coordinates, MSolDataLogger<DailyWeather>> weatherDataMap;
+	private Map<Coordinates, SolTimeSeries> weatherSeriesMap;
 	
 	private List<Coordinates> coordinateList;
 
@@ -105,7 +116,7 @@ public class Weather implements Serializable, Temporal {
 	private SurfaceFeatures surfaceFeatures;
 	
 	public Weather(MasterClock clock, OrbitInfo orbitInfo) {
-		weatherDataMap = new HashMap<>();
+		weatherSeriesMap = new HashMap<>();
 		sunDataMap = new HashMap<>();
 		
 		coordinateList = new ArrayList<>();
@@ -656,21 +667,29 @@ public class Weather implements Serializable, Temporal {
 	 */
 	public void addWeatherDataPoint() {
 		coordinateList.forEach(location ->  {			
-			MSolDataLogger<DailyWeather> dailyRecordMap = 
-					weatherDataMap.computeIfAbsent(location,
-								k -> new MSolDataLogger<>(MAX_RECORDED_DAYS));		
-			
-			DailyWeather dailyWeather = new DailyWeather( 
-					getTemperature(location), 
-					getAirPressure(location),
-					getAirDensity(location), 
-					getWindSpeed(location), 
-					surfaceFeatures.getSolarIrradiance(location),
-					surfaceFeatures.getOpticalDepth(location));
+			SolTimeSeries dailyRecord = 
+					weatherSeriesMap.computeIfAbsent(location,
+								k -> new SolTimeSeries(MAX_RECORDED_DAYS, 1000 / DATA_SAMPLING, NUM_COLUMNS));		
 			
-			dailyRecordMap.addDataPoint(dailyWeather);			
+			dailyRecord.startSample();
+			dailyRecord.setValue(TEMPERATURE, getTemperature(location));
+			dailyRecord.setValue(AIR_PRESSURE, getAirPressure(location));
+			dailyRecord.setValue(AIR_DENSITY, getAirDensity(location));
+			dailyRecord.setValue(WIND_SPEED, getWindSpeed(location));
+			dailyRecord.setValue(SOLAR_IRRADIANCE, surfaceFeatures.getSolarIrradiance(location));
+			dailyRecord.setValue(OPTICAL_DEPTH, surfaceFeatures.getOpticalDepth(location));
 		});
 	}
+
+	/**
+	 * Gets the weather recorded at a location.
+	 * 
+	 * @param location
+	 * @return Null if nothing has been recorded
+	 */
+	public TimeSeriesView getWeatherHistory(Coordinates location) {
+		return weatherSeriesMap.get(location);
+	}
 	
 	/**
 	 * Time passing in the simulation.
@@ -761,24 +780,20 @@ public class Weather implements Serializable, Temporal {
 	 * @return
 	 */
 	public void calculateSunRecord(Coordinates c) {			
-		List<MSolDataItem<DailyWeather>> dailyWeatherList = null;
-
-		if (weatherDataMap.containsKey(c)) {
-			MSolDataLogger<DailyWeather> w = weatherDataMap.get(c);
-	
-			if (!w.isYestersolDataValid()) {
-				logger.warning(0, "Weather data from yestersol at " + c + " not available.");
-				return;
-			}
-			else
-				dailyWeatherList = w.getYestersolData();
-		}
-		else {
+		SolTimeSeries w = weatherSeriesMap.get(c);
+		if (w == null) {
 			logger.warning(0, "Weather data at " + c + " not available.");
 			return;
 		}
-		
-		if (dailyWeatherList == null || dailyWeatherList.isEmpty())
+
+		int yestersol = clock.getMarsTime().getMissionSol() - 1;
+		if (yestersol < 1) {
+			logger.warning(0, "Weather data from yestersol at " + c + " not available.");
+			return;
+		}
+
+		int numPoints = w.getSampleCount(yestersol);
+		if (numPoints == 0)
 			return;
 
 		int sunrise = 0;
@@ -792,14 +807,14 @@ public class Weather implements Serializable, Temporal {
 		// Gets this instant of time
 		int tCache = 0;
 					
-		for (MSolDataItem<DailyWeather> dataPoint : dailyWeatherList) {
+		for (int i = 0; i < numPoints; i++) {
 			// Future: consider the gap between two data points.
 			
 			// Gets the solar irradiance at this instant of time
-			int current = (int)(Math.round(dataPoint.getData().getSolarIrradiance()*10.0)/10.0);
+			int current = (int)(Math.round(w.getValue(yestersol, i, SOLAR_IRRADIANCE)*10.0)/10.0);
 		
 			// Gets this instant of time
-			int t = dataPoint.getMsol();
+			int t = w.getMsol(yestersol, i);
 		
 			if (current > 0) {
 				// Sun up
@@ -958,12 +973,28 @@ public class Weather implements Serializable, Temporal {
 		return dailyVariationAirPressure;
 	}
 
+	/**
+	 * Loads the weather. A save made before the weather was recorded as a time
+	 * series has no records, so recording starts again.
+	 *
+	 * @param in
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+
+		if (weatherSeriesMap == null) {
+			weatherSeriesMap = new HashMap<>();
+		}
+	}
+
 	/**
 	 * Prepares object for garbage collection.
 	 */
 	public void destroy() {
-		weatherDataMap.clear();
-		weatherDataMap = null;
+		weatherSeriesMap.clear();
+		weatherSeriesMap = null;
 		coordinateList.clear();
 		coordinateList = null;
 		
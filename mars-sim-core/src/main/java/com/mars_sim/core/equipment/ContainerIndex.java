@@ -0,0 +1,147 @@
+/*
+ * Mars Simulation Project
+ * ContainerIndex.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.equipment;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Secondary indexes of the containers held in an {@link EquipmentInventory}. Containers
+ * are grouped by type, by whether they are unassigned to a resource and by their
+ * registered owner. A container tells the index when its resource or owner changes.
+ */
+final class ContainerIndex {
+
+	/** Registered owner of a type of container. */
+	private record OwnerKey(EquipmentType type, int ownerId) {}
+
+	/** What the container was indexed under. */
+	private record State(boolean unassigned, OwnerKey owner) {}
+
+	private final Map<EquipmentType, Set<Equipment>> byType = new EnumMap<>(EquipmentType.class);
+	private final Map<EquipmentType, Set<Equipment>> unassigned = new EnumMap<>(EquipmentType.class);
+	private final Map<OwnerKey, Set<Equipment>> byOwner = new HashMap<>();
+	private final Map<Equipment, State> states = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param containers Initial containers
+	 */
+	ContainerIndex(Set<Equipment> containers) {
+		for (Equipment e : containers) {
+			add(e);
+		}
+	}
+
+	private static Set<Equipment> get(Map<?, Set<Equipment>> index, Object key) {
+		Set<Equipment> result = index.get(key);
+		return (result != null ? Collections.unmodifiableSet(result) : Collections.emptySet());
+	}
+
+	private static <K> void remove(Map<K, Set<Equipment>> index, K key, Equipment e) {
+		Set<Equipment> s = index.get(key);
+		if (s != null) {
+			s.remove(e);
+			if (s.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+
+	private static <K> void put(Map<K, Set<Equipment>> index, K key, Equipment e) {
+		index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(e);
+	}
+
+	/**
+	 * Adds a container.
+	 *
+	 * @param e
+	 */
+	void add(Equipment e) {
+		put(byType, e.getEquipmentType(), e);
+		index(e);
+		e.setContainerIndex(this);
+	}
+
+	/**
+	 * Removes a container.
+	 *
+	 * @param e
+	 */
+	void remove(Equipment e) {
+		remove(byType, e.getEquipmentType(), e);
+		unindex(e);
+		e.clearContainerIndex(this);
+	}
+
+	/**
+	 * The resource or the owner of a container has changed.
+	 *
+	 * @param e
+	 */
+	void update(Equipment e) {
+		if (states.containsKey(e)) {
+			unindex(e);
+			index(e);
+		}
+	}
+
+	private void index(Equipment e) {
+		boolean free = ((Container) e).getResource() == -1;
+		OwnerKey owner = new OwnerKey(e.getEquipmentType(), e.getRegisteredOwnerID());
+		if (free) {
+			put(unassigned, e.getEquipmentType(), e);
+		}
+		put(byOwner, owner, e);
+		states.put(e, new State(free, owner));
+	}
+
+	private void unindex(Equipment e) {
+		State s = states.remove(e);
+		if (s != null) {
+			if (s.unassigned()) {
+				remove(unassigned, e.getEquipmentType(), e);
+			}
+			remove(byOwner, s.owner(), e);
+		}
+	}
+
+	/**
+	 * Gets the containers of a type.
+	 *
+	 * @param type
+	 * @return
+	 */
+	Set<Equipment> getByType(EquipmentType type) {
+		return get(byType, type);
+	}
+
+	/**
+	 * Gets the containers of a type that are not assigned to a resource.
+	 *
+	 * @param type
+	 * @return
+	 */
+	Set<Equipment> getUnassigned(EquipmentType type) {
+		return get(unassigned, type);
+	}
+
+	/**
+	 * Gets the containers of a type registered to an owner.
+	 *
+	 * @param type
+	 * @param ownerId Owner or -1 for containers with no owner
+	 * @return
+	 */
+	Set<Equipment> getByOwner(EquipmentType type, int ownerId) {
+		return get(byOwner, new OwnerKey(type, ownerId));
+	}
+}
@@ -54,6 +54,8 @@ public abstract class Equipment extends AbstractMobileUnit implements Salvagable
 	private final EquipmentType equipmentType;
 	/** The SalvageInfo instance. */
 	private SalvageInfo salvageInfo;
+	/** The index of the inventory holding this equipment. */
+	private transient ContainerIndex containerIndex;
 
 	/**
 	 * Constructs an Equipment object.
@@ -256,6 +258,36 @@ public abstract class Equipment extends AbstractMobileUnit implements Salvagable
 		}
 		else
 			registeredOwner = Unit.UNKNOWN_UNIT_ID;
+		updateContainerIndex();
+	}
+
+	/**
+	 * Sets the index of the inventory now holding this equipment.
+	 * 
+	 * @param index
+	 */
+	void setContainerIndex(ContainerIndex index) {
+		containerIndex = index;
+	}
+
+	/**
+	 * Clears the index if it is the one of the inventory releasing this equipment.
+	 * 
+	 * @param index
+	 */
+	void clearContainerIndex(ContainerIndex index) {
+		if (containerIndex == index) {
+			containerIndex = null;
+		}
+	}
+
+	/**
+	 * Tells the index of the holding inventory that the resource or owner has changed.
+	 */
+	protected void updateContainerIndex() {
+		if (containerIndex != null) {
+			containerIndex.update(this);
+		}
 	}
 
 	/**
@@ -9,6 +9,7 @@ package com.mars_sim.core.equipment;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -48,6 +49,12 @@ public class EquipmentInventory
 	/** The MicroInventory instance. */
 	private MicroInventory microInventory;
 
+	/** Index of the containers; rebuilt on demand. */
+	private transient ContainerIndex containerIndex;
+
+	/** Index of the amount resource bins; rebuilt on demand. */
+	private transient Map<BinType, AmountResourceBin> binIndex;
+
 	/**
 	 * Constructor.
 	 * 
@@ -197,7 +204,39 @@ public class EquipmentInventory
 			return addToSet(suitSet, equipment);
 		}
 		
-		return addToSet(containerSet, equipment);
+		boolean added = addToSet(containerSet, equipment);
+		if (added && (containerIndex != null)) {
+			containerIndex.add(equipment);
+		}
+		return added;
+	}
+
+	/**
+	 * Gets the index of the containers; creating it if needed.
+	 * 
+	 * @return
+	 */
+	private ContainerIndex getContainerIndex() {
+		if (containerIndex == null) {
+			containerIndex = new ContainerIndex(containerSet);
+		}
+		return containerIndex;
+	}
+
+	/**
+	 * Gets the amount resource bin map of a type.
+	 * 
+	 * @param type
+	 * @return Bin map or null if none
+	 */
+	private AmountResourceBin getBinMap(BinType type) {
+		if (binIndex == null) {
+			binIndex = new EnumMap<>(BinType.class);
+			for (AmountResourceBin arb : amountResourceBinSet) {
+				binIndex.putIfAbsent(arb.getBinType(), arb);
+			}
+		}
+		return binIndex.get(type);
 	}
 	
 	/**
@@ -268,13 +307,22 @@ public class EquipmentInventory
 		if (equipment.getEquipmentType() == EquipmentType.EVA_SUIT) {
 			return suitSet.remove(equipment);
 		}
-		return containerSet.remove(equipment);
+		boolean removed = containerSet.remove(equipment);
+		if (removed && (containerIndex != null)) {
+			containerIndex.remove(equipment);
+		}
+		return removed;
 	}
 
 
 	@Override
 	public boolean addBin(Bin bin) {
-		var	binMap = BinFactory.findBinMap(owner, getAmountResourceBinSet(), bin.getBinType());
+		var	binMap = getBinMap(bin.getBinType());
+		if (binMap == null) {
+			binMap = BinFactory.findBinMap(owner, amountResourceBinSet, bin.getBinType());
+			amountResourceBinSet.add(binMap);
+			binIndex.put(bin.getBinType(), binMap);
+		}
 		
 		binMap.addBin(bin);
 		
@@ -463,8 +511,10 @@ public class EquipmentInventory
 	 */
 	@Override
 	public int findNumEmptyContainersOfType(EquipmentType containerType, boolean brandNew) {
-		return (int) containerSet.stream().filter(e -> e.isEmpty(brandNew) && (e.getEquipmentType() == containerType))
-								.count();
+		if (brandNew) {
+			return getContainerIndex().getByOwner(containerType, -1).size();
+		}
+		return getContainerIndex().getUnassigned(containerType).size();
 	}
 
 	/**
@@ -475,9 +525,7 @@ public class EquipmentInventory
 	 * @return
 	 */
 	public int findNumEmptyCopyContainersOfType(EquipmentType containerType, boolean brandNew) {
-		return (int) containerSet.stream()
-					.filter(e -> e.isEmpty(brandNew) && (e.getEquipmentType() == containerType))
-					.count();
+		return findNumEmptyContainersOfType(containerType, brandNew);
 	}
 	
 	
@@ -491,7 +539,7 @@ public class EquipmentInventory
 	 */
 	@Override
 	public int findNumContainersOfType(EquipmentType containerType) {
-		return (int) containerSet.stream().filter(e -> e.getEquipmentType() == containerType).count();
+		return getContainerIndex().getByType(containerType).size();
 	}
 	
 	/**
@@ -501,10 +549,8 @@ public class EquipmentInventory
 	 */
 	public Collection<Container> findContainersOfType(EquipmentType type) {
 		Collection<Container> result = new HashSet<>();
-		for (Equipment e : containerSet) {
-			if (type == e.getEquipmentType()) {
-				result.add((Container)e);
-			}
+		for (Equipment e : getContainerIndex().getByType(type)) {
+			result.add((Container)e);
 		}
 		return result;
 	}
@@ -521,15 +567,22 @@ public class EquipmentInventory
 	 */
 	@Override
 	public Container findContainer(EquipmentType containerType, boolean empty, int resource) {
-		for (Equipment e : containerSet) {
-			if (e.getEquipmentType() == containerType) {
-				 Container c = (Container)e;
-				// Check it matches the resource spec
-				int containerResource = c.getResource();
-				if (resource == -1 || containerResource == resource || containerResource == -1) {
-					if (!empty || (c.getStoredMass() == 0D)) {
-						return c;
-					}
+		var index = getContainerIndex();
+		if (empty) {
+			// Unassigned containers are empty and match any resource
+			var free = index.getUnassigned(containerType);
+			if (!free.isEmpty()) {
+				return (Container) free.iterator().next();
+			}
+		}
+
+		for (Equipment e : index.getByType(containerType)) {
+			Container c = (Container)e;
+			// Check it matches the resource spec
+			int containerResource = c.getResource();
+			if (resource == -1 || containerResource == resource || containerResource == -1) {
+				if (!empty || (c.getStoredMass() == 0D)) {
+					return c;
 				}
 			}
 		}
@@ -545,16 +598,12 @@ public class EquipmentInventory
 	 * @return instance of container or null if none.
 	 */
 	public Container findOwnedContainer(EquipmentType containerType, int personId, int resource) {
-		for (Equipment e : containerSet) {
-			if (e.getEquipmentType() == containerType) {
-				 Container c = (Container)e;
-				// Check it matches the resource spec
-				int containerResource = c.getResource();
-				if (resource == -1 || containerResource == resource || containerResource == -1) {
-					if (e.getRegisteredOwnerID() == personId) {
-						return c;
-					}
-				}
+		for (Equipment e : getContainerIndex().getByOwner(containerType, personId)) {
+			Container c = (Container)e;
+			// Check it matches the resource spec
+			int containerResource = c.getResource();
+			if (resource == -1 || containerResource == resource || containerResource == -1) {
+				return c;
 			}
 		}
 		return null;
@@ -567,12 +616,8 @@ public class EquipmentInventory
 	 */
 	@Override
 	public int findNumBinsOfType(BinType binType) {
-		for (AmountResourceBin arb : amountResourceBinSet) {
-			if (arb.getBinType() == binType) {
-				return arb.getBinMap().size();
-			}
-		}
-		return 0;
+		var arb = getBinMap(binType);
+		return (arb != null ? arb.getBinMap().size() : 0);
 	}
 	
 	/**
@@ -582,14 +627,8 @@ public class EquipmentInventory
 	 */
 	@Override
 	public Collection<Bin> findBinsOfType(BinType binType){
-		Collection<Bin> result = new HashSet<>();
-		for (AmountResourceBin arb : amountResourceBinSet) {
-			if (arb.getBinType() == binType) {
-				result = arb.getBinMap().values();
-			}
-		}
-
-		return result;
+		var arb = getBinMap(binType);
+		return (arb != null ? arb.getBinMap().values() : new HashSet<>());
 	}
 
 	/**
@@ -755,12 +794,7 @@ public class EquipmentInventory
 	 * @return
 	 */
 	public boolean haveContainerType(BinType type) {
-		for (AmountResourceBin c: amountResourceBinSet) {
-			if (c.getBinType() == type) {
-				return true;
-			}
-		}
-		return false;
+		return getBinMap(type) != null;
 	}
 	
 	/**
@@ -770,12 +804,7 @@ public class EquipmentInventory
 	 * @return
 	 */
 	public boolean haveContainerTypeResource(BinType type) {
-		for (AmountResourceBin c: amountResourceBinSet) {
-			if (c.getBinType() == type) {
-				return true;
-			}
-		}
-		return false;
+		return getBinMap(type) != null;
 	}
 	
 	@Override
@@ -931,6 +960,8 @@ public class EquipmentInventory
 	public void destroy() {
 		containerSet.clear();
 		containerSet = null;
+		containerIndex = null;
+		binIndex = null;
 		suitSet.clear();
 		suitSet = null;
 		microInventory = null;
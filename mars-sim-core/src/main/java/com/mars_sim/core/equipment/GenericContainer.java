@@ -143,6 +143,7 @@ class GenericContainer extends Equipment implements Container {
 				amountStored = 0D;
 				if (reusable) {
 					resourceHeld = -1;
+					updateContainerIndex();
 				}
 				return shortfall;
 			}
@@ -190,6 +191,7 @@ class GenericContainer extends Equipment implements Container {
 			if (canStore(resource)) {
 				// Allocate the capacity to this new resource
 				resourceHeld = resource;
+				updateContainerIndex();
 			}
 			else {
 				throw new IllegalArgumentException("Can not resource "
@@ -305,8 +307,9 @@ class GenericContainer extends Equipment implements Container {
 		if (amountStored > 0) {
 			logger.warning(this, "Not empty during cleaning");
 		}
-		else {
+		else if (resourceHeld != -1) {
 			resourceHeld = -1;
+			updateContainerIndex();
 		}
 	}
 }
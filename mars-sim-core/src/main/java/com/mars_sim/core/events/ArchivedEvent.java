@@ -0,0 +1,26 @@
+/*
+ * Mars Simulation Project
+ * ArchivedEvent.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.events;
+
+import com.mars_sim.core.Unit;
+import com.mars_sim.core.person.EventType;
+import com.mars_sim.core.time.MarsTime;
+
+/**
+ * A historical event read back from the event archive. The source is only kept as
+ * its text.
+ */
+class ArchivedEvent extends HistoricalEvent {
+
+	private static final long serialVersionUID = 1L;
+
+	ArchivedEvent(HistoricalEventCategory category, EventType type, String source, String whatCause,
+			String whileDoing, String whoAffected, Unit entity, String homeTown, String coordinates,
+			MarsTime timestamp) {
+		super(category, type, source, whatCause, whileDoing, whoAffected, entity, homeTown, coordinates);
+		setTimestamp(timestamp);
+	}
+}
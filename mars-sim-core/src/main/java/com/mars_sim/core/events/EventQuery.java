@@ -0,0 +1,85 @@
+/*
+ * Mars Simulation Project
+ * EventQuery.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.events;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.mars_sim.core.Unit;
+import com.mars_sim.core.time.MarsTime;
+
+/**
+ * A selection of historical events. Each part that is null matches every event.
+ * A query is built up from {@link #all()}, e.g.
+ * {@code EventQuery.all().withSettlement("Alpha").limit(10)}.
+ *
+ * @param categories Categories to match
+ * @param settlements Names of the home towns to match
+ * @param unit Identifier of the entity to match
+ * @param from Earliest time, inclusive
+ * @param to Latest time, inclusive
+ * @param limit Maximum events returned
+ */
+public record EventQuery(Set<HistoricalEventCategory> categories, Set<String> settlements,
+						Integer unit, MarsTime from, MarsTime to, int limit) {
+
+	private static final EventQuery ALL = new EventQuery(null, null, null, null, null, Integer.MAX_VALUE);
+
+	/**
+	 * Gets a query that matches every event.
+	 *
+	 * @return
+	 */
+	public static EventQuery all() {
+		return ALL;
+	}
+
+	public EventQuery withCategories(Set<HistoricalEventCategory> newCategories) {
+		return new EventQuery(EnumSet.copyOf(newCategories), settlements, unit, from, to, limit);
+	}
+
+	public EventQuery withCategory(HistoricalEventCategory category) {
+		return withCategories(EnumSet.of(category));
+	}
+
+	public EventQuery withSettlements(Set<String> newSettlements) {
+		return new EventQuery(categories, Set.copyOf(newSettlements), unit, from, to, limit);
+	}
+
+	public EventQuery withSettlement(String settlement) {
+		return withSettlements(Set.of(settlement));
+	}
+
+	public EventQuery withUnit(Unit entity) {
+		return new EventQuery(categories, settlements, entity.getIdentifier(), from, to, limit);
+	}
+
+	/**
+	 * Limits the events to a time range.
+	 *
+	 * @param start Earliest time; null for no limit
+	 * @param end Latest time; null for no limit
+	 * @return
+	 */
+	public EventQuery between(MarsTime start, MarsTime end) {
+		return new EventQuery(categories, settlements, unit, start, end, limit);
+	}
+
+	public EventQuery limit(int maximum) {
+		return new EventQuery(categories, settlements, unit, from, to, maximum);
+	}
+
+	/**
+	 * Is a time within the range of this query?
+	 *
+	 * @param ticks
+	 * @return
+	 */
+	boolean isWithin(long ticks) {
+		return ((from == null) || (ticks >= from.getTicks()))
+				&& ((to == null) || (ticks <= to.getTicks()));
+	}
+}
@@ -0,0 +1,507 @@
+/*
+ * Mars Simulation Project
+ * EventStore.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.events;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+
+import com.mars_sim.core.Unit;
+import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.person.EventType;
+import com.mars_sim.core.time.MarsTime;
+
+/**
+ * An append only store of historical events split into segments of a fixed size.
+ * The newest segments hold the events in memory. Older segments are written to a file
+ * if an archive directory is set; otherwise they are dropped. Every segment keeps
+ * indexes of its events by category, settlement and unit plus its time range, so a
+ * query only reads the events that match.
+ * The files use fixed size rows so single events can be read back; each file has its
+ * own table of texts. The archive only covers the current run of the simulation.
+ * Each store has its own folder inside the archive directory so several simulations
+ * can share it; the folder is removed when the store is closed.
+ * The files are written by a background thread of the store; a segment is read from
+ * memory until its file is complete.
+ */
+final class EventStore {
+
+	private static final SimLogger logger = SimLogger.getLogger(EventStore.class.getName());
+
+	/** Events in each segment. */
+	static final int SEGMENT_SIZE = 512;
+	/** Segments whose events are held in memory. */
+	static final int MEMORY_SEGMENTS = 4;
+
+	private static final String SUFFIX = ".evt";
+	private static final int NO_TEXT = -1;
+	private static final int NO_UNIT = -1;
+	private static final int TEXTS = 6;
+	/** Bytes of an event in a file: time, category, type, texts and unit. */
+	private static final int ROW_BYTES = Long.BYTES + Byte.BYTES + Short.BYTES
+											+ (TEXTS * Short.BYTES) + Integer.BYTES;
+	private static final BitSet NONE = new BitSet();
+
+	private static final AtomicInteger nextStore = new AtomicInteger();
+
+	/**
+	 * A block of events in time order.
+	 */
+	private static final class Segment {
+		private final int number;
+		private final Map<HistoricalEventCategory, BitSet> byCategory =
+										new EnumMap<>(HistoricalEventCategory.class);
+		private final Map<String, BitSet> bySettlement = new HashMap<>();
+		private final Map<Integer, BitSet> byUnit = new HashMap<>();
+		private long firstTick;
+		private long lastTick;
+		private int size = 0;
+
+		// Only one of these is set
+		private HistoricalEvent[] events = new HistoricalEvent[SEGMENT_SIZE];
+		private File file;
+
+		private Segment(int number) {
+			this.number = number;
+		}
+
+		private void add(HistoricalEvent e) {
+			long ticks = e.getTimestamp().getTicks();
+			if (size == 0) {
+				firstTick = ticks;
+			}
+			lastTick = ticks;
+
+			events[size] = e;
+			byCategory.computeIfAbsent(e.getCategory(), k -> new BitSet()).set(size);
+			if (e.getHomeTown() != null) {
+				bySettlement.computeIfAbsent(e.getHomeTown(), k -> new BitSet()).set(size);
+			}
+			if (e.getEntity() != null) {
+				byUnit.computeIfAbsent(e.getEntity().getIdentifier(), k -> new BitSet()).set(size);
+			}
+			size++;
+		}
+
+		/**
+		 * Selects the events that match a query using the indexes. The time is only
+		 * checked against the range of the whole segment.
+		 *
+		 * @param query
+		 * @return
+		 */
+		private BitSet select(EventQuery query) {
+			if (((query.from() != null) && (lastTick < query.from().getTicks()))
+					|| ((query.to() != null) && (firstTick > query.to().getTicks()))) {
+				return NONE;
+			}
+
+			BitSet rows = new BitSet(size);
+			rows.set(0, size);
+			if (query.categories() != null) {
+				rows.and(union(byCategory, query.categories()));
+			}
+			if (query.settlements() != null) {
+				rows.and(union(bySettlement, query.settlements()));
+			}
+			if (query.unit() != null) {
+				rows.and(byUnit.getOrDefault(query.unit(), NONE));
+			}
+			return rows;
+		}
+
+		private static <K> BitSet union(Map<K, BitSet> index, Collection<K> keys) {
+			BitSet result = new BitSet();
+			for (K k : keys) {
+				BitSet rows = index.get(k);
+				if (rows != null) {
+					result.or(rows);
+				}
+			}
+			return result;
+		}
+	}
+
+	/** Selected events of a segment held in a file. */
+	private record FileRows(Segment segment, BitSet rows) {}
+
+	private final int id = nextStore.incrementAndGet();
+	private final LongFunction<MarsTime> timeOf;
+	private final IntFunction<Unit> unitOf;
+
+	// Oldest first; the last ones hold their events in memory
+	private final List<Segment> segments = new ArrayList<>();
+	private int inMemory = 0;
+	private int nextNumber = 0;
+
+	// Folder of this store; null if there is no archive
+	private File directory = null;
+	private final List<File> folders = new ArrayList<>();
+	private ExecutorService writer = null;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param timeOf Converts ticks to a time for the events read from a file
+	 * @param unitOf Finds a unit for the events read from a file
+	 */
+	EventStore(LongFunction<MarsTime> timeOf, IntFunction<Unit> unitOf) {
+		this.timeOf = timeOf;
+		this.unitOf = unitOf;
+	}
+
+	/**
+	 * Enables the archive. The store writes its files to a new folder inside the directory;
+	 * files already written stay where they are.
+	 *
+	 * @param dir Directory of the archive; null disables the archive
+	 */
+	synchronized void setDirectory(File dir) {
+		if (dir == null) {
+			directory = null;
+			return;
+		}
+
+		try {
+			dir.mkdirs();
+			directory = Files.createTempDirectory(dir.toPath(), "events-").toFile();
+			folders.add(directory);
+		}
+		catch (IOException e) {
+			logger.severe("Cannot create event archive in " + dir, e);
+			directory = null;
+			return;
+		}
+
+		if (writer == null) {
+			writer = Executors.newSingleThreadExecutor(r -> {
+				Thread t = new Thread(r, "event-archive-" + id);
+				t.setDaemon(true);
+				return t;
+			});
+		}
+	}
+
+	/**
+	 * Waits for the segments already queued to be written.
+	 */
+	void flush() {
+		ExecutorService w;
+		synchronized (this) {
+			w = writer;
+		}
+		if (w != null) {
+			waitFor(w.submit(() -> {}));
+		}
+	}
+
+	/**
+	 * Stops the writer and removes the files of this store. The events are dropped.
+	 */
+	void close() {
+		ExecutorService w;
+		synchronized (this) {
+			w = writer;
+			writer = null;
+			directory = null;
+		}
+		if (w != null) {
+			w.shutdown();
+			try {
+				w.awaitTermination(1, TimeUnit.MINUTES);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		synchronized (this) {
+			for (Segment s : segments) {
+				if ((s.file != null) && !s.file.delete()) {
+					logger.warning("Cannot remove event archive " + s.file);
+				}
+			}
+			segments.clear();
+			inMemory = 0;
+
+			for (File f : folders) {
+				if (!f.delete()) {
+					logger.warning("Cannot remove event archive " + f);
+				}
+			}
+			folders.clear();
+		}
+	}
+
+	private static void waitFor(Future<?> job) {
+		try {
+			job.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e) {
+			logger.severe("Problem with the event archive", e.getCause());
+		}
+	}
+
+	/**
+	 * Adds an event. It must not be older than the last event added.
+	 *
+	 * @param e
+	 */
+	synchronized void add(HistoricalEvent e) {
+		Segment current = (segments.isEmpty() ? null : segments.get(segments.size() - 1));
+		if ((current == null) || (current.size == SEGMENT_SIZE)) {
+			current = new Segment(nextNumber++);
+			segments.add(current);
+			inMemory++;
+			if (inMemory > MEMORY_SEGMENTS) {
+				release(segments.size() - inMemory);
+				inMemory--;
+			}
+		}
+		current.add(e);
+	}
+
+	/**
+	 * Queues the events of a segment to be moved to a file or drops the segment if there
+	 * is no archive.
+	 *
+	 * @param idx
+	 */
+	private void release(int idx) {
+		Segment s = segments.get(idx);
+		if (directory == null) {
+			segments.remove(idx);
+			return;
+		}
+		File file = new File(directory, s.number + SUFFIX);
+		writer.execute(() -> archive(s, file));
+	}
+
+	/**
+	 * Writes a full segment and then swaps its events for the file. Called by the writer.
+	 *
+	 * @param s
+	 * @param file
+	 */
+	private void archive(Segment s, File file) {
+		boolean written = write(s, file);
+		synchronized (this) {
+			if (written) {
+				s.file = file;
+				s.events = null;
+			}
+			else {
+				segments.remove(s);
+			}
+		}
+	}
+
+	/**
+	 * Writes the events of a segment to a file. The segment is full so does not change.
+	 *
+	 * @param s
+	 * @param file
+	 * @return Was it written
+	 */
+	private static boolean write(Segment s, File file) {
+		try {
+			Map<String, Integer> texts = new HashMap<>();
+			List<String> table = new ArrayList<>();
+			ByteArrayOutputStream rows = new ByteArrayOutputStream(s.size * ROW_BYTES);
+			DataOutputStream r = new DataOutputStream(rows);
+			for (int i = 0; i < s.size; i++) {
+				HistoricalEvent e = s.events[i];
+				Object source = e.getSource();
+				r.writeLong(e.getTimestamp().getTicks());
+				r.writeByte(e.getCategory().ordinal());
+				r.writeShort(e.getType().ordinal());
+				for (String t : new String[] {(source == null ? null : source.toString()),
+							e.getWhatCause(), e.getWhileDoing(), e.getWho(), e.getHomeTown(),
+							e.getCoordinates()}) {
+					r.writeShort(t == null ? NO_TEXT : texts.computeIfAbsent(t, k -> {
+						table.add(k);
+						return table.size() - 1;
+					}));
+				}
+				r.writeInt(e.getEntity() == null ? NO_UNIT : e.getEntity().getIdentifier());
+			}
+
+			ByteArrayOutputStream header = new ByteArrayOutputStream();
+			DataOutputStream h = new DataOutputStream(header);
+			h.writeShort(table.size());
+			for (String t : table) {
+				h.writeUTF(t);
+			}
+			h.flush();
+
+			try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+				out.writeInt(header.size());
+				header.writeTo(out);
+				rows.writeTo(out);
+			}
+			return true;
+		}
+		catch (IOException e) {
+			logger.severe("Problem archiving events to " + file, e);
+			return false;
+		}
+	}
+
+	/**
+	 * Gets the events that match a query, most recent first.
+	 *
+	 * @param query
+	 * @return
+	 */
+	List<HistoricalEvent> query(EventQuery query) {
+		List<HistoricalEvent> result = new ArrayList<>();
+		List<FileRows> inFiles = new ArrayList<>();
+		synchronized (this) {
+			for (int s = segments.size() - 1; (s >= 0) && (result.size() < query.limit()); s--) {
+				Segment seg = segments.get(s);
+				BitSet rows = seg.select(query);
+				if (seg.events == null) {
+					if (!rows.isEmpty()) {
+						inFiles.add(new FileRows(seg, rows));
+					}
+					continue;
+				}
+				for (int i = rows.previousSetBit(seg.size - 1); (i >= 0) && (result.size() < query.limit());
+								i = rows.previousSetBit(i - 1)) {
+					HistoricalEvent e = seg.events[i];
+					if (query.isWithin(e.getTimestamp().getTicks())) {
+						result.add(e);
+					}
+				}
+			}
+		}
+
+		// Files are only written once so they can be read without the lock
+		for (FileRows f : inFiles) {
+			if (result.size() >= query.limit()) {
+				break;
+			}
+			read(f, query, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads the selected events of a segment file, most recent first.
+	 */
+	private void read(FileRows f, EventQuery query, List<HistoricalEvent> result) {
+		File file = f.segment().file;
+		try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+			byte[] header = new byte[in.readInt()];
+			in.readFully(header);
+			DataInputStream h = new DataInputStream(new ByteArrayInputStream(header));
+			String[] table = new String[h.readShort()];
+			for (int i = 0; i < table.length; i++) {
+				table[i] = h.readUTF();
+			}
+
+			long start = Integer.BYTES + (long) header.length;
+			byte[] row = new byte[ROW_BYTES];
+			BitSet rows = f.rows();
+			for (int i = rows.previousSetBit(f.segment().size - 1); (i >= 0) && (result.size() < query.limit());
+							i = rows.previousSetBit(i - 1)) {
+				in.seek(start + ((long) i * ROW_BYTES));
+				in.readFully(row);
+				ByteBuffer b = ByteBuffer.wrap(row);
+				long when = b.getLong();
+				if (!query.isWithin(when)) {
+					continue;
+				}
+				HistoricalEventCategory category = HistoricalEventCategory.int2enum(b.get());
+				EventType type = EventType.values()[b.getShort()];
+				String[] texts = new String[TEXTS];
+				for (int t = 0; t < TEXTS; t++) {
+					short idx = b.getShort();
+					texts[t] = (idx == NO_TEXT ? null : table[idx]);
+				}
+				int unitId = b.getInt();
+				Unit entity = (unitId == NO_UNIT ? null : unitOf.apply(unitId));
+
+				result.add(new ArchivedEvent(category, type, texts[0], texts[1], texts[2], texts[3],
+											entity, texts[4], texts[5], timeOf.apply(when)));
+			}
+		}
+		catch (IOException e) {
+			logger.severe("Problem reading event archive " + file, e);
+		}
+	}
+
+	/**
+	 * Gets the latest events, most recent first.
+	 *
+	 * @param count Maximum events returned
+	 * @return
+	 */
+	synchronized List<HistoricalEvent> getLatest(int count) {
+		List<HistoricalEvent> result = new ArrayList<>(count);
+		for (int s = segments.size() - 1; (s >= segments.size() - inMemory) && (result.size() < count); s--) {
+			Segment seg = segments.get(s);
+			for (int i = seg.size - 1; (i >= 0) && (result.size() < count); i--) {
+				result.add(seg.events[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the events held in memory, oldest first.
+	 *
+	 * @return
+	 */
+	synchronized List<HistoricalEvent> getInMemory() {
+		List<HistoricalEvent> result = new ArrayList<>(inMemory * SEGMENT_SIZE);
+		for (int s = segments.size() - inMemory; s < segments.size(); s++) {
+			Segment seg = segments.get(s);
+			for (int i = 0; i < seg.size; i++) {
+				result.add(seg.events[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of events held in memory or in files.
+	 *
+	 * @return
+	 */
+	synchronized int size() {
+		int total = 0;
+		for (Segment s : segments) {
+			total += s.size;
+		}
+		return total;
+	}
+}
@@ -83,6 +83,17 @@ public abstract class HistoricalEvent implements Serializable {
 	 */
 	public HistoricalEvent(HistoricalEventCategory category, EventType type, Object source, String whatCause,
 			String whileDoing, String whoAffected, Unit entity, String homeTown, Coordinates coordinates) {
+		this(category, type, source, whatCause, whileDoing, whoAffected, entity, homeTown,
+				coordinates.getFormattedString());
+	}
+
+	/**
+	 * Constructs an event where the coordinates are already formatted.
+	 * 
+	 * @param coordinates	the formatted coordinates where it belongs
+	 */
+	HistoricalEvent(HistoricalEventCategory category, EventType type, Object source, String whatCause,
+			String whileDoing, String whoAffected, Unit entity, String homeTown, String coordinates) {
 		this.category = category;
 		this.type = type;
 		this.source = source;
@@ -91,7 +102,7 @@ public abstract class HistoricalEvent implements Serializable {
 		this.who = whoAffected;
 		this.entity = entity;
 		this.homeTown = homeTown;
-		this.coordinates = coordinates.getFormattedString();
+		this.coordinates = coordinates;
 	}
 
 	/**
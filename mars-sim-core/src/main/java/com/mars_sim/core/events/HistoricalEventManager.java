@@ -1,151 +1,193 @@
-/*
- * Mars Simulation Project
- * HistoricalEventManager.java
- * @date 2022-09-24
- * @author Barry Evans
- */
-
-package com.mars_sim.core.events;
-
-import java.io.Serializable;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-
-import com.mars_sim.core.person.EventType;
-import com.mars_sim.core.time.MasterClock;
-
-
-/**
- * This class provides a manager that maintains a model of the events that have
- * occurred during the current simulation run. It provides support for a
- * listener pattern so the external objects can be notified when new events have
- * been registered. The manager maintains an ordered list in terms of decreasing
- * time, i.e. most recent event first. It should be noted that the throughput of
- * new events of the manager can be in the order of 100 event per simulation
- * tick.
- */
-public class HistoricalEventManager implements Serializable {
-
-	/** default serial id. */
-	private static final long serialVersionUID = 1L;
-	/**
-	 * This defines the maximum number of events that are stored. It should be a
-	 * standard property.
-	 */
-	private final static int TRANSIENT_EVENTS = 50;
-
-	private transient List<HistoricalEventListener> listeners;
-
-	// Static list - don't want to be serialized
-	private static List<HistoricalEvent> lastEvents = new CopyOnWriteArrayList<>();
-
-	private MasterClock masterClock;
-
-	/**
-	 * Creates a new EventManager that represents a particular simulation.
-	 * @param masterClock
-	 */
-	public HistoricalEventManager(MasterClock masterClock) {
-		listeners = new CopyOnWriteArrayList<>();
-		this.masterClock = masterClock;
-	}
-
-	/**
-	 * Adds a historical event listener
-	 *
-	 * @param newListener listener to add.
-	 */
-	public void addListener(HistoricalEventListener newListener) {
-		if (listeners == null)
-			listeners = new CopyOnWriteArrayList<>();
-		if (!listeners.contains(newListener))
-			listeners.add(newListener);
-	}
-
-	/**
-	 * Removes a historical event listener.
-	 *
-	 * @param oldListener listener to remove.
-	 */
-	public void removeListener(HistoricalEventListener oldListener) {
-		if (listeners.contains(oldListener))
-			listeners.remove(oldListener);
-	}
-
-	public boolean isSameEvent(HistoricalEvent newEvent) {
-		if (lastEvents != null && !lastEvents.isEmpty()) {
-			for (HistoricalEvent e : lastEvents) {
-				if (e.getType() == newEvent.getType()
-						&& e.getCategory() == newEvent.getCategory()
-						&& e.getSource().equals(newEvent.getSource())
-						&& e.getWhatCause().equals(newEvent.getWhatCause())
-						&& e.getWhileDoing().equals(newEvent.getWhileDoing())
-						&& e.getWho().equals(newEvent.getWho())
-						&& e.getEntity().equals(newEvent.getEntity())
-						&& e.getCoordinates().equals(newEvent.getCoordinates())) {
-					return true;
-				}
-			}
-		}
-		return false;
-	}
-
-	/**
-	 * An new event needs registering with the manager. The event will be time
-	 * stamped with the current clock time and inserted at position zero.
-	 *
-	 * @param newEvent The event to register.
-	 */
-	public void registerNewEvent(HistoricalEvent newEvent) {
-		if (newEvent.getCategory() == HistoricalEventCategory.TASK)
-			return;
-
-		EventType type = newEvent.getType();
-
-		if (type == EventType.MISSION_START)
-			return;
-		else if (type == EventType.MISSION_JOINING)
-			return;
-		else if (type == EventType.MISSION_FINISH)
-			return;
-		else if (type == EventType.MISSION_NOT_ENOUGH_RESOURCES)
-			return;
-		else if (isSameEvent(newEvent))
-			return;
-
-		newEvent.setTimestamp(masterClock.getMarsTime());
-
-		if (lastEvents == null)
-			lastEvents = new CopyOnWriteArrayList<>();
-
-		synchronized(lastEvents) {
-			lastEvents.add(newEvent);
-			if (lastEvents.size() > TRANSIENT_EVENTS)
-				lastEvents.remove(0);
-		}
-
-		if (listeners != null) {
-			for(HistoricalEventListener l : listeners) {
-				l.eventAdded(newEvent);
-			}
-		}	
-	}
-
-
-	/**
-	 * Gets the recent historical events.
-	 * 
-	 * @return
-	 */
-	public List<HistoricalEvent> getEvents() {
-		return lastEvents;
-	}
-
-	/**
-	 * Gets the master clock
-	 * @return
-	 */
-	public MasterClock getClock() {
-		return masterClock;
-	}
+/*
+ * Mars Simulation Project
+ * HistoricalEventManager.java
+ * @date 2022-09-24
+ * @author Barry Evans
+ */
+
+package com.mars_sim.core.events;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.mars_sim.core.Simulation;
+import com.mars_sim.core.person.EventType;
+import com.mars_sim.core.time.MasterClock;
+
+
+/**
+ * This class provides a manager that maintains a model of the events that have
+ * occurred during the current simulation run. It provides support for a
+ * listener pattern so the external objects can be notified when new events have
+ * been registered. It should be noted that the throughput of new events of the
+ * manager can be in the order of 100 event per simulation tick.
+ * The events are held in an {@link EventStore} that keeps the recent ones in memory
+ * and moves older ones to files if an archive directory is set. The events are not
+ * saved with the simulation.
+ */
+public class HistoricalEventManager implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * This defines the number of latest events checked for a duplicate.
+	 */
+	private static final int TRANSIENT_EVENTS = 50;
+
+	private transient List<HistoricalEventListener> listeners;
+
+	private transient EventStore store;
+
+	private MasterClock masterClock;
+
+	/**
+	 * Creates a new EventManager that represents a particular simulation.
+	 * @param masterClock
+	 */
+	public HistoricalEventManager(MasterClock masterClock) {
+		listeners = new CopyOnWriteArrayList<>();
+		this.masterClock = masterClock;
+		store = createStore();
+	}
+
+	private EventStore createStore() {
+		return new EventStore(t -> masterClock.getMarsTime().atTicks(t),
+						id -> Simulation.instance().getUnitManager().getUnitByID(id));
+	}
+
+	/**
+	 * Enables the archive of old events of this simulation. The files go in a new
+	 * folder inside the directory that is removed when the simulation is destroyed.
+	 *
+	 * @param dir Directory of the archive; null disables the archive
+	 */
+	public void setArchiveDirectory(File dir) {
+		store.setDirectory(dir);
+	}
+
+	/**
+	 * Adds a historical event listener
+	 *
+	 * @param newListener listener to add.
+	 */
+	public void addListener(HistoricalEventListener newListener) {
+		if (listeners == null)
+			listeners = new CopyOnWriteArrayList<>();
+		if (!listeners.contains(newListener))
+			listeners.add(newListener);
+	}
+
+	/**
+	 * Removes a historical event listener.
+	 *
+	 * @param oldListener listener to remove.
+	 */
+	public void removeListener(HistoricalEventListener oldListener) {
+		if (listeners.contains(oldListener))
+			listeners.remove(oldListener);
+	}
+
+	public boolean isSameEvent(HistoricalEvent newEvent) {
+		for (HistoricalEvent e : store.getLatest(TRANSIENT_EVENTS)) {
+			if (e.getType() == newEvent.getType()
+					&& e.getCategory() == newEvent.getCategory()
+					&& e.getSource().equals(newEvent.getSource())
+					&& e.getWhatCause().equals(newEvent.getWhatCause())
+					&& e.getWhileDoing().equals(newEvent.getWhileDoing())
+					&& e.getWho().equals(newEvent.getWho())
+					&& e.getEntity().equals(newEvent.getEntity())
+					&& e.getCoordinates().equals(newEvent.getCoordinates())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * An new event needs registering with the manager. The event will be time
+	 * stamped with the current clock time and added to the store.
+	 *
+	 * @param newEvent The event to register.
+	 */
+	public void registerNewEvent(HistoricalEvent newEvent) {
+		if (newEvent.getCategory() == HistoricalEventCategory.TASK)
+			return;
+
+		EventType type = newEvent.getType();
+
+		if (type == EventType.MISSION_START)
+			return;
+		else if (type == EventType.MISSION_JOINING)
+			return;
+		else if (type == EventType.MISSION_FINISH)
+			return;
+		else if (type == EventType.MISSION_NOT_ENOUGH_RESOURCES)
+			return;
+		else if (isSameEvent(newEvent))
+			return;
+
+		newEvent.setTimestamp(masterClock.getMarsTime());
+
+		store.add(newEvent);
+
+		if (listeners != null) {
+			for(HistoricalEventListener l : listeners) {
+				l.eventAdded(newEvent);
+			}
+		}	
+	}
+
+
+	/**
+	 * Gets the recent historical events that are held in memory, oldest first.
+	 * 
+	 * @return
+	 */
+	public List<HistoricalEvent> getEvents() {
+		return store.getInMemory();
+	}
+
+	/**
+	 * Gets the historical events that match a query, most recent first. This includes
+	 * the events in the archive.
+	 * 
+	 * @param query
+	 * @return
+	 */
+	public List<HistoricalEvent> getEvents(EventQuery query) {
+		return store.query(query);
+	}
+
+	/**
+	 * Gets the master clock
+	 * @return
+	 */
+	public MasterClock getClock() {
+		return masterClock;
+	}
+
+	/**
+	 * Prepares the object for garbage collection. The archive files are removed.
+	 */
+	public void destroy() {
+		store.close();
+		if (listeners != null)
+			listeners.clear();
+	}
+
+	/**
+	 * Starts an empty store as the events are not saved.
+	 *
+	 * @param in
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		store = createStore();
+	}
 }
\ No newline at end of file
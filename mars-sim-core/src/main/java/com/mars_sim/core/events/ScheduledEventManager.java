@@ -18,29 +18,31 @@ import com.mars_sim.core.time.Temporal;
 
 /**
  * This class manages a list off future scheduled events.
+ * The events are kept in time order and hold the time as ticks so a pulse only
+ * compares primitives.
  */
 public class ScheduledEventManager implements Serializable, Temporal {
 
-	private static final long serialVersionUID = 1L;
+	private static final long serialVersionUID = 2L;
 	
     /**
      * Represents an event that is scheduled for future execution.
      */
     public class ScheduledEvent implements Comparable<ScheduledEvent>, Serializable {
 
-		private static final long serialVersionUID = 1L;
+		private static final long serialVersionUID = 2L;
 		
-        private MarsTime when;
+        private long when;
         private ScheduledEventHandler handler;
 
 
         public ScheduledEvent(MarsTime when, ScheduledEventHandler handler) {
-            this.when = when;
+            this.when = when.getTicks();
             this.handler = handler;
         }
 
         public MarsTime getWhen() {
-            return when;
+            return master.getMarsTime().atTicks(when);
         }
         
         /**
@@ -61,7 +63,7 @@ public class ScheduledEventManager implements Serializable, Temporal {
         @Override
         public int hashCode() {
             final int prime = 31;
-            return prime * when.hashCode();
+            return prime * Long.hashCode(when);
         }
 
         @Override
@@ -73,7 +75,7 @@ public class ScheduledEventManager implements Serializable, Temporal {
             if (getClass() != obj.getClass())
                 return false;
             ScheduledEvent other = (ScheduledEvent) obj;
-            if (!when.equals(other.when))
+            if (when != other.when)
                 return false;
             else
                 return handler.equals(other.handler);
@@ -87,7 +89,7 @@ public class ScheduledEventManager implements Serializable, Temporal {
          */
         @Override
         public int compareTo(ScheduledEvent o) {
-            return Double.compare(when.getTotalMillisols(), o.when.getTotalMillisols());
+            return Long.compare(when, o.when);
         }
     }
 
@@ -129,8 +131,19 @@ public class ScheduledEventManager implements Serializable, Temporal {
 
     private void addEvent(ScheduledEvent newEvent) {
         synchronized(eventQueue) {
-            eventQueue.add(newEvent);
-            Collections.sort(eventQueue);
+            // Insert after any event at the same time so they run in the order added
+            int low = 0;
+            int high = eventQueue.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (eventQueue.get(mid).when <= newEvent.when) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            eventQueue.add(low, newEvent);
         }
     }
 
@@ -168,17 +181,18 @@ public class ScheduledEventManager implements Serializable, Temporal {
     public boolean timePassing(ClockPulse clockPulse) {
         synchronized(eventQueue) {
             MarsTime currentTime = clockPulse.getMarsTime();
+            long now = clockPulse.getTicks();
 
             if (!eventQueue.isEmpty()) {
                 ScheduledEvent next = eventQueue.get(0);
 
                 // Keep executing events that have past
-                while((next != null) && next.when.getTotalMillisols() <= currentTime.getTotalMillisols()) {
+                while((next != null) && next.when <= now) {
                     eventQueue.remove(next);
                     int repeatInterval = next.handler.execute(currentTime);
                     if (repeatInterval > 0) {
                         // Update the when and add back intot he queue
-                        next.when = next.when.addTime(repeatInterval);
+                        next.when += repeatInterval * MarsTime.TICKS_PER_MILLISOL;
                         addEvent(next);
                     }
 
@@ -21,6 +21,8 @@ import com.mars_sim.core.SimulationConfig;
 import com.mars_sim.core.UnitEventType;
 import com.mars_sim.core.UnitManager;
 import com.mars_sim.core.events.ScheduledEventHandler;
+import com.mars_sim.core.logging.PulseProfiler;
+import com.mars_sim.core.logging.PulseProfiler.Subsystem;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.person.ai.mission.MissionManager;
 import com.mars_sim.core.person.ai.mission.MissionType;
@@ -294,6 +296,7 @@ public class GoodsManager implements Serializable {
 	 * Updates the good values for all good.
 	 */
 	public void updateGoodValues() {
+		long start = PulseProfiler.start(Subsystem.GOODS);
 
  		// Update the goods value gradually with the use of buffers
 		for (Good g: GoodsUtil.getGoodsList()) {
@@ -330,6 +333,7 @@ public class GoodsManager implements Serializable {
 		}
 				
 		initialized = true;
+		PulseProfiler.stop(Subsystem.GOODS, start);
 	}
 
 	
@@ -0,0 +1,26 @@
+/*
+ * Mars Simulation Project
+ * ElevationCacheMXBean.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.logging;
+
+/**
+ * JMX view of the page cache of the MEGDR elevation reader. All values are zero
+ * when the reader does not cache.
+ */
+public interface ElevationCacheMXBean {
+
+	long getRequests();
+
+	long getHits();
+
+	/**
+	 * Gets the percentage of requests found in the cache.
+	 *
+	 * @return
+	 */
+	double getHitRate();
+
+	int getPageCount();
+}
@@ -0,0 +1,126 @@
+/*
+ * Mars Simulation Project
+ * PulseHistogram.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.logging;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * A histogram of durations in nanoseconds with a fixed memory footprint. Each power of 2
+ * is split into 16 linear buckets so any recorded value is reported within about 6%.
+ * Recording does not lock or allocate and can be called from any thread.
+ */
+public class PulseHistogram {
+
+	/** Number of bits below the top bit that select the linear bucket. */
+	private static final int SUB_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+	private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+	/**
+	 * Records a value.
+	 *
+	 * @param value Duration in nanoseconds
+	 */
+	public void record(long value) {
+		if (value < 0L) {
+			value = 0L;
+		}
+		counts.incrementAndGet(bucketOf(value));
+		max.accumulate(value);
+	}
+
+	/**
+	 * Finds the bucket of a value. Values below 16 have a bucket each; above that the
+	 * bucket is the position of the top bit plus the next 4 bits.
+	 *
+	 * @param value
+	 * @return
+	 */
+	static int bucketOf(long value) {
+		int top = 63 - Long.numberOfLeadingZeros(value);
+		if (top < SUB_BITS) {
+			return (int) value;
+		}
+		int shift = top - SUB_BITS;
+		return ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+	}
+
+	/**
+	 * Gets the smallest value that falls in a bucket.
+	 *
+	 * @param bucket
+	 * @return
+	 */
+	static long lowestOf(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int shift = (bucket >>> SUB_BITS) - 1;
+		return ((long) (SUB_BUCKETS | (bucket & (SUB_BUCKETS - 1)))) << shift;
+	}
+
+	/**
+	 * Gets the number of values recorded.
+	 *
+	 * @return
+	 */
+	public long getCount() {
+		long total = 0L;
+		for (int i = 0; i < BUCKETS; i++) {
+			total += counts.get(i);
+		}
+		return total;
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Gets the value below which a percentage of the recorded values fall. The middle of
+	 * the matching bucket is returned.
+	 *
+	 * @param percentile 0 to 100
+	 * @return Nanoseconds; zero if nothing recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long[] snapshot = new long[BUCKETS];
+		long total = 0L;
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0L) {
+			return 0L;
+		}
+
+		long target = Math.max(1L, (long) Math.ceil(total * Math.min(100D, percentile) / 100D));
+		long seen = 0L;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (seen >= target) {
+				long low = lowestOf(i);
+				long high = (i + 1 < BUCKETS ? lowestOf(i + 1) : low);
+				return Math.min(getMax(), low + (high - low) / 2);
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Clears all the values.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0L);
+		}
+		max.reset();
+	}
+}
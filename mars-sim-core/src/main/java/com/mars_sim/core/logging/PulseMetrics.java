@@ -0,0 +1,194 @@
+/*
+ * Mars Simulation Project
+ * PulseMetrics.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.mars_sim.core.logging.PulseProfiler.Sample;
+import com.mars_sim.core.logging.PulseProfiler.Subsystem;
+import com.mars_sim.core.map.megdr.MEGDRFactory;
+import com.mars_sim.core.map.megdr.MEGDRPageCache;
+
+/**
+ * Publishes the {@link PulseProfiler} as JMX MBeans so a remote instance can be
+ * monitored with any JMX client. The control bean is registered as
+ * <code>com.mars_sim:type=PulseProfiler</code> and each subsystem adds a
+ * <code>subsystem</code> key to that name. The statistics of the elevation page cache
+ * are registered as <code>com.mars_sim:type=ElevationCache</code>.
+ */
+public final class PulseMetrics {
+
+	private static final SimLogger logger = SimLogger.getLogger(PulseMetrics.class.getName());
+
+	private static final String DOMAIN = "com.mars_sim:type=PulseProfiler";
+	private static final String ELEVATION_CACHE = "com.mars_sim:type=ElevationCache";
+	private static final int TOP_SIZE = 10;
+
+	private static boolean registered = false;
+
+	/**
+	 * Prevent creation of instance to enforce static helper
+	 */
+	private PulseMetrics() {}
+
+	/**
+	 * Registers the beans with the platform MBean server. Repeated calls are ignored.
+	 */
+	public static synchronized void register() {
+		if (registered) {
+			return;
+		}
+		registered = true;
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			server.registerMBean(new Control(), new ObjectName(DOMAIN));
+			for (Subsystem s : Subsystem.values()) {
+				server.registerMBean(new Timing(s), new ObjectName(DOMAIN + ",subsystem="
+										+ s.name().toLowerCase(Locale.ROOT)));
+			}
+			server.registerMBean(new ElevationCache(), new ObjectName(ELEVATION_CACHE));
+		}
+		catch (JMException e) {
+			logger.severe("Cannot register pulse profiler MBeans", e);
+		}
+	}
+
+	/**
+	 * Formats a sample as a line of text.
+	 *
+	 * @param s
+	 * @return
+	 */
+	public static String format(Sample s) {
+		return String.format(Locale.ROOT, "%s calls=%d total=%.1fms mean=%.1fus p99=%.1fus max=%.1fus alloc=%dKB",
+							s.name(), s.calls(), s.getMillis(), s.getMeanMicros(),
+							s.p99Nanos() / 1000D, s.maxNanos() / 1000D, s.allocatedBytes() / 1024);
+	}
+
+	private static String[] format(List<Sample> samples) {
+		return samples.stream().map(PulseMetrics::format).toArray(String[]::new);
+	}
+
+	private static class Control implements PulseProfilerMXBean {
+
+		@Override
+		public boolean isEnabled() {
+			return PulseProfiler.isEnabled();
+		}
+
+		@Override
+		public void setEnabled(boolean enabled) {
+			PulseProfiler.setEnabled(enabled);
+		}
+
+		@Override
+		public boolean isAllocationTracking() {
+			return PulseProfiler.isAllocationTracking();
+		}
+
+		@Override
+		public void setAllocationTracking(boolean tracking) {
+			PulseProfiler.setAllocationTracking(tracking);
+		}
+
+		@Override
+		public void reset() {
+			PulseProfiler.reset();
+		}
+
+		@Override
+		public String[] getTopSubsystems() {
+			return format(PulseProfiler.getTopSubsystems(TOP_SIZE));
+		}
+
+		@Override
+		public String[] getTopSources() {
+			return format(PulseProfiler.getTopSources(TOP_SIZE));
+		}
+	}
+
+	private static class Timing implements SubsystemTimingMXBean {
+
+		private final Subsystem subsystem;
+
+		Timing(Subsystem subsystem) {
+			this.subsystem = subsystem;
+		}
+
+		private Sample sample() {
+			return PulseProfiler.getSample(subsystem);
+		}
+
+		@Override
+		public long getCalls() {
+			return sample().calls();
+		}
+
+		@Override
+		public double getTotalMillis() {
+			return sample().getMillis();
+		}
+
+		@Override
+		public double getMeanMicros() {
+			return sample().getMeanMicros();
+		}
+
+		@Override
+		public double getP50Micros() {
+			return sample().p50Nanos() / 1000D;
+		}
+
+		@Override
+		public double getP99Micros() {
+			return sample().p99Nanos() / 1000D;
+		}
+
+		@Override
+		public double getMaxMicros() {
+			return sample().maxNanos() / 1000D;
+		}
+
+		@Override
+		public long getAllocatedBytes() {
+			return sample().allocatedBytes();
+		}
+	}
+
+	private static class ElevationCache implements ElevationCacheMXBean {
+
+		@Override
+		public long getRequests() {
+			MEGDRPageCache cache = MEGDRFactory.getPageCache();
+			return (cache != null ? cache.getRequests() : 0);
+		}
+
+		@Override
+		public long getHits() {
+			MEGDRPageCache cache = MEGDRFactory.getPageCache();
+			return (cache != null ? cache.getHits() : 0);
+		}
+
+		@Override
+		public double getHitRate() {
+			MEGDRPageCache cache = MEGDRFactory.getPageCache();
+			return (cache != null ? cache.getHitRate() : 0D);
+		}
+
+		@Override
+		public int getPageCount() {
+			MEGDRPageCache cache = MEGDRFactory.getPageCache();
+			return (cache != null ? cache.getPageCount() : 0);
+		}
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ * Mars Simulation Project
+ * PulseProfiler.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lightweight timers that record how long each subsystem takes to process the clock pulses.
+ * The timers are disabled by default and then only cost a volatile read. Timings are
+ * inclusive, e.g. the settlement time includes the time of the people in it.
+ * Each subsystem keeps a histogram of the call durations and optionally the bytes
+ * allocated by the calling thread. Can be called from any thread.
+ */
+public final class PulseProfiler {
+
+	/**
+	 * The parts of the simulation that are timed.
+	 */
+	public enum Subsystem {
+		CLOCK, SETTLEMENT, PERSON, ROBOT, VEHICLE, BUILDING, POWER, THERMAL, GOODS, MISSION,
+		TASK, LISTENER
+	}
+
+	/**
+	 * The accumulated timing of a subsystem or source.
+	 */
+	public record Sample(String name, long calls, long nanos, long allocatedBytes,
+						long p50Nanos, long p99Nanos, long maxNanos) {
+
+		/**
+		 * Total time in milliseconds.
+		 */
+		public double getMillis() {
+			return nanos / 1_000_000D;
+		}
+
+		/**
+		 * Average time of a call in microseconds.
+		 */
+		public double getMeanMicros() {
+			return (calls > 0 ? nanos / (calls * 1000D) : 0D);
+		}
+	}
+
+	/**
+	 * Accumulates the calls to one subsystem or source.
+	 */
+	private static final class Timer {
+		private final LongAdder nanos = new LongAdder();
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder allocated = new LongAdder();
+		private final PulseHistogram histogram = new PulseHistogram();
+
+		void record(long duration, long bytes) {
+			nanos.add(duration);
+			calls.increment();
+			histogram.record(duration);
+			if (bytes > 0L) {
+				allocated.add(bytes);
+			}
+		}
+
+		void reset() {
+			nanos.reset();
+			calls.reset();
+			allocated.reset();
+			histogram.reset();
+		}
+
+		Sample toSample(String name) {
+			return new Sample(name, calls.sum(), nanos.sum(), allocated.sum(),
+							histogram.getValueAtPercentile(50D),
+							histogram.getValueAtPercentile(99D),
+							histogram.getMax());
+		}
+	}
+
+	private static final int NUM_SUBSYSTEMS = Subsystem.values().length;
+	private static final Comparator<Sample> BY_TIME = Comparator.comparingLong(Sample::nanos).reversed();
+
+	private static volatile boolean enabled = false;
+	private static volatile boolean allocationTracking = false;
+
+	private static final Timer[] timers = new Timer[NUM_SUBSYSTEMS];
+	private static final Map<String, Timer> sources = new ConcurrentHashMap<>();
+
+	/** Bytes allocated by the thread when each subsystem was started; negative if not started. */
+	private static final ThreadLocal<long[]> allocStarts = ThreadLocal.withInitial(() -> new long[NUM_SUBSYSTEMS]);
+
+	private static final com.sun.management.ThreadMXBean threadBean;
+
+	static {
+		for (int i = 0; i < timers.length; i++) {
+			timers[i] = new Timer();
+		}
+
+		if ((ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean t)
+				&& t.isThreadAllocatedMemorySupported()) {
+			threadBean = t;
+		}
+		else {
+			threadBean = null;
+		}
+	}
+
+	/**
+	 * Prevent creation of instance to enforce static helper
+	 */
+	private PulseProfiler() {}
+
+	/**
+	 * Enables the recording of timings.
+	 *
+	 * @param value
+	 */
+	public static void setEnabled(boolean value) {
+		enabled = value;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables the counting of the bytes allocated during each call. This costs more than the
+	 * timing so is controlled separately. Ignored if the JVM cannot count allocations.
+	 *
+	 * @param value
+	 */
+	public static void setAllocationTracking(boolean value) {
+		allocationTracking = value && (threadBean != null);
+	}
+
+	public static boolean isAllocationTracking() {
+		return allocationTracking;
+	}
+
+	/**
+	 * Starts timing a call and counting the bytes it allocates. Nested calls of the same
+	 * subsystem on one thread only count the allocations of the innermost.
+	 *
+	 * @param subsystem Subsystem being timed
+	 * @return Start marker to pass to {@link #stop(Subsystem, long)}; zero if disabled
+	 */
+	public static long start(Subsystem subsystem) {
+		if (!enabled) {
+			return 0L;
+		}
+		if (allocationTracking) {
+			allocStarts.get()[subsystem.ordinal()] = threadBean.getCurrentThreadAllocatedBytes();
+		}
+		return System.nanoTime();
+	}
+
+	/**
+	 * Stops timing a call.
+	 *
+	 * @param subsystem Subsystem being timed
+	 * @param start Marker returned by {@link #start(Subsystem)}
+	 */
+	public static void stop(Subsystem subsystem, long start) {
+		if (start != 0L) {
+			long duration = System.nanoTime() - start;
+			timers[subsystem.ordinal()].record(duration, allocatedSince(subsystem));
+		}
+	}
+
+	/**
+	 * Stops timing a call and also adds it to the totals of the source, e.g. a settlement.
+	 *
+	 * @param subsystem Subsystem being timed
+	 * @param start Marker returned by {@link #start(Subsystem)}
+	 * @param source Name of the source of the call
+	 */
+	public static void stop(Subsystem subsystem, long start, String source) {
+		if (start != 0L) {
+			long duration = System.nanoTime() - start;
+			long bytes = allocatedSince(subsystem);
+			timers[subsystem.ordinal()].record(duration, bytes);
+			sources.computeIfAbsent(source, k -> new Timer()).record(duration, bytes);
+		}
+	}
+
+	/**
+	 * Gets the bytes allocated by this thread since the subsystem was started.
+	 *
+	 * @param subsystem
+	 * @return Zero if allocations are not tracked
+	 */
+	private static long allocatedSince(Subsystem subsystem) {
+		if (!allocationTracking) {
+			return 0L;
+		}
+		long[] starts = allocStarts.get();
+		int idx = subsystem.ordinal();
+		long begin = starts[idx];
+		starts[idx] = -1L;
+		return (begin > 0L ? threadBean.getCurrentThreadAllocatedBytes() - begin : 0L);
+	}
+
+	/**
+	 * Clears all the timings.
+	 */
+	public static void reset() {
+		for (Timer t : timers) {
+			t.reset();
+		}
+		sources.clear();
+	}
+
+	/**
+	 * Gets the timing of one subsystem.
+	 *
+	 * @param subsystem
+	 * @return
+	 */
+	public static Sample getSample(Subsystem subsystem) {
+		return timers[subsystem.ordinal()].toSample(subsystem.name());
+	}
+
+	/**
+	 * Gets the timings of every subsystem.
+	 *
+	 * @return
+	 */
+	public static List<Sample> getSamples() {
+		List<Sample> result = new ArrayList<>();
+		for (Subsystem s : Subsystem.values()) {
+			result.add(getSample(s));
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the subsystems that have taken the most time.
+	 *
+	 * @param limit Maximum number returned
+	 * @return
+	 */
+	public static List<Sample> getTopSubsystems(int limit) {
+		return getSamples().stream()
+				.filter(s -> s.calls() > 0)
+				.sorted(BY_TIME)
+				.limit(limit)
+				.toList();
+	}
+
+	/**
+	 * Gets the sources that have taken the most time.
+	 *
+	 * @param limit Maximum number returned
+	 * @return
+	 */
+	public static List<Sample> getTopSources(int limit) {
+		return sources.entrySet().stream()
+				.map(e -> e.getValue().toSample(e.getKey()))
+				.sorted(BY_TIME)
+				.limit(limit)
+				.toList();
+	}
+}
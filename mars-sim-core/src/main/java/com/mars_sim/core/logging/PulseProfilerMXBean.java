@@ -0,0 +1,39 @@
+/*
+ * Mars Simulation Project
+ * PulseProfilerMXBean.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.logging;
+
+/**
+ * JMX view that controls the {@link PulseProfiler}.
+ */
+public interface PulseProfilerMXBean {
+
+	boolean isEnabled();
+
+	void setEnabled(boolean enabled);
+
+	boolean isAllocationTracking();
+
+	void setAllocationTracking(boolean tracking);
+
+	/**
+	 * Clears all the timings.
+	 */
+	void reset();
+
+	/**
+	 * Gets a summary line of the subsystems that have taken the most time.
+	 *
+	 * @return
+	 */
+	String[] getTopSubsystems();
+
+	/**
+	 * Gets a summary line of the settlements that have taken the most time.
+	 *
+	 * @return
+	 */
+	String[] getTopSources();
+}
@@ -0,0 +1,26 @@
+/*
+ * Mars Simulation Project
+ * SubsystemTimingMXBean.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.logging;
+
+/**
+ * JMX view of the timing of one {@link PulseProfiler.Subsystem}.
+ */
+public interface SubsystemTimingMXBean {
+
+	long getCalls();
+
+	double getTotalMillis();
+
+	double getMeanMicros();
+
+	double getP50Micros();
+
+	double getP99Micros();
+
+	double getMaxMicros();
+
+	long getAllocatedBytes();
+}
@@ -54,6 +54,8 @@ public class ManufactureConfig {
 	private List<ManufactureProcessInfo> manuProcessInfoList;
 	private List<SalvageProcessInfo> salvageInfoList;
 
+	private ManufactureProcessCatalog catalog;
+
 	
 	/**
 	 * Constructor.
@@ -77,6 +79,15 @@ public class ManufactureConfig {
 		return manuProcessInfoList;
 	}
 	
+	/**
+	 * Gets the index of the manufacturing processes.
+	 * 
+	 * @return
+	 */
+	public ManufactureProcessCatalog getCatalog() {
+		return catalog;
+	}
+
 	/**
 	 * Gets manufacturing processes within (at or below) the capability of a tech level.
 	 *
@@ -174,6 +185,7 @@ public class ManufactureConfig {
 		// Assign the newList now built amd create the map by tech level
 		manuProcessInfoList = Collections.unmodifiableList(newList);
 		manuByTechLevel = createListByTech(manuProcessInfoList);
+		catalog = new ManufactureProcessCatalog(manuProcessInfoList, manuByTechLevel);
 	}
 	
 	/**
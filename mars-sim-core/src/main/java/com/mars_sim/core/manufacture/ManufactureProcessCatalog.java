@@ -0,0 +1,109 @@
+/*
+ * Mars Simulation Project
+ * ManufactureProcessCatalog.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.manufacture;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.mars_sim.core.process.ProcessItem;
+
+/**
+ * An index of the manufacturing processes by tech level, skill level and output.
+ * It is built once when the configuration is loaded and is read only afterwards.
+ */
+public class ManufactureProcessCatalog {
+
+	// Accumulative by tech level and sorted by skill level
+	private final List<List<ManufactureProcessInfo>> byTechSkill;
+	private final List<int[]> skillLevels;
+
+	// Keyed on the lower case name of the item
+	private final Map<String, List<ManufactureProcessInfo>> byOutput;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param processes All the processes
+	 * @param byTechLevel Processes at or below each tech level
+	 */
+	ManufactureProcessCatalog(List<ManufactureProcessInfo> processes,
+							List<List<ManufactureProcessInfo>> byTechLevel) {
+		byTechSkill = new ArrayList<>();
+		skillLevels = new ArrayList<>();
+		for (var level : byTechLevel) {
+			List<ManufactureProcessInfo> sorted = new ArrayList<>(level);
+			sorted.sort(Comparator.comparingInt(ManufactureProcessInfo::getSkillLevelRequired));
+			byTechSkill.add(Collections.unmodifiableList(sorted));
+			skillLevels.add(sorted.stream().mapToInt(ManufactureProcessInfo::getSkillLevelRequired).toArray());
+		}
+
+		byOutput = createIndex(processes);
+	}
+
+	private static Map<String, List<ManufactureProcessInfo>> createIndex(List<ManufactureProcessInfo> processes) {
+		Map<String, List<ManufactureProcessInfo>> index = new HashMap<>();
+		for (var p : processes) {
+			for (ProcessItem i : p.getOutputList()) {
+				var matched = index.computeIfAbsent(toKey(i.getName()), k -> new ArrayList<>());
+				// An item can appear more than once in a process
+				if (matched.isEmpty() || (matched.get(matched.size() - 1) != p)) {
+					matched.add(p);
+				}
+			}
+		}
+
+		index.replaceAll((k, v) -> Collections.unmodifiableList(v));
+		return index;
+	}
+
+	private static String toKey(String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Gets the processes within the capability of a tech level and a skill level.
+	 *
+	 * @param techLevel the tech level.
+	 * @param skillLevel the skill level.
+	 * @return Processes ordered by skill level
+	 */
+	public List<ManufactureProcessInfo> getProcessesForTechSkillLevel(int techLevel, int skillLevel) {
+		if ((techLevel < 0) || byTechSkill.isEmpty()) {
+			return Collections.emptyList();
+		}
+		techLevel = Math.min(techLevel, byTechSkill.size() - 1);
+
+		// Find the first process with a higher skill
+		int[] skills = skillLevels.get(techLevel);
+		int low = 0;
+		int high = skills.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (skills[mid] <= skillLevel) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return byTechSkill.get(techLevel).subList(0, low);
+	}
+
+	/**
+	 * Gets the processes that produce an item.
+	 *
+	 * @param name Name of the output
+	 * @return
+	 */
+	public List<ManufactureProcessInfo> getProcessesWithOutput(String name) {
+		return byOutput.getOrDefault(toKey(name), Collections.emptyList());
+	}
+}
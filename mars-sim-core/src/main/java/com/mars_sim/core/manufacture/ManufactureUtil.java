@@ -69,9 +69,7 @@ public final class ManufactureUtil {
 	 * @return {@link List}<{@link ManufactureProcessItem}> list of processes
 	 */
 	public static List<ManufactureProcessInfo> getManufactureProcessesWithGivenOutput(String name) {
-		return getAllManufactureProcesses().stream()
-				.filter(p -> p.isOutput(name))
-				.toList();
+		return manufactureConfig.getCatalog().getProcessesWithOutput(name);
 	}
 
 	/**
@@ -84,9 +82,7 @@ public final class ManufactureUtil {
 	 * @throws Exception if error getting processes.
 	 */
 	public static List<ManufactureProcessInfo> getManufactureProcessesForTechSkillLevel(int techLevel, int skillLevel) {
-		return getManufactureProcessesForTechLevel(techLevel).stream()
-				.filter(s -> (s.getSkillLevelRequired() <= skillLevel))
-    	        .collect(Collectors.toList());
+		return manufactureConfig.getCatalog().getProcessesForTechSkillLevel(techLevel, skillLevel);
 	}
 
 	/**
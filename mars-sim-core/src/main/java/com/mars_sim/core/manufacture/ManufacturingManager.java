@@ -3,16 +3,21 @@ package com.mars_sim.core.manufacture;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.mars_sim.core.UnitEvent;
 import com.mars_sim.core.UnitEventType;
 import com.mars_sim.core.data.RatingScore;
 import com.mars_sim.core.events.ScheduledEventHandler;
+import com.mars_sim.core.goods.Good;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.SkillType;
@@ -110,6 +115,16 @@ public class ManufacturingManager implements Serializable {
     private Settlement owner;
     private int maxTechLevel = -2;
 
+    /**
+     * Value of processes to the Settlement; entries are removed when the value of an output changes.
+     */
+    private static final class ValueCache {
+        private final Map<ProcessInfo, Double> values = new ConcurrentHashMap<>();
+        private final Map<String, Set<ProcessInfo>> dependents = new ConcurrentHashMap<>();
+    }
+
+    private transient volatile ValueCache valueCache;
+
     public ManufacturingManager(Settlement owner) {
         this.owner = owner;
         this.queue = new ArrayList<>();
@@ -309,9 +324,7 @@ public class ManufacturingManager implements Serializable {
 
             var scoreThreshold = pMgr.getIntValue(ManufacturingParameters.INSTANCE, ManufacturingParameters.NEW_MANU_VALUE, DEFAULT_VALUE);
 
-            var potential = getQueuableManuProcesses()
-                    .filter(i -> i.isResourcesAvailable(owner))
-                    .toList();
+            var potential = getQueuableManuProcesses().toList();
             addTopValueProcesses("Manu", potential, scoreThreshold, maxProcesses);
         }   
     }
@@ -328,9 +341,56 @@ public class ManufacturingManager implements Serializable {
         return value;
     }
 
+    /**
+     * Get the cached value of a process to the settlement.
+     */
+    private double getCachedValue(ProcessInfo info) {
+        var cache = getValueCache();
+        return cache.values.computeIfAbsent(info, i -> {
+            for(var o : i.getOutputList()) {
+                cache.dependents.computeIfAbsent(o.getName().toLowerCase(Locale.ROOT), k -> ConcurrentHashMap.newKeySet())
+                                .add(i);
+            }
+            return getProcessValue(i).getScore();
+        });
+    }
+
+    /**
+     * Get the value cache creating it on first use. The cache is not saved so this is also
+     * the first use after a reload; the listener is only registered once.
+     */
+    private ValueCache getValueCache() {
+        var cache = valueCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = valueCache;
+                if (cache == null) {
+                    cache = new ValueCache();
+                    valueCache = cache;
+                    owner.addUnitListener(this::goodValueChanged);
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * The value of a Good has changed so remove the processes that output it from the cache.
+     */
+    private void goodValueChanged(UnitEvent event) {
+        if ((event.getType() == UnitEventType.VALUE_EVENT) && (event.getTarget() instanceof Good g)) {
+            var cache = valueCache;
+            var dependents = cache.dependents.remove(g.getName().toLowerCase(Locale.ROOT));
+            if (dependents != null) {
+                dependents.forEach(cache.values::remove);
+            }
+        }
+    }
+
     /**
      * Add the top value processes from the potential list where the value is above the 
-     * threshold.
+     * threshold and the resources are available. The cached values are used to select
+     * the processes; the value of the ones added is recalculated.
      * @param name Tag of the potentials
      * @param potential Potential processes to evualted.
      * @param scoreThreshold Value threshold of processes to add
@@ -340,34 +400,42 @@ public class ManufacturingManager implements Serializable {
     private int addTopValueProcesses(String name, List<? extends ProcessInfo> potential,
                                      int scoreThreshold, int maxProcesses) {
 
-        record ProcessValue(ProcessInfo info, RatingScore score) {
-            double value() {return score.getScore();}
-        }
+        record ProcessValue(ProcessInfo info, double value) {}
             
-        // Score the potential processes and take those above threshold
-        List<ProcessValue> candidates = new ArrayList<>();
+        // Keep the top N above the threshold in a heap with the lowest value at the head
+        PriorityQueue<ProcessValue> best = new PriorityQueue<>(maxProcesses + 1,
+                                        Comparator.comparingDouble(ProcessValue::value));
+        int candidates = 0;
         for(var p : potential) {
-            // Add the individual output values
-            RatingScore value = getProcessValue(p);
-            
-            if (value.getScore() > scoreThreshold) {
-                candidates.add(new ProcessValue(p, value));
+            double value = getCachedValue(p);
+            if ((value > scoreThreshold)
+                    && ((best.size() < maxProcesses) || (value > best.peek().value()))
+                    && p.isResourcesAvailable(owner)) {
+                candidates++;
+                best.add(new ProcessValue(p, value));
+                if (best.size() > maxProcesses) {
+                    best.poll();
+                }
             }
         }
 
-        // Take the top N of what is left
-        Collections.sort(candidates, Comparator.comparingDouble(ProcessValue::value));
-        int added = Math.min(candidates.size(), maxProcesses);
-        for(int i = 0; i < added; i++) {
-            var choosen = candidates.get(i);
-
-            // This info has resources otherwise would not be here
-            var newItem = new QueuedProcess(choosen.info, null, choosen.score, true);
-            addToQueue(newItem);
+        // Add the highest value first
+        List<ProcessValue> selected = new ArrayList<>(best);
+        selected.sort(Comparator.comparingDouble(ProcessValue::value).reversed());
+        int added = 0;
+        for(var choosen : selected) {
+            // Rescore as the cache does not track the storage capacity
+            RatingScore score = getProcessValue(choosen.info());
+            if (score.getScore() > scoreThreshold) {
+                // This info has resources otherwise would not be here
+                var newItem = new QueuedProcess(choosen.info(), null, score, true);
+                addToQueue(newItem);
+                added++;
+            }
         }
 
         if (added > 0) {
-            logger.info(owner, "Automatically added " + name + ": added " + added + "/" + candidates.size());
+            logger.info(owner, "Automatically added " + name + ": added " + added + "/" + candidates);
         }
 
         return added;
@@ -20,6 +20,10 @@ import java.awt.image.Raster;
 import java.io.File;
 import java.io.IOException;
 import java.nio.IntBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -58,6 +62,13 @@ import com.mars_sim.core.map.location.Coordinates;
  	private static final double HALF_PI = Math.PI / 2D;
  	private static final String CL_FILE = "MapDataFast.cl";
  	private static final String KERNEL_NAME = "getMapImage";
+ 	/* Number of rows below which a CPU projection task is not split further. */
+ 	private static final int ROWS_PER_TASK = 16;
+ 	// Number of image sizes whose last image is kept
+ 	private static final int IMAGE_SIZES = 4;
+
+ 	/* The last image drawn for one size of display. */
+ 	private record LastImage(Coordinates center, double rho, BufferedImage image) {}
  	
   	/* # of pixels in the width of the map image. */
 	private int pixelWidth;
@@ -65,22 +76,24 @@ import com.mars_sim.core.map.location.Coordinates;
 	private int pixelHeight;
 	/* The resolution of the map image. */
 	private int resolution;
-	/* The cache for the last rho. */
-	private double rhoCache;
 	/* The default value of rho. */
 	private double rhoDefault;
 	
-	/* The base map color pixels double array. */
- 	private int[][] colorPixels = new int[0][0];
+	/* The tile pyramid of the map; null until loaded. */
+ 	private volatile MapTiles tiles;
  	
-	/* The cache for the last center. */
-	private Coordinates centerCache;
  	/* The meta data of the map. */
 	private MapMetaData meta;
  	/* The OpenCL kernel instance. */
 	private CLKernel kernel;
 	
-	private BufferedImage bImageCache;
+	// The last image of each size; displays of different sizes share this map data
+	private Map<Long, LastImage> lastImages = new LinkedHashMap<>(8, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, LastImage> eldest) {
+			return size() > IMAGE_SIZES;
+		}
+	};
 
 	private MapState loaded = MapState.PENDING;
  	
@@ -186,7 +199,7 @@ import com.mars_sim.core.map.location.Coordinates;
 	}
 
  	/**
- 	 * Loads the whole map data set into an 2-D integer array.
+ 	 * Loads the whole map data set into a tile pyramid.
  	 * 
  	 * @param dataFile File containing the data to be loaded
  	 * @return
@@ -200,6 +213,7 @@ import com.mars_sim.core.map.location.Coordinates;
 	 		pixelWidth = cylindricalMapImage.getWidth();
 	 		pixelHeight = cylindricalMapImage.getHeight();
 	 				
+	 		int[] colorPixels;
 	 		if (!meta.isColourful()) {
 	 			colorPixels = loadMonoImage(cylindricalMapImage);
 			}
@@ -213,6 +227,7 @@ import com.mars_sim.core.map.location.Coordinates;
 					colorPixels = loadColourImage(pixels);
 				}
 	 		}
+	 		tiles = new MapTiles(colorPixels, pixelWidth, MapDataFactory.getTileCache());
 
 			// Update as ready
 	 		loaded = MapState.LOADED;
@@ -232,12 +247,12 @@ import com.mars_sim.core.map.location.Coordinates;
 	 * @param pixels Source mono byte values
 	 * @return
 	 */
- 	private int[][] loadColourImage(byte[] pixels) {
+ 	private int[] loadColourImage(byte[] pixels) {
 
-		var loadPixels = new int[pixelHeight][pixelWidth];
+		var loadPixels = new int[pixelHeight * pixelWidth];
 
 		final int pixelLength = 3;
-		for (int pixel = 0, row = 0, col = 0; pixel + 2 < pixels.length; pixel += pixelLength) {
+		for (int pixel = 0, idx = 0; pixel + 2 < pixels.length; pixel += pixelLength) {
 			int argb = 0;
 								 
 			// Note: The color is a 32-bit integer in ARGB format. 
@@ -253,12 +268,7 @@ import com.mars_sim.core.map.location.Coordinates;
 			argb += ((pixels[pixel + 1] & 0xff) << 8); // green
 			argb += ((pixels[pixel + 2] & 0xff) << 16); // red
 			
-			loadPixels[row][col] = argb;
-			col++;
-			if (col == pixelWidth) {
-				col = 0;
-				row++;
-			}
+			loadPixels[idx++] = argb;
 		}
 		return loadPixels;
 	}
@@ -268,13 +278,13 @@ import com.mars_sim.core.map.location.Coordinates;
 	 * @param pixels
 	 * @return
 	 */
-	private int[][] loadAlphaImage(byte[] pixels) {
+	private int[] loadAlphaImage(byte[] pixels) {
 		// Note: 'Viking Geologic' and 'MOLA Shade' have alpha channel.
-		var loadPixels = new int[pixelHeight][pixelWidth];
+		var loadPixels = new int[pixelHeight * pixelWidth];
 
 		final int pixelLength = 4;
 
-		for (int pos = 0, row = 0, col = 0; pos + 3 < pixels.length; pos += pixelLength) {
+		for (int pos = 0, idx = 0; pos + 3 < pixels.length; pos += pixelLength) {
 			int argb = 0;
 
 			// Note: The color is a 32-bit integer in ARGB format. 
@@ -306,12 +316,7 @@ import com.mars_sim.core.map.location.Coordinates;
 			// do ((int) pixels[pixel + pixel_offset + 1] & 0xff); // green
 			// and merge the two loops into one. – Tomáš Zato Mar 23 '15 at 23:02
 					
-			loadPixels[row][col] = argb;
-			col++;
-			if (col == pixelWidth) {
-				col = 0;
-				row++;
-			}
+			loadPixels[idx++] = argb;
 		}
 
 		return loadPixels;
@@ -322,16 +327,16 @@ import com.mars_sim.core.map.location.Coordinates;
 	 * @param cylindricalMapImage
 	 * @return
 	 */
-	private int[][] loadMonoImage(BufferedImage cylindricalMapImage) {
+	private int[] loadMonoImage(BufferedImage cylindricalMapImage) {
 		// Note: May use the shade map to get height values
-		var loadPixels = new int[pixelHeight][pixelWidth];
+		var loadPixels = new int[pixelHeight * pixelWidth];
 
 		Raster raster = cylindricalMapImage.getData();
 		int h = raster.getHeight();
 		int w = raster.getWidth();
 		for (int i = 0; i < w; i++) {
 			for (int j = 0; j < h; j++) {
-				loadPixels[j][i] = raster.getSample(i, j, 0);
+				loadPixels[(j * pixelWidth) + i] = raster.getSample(i, j, 0);
 			}
 		}
 
@@ -347,18 +352,15 @@ import com.mars_sim.core.map.location.Coordinates;
 	 * @param newRho The map rho
  	 */
  	@Override
- 	public Image createMapImage(Coordinates center, int mapBoxWidth, int mapBoxHeight, double newRho) {
+ 	public synchronized Image createMapImage(Coordinates center, int mapBoxWidth, int mapBoxHeight, double newRho) {
 		 
- 		if (bImageCache != null && newRho == rhoCache
-				&& centerCache.equals(center))
- 			return bImageCache;
+ 		long sizeKey = ((long) mapBoxWidth << 32) | mapBoxHeight;
+ 		var last = lastImages.get(sizeKey);
+ 		if ((last != null) && (newRho == last.rho()) && last.center().equals(center))
+ 			return last.image();
 		double centerPhi = center.getPhi();
 		double centerTheta = center.getTheta();
  
- 		// Update cache identifiers
-		centerCache = center;
-		rhoCache = newRho;
-
  		// Create a new buffered image to draw the map on.
  		BufferedImage bImage 
 			= new BufferedImage(mapBoxWidth, mapBoxHeight, BufferedImage.TYPE_INT_RGB); 
@@ -379,14 +381,14 @@ import com.mars_sim.core.map.location.Coordinates;
 				logger.log(Level.SEVERE, "Exception with GPU OpenCL accel when running gpu(). " + e.getMessage());
 			}
 		}
-		if (!rendered) {
-			cpu0(centerPhi, centerTheta, mapBoxWidth, mapBoxHeight, newRho, mapArray);
+		if (!rendered && (tiles != null)) {
+			cpu(tiles, tiles.chooseLevel(newRho), centerPhi, centerTheta, mapBoxWidth, mapBoxHeight, newRho, mapArray);
 		}
 
 	 	// Gets the color pixels ready for the new projected map image in Mars Navigator.
 	 	setRGB(bImage, 0, 0, mapBoxWidth, mapBoxHeight, mapArray, 0, mapBoxHeight);
 	
-	 	bImageCache = bImage;
+	 	lastImages.put(sizeKey, new LastImage(center, newRho, bImage));
 	 	
  		return bImage;
  	}
@@ -493,6 +495,7 @@ import com.mars_sim.core.map.location.Coordinates;
 		 rowBuffer.getBuffer().get(rows);
 		 int[] cols = new int[size];
 		 colBuffer.getBuffer().get(cols);
+		 var reader = tiles.reader(0);
 	 
 		 // Note that maxIndex = 262144
 		 for (int i = 0; i < size; i++) {
@@ -505,7 +508,7 @@ import com.mars_sim.core.map.location.Coordinates;
 				 mapArray[i] = 0;
 			 }
 			 else {
-				 mapArray[i] = colorPixels[x][y];
+				 mapArray[i] = reader.get(x, y);
 			 }
 		 }
 
@@ -514,16 +517,20 @@ import com.mars_sim.core.map.location.Coordinates;
 	 }
 
 	/**
- 	 * Constructs a map array for display with CPU.
+ 	 * Constructs a map array for display with CPU on a single thread. This is the
+ 	 * reference implementation that {@link #cpu} must match pixel for pixel.
  	 * 
+ 	 * @param pixels Source map pixels stored row by row
+ 	 * @param pixelWidth Width of the source map
  	 * @param centerPhi
  	 * @param centerTheta
  	 * @param mapBoxWidth
  	 * @param mapBoxHeight
+ 	 * @param rho
  	 * @param mapArray
- 	 * @param scale
  	 */
-	 private void cpu0(double centerPhi, double centerTheta, int mapBoxWidth, int mapBoxHeight, double rho, int[] mapArray) {
+	 static void cpu0(int[] pixels, int pixelWidth, double centerPhi, double centerTheta,
+			 		int mapBoxWidth, int mapBoxHeight, double rho, int[] mapArray) {
 		 int halfWidth = mapBoxWidth / 2;
 		 int halfHeight = mapBoxHeight / 2;
 
@@ -531,7 +538,128 @@ import com.mars_sim.core.map.location.Coordinates;
 			 for(int x = 0; x < mapBoxWidth; x++) {
 				 int index = x + (y * mapBoxWidth);
 				 MapPoint loc = convertRectIntToSpherical(x - halfWidth, y - halfHeight, centerPhi, centerTheta, rho);
-				 mapArray[index] = getRGBColorInt(loc.phi(), loc.theta());
+				 mapArray[index] = getColor(pixels, pixelWidth, loc.phi(), loc.theta());
+			 }
+		 }
+	 }
+
+	/**
+ 	 * Constructs a map array for display with CPU. The rows are projected in parallel
+ 	 * on the common ForkJoin pool and no objects are created per pixel.
+ 	 * At level 0 the output is identical to {@link #cpu0}.
+ 	 * 
+ 	 * @param tiles Source map
+ 	 * @param level Level of the tile pyramid to read
+ 	 * @param centerPhi
+ 	 * @param centerTheta
+ 	 * @param mapBoxWidth
+ 	 * @param mapBoxHeight
+ 	 * @param rho
+ 	 * @param mapArray
+ 	 */
+	 static void cpu(MapTiles tiles, int level, double centerPhi, double centerTheta,
+			 		int mapBoxWidth, int mapBoxHeight, double rho, int[] mapArray) {
+		 var task = new ProjectRows(new Projection(tiles, level, centerPhi, centerTheta,
+				 					mapBoxWidth, mapBoxHeight, rho, mapArray), 0, mapBoxHeight);
+		 ForkJoinPool.commonPool().invoke(task);
+	 }
+
+	 /**
+	  * The values shared by every row of a CPU projection. The calculations follow
+	  * {@link IntegerMapData#convertRectIntToSpherical(int, int, double, double, double)}
+	  * step by step so the results are the same; only the terms that do not change are hoisted.
+	  * The color is looked up by a {@link MapTiles.Reader} in the same way as
+	  * {@link IntegerMapData#getColor(int[], int, double, double)}.
+	  */
+	 private static final class Projection {
+		 private final MapTiles tiles;
+		 private final int level;
+		 private final int[] mapArray;
+		 private final int mapBoxWidth;
+		 private final int halfWidth;
+		 private final int halfHeight;
+		 private final double rho;
+		 private final double rhoSquared;
+		 private final double sinPhi;
+		 private final double cosPhi;
+		 private final double sinTheta;
+		 private final double cosTheta;
+
+		 private Projection(MapTiles tiles, int level, double centerPhi, double centerTheta,
+				 			int mapBoxWidth, int mapBoxHeight, double rho, int[] mapArray) {
+			 this.tiles = tiles;
+			 this.level = level;
+			 this.mapArray = mapArray;
+			 this.mapBoxWidth = mapBoxWidth;
+			 this.halfWidth = mapBoxWidth / 2;
+			 this.halfHeight = mapBoxHeight / 2;
+			 this.rho = rho;
+			 this.rhoSquared = rho * rho;
+			 this.sinPhi = Math.sin(centerPhi);
+			 this.cosPhi = Math.cos(centerPhi);
+			 this.sinTheta = Math.sin(centerTheta);
+			 this.cosTheta = Math.cos(centerTheta);
+		 }
+
+		 private void projectRow(int row, MapTiles.Reader reader) {
+			 int y = row - halfHeight;
+			 int ySquared = y * y;
+			 double yCosPhi = y * cosPhi;
+			 double ySinPhi = y * sinPhi;
+			 int index = row * mapBoxWidth;
+
+			 for (int i = 0; i < mapBoxWidth; i++) {
+				 int x = i - halfWidth;
+				 double z = Math.sqrt(rhoSquared - (x * x) - ySquared);
+
+				 double x2 = x;
+				 double y2 = yCosPhi + (z * sinPhi);
+				 double z2 = (z * cosPhi) - ySinPhi;
+
+				 double x3 = (x2 * cosTheta) + (y2 * sinTheta);
+				 double y3 = (y2 * cosTheta) - (x2 * sinTheta);
+
+				 double phi = Math.acos(z2 / rho);
+				 double theta = Math.asin(x3 / (rho * Math.sin(phi)));
+
+				 if (y3 < 0)
+					 theta = Math.PI - theta;
+				 else if (x3 < 0)
+					 theta = TWO_PI + theta;
+
+				 mapArray[index++] = reader.getColor(phi, theta);
+			 }
+		 }
+	 }
+
+	 /**
+	  * Projects a range of rows; splitting it in half until it is small enough.
+	  */
+	 private static final class ProjectRows extends RecursiveAction {
+		 private static final long serialVersionUID = 1L;
+
+		 private final transient Projection projection;
+		 private final int startRow;
+		 private final int endRow;
+
+		 private ProjectRows(Projection projection, int startRow, int endRow) {
+			 this.projection = projection;
+			 this.startRow = startRow;
+			 this.endRow = endRow;
+		 }
+
+		 @Override
+		 protected void compute() {
+			 if ((endRow - startRow) <= ROWS_PER_TASK) {
+				 var reader = projection.tiles.reader(projection.level);
+				 for (int row = startRow; row < endRow; row++) {
+					 projection.projectRow(row, reader);
+				 }
+			 }
+			 else {
+				 int mid = (startRow + endRow) >>> 1;
+				 invokeAll(new ProjectRows(projection, startRow, mid),
+						   new ProjectRows(projection, mid, endRow));
 			 }
 		 }
 	 }
@@ -752,9 +880,23 @@ import com.mars_sim.core.map.location.Coordinates;
  	 */
 	@Override
  	public int getRGBColorInt(double phi, double theta) {
+		var t = tiles;
+		return (t == null ? 0 : t.reader(0).getColor(phi, theta));
+	}
+
+	/**
+	 * Gets the color of a map pixel at a given location.
+	 * 
+	 * @param pixels Source map pixels stored row by row
+	 * @param pixelWidth Width of the source map
+	 * @param phi
+	 * @param theta
+	 * @return
+	 */
+	private static int getColor(int[] pixels, int pixelWidth, double phi, double theta) {
 		
 		 boolean invalid = Double.isNaN(phi) || Double.isInfinite(phi) || Double.isNaN(theta) || Double.isInfinite(theta) ;
-		 if (invalid) {
+		 if (invalid || pixels.length == 0) {
 			 // Set the color to black
 			 return 0;
 		 }
@@ -773,15 +915,16 @@ import com.mars_sim.core.map.location.Coordinates;
  		while (theta < 0)
  			theta += TWO_PI;
 
- 		int row = (int) Math.round(phi * (colorPixels.length / Math.PI));
- 		if (row > colorPixels.length - 1)
+ 		int rows = pixels.length / pixelWidth;
+ 		int row = (int) Math.round(phi * (rows / Math.PI));
+ 		if (row > rows - 1)
  	 		row--;
  			
- 		int column = (int) Math.round(theta * (colorPixels[0].length / TWO_PI));
- 		if (column > colorPixels[0].length - 1)
+ 		int column = (int) Math.round(theta * (pixelWidth / TWO_PI));
+ 		if (column > pixelWidth - 1)
  			column--;
  		
- 		return colorPixels[row][column];
+ 		return pixels[(row * pixelWidth) + column];
  	}
 
  	/**
@@ -822,7 +965,10 @@ import com.mars_sim.core.map.location.Coordinates;
 	 * Prepares map panel for deletion.
 	 */
 	public void destroy() {
-	 	colorPixels = null;
+		if (tiles != null) {
+			tiles.release();
+		 	tiles = null;
+		}
 	 	meta = null;
 		kernel = null;
 	}
@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -39,6 +40,13 @@ import com.mars_sim.core.map.megdr.MEGDRFactory;
 
 	private static Map<String, MapMetaData> metaDataMap = new HashMap<>();
 
+	// Map data already created; shared by all the map displays. Held weakly so the
+	// pixels of a map that no display uses any more can be collected
+	private static Map<String, WeakReference<MapData>> loadedDataMap = new HashMap<>();
+
+	// Tiles of all the map data
+	private static final MapTileCache tileCache = new MapTileCache(MapTileCache.DEFAULT_BUDGET);
+
 	static {
 		loadConfig();
 	}
@@ -98,18 +106,27 @@ import com.mars_sim.core.map.megdr.MEGDRFactory;
  	}
  	 	
  	/**
- 	 * Loads a single image files to represent a resolution within a map stack
+ 	 * Loads a single image files to represent a resolution within a map stack.
+ 	 * A map that has already been loaded is shared.
  	 * 
  	 * @param mapType the map type
  	 * @param res
  	 * @param imagefile
  	 * @return the map data
  	 */
- 	static MapData loadMapData(MapMetaData mapMetaData, int res, String imagefile) {
+ 	static synchronized MapData loadMapData(MapMetaData mapMetaData, int res, String imagefile) {
+ 		String key = mapMetaData.getId() + SEPARATOR + res;
+ 		var ref = loadedDataMap.get(key);
+ 		var existing = (ref != null ? ref.get() : null);
+ 		if ((existing != null) && (existing.getStatus() != MapData.MapState.FAILED)) {
+ 			return existing;
+ 		}
+ 		loadedDataMap.values().removeIf(r -> r.get() == null);
 
 		try {
 			// Obtain a new MapData instance
-			var mapData = new IntegerMapData(mapMetaData, res, imagefile);		
+			var mapData = new IntegerMapData(mapMetaData, res, imagefile);
+			loadedDataMap.put(key, new WeakReference<>(mapData));
 			
 			logger.log(Level.CONFIG, "Loading map type '" + mapMetaData.getId() 
 					+ "'. Res level: " + res 
@@ -123,6 +140,15 @@ import com.mars_sim.core.map.megdr.MEGDRFactory;
 		}		
  	}
 
+	/**
+	 * Gets the cache of map tiles shared by all the map data.
+	 * 
+	 * @return
+	 */
+	public static MapTileCache getTileCache() {
+		return tileCache;
+	}
+
 	/**
 	 * Gets the available map types.
 	 * 
@@ -0,0 +1,136 @@
+/*
+ * Mars Simulation Project
+ * MapTileCache.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.map;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least recently used cache of map tiles that is limited by the number of bytes held.
+ * A single instance is shared by all the map data via {@link MapDataFactory#getTileCache()}.
+ */
+public final class MapTileCache {
+
+	/** Default budget of 128 MB. */
+	public static final long DEFAULT_BUDGET = 128L * 1024 * 1024;
+
+	/**
+	 * Identifies a tile.
+	 */
+	record TileKey(int source, int level, int row, int col) {}
+
+	private final Map<TileKey, int[]> tiles = new LinkedHashMap<>(64, 0.75F, true);
+	private long budget;
+	private long usedBytes = 0;
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param budget Maximum number of bytes to hold
+	 */
+	public MapTileCache(long budget) {
+		this.budget = budget;
+	}
+
+	private static long getBytes(int[] tile) {
+		return tile.length * (long) Integer.BYTES;
+	}
+
+	/**
+	 * Gets a tile if it is cached.
+	 *
+	 * @param key
+	 * @return Tile or null if not present
+	 */
+	synchronized int[] get(TileKey key) {
+		int[] result = tiles.get(key);
+		if (result != null) {
+			hits++;
+		}
+		else {
+			misses++;
+		}
+		return result;
+	}
+
+	/**
+	 * Adds a tile and evicts the least recently used ones if over the budget.
+	 *
+	 * @param key
+	 * @param tile
+	 */
+	synchronized void put(TileKey key, int[] tile) {
+		int[] old = tiles.put(key, tile);
+		if (old != null) {
+			usedBytes -= getBytes(old);
+		}
+		usedBytes += getBytes(tile);
+		evict(key);
+	}
+
+	/**
+	 * Removes all the tiles of a source.
+	 *
+	 * @param source
+	 */
+	synchronized void remove(int source) {
+		Iterator<Map.Entry<TileKey, int[]>> it = tiles.entrySet().iterator();
+		while (it.hasNext()) {
+			var e = it.next();
+			if (e.getKey().source() == source) {
+				usedBytes -= getBytes(e.getValue());
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Evicts the oldest tiles until the budget is met; the newest tile is always kept.
+	 */
+	private void evict(TileKey keep) {
+		Iterator<Map.Entry<TileKey, int[]>> it = tiles.entrySet().iterator();
+		while ((usedBytes > budget) && it.hasNext()) {
+			var e = it.next();
+			if (!e.getKey().equals(keep)) {
+				usedBytes -= getBytes(e.getValue());
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Changes the budget; evicting tiles if needed.
+	 *
+	 * @param budget Maximum number of bytes
+	 */
+	public synchronized void setBudget(long budget) {
+		this.budget = budget;
+		evict(null);
+	}
+
+	public synchronized long getBudget() {
+		return budget;
+	}
+
+	public synchronized long getUsedBytes() {
+		return usedBytes;
+	}
+
+	public synchronized int getTileCount() {
+		return tiles.size();
+	}
+
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	public synchronized long getMissCount() {
+		return misses;
+	}
+}
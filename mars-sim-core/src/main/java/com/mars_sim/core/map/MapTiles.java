@@ -0,0 +1,292 @@
+/*
+ * Mars Simulation Project
+ * MapTiles.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.map;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.mars_sim.core.map.MapTileCache.TileKey;
+import com.mars_sim.core.tool.BigBufferedImage;
+
+/**
+ * A pyramid of square tiles built from an equirectangular map. Level 0 is the source
+ * map and each higher level halves the size by averaging 2x2 pixels. Tiles are only
+ * created when first used and are held in a shared {@link MapTileCache}.
+ * Large source maps are moved into a memory mapped temporary file so they do not
+ * occupy the heap.
+ */
+final class MapTiles {
+
+	private static final Logger logger = Logger.getLogger(MapTiles.class.getName());
+
+	private static final String TMP_DIR = System.getProperty("java.io.tmpdir");
+	private static final double TWO_PI = Math.PI * 2;
+
+	static final int TILE_SHIFT = 8;
+	static final int TILE_SIZE = 1 << TILE_SHIFT;
+	private static final int TILE_MASK = TILE_SIZE - 1;
+
+	private static final AtomicInteger nextId = new AtomicInteger();
+
+	private final int id = nextId.incrementAndGet();
+	private final int width;
+	private final int height;
+	private final int levels;
+	private final IntBuffer source;
+	private final MapTileCache cache;
+
+	/**
+	 * Reads the pixels of one level, remembering the tiles it has used. Not thread safe
+	 * so each thread must have its own.
+	 */
+	final class Reader {
+		private final int level;
+		private final int rows;
+		private final int cols;
+		private final int tilesAcross;
+		private final double rowScale;
+		private final double colScale;
+		private final int[][] loaded;
+
+		private Reader(int level) {
+			this.level = level;
+			this.rows = getHeight(level);
+			this.cols = getWidth(level);
+			this.tilesAcross = ((cols - 1) >> TILE_SHIFT) + 1;
+			this.rowScale = rows / Math.PI;
+			this.colScale = cols / TWO_PI;
+			this.loaded = new int[(((rows - 1) >> TILE_SHIFT) + 1) * tilesAcross][];
+		}
+
+		/**
+		 * Gets a pixel.
+		 *
+		 * @param row
+		 * @param col
+		 * @return
+		 */
+		int get(int row, int col) {
+			int idx = ((row >> TILE_SHIFT) * tilesAcross) + (col >> TILE_SHIFT);
+			int[] tile = loaded[idx];
+			if (tile == null) {
+				tile = getTile(level, row >> TILE_SHIFT, col >> TILE_SHIFT);
+				loaded[idx] = tile;
+			}
+			return tile[((row & TILE_MASK) << TILE_SHIFT) + (col & TILE_MASK)];
+		}
+
+		/**
+		 * Gets the color at a location. Invalid locations are black.
+		 *
+		 * @param phi
+		 * @param theta
+		 * @return
+		 */
+		int getColor(double phi, double theta) {
+			if (Double.isNaN(phi) || Double.isInfinite(phi) || Double.isNaN(theta) || Double.isInfinite(theta)) {
+				return 0;
+			}
+
+			while (phi > Math.PI)
+				phi -= Math.PI;
+			while (phi < 0)
+				phi += Math.PI;
+			while (theta > TWO_PI)
+				theta -= TWO_PI;
+			while (theta < 0)
+				theta += TWO_PI;
+
+			int row = (int) Math.round(phi * rowScale);
+			if (row > rows - 1)
+				row--;
+			int column = (int) Math.round(theta * colScale);
+			if (column > cols - 1)
+				column--;
+
+			return get(row, column);
+		}
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pixels Source pixels stored row by row
+	 * @param width Width of the source
+	 * @param cache Cache to hold the tiles
+	 */
+	MapTiles(int[] pixels, int width, MapTileCache cache) {
+		this.width = width;
+		this.height = pixels.length / width;
+		this.cache = cache;
+
+		int l = 1;
+		while (((width >> (l - 1)) > TILE_SIZE) && ((height >> l) > 0)) {
+			l++;
+		}
+		this.levels = l;
+
+		IntBuffer buffer = null;
+		if (pixels.length > BigBufferedImage.MAX_PIXELS_IN_MEMORY) {
+			buffer = createMappedBuffer(pixels);
+		}
+		this.source = (buffer != null ? buffer : IntBuffer.wrap(pixels));
+	}
+
+	/**
+	 * Copies the pixels into a memory mapped temporary file.
+	 *
+	 * @param pixels
+	 * @return Mapped buffer or null if there was a problem
+	 */
+	private static IntBuffer createMappedBuffer(int[] pixels) {
+		try {
+			File file = File.createTempFile("mapdata", ".tiles", new File(TMP_DIR));
+			file.deleteOnExit();
+			try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+				FileChannel channel = raf.getChannel()) {
+				// The mapping stays valid after the channel is closed
+				IntBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, pixels.length * (long) Integer.BYTES)
+											.order(ByteOrder.nativeOrder())
+											.asIntBuffer();
+				buffer.put(0, pixels);
+				return buffer;
+			}
+		} catch (IOException e) {
+			logger.log(Level.WARNING, "Cannot memory map the map data; keeping it on the heap", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the number of levels in the pyramid.
+	 *
+	 * @return
+	 */
+	int getLevels() {
+		return levels;
+	}
+
+	int getWidth(int level) {
+		return Math.max(1, width >> level);
+	}
+
+	int getHeight(int level) {
+		return Math.max(1, height >> level);
+	}
+
+	/**
+	 * Chooses the level whose pixels best match the size of a screen pixel when
+	 * drawn at a rho. Zooming out uses the smaller levels.
+	 *
+	 * @param rho
+	 * @return
+	 */
+	int chooseLevel(double rho) {
+		double ratio = (height / Math.PI) / rho;
+		if (ratio < 2D) {
+			return 0;
+		}
+		int level = 31 - Integer.numberOfLeadingZeros((int) ratio);
+		return Math.min(level, levels - 1);
+	}
+
+	/**
+	 * Creates a reader of a level.
+	 *
+	 * @param level
+	 * @return
+	 */
+	Reader reader(int level) {
+		return new Reader(level);
+	}
+
+	/**
+	 * Gets a tile; creating it if it is not cached. Tiles are always full size and
+	 * the parts beyond the edge of the map are zero.
+	 *
+	 * @param level
+	 * @param row Tile row
+	 * @param col Tile column
+	 * @return
+	 */
+	int[] getTile(int level, int row, int col) {
+		var key = new TileKey(id, level, row, col);
+		int[] tile = cache.get(key);
+		if (tile == null) {
+			tile = (level == 0 ? loadTile(row, col) : reduceTile(level, row, col));
+			cache.put(key, tile);
+		}
+		return tile;
+	}
+
+	/**
+	 * Copies a tile from the source.
+	 */
+	private int[] loadTile(int row, int col) {
+		int[] tile = new int[TILE_SIZE * TILE_SIZE];
+		int r0 = row << TILE_SHIFT;
+		int c0 = col << TILE_SHIFT;
+		int h = Math.min(TILE_SIZE, height - r0);
+		int w = Math.min(TILE_SIZE, width - c0);
+		for (int r = 0; r < h; r++) {
+			source.get(((r0 + r) * width) + c0, tile, r << TILE_SHIFT, w);
+		}
+		return tile;
+	}
+
+	/**
+	 * Creates a tile by averaging the pixels of the level below.
+	 */
+	private int[] reduceTile(int level, int row, int col) {
+		int[] tile = new int[TILE_SIZE * TILE_SIZE];
+		Reader parent = new Reader(level - 1);
+		int r0 = row << TILE_SHIFT;
+		int c0 = col << TILE_SHIFT;
+		int h = Math.min(TILE_SIZE, getHeight(level) - r0);
+		int w = Math.min(TILE_SIZE, getWidth(level) - c0);
+		int lastRow = parent.rows - 1;
+		int lastCol = parent.cols - 1;
+
+		for (int r = 0; r < h; r++) {
+			int pr0 = Math.min((r0 + r) * 2, lastRow);
+			int pr1 = Math.min(pr0 + 1, lastRow);
+			for (int c = 0; c < w; c++) {
+				int pc0 = Math.min((c0 + c) * 2, lastCol);
+				int pc1 = Math.min(pc0 + 1, lastCol);
+				tile[(r << TILE_SHIFT) + c] = average(parent.get(pr0, pc0), parent.get(pr0, pc1),
+													 parent.get(pr1, pc0), parent.get(pr1, pc1));
+			}
+		}
+		return tile;
+	}
+
+	/**
+	 * Averages each 8 bit channel of 4 pixels.
+	 */
+	static int average(int a, int b, int c, int d) {
+		int result = 0;
+		for (int shift = 0; shift < Integer.SIZE; shift += 8) {
+			int sum = ((a >>> shift) & 0xff) + ((b >>> shift) & 0xff)
+						+ ((c >>> shift) & 0xff) + ((d >>> shift) & 0xff);
+			result |= ((sum + 2) >> 2) << shift;
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the tiles from the cache.
+	 */
+	void release() {
+		cache.remove(id);
+	}
+}
@@ -15,6 +15,7 @@ import java.awt.image.PixelGrabber;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
 
 import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
@@ -41,6 +42,9 @@ public class PerformanceTest {
 		
 		// Test the execution speed of each method
 		test();
+
+		// Test the speed of the CPU map projection
+		testProjection();
 		
 		// Output an jpg image with or without alpha channel : reproduceImage(hugeImage);
 	}
@@ -105,6 +109,56 @@ public class PerformanceTest {
 		}
 	}
 
+	/**
+	 * Compares the single threaded CPU projection against the parallel one and checks
+	 * they produce the same pixels.
+	 */
+	public static void testProjection() {
+		int[][] source = useMota(hugeImage);
+		int width = source[0].length;
+		int[] pixels = new int[source.length * width];
+		for (int row = 0; row < source.length; row++) {
+			System.arraycopy(source[row], 0, pixels, row * width, width);
+		}
+
+		int boxSize = 1024;
+		double rho = source.length / Math.PI;
+		double phi = Math.PI / 3D;
+		double theta = Math.PI / 4D;
+		int[] expected = new int[boxSize * boxSize];
+		int[] actual = new int[boxSize * boxSize];
+		MapTiles tiles = new MapTiles(pixels, width, new MapTileCache(MapTileCache.DEFAULT_BUDGET));
+
+		System.out.println("");
+		System.out.println("Testing IntegerMapData.cpu0:");
+		for (int i = 0; i < 10; i++) {
+			long startTime = System.nanoTime();
+			IntegerMapData.cpu0(pixels, width, phi, theta, boxSize, boxSize, rho, expected);
+			long endTime = System.nanoTime();
+			System.out.println(String.format("%-2d: %s", (i + 1), toString(endTime - startTime)));
+		}
+
+		System.out.println("");
+		System.out.println("Testing IntegerMapData.cpu:");
+		for (int i = 0; i < 10; i++) {
+			long startTime = System.nanoTime();
+			IntegerMapData.cpu(tiles, 0, phi, theta, boxSize, boxSize, rho, actual);
+			long endTime = System.nanoTime();
+			System.out.println(String.format("%-2d: %s", (i + 1), toString(endTime - startTime)));
+		}
+
+		System.out.println("Identical output : " + Arrays.equals(expected, actual));
+
+		System.out.println("");
+		System.out.println("Testing IntegerMapData.cpu zoomed out:");
+		for (int i = 0; i < 10; i++) {
+			long startTime = System.nanoTime();
+			IntegerMapData.cpu(tiles, tiles.chooseLevel(rho / 4D), phi, theta, boxSize, boxSize, rho / 4D, actual);
+			long endTime = System.nanoTime();
+			System.out.println(String.format("%-2d: %s", (i + 1), toString(endTime - startTime)));
+		}
+	}
+
 	public static void printGrabberArray() {
 		
 		ImageIcon mapIcon = new ImageIcon(imageMapURL);
@@ -6,61 +6,57 @@
  */
 package com.mars_sim.core.map.megdr;
 
-import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-
 /**
- * This is a reader where the selected elevation values are cached for later reuse.
+ * This is a reader where pages of the elevation values are cached for later reuse.
  */
 public abstract class MEGDRCachedReader extends MEGDRMapReader {
 
     private static final Logger logger = Logger.getLogger(MEGDRCachedReader.class.getName());
-    	
-	private Cache<Integer, Integer> cache;
-	private int requests = 0;
-	private int hits = 0;
 
-    protected MEGDRCachedReader(int maximumEntries, int maxIdleMinutes) {
-		
-		cache = CacheBuilder.newBuilder()
-								.maximumSize(maximumEntries)
-								.expireAfterAccess(maxIdleMinutes, TimeUnit.MINUTES)
-								.build();
+	private final MEGDRPageCache cache;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param maxPages Maximum number of 4 KB pages cached
+	 */
+    protected MEGDRCachedReader(int maxPages) {
+		cache = new MEGDRPageCache(maxPages, this::loadPage);
 	}
 
 	/**
-	 * Gets the elevation at a certain index into the map data. This will check the cached value first.
+	 * Gets the elevation at a certain index into the map data. This will check the cached page first.
 	 * 
 	 * @param index Index to the data.
 	 */
+	@Override
     protected short getElevation(int index) {
-		short result = 0;
-		requests++;
-		Integer value = cache.getIfPresent(index);
-		if (value != null) {
-			result = value.shortValue();
-			hits++;
-		}
-		else {
-			result = loadElevation(index);
-			cache.put(index, Integer.valueOf(result));
-		}
+		short result = cache.get(index);
 
-		if (requests % 10000 == 0) {
-			logger.fine("MEGDR Cache hit rate " + ((100 * hits)/requests)  + "%, requests="
-						+ requests + ", size=" + cache.size());
+		if (logger.isLoggable(Level.FINE) && (cache.getRequests() % 10000 == 0)) {
+			logger.fine("MEGDR Cache hit rate " + Math.round(cache.getHitRate()) + "%, requests="
+						+ cache.getRequests() + ", pages=" + cache.getPageCount());
 		}
 		return result;
 	}
 
 	/**
-	 * Loads a short value from the mapdata.
+	 * Gets the cache of the pages; used for the statistics.
 	 * 
-	 * @param index
 	 * @return
 	 */
-    protected abstract short loadElevation(int index);
+	public MEGDRPageCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * Loads a page of values from the mapdata.
+	 * 
+	 * @param page Page number
+	 * @param data Values to fill
+	 */
+    protected abstract void loadPage(int page, short[] data);
 }
@@ -79,6 +79,18 @@ public class MEGDRFactory {
 		}
 	}
 
+	/**
+	 * Gets the page cache of the elevation reader for its statistics.
+	 * 
+	 * @return Null if the reader does not cache
+	 */
+	public static MEGDRPageCache getPageCache() {
+		if (reader instanceof MEGDRCachedReader cr) {
+			return cr.getCache();
+		}
+		return null;
+	}
+
     public static void setSpec(String newSpec) {
         defaultSpec = newSpec;
     }
@@ -10,6 +10,7 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.util.logging.Logger;
 
 import com.mars_sim.core.map.common.FileLocator;
@@ -22,35 +23,40 @@ public class MEGDRMapDirect extends MEGDRCachedReader
 
     private static final Logger logger = Logger.getLogger(MEGDRMapDirect.class.getName());
     	
+	/** 1 MB of cached pages. */
+	private static final int MAX_PAGES = 256;
+
 	private RandomAccessFile mapData;
+	private long fileSize;
+	private byte[] pageBytes = new byte[MEGDRPageCache.PAGE_VALUES * 2];
 
     public MEGDRMapDirect(String imageName) throws IOException {
-		super(1000, 5);
+		super(MAX_PAGES);
 		prepareDirectFile(FileLocator.locateFile(imageName));
 	}
 
 	/**
-	 * Loads a short value from the directly access file.
+	 * Loads a page of values from the directly accessed file in a single read.
 	 * 
-	 * @param index
-	 * @return
+	 * @param page
+	 * @param data
 	 */
-    protected synchronized short loadElevation(int index) {
-		byte []data = new byte[2];
-
+	@Override
+    protected synchronized void loadPage(int page, short[] data) {
 		try {
-			mapData.seek(index * 2L);
-			mapData.read(data, 0, 2);
-			
-			return (short)( // NOTE: type cast not necessary for int
-					(data[0]) << 8  |
-					(0xff & data[1])
-					);
+			long position = page * (long) pageBytes.length;
+			int length = (int) Math.min(pageBytes.length, fileSize - position);
+			if (length <= 0) {
+				return;
+			}
+			mapData.seek(position);
+			mapData.readFully(pageBytes, 0, length);
+
+			ByteBuffer.wrap(pageBytes, 0, length).asShortBuffer().get(data, 0, length / 2);
 		}
 		catch (IOException ioe) {
 			logger.severe("Problem reading map source " + ioe.getMessage());
 		}
-		return 0;
 	}
 
 	/**
@@ -62,7 +68,7 @@ public class MEGDRMapDirect extends MEGDRCachedReader
 
 		// Get the file
 		mapData = new RandomAccessFile(mapSource, "r");
-		long fileSize = mapData.length();
+		fileSize = mapData.length();
 						
 		short mapHeight = (short) Math.sqrt(fileSize / 4D);
 		short mapWidth = (short) (mapHeight * 2);
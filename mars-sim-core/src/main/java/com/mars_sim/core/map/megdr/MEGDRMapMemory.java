@@ -19,7 +19,7 @@ import com.mars_sim.core.map.common.FileLocator;
 /**
  * Gets elevation data by using memory mapped access to the select MEGDR file.
  */
-public class MEGDRMapMemory extends MEGDRCachedReader
+public class MEGDRMapMemory extends MEGDRMapReader
 			implements Closeable {
 
     private static final Logger logger = Logger.getLogger(MEGDRMapMemory.class.getName());
@@ -29,21 +29,20 @@ public class MEGDRMapMemory extends MEGDRCachedReader
 	private RandomAccessFile mapData;
 
     public MEGDRMapMemory(String imgName) throws IOException {
-		super(1000, 5);
-
 		prepareMemoryFile(FileLocator.locateFile(imgName));
 	}
 
 	
-    protected synchronized short loadElevation(int index) {
-		byte []data = new byte[2];
-
-		memoryBuffer.get(index * 2, data, 0, 2);
-		
-		return (short)( // NOTE: type cast not necessary for int
-				(data[0]) << 8  |
-				(0xff & data[1])
-				);
+	/**
+	 * Gets the elevation straight from the mapped buffer; absolute reads are safe
+	 * from many threads.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	@Override
+    protected short getElevation(int index) {
+		return memoryBuffer.getShort(index * 2);
 	}
 
 
@@ -0,0 +1,157 @@
+/*
+ * Mars Simulation Project
+ * MEGDRPageCache.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.map.megdr;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache of 4 KB pages of elevation values. Pages are held in small sets found by the
+ * page number; within a set the page to replace is chosen by the CLOCK algorithm.
+ * Lookups do not lock; a page is immutable once loaded so a race between two threads
+ * loading the same page only repeats the work.
+ */
+public class MEGDRPageCache {
+
+	/**
+	 * Loads a page of elevation values.
+	 */
+	@FunctionalInterface
+	public interface PageLoader {
+		/**
+		 * Fills the values of a page.
+		 *
+		 * @param page Page number
+		 * @param data Values to fill
+		 */
+		void loadPage(int page, short[] data);
+	}
+
+	/** Values in a 4 KB page. */
+	public static final int PAGE_VALUES = 2048;
+	private static final int PAGE_SHIFT = 11;
+	private static final int WAYS = 4;
+
+	private static final class Page {
+		final int number;
+		final short[] data;
+		volatile boolean referenced = true;
+
+		Page(int number, short[] data) {
+			this.number = number;
+			this.data = data;
+		}
+	}
+
+	private final PageLoader loader;
+	private final AtomicReferenceArray<Page> slots;
+	private final int[] hands;
+	private final int setMask;
+
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxPages Maximum pages held; rounded to a power of 2
+	 * @param loader Source of the pages
+	 */
+	public MEGDRPageCache(int maxPages, PageLoader loader) {
+		this.loader = loader;
+		int sets = Integer.highestOneBit(Math.max(1, maxPages / WAYS));
+		setMask = sets - 1;
+		slots = new AtomicReferenceArray<>(sets * WAYS);
+		hands = new int[sets];
+	}
+
+	/**
+	 * Gets the value at an index.
+	 *
+	 * @param index
+	 * @return
+	 */
+	public short get(int index) {
+		requests.increment();
+		int number = index >>> PAGE_SHIFT;
+		int offset = index & (PAGE_VALUES - 1);
+		int set = mix(number) & setMask;
+		int base = set * WAYS;
+
+		for (int w = 0; w < WAYS; w++) {
+			Page p = slots.get(base + w);
+			if ((p != null) && (p.number == number)) {
+				p.referenced = true;
+				hits.increment();
+				return p.data[offset];
+			}
+		}
+
+		short[] data = new short[PAGE_VALUES];
+		loader.loadPage(number, data);
+		slots.set(chooseVictim(set, base), new Page(number, data));
+		return data[offset];
+	}
+
+	/**
+	 * Chooses the slot to replace in a set. Recently used pages get a second chance.
+	 *
+	 * @param set
+	 * @param base First slot of the set
+	 * @return
+	 */
+	private int chooseVictim(int set, int base) {
+		// Races on the hand only make the choice less exact
+		for (int i = 0; i < 2 * WAYS; i++) {
+			int way = hands[set];
+			hands[set] = (way + 1) % WAYS;
+			Page p = slots.get(base + way);
+			if ((p == null) || !p.referenced) {
+				return base + way;
+			}
+			p.referenced = false;
+		}
+		return base + hands[set];
+	}
+
+	private static int mix(int number) {
+		int h = number * 0x9E3779B1;
+		return h ^ (h >>> 16);
+	}
+
+	public long getRequests() {
+		return requests.sum();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Gets the number of pages loaded.
+	 *
+	 * @return
+	 */
+	public int getPageCount() {
+		int count = 0;
+		for (int i = 0; i < slots.length(); i++) {
+			if (slots.get(i) != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the percentage of requests found in the cache.
+	 *
+	 * @return
+	 */
+	public double getHitRate() {
+		long r = getRequests();
+		return (r > 0 ? (100D * getHits()) / r : 0D);
+	}
+}
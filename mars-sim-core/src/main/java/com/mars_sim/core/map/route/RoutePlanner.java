@@ -0,0 +1,276 @@
+/*
+ * Mars Simulation Project
+ * RoutePlanner.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.map.route;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.mars_sim.core.map.location.Coordinates;
+import com.mars_sim.core.map.megdr.MEGDRFactory;
+
+/**
+ * Plans routes across a {@link TerrainCostGrid} using an A* search. The search is limited
+ * to a window around the two cells. Routes are cached by the origin and destination cell
+ * so every mission travelling between the same places shares the result.
+ * A single instance backed by the MEGDR elevation is available via {@link #getDefault()}.
+ */
+public class RoutePlanner {
+
+	/** Size of a grid cell, about 30 km. */
+	private static final double CELL_DEGREES = 0.5D;
+	/** Number of routes held in the cache. */
+	private static final int CACHE_SIZE = 2048;
+	/** Minimum cells around the origin and destination that are searched. */
+	private static final int MIN_MARGIN = 8;
+
+	private static RoutePlanner defaultPlanner;
+
+	private final TerrainCostGrid grid;
+	private final Map<Long, TerrainRoute> cache = new LinkedHashMap<>(64, 0.75F, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, TerrainRoute> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Constructor.
+	 *
+	 * @param grid Grid to search
+	 */
+	public RoutePlanner(TerrainCostGrid grid) {
+		this.grid = grid;
+	}
+
+	/**
+	 * Gets the shared planner that uses the MEGDR elevation data.
+	 *
+	 * @return
+	 */
+	public static synchronized RoutePlanner getDefault() {
+		if (defaultPlanner == null) {
+			defaultPlanner = new RoutePlanner(new TerrainCostGrid(CELL_DEGREES,
+								(phi, theta) -> MEGDRFactory.getElevation(phi, theta) / 1000D));
+		}
+		return defaultPlanner;
+	}
+
+	public TerrainCostGrid getGrid() {
+		return grid;
+	}
+
+	/**
+	 * Gets the route between two locations.
+	 *
+	 * @param from Origin
+	 * @param to Destination
+	 * @return
+	 */
+	public TerrainRoute getRoute(Coordinates from, Coordinates to) {
+		int origin = grid.getCell(from);
+		int dest = grid.getCell(to);
+		Long key = ((long) origin << 32) | dest;
+
+		TerrainRoute route;
+		synchronized (cache) {
+			route = cache.get(key);
+		}
+		if (route == null) {
+			route = search(origin, dest);
+			synchronized (cache) {
+				cache.put(key, route);
+			}
+		}
+		return route;
+	}
+
+	/**
+	 * Gets the number of routes cached.
+	 *
+	 * @return
+	 */
+	public int getCachedRoutes() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Finds the cheapest route between two cells.
+	 *
+	 * @param origin
+	 * @param dest
+	 * @return
+	 */
+	private TerrainRoute search(int origin, int dest) {
+		if (origin == dest) {
+			return new TerrainRoute(grid, new int[] {origin}, 0D, 0D);
+		}
+
+		int rows = grid.getRows();
+		int cols = grid.getCols();
+		int ro = origin / cols;
+		int co = origin % cols;
+		int rd = dest / cols;
+		int cd = dest % cols;
+
+		// Shortest way around in longitude
+		int dc = Math.floorMod(cd - co + cols / 2, cols) - cols / 2;
+		int margin = Math.max(MIN_MARGIN, Math.max(Math.abs(rd - ro), Math.abs(dc)) / 2);
+		int rowMin = Math.max(0, Math.min(ro, rd) - margin);
+		int rowMax = Math.min(rows - 1, Math.max(ro, rd) + margin);
+		int colStart = Math.min(co, co + dc) - margin;
+		int width = Math.abs(dc) + 2 * margin + 1;
+		boolean wraps = (width >= cols);
+		if (wraps) {
+			width = cols;
+			colStart = 0;
+		}
+		int height = rowMax - rowMin + 1;
+
+		double[] g = new double[width * height];
+		int[] parent = new int[width * height];
+		boolean[] closed = new boolean[width * height];
+		Arrays.fill(g, Double.POSITIVE_INFINITY);
+		Arrays.fill(parent, -1);
+
+		Frontier open = new Frontier();
+		int start = (ro - rowMin) * width + Math.floorMod(co - colStart, cols);
+		int goal = (rd - rowMin) * width + Math.floorMod(cd - colStart, cols);
+		g[start] = 0D;
+		open.push(start, grid.getDistance(origin, dest));
+
+		while (!open.isEmpty()) {
+			int l = open.pop();
+			if (closed[l]) {
+				continue;
+			}
+			if (l == goal) {
+				break;
+			}
+			closed[l] = true;
+
+			int r = rowMin + l / width;
+			int lc = l % width;
+			int cell = r * cols + Math.floorMod(colStart + lc, cols);
+			double cost = grid.getCost(cell);
+
+			for (int nr = r - 1; nr <= r + 1; nr++) {
+				if ((nr < rowMin) || (nr > rowMax)) {
+					continue;
+				}
+				for (int d = -1; d <= 1; d++) {
+					int nlc = lc + d;
+					if (wraps) {
+						nlc = Math.floorMod(nlc, cols);
+					}
+					else if ((nlc < 0) || (nlc >= width)) {
+						continue;
+					}
+					int n = (nr - rowMin) * width + nlc;
+					if ((n == l) || closed[n]) {
+						continue;
+					}
+
+					int next = nr * cols + Math.floorMod(colStart + nlc, cols);
+					double step = grid.getDistance(cell, next) * (cost + grid.getCost(next)) / 2;
+					double candidate = g[l] + step;
+					if (candidate < g[n]) {
+						g[n] = candidate;
+						parent[n] = l;
+						open.push(n, candidate + grid.getDistance(next, dest));
+					}
+				}
+			}
+		}
+
+		if (Double.isInfinite(g[goal])) {
+			// Should not happen as every cell can be crossed
+			double straight = grid.getDistance(origin, dest);
+			return new TerrainRoute(grid, new int[] {origin, dest}, straight, straight);
+		}
+
+		// Walk back from the goal
+		int count = 1;
+		for (int l = goal; l != start; l = parent[l]) {
+			count++;
+		}
+		int[] cells = new int[count];
+		int l = goal;
+		for (int i = count - 1; i >= 0; i--) {
+			cells[i] = (rowMin + l / width) * cols + Math.floorMod(colStart + l % width, cols);
+			l = parent[l];
+		}
+
+		double distance = 0D;
+		for (int k = 1; k < cells.length; k++) {
+			distance += grid.getDistance(cells[k - 1], cells[k]);
+		}
+		return new TerrainRoute(grid, cells, distance, g[goal]);
+	}
+
+	/**
+	 * A binary heap of grid cells ordered by their estimated cost. Cells may be
+	 * added more than once; the stale entries are skipped when popped.
+	 */
+	private static final class Frontier {
+		private int[] nodes = new int[256];
+		private double[] keys = new double[256];
+		private int size = 0;
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		void push(int node, double key) {
+			if (size == nodes.length) {
+				nodes = Arrays.copyOf(nodes, size * 2);
+				keys = Arrays.copyOf(keys, size * 2);
+			}
+			int i = size++;
+			while (i > 0) {
+				int p = (i - 1) >>> 1;
+				if (keys[p] <= key) {
+					break;
+				}
+				nodes[i] = nodes[p];
+				keys[i] = keys[p];
+				i = p;
+			}
+			nodes[i] = node;
+			keys[i] = key;
+		}
+
+		int pop() {
+			int result = nodes[0];
+			size--;
+			int node = nodes[size];
+			double key = keys[size];
+			int i = 0;
+			while (true) {
+				int c = 2 * i + 1;
+				if (c >= size) {
+					break;
+				}
+				if ((c + 1 < size) && (keys[c + 1] < keys[c])) {
+					c++;
+				}
+				if (keys[c] >= key) {
+					break;
+				}
+				nodes[i] = nodes[c];
+				keys[i] = keys[c];
+				i = c;
+			}
+			nodes[i] = node;
+			keys[i] = key;
+			return result;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Mars Simulation Project
+ * TerrainCostGrid.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.map.route;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+
+import com.mars_sim.core.map.location.Coordinates;
+
+/**
+ * A coarse grid over the surface holding the cost of driving across each cell. The cost is
+ * a multiplier of the distance derived from the steepness and the roughness of the terrain
+ * sampled from the elevation data. A cell is only sampled the first time it is used.
+ * Cells are indexed by row from the north pole and column from zero longitude.
+ */
+public class TerrainCostGrid {
+
+	/** Cost multiplier of the steepness in radians. */
+	private static final double SLOPE_WEIGHT = 2D;
+	/** Cost multiplier of the roughness in km. */
+	private static final double ROUGHNESS_WEIGHT = 1D;
+	/** Slope in radians (about 30 degrees) above which a cell is treated as impassable. */
+	private static final double MAX_SLOPE = 0.52D;
+	/** Cost of crossing an impassable cell; it is high but still allows a route. */
+	static final double IMPASSABLE_COST = 20D;
+	/** Smallest distance in km between elevation samples. */
+	private static final double MIN_SPACING = 1D;
+
+	private final int rows;
+	private final int cols;
+	private final double step;
+	private final DoubleBinaryOperator elevation;
+
+	// Costs of the cells; NaN if not sampled
+	private final float[] costs;
+
+	// Trig values of the cell centres
+	private final double[] sinPhi;
+	private final double[] cosPhi;
+	private final double[] sinTheta;
+	private final double[] cosTheta;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cellDegrees Size of a cell in degrees
+	 * @param elevation Elevation in km for a phi and theta
+	 */
+	public TerrainCostGrid(double cellDegrees, DoubleBinaryOperator elevation) {
+		this.step = Math.toRadians(cellDegrees);
+		this.rows = (int) Math.ceil(Math.PI / step);
+		this.cols = (int) Math.ceil(2 * Math.PI / step);
+		this.elevation = elevation;
+
+		costs = new float[rows * cols];
+		Arrays.fill(costs, Float.NaN);
+
+		sinPhi = new double[rows];
+		cosPhi = new double[rows];
+		for (int r = 0; r < rows; r++) {
+			double phi = getPhi(r);
+			sinPhi[r] = Math.sin(phi);
+			cosPhi[r] = Math.cos(phi);
+		}
+		sinTheta = new double[cols];
+		cosTheta = new double[cols];
+		for (int c = 0; c < cols; c++) {
+			double theta = getTheta(c);
+			sinTheta[c] = Math.sin(theta);
+			cosTheta[c] = Math.cos(theta);
+		}
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getCols() {
+		return cols;
+	}
+
+	/**
+	 * Gets the cell holding a location.
+	 *
+	 * @param location
+	 * @return
+	 */
+	public int getCell(Coordinates location) {
+		int r = Math.min(rows - 1, (int) (location.getPhi() / step));
+		int c = Math.floorMod((int) (location.getTheta() / step), cols);
+		return r * cols + c;
+	}
+
+	/**
+	 * Gets the location at the centre of a cell.
+	 *
+	 * @param cell
+	 * @return
+	 */
+	public Coordinates getCentre(int cell) {
+		return new Coordinates(getPhi(cell / cols), getTheta(cell % cols));
+	}
+
+	private double getPhi(int row) {
+		return Math.min(Math.PI, (row + 0.5D) * step);
+	}
+
+	private double getTheta(int col) {
+		return (col + 0.5D) * step;
+	}
+
+	/**
+	 * Gets the great circle distance between the centres of two cells.
+	 *
+	 * @param a
+	 * @param b
+	 * @return distance in km
+	 */
+	public double getDistance(int a, int b) {
+		int ra = a / cols;
+		int ca = a % cols;
+		int rb = b / cols;
+		int cb = b % cols;
+		// cos(dTheta) from the cached values of each column
+		double cosDTheta = cosTheta[ca] * cosTheta[cb] + sinTheta[ca] * sinTheta[cb];
+		double cosAngle = cosPhi[ra] * cosPhi[rb] + sinPhi[ra] * sinPhi[rb] * cosDTheta;
+		return Coordinates.MARS_RADIUS_KM * Math.acos(Math.max(-1D, Math.min(1D, cosAngle)));
+	}
+
+	/**
+	 * Gets the cost multiplier of crossing a cell. The cell is sampled on first use.
+	 *
+	 * @param cell
+	 * @return Multiplier of 1 or more
+	 */
+	public double getCost(int cell) {
+		float cost = costs[cell];
+		if (Float.isNaN(cost)) {
+			// Sampling is repeatable so a race only repeats the work
+			cost = (float) sampleCost(cell / cols, cell % cols);
+			costs[cell] = cost;
+		}
+		return cost;
+	}
+
+	/**
+	 * Samples the elevation at the centre and a quarter cell either side of it.
+	 *
+	 * @param row
+	 * @param col
+	 * @return
+	 */
+	private double sampleCost(int row, int col) {
+		double phi = getPhi(row);
+		double theta = wrap(getTheta(col));
+		double delta = step / 4;
+
+		double centre = elevation.applyAsDouble(phi, theta);
+		double north = elevation.applyAsDouble(Math.max(0D, phi - delta), theta);
+		double south = elevation.applyAsDouble(Math.min(Math.PI, phi + delta), theta);
+		double west = elevation.applyAsDouble(phi, wrap(theta - delta));
+		double east = elevation.applyAsDouble(phi, wrap(theta + delta));
+
+		double nsSpacing = Math.max(MIN_SPACING, Coordinates.MARS_RADIUS_KM * delta);
+		double ewSpacing = Math.max(MIN_SPACING, Coordinates.MARS_RADIUS_KM * sinPhi[row] * delta);
+		double gradient = Math.max(Math.max(Math.abs(north - centre), Math.abs(south - centre)) / nsSpacing,
+								Math.max(Math.abs(west - centre), Math.abs(east - centre)) / ewSpacing);
+		double slope = Math.atan(gradient);
+		if (slope > MAX_SLOPE) {
+			return IMPASSABLE_COST;
+		}
+
+		double mean = (centre + north + south + west + east) / 5;
+		double variance = (sq(centre - mean) + sq(north - mean) + sq(south - mean)
+								+ sq(west - mean) + sq(east - mean)) / 5;
+		double roughness = Math.sqrt(variance);
+
+		return Math.min(IMPASSABLE_COST, 1D + SLOPE_WEIGHT * slope + ROUGHNESS_WEIGHT * roughness);
+	}
+
+	private static double wrap(double theta) {
+		double twoPi = 2 * Math.PI;
+		double result = theta % twoPi;
+		return (result < 0D ? result + twoPi : result);
+	}
+
+	private static double sq(double v) {
+		return v * v;
+	}
+}
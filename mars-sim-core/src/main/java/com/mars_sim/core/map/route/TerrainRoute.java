@@ -0,0 +1,82 @@
+/*
+ * Mars Simulation Project
+ * TerrainRoute.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.map.route;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mars_sim.core.map.location.Coordinates;
+
+/**
+ * A route across the terrain cost grid between two cells.
+ */
+public class TerrainRoute {
+
+	private final TerrainCostGrid grid;
+	private final int[] cells;
+	private final double distance;
+	private final double effort;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param grid Grid of the cells
+	 * @param cells Cells from the origin to the destination
+	 * @param distance Distance along the route in km
+	 * @param effort Distance weighted by the terrain cost in km
+	 */
+	TerrainRoute(TerrainCostGrid grid, int[] cells, double distance, double effort) {
+		this.grid = grid;
+		this.cells = cells;
+		this.distance = distance;
+		this.effort = effort;
+	}
+
+	/**
+	 * Gets the distance along the route.
+	 *
+	 * @return km
+	 */
+	public double getDistance() {
+		return distance;
+	}
+
+	/**
+	 * Gets the distance weighted by the cost of the terrain crossed.
+	 *
+	 * @return km
+	 */
+	public double getEffort() {
+		return effort;
+	}
+
+	/**
+	 * Gets how much harder the route is than a straight line over flat ground.
+	 *
+	 * @return Factor of 1 or more
+	 */
+	public double getTerrainFactor() {
+		int last = cells.length - 1;
+		double straight = grid.getDistance(cells[0], cells[last]);
+		if (straight <= 0D) {
+			return grid.getCost(cells[0]);
+		}
+		return Math.max(1D, effort / straight);
+	}
+
+	/**
+	 * Gets the centre of each cell along the route.
+	 *
+	 * @return
+	 */
+	public List<Coordinates> getWaypoints() {
+		List<Coordinates> result = new ArrayList<>(cells.length);
+		for (int c : cells) {
+			result.add(grid.getCentre(c));
+		}
+		return result;
+	}
+}
@@ -7,9 +7,12 @@
 
 package com.mars_sim.core.person.ai;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.PhysicalCondition;
@@ -18,11 +21,20 @@ import com.mars_sim.core.tool.Conversion;
 import com.mars_sim.core.tool.MathUtils;
 import com.mars_sim.core.tool.RandomUtil;
 
+/**
+ * The emotional state of a person. Only a short history of past states is kept, as a
+ * ring of the latest ones plus a decayed average of all of them.
+ */
 public class EmotionManager implements Serializable {
 
 	/** default serial id. */
 	private static final long serialVersionUID = 1L;
 
+	/** Number of past states kept. */
+	static final int HISTORY_SIZE = 8;
+	/** Weight of a new state in the average. */
+	private static final double AVERAGE_WEIGHT = 0.1;
+
 	private static final double FLATTENNING_FACTOR = 1.95;
 	private static final double RANGE = .5;
 	private static final double FACTOR = .05;
@@ -55,8 +67,13 @@ public class EmotionManager implements Serializable {
 	/** The influence vector. */
 	private double[] iVector = new double[EMOTIONAL_AXES.length];
 	
-	/** The prior history omega vectors. */
-	private List<double[]> oVector = new CopyOnWriteArrayList<>();
+	/** The latest prior states packed one after another; a ring. */
+	private double[] history = new double[HISTORY_SIZE * EMOTIONAL_AXES.length];
+	private int historyNext = 0;
+	private int historyCount = 0;
+
+	/** The decayed average of the prior states. */
+	private double[] average = new double[EMOTIONAL_AXES.length];
 
 	private PhysicalCondition pc;
 
@@ -72,17 +89,32 @@ public class EmotionManager implements Serializable {
 		eVector[0] = .4 + RandomUtil.getRandomDouble(-.3, .3);
 		eVector[1] = .4 + RandomUtil.getRandomDouble(-.3, .3);
 
-		oVector = new CopyOnWriteArrayList<>();
-
 		// Save the first set of emotional states
+		System.arraycopy(eVector, 0, average, 0, eVector.length);
 		saveEmotion();
 	}
 
 	/**
-	 * Backs up the emotional states.
+	 * Backs up the emotional states. The oldest one is overwritten when the history is full.
 	 */
 	public void saveEmotion() {
-		oVector.add(eVector);
+		addHistory(eVector);
+	}
+
+	/**
+	 * Adds a state to the history and the average.
+	 * 
+	 * @param state
+	 */
+	private void addHistory(double[] state) {
+		int dim = state.length;
+		System.arraycopy(state, 0, history, historyNext * dim, dim);
+		historyNext = (historyNext + 1) % HISTORY_SIZE;
+		historyCount = Math.min(historyCount + 1, HISTORY_SIZE);
+
+		for (int i = 0; i < dim; i++) {
+			average[i] += (state[i] - average[i]) * AVERAGE_WEIGHT;
+		}
 	}
 
 	/**
@@ -94,8 +126,6 @@ public class EmotionManager implements Serializable {
 		// Check for physical stimulus
 		checkStimulus();
 	
-		// Get the prior history vector
-		List<double[]> oVector = getOmegaVector(); 
 		// Get the new emotional stimulus/Influence vector
 		double[] iVector = getEmotionInfoVector(); 
 		// Get the existing emotional State vector
@@ -103,8 +133,9 @@ public class EmotionManager implements Serializable {
 		
 		// Get Psi Function to incorporate new stimulus
 		double[] psi = callPsi(iVector, pVector);
-		// Get Omega Function to normalize internal changes such as decay of emotional states
-		double[] omega = MathUtils.normalize(oVector.get(oVector.size()-1));
+		// Get Omega Function to normalize internal changes such as decay of emotional states.
+		// This moves the existing state toward the mid-point in place.
+		double[] omega = MathUtils.normalize(eVector);
 		
 		int dim = getDimension();
 		// Construct a new emotional state function modified by psi and omega functions
@@ -288,9 +319,28 @@ public class EmotionManager implements Serializable {
 		return v;
 	}
 
-	
+	/**
+	 * Gets the latest prior states, oldest first.
+	 * 
+	 * @return
+	 */
 	public List<double[]> getOmegaVector() {
-		return oVector;
+		int dim = eVector.length;
+		List<double[]> result = new ArrayList<>(historyCount);
+		for (int i = 0; i < historyCount; i++) {
+			int slot = (historyNext + HISTORY_SIZE - historyCount + i) % HISTORY_SIZE;
+			result.add(Arrays.copyOfRange(history, slot * dim, (slot + 1) * dim));
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the decayed average of all the prior states.
+	 * 
+	 * @return
+	 */
+	public double[] getAverageVector() {
+		return average.clone();
 	}
 
 	public double[] getEmotionInfoVector() {
@@ -312,7 +362,42 @@ public class EmotionManager implements Serializable {
 		person = null;
 		eVector  = null;
 		iVector  = null;
-		oVector  = null;
+		history  = null;
+		average  = null;
 		pc = null;
 	}
+
+	/**
+	 * Reads the history of a save; an older save holds every past state in a list.
+	 * 
+	 * @param in
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = in.readFields();
+		person = (Person) fields.get("person", null);
+		eVector = (double[]) fields.get("eVector", null);
+		iVector = (double[]) fields.get("iVector", null);
+		pc = (PhysicalCondition) fields.get("pc", null);
+
+		if (fields.getObjectStreamClass().getField("history") != null) {
+			history = (double[]) fields.get("history", null);
+			historyNext = fields.get("historyNext", 0);
+			historyCount = fields.get("historyCount", 0);
+			average = (double[]) fields.get("average", null);
+			return;
+		}
+
+		history = new double[HISTORY_SIZE * EMOTIONAL_AXES.length];
+		average = eVector.clone();
+		List<double[]> oldStates = (List<double[]>) fields.get("oVector", null);
+		if ((oldStates != null) && !oldStates.isEmpty()) {
+			System.arraycopy(oldStates.get(0), 0, average, 0, average.length);
+			for (double[] state : oldStates) {
+				addHistory(state);
+			}
+		}
+	}
 }
@@ -9,6 +9,8 @@ package com.mars_sim.core.person.ai;
 import java.io.Serializable;
 
 import com.mars_sim.core.UnitEventType;
+import com.mars_sim.core.logging.PulseProfiler;
+import com.mars_sim.core.logging.PulseProfiler.Subsystem;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.job.util.AssignmentHistory;
@@ -168,11 +170,13 @@ public class Mind implements Serializable, Temporal {
 			pTime = remaining;
 		}
 		while (remaining > 0) {
-			if (remaining > pTime) {
+			// A stable task is advanced in one larger step
+			double step = Math.max(pTime, Math.min(remaining, taskManager.getStableTime()));
+			if (remaining > step) {
 				// Call takeAction to perform a task and consume the pulse time.
-				takeAction(pTime);
+				takeAction(step);
 				// Reduce the total time by the pulse time
-				remaining -= pTime;
+				remaining -= step;
 			}
 			else {
 				// Call takeAction to perform a task and consume the pulse time.
@@ -300,7 +304,9 @@ public class Mind implements Serializable, Temporal {
 		int priority = mission.getPriority();
 		int rand = RandomUtil.getRandomInt(5);
 		if (rand - (fitness)/1.5D <= priority + modifier) {
+			long start = PulseProfiler.start(Subsystem.MISSION);
 			mission.performMission(person);
+			PulseProfiler.stop(Subsystem.MISSION, start);
 		}
 	}
 
@@ -32,6 +32,7 @@ import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.malfunction.Malfunction;
 import com.mars_sim.core.malfunction.MalfunctionManager;
 import com.mars_sim.core.map.location.Coordinates;
+import com.mars_sim.core.map.route.RoutePlanner;
 import com.mars_sim.core.person.EventType;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.task.Sleep;
@@ -125,6 +126,8 @@ public abstract class AbstractVehicleMission extends AbstractMission implements
 	private double distanceTravelled;
 	/** The estimated total distance for this mission. */
 	private double distanceProposed = 0;
+	/** How much longer driving the route takes than driving on flat ground. */
+	private double terrainFactor = 1D;
 	/** The current leg remaining distance at this moment. */
 	private double distanceCurrentLegRemaining;
 	/** The current leg travelled distance at this moment. */
@@ -972,7 +975,9 @@ public abstract class AbstractVehicleMission extends AbstractMission implements
 		double averageSpeed = getAverageVehicleSpeedForOperators() * ((1 + NIGHT_TIME_SPEED_MOD) / 2);
 		logger.log(vehicle, Level.FINE, 10_000, "Estimated average speed: " + Math.round(averageSpeed * 100.0)/100.0 + " kph.");
 		if (averageSpeed > 0) {
-			result = distance / averageSpeed * MarsTime.MILLISOLS_PER_HOUR;
+			// Missions saved before the terrain was planned load with no factor
+			double factor = (terrainFactor > 0D ? terrainFactor : 1D);
+			result = distance / averageSpeed * MarsTime.MILLISOLS_PER_HOUR * factor;
 		}
 
 		// If buffer, multiply by the the life support margin
@@ -2030,6 +2035,10 @@ public abstract class AbstractVehicleMission extends AbstractMission implements
 				result += navPoints.get(x).getPointToPointDistance();
 			}
 			
+			if (vehicle instanceof GroundVehicle) {
+				terrainFactor = computeTerrainFactor();
+			}
+
 			if (distanceProposed != result) {
 				// Record the distance
 				distanceProposed = result;
@@ -2039,6 +2048,26 @@ public abstract class AbstractVehicleMission extends AbstractMission implements
 		}
 	}
 
+	/**
+	 * Computes how much harder the legs are to drive than flat ground using the
+	 * routes planned over the terrain.
+	 * 
+	 * @return Factor of 1 or more
+	 */
+	private double computeTerrainFactor() {
+		RoutePlanner planner = RoutePlanner.getDefault();
+		double straight = 0D;
+		double effort = 0D;
+		for (int x = 1; x < navPoints.size(); x++) {
+			NavPoint from = navPoints.get(x - 1);
+			NavPoint to = navPoints.get(x);
+			double legDistance = to.getPointToPointDistance();
+			straight += legDistance;
+			effort += legDistance * planner.getRoute(from.getLocation(), to.getLocation()).getTerrainFactor();
+		}
+		return (straight > 0D ? effort / straight : 1D);
+	}
+
 	/**
 	 * Gets the estimated total distance of the trip.
 	 * 
@@ -7,6 +7,7 @@
 package com.mars_sim.core.person.ai.social;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -176,6 +177,25 @@ public class Relation implements Serializable {
 				.collect(Collectors.toUnmodifiableSet());
 	}
 
+	/**
+	 * Gets all the opinions held.
+	 * 
+	 * @return Map of unit identifier to opinion
+	 */
+	Map<Integer, Opinion> getOpinions() {
+		return Collections.unmodifiableMap(opinionMap);
+	}
+
+	/**
+	 * Finds a Person by identifier.
+	 * 
+	 * @param id
+	 * @return
+	 */
+	static Person getPerson(int id) {
+		return (unitManager != null ? unitManager.getPersonByID(id) : null);
+	}
+
 	/**
 	 * Gets all settlements known.
 	 * 
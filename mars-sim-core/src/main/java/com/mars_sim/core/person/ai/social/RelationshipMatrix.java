@@ -0,0 +1,449 @@
+/*
+ * Mars Simulation Project
+ * RelationshipMatrix.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.person.ai.social;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.mars_sim.core.person.Person;
+import com.mars_sim.core.person.ai.social.Relation.Opinion;
+
+/**
+ * This is a settlement scoped store of the average opinions held by the citizens.
+ * Opinions between two citizens are held in a dense matrix indexed by a citizen slot.
+ * Opinions of people outside the settlement are held in a sparse overflow per citizen.
+ * The per-row totals and the top friends of each citizen are maintained as opinions change.
+ * The {@link Relation} of each Person remains the master copy; this is a fast lookup
+ * that is kept in step by {@link RelationshipUtil}.
+ */
+public class RelationshipMatrix implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Number of top friends tracked per citizen. */
+	static final int TOP_FRIENDS = 5;
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	/** Marker for an unknown opinion in the dense matrix. */
+	private static final float UNKNOWN = Float.NaN;
+
+	private int capacity;
+	/** Row major matrix of average opinions; row is the rater, column is the target. */
+	private float[] opinions;
+	/** Citizen occupying each slot; null if the slot is free. */
+	private Person[] slots;
+	/** Person identifier to slot. */
+	private Map<Integer, Integer> slotIndex = new HashMap<>();
+	/** Opinions of people that are not citizens, keyed by the rater slot. */
+	private Map<Integer, Map<Person, Float>> overflow = new HashMap<>();
+
+	/** Total of the known opinions per row. */
+	private double[] rowTotal;
+	/** Number of known opinions per row. */
+	private int[] rowKnown;
+
+	/** Best friends per row in descending score order. */
+	private Person[][] topPeople;
+	private float[][] topScores;
+	private int[] topSize;
+	private boolean[] topDirty;
+
+	public RelationshipMatrix() {
+		allocate(INITIAL_CAPACITY);
+	}
+
+	private void allocate(int newCapacity) {
+		var oldCapacity = capacity;
+		var oldOpinions = opinions;
+
+		capacity = newCapacity;
+		opinions = new float[newCapacity * newCapacity];
+		Arrays.fill(opinions, UNKNOWN);
+		if (oldOpinions != null) {
+			for (int r = 0; r < oldCapacity; r++) {
+				System.arraycopy(oldOpinions, r * oldCapacity, opinions, r * newCapacity, oldCapacity);
+			}
+		}
+
+		slots = (slots == null ? new Person[newCapacity] : Arrays.copyOf(slots, newCapacity));
+		rowTotal = (rowTotal == null ? new double[newCapacity] : Arrays.copyOf(rowTotal, newCapacity));
+		rowKnown = (rowKnown == null ? new int[newCapacity] : Arrays.copyOf(rowKnown, newCapacity));
+		topSize = (topSize == null ? new int[newCapacity] : Arrays.copyOf(topSize, newCapacity));
+		topDirty = (topDirty == null ? new boolean[newCapacity] : Arrays.copyOf(topDirty, newCapacity));
+		topPeople = (topPeople == null ? new Person[newCapacity][] : Arrays.copyOf(topPeople, newCapacity));
+		topScores = (topScores == null ? new float[newCapacity][] : Arrays.copyOf(topScores, newCapacity));
+		for (int i = oldCapacity; i < newCapacity; i++) {
+			topPeople[i] = new Person[TOP_FRIENDS];
+			topScores[i] = new float[TOP_FRIENDS];
+		}
+	}
+
+	private int slotOf(Person p) {
+		Integer s = slotIndex.get(p.getIdentifier());
+		return (s == null ? -1 : s);
+	}
+
+	/**
+	 * Adds a new citizen. The row and column are populated from the existing Relations.
+	 *
+	 * @param p
+	 */
+	public synchronized void addCitizen(Person p) {
+		if (slotOf(p) >= 0) {
+			return;
+		}
+
+		int slot = -1;
+		for (int i = 0; i < capacity && slot < 0; i++) {
+			if (slots[i] == null) {
+				slot = i;
+			}
+		}
+		if (slot < 0) {
+			slot = capacity;
+			allocate(capacity * 2);
+		}
+
+		slots[slot] = p;
+		slotIndex.put(p.getIdentifier(), slot);
+		rowTotal[slot] = 0D;
+		rowKnown[slot] = 0;
+		topSize[slot] = 0;
+		topDirty[slot] = false;
+
+		// Column; the existing citizens opinion of the newcomer
+		for (int r = 0; r < capacity; r++) {
+			Person rater = slots[r];
+			if ((rater != null) && (r != slot)) {
+				Map<Person, Float> extra = overflow.get(r);
+				if (extra != null) {
+					Float existing = extra.remove(p);
+					if (existing != null) {
+						opinions[r * capacity + slot] = existing;
+					}
+				}
+			}
+		}
+
+		// Row; the newcomer's opinion of everyone they know
+		Relation relation = p.getRelation();
+		if (relation != null) {
+			for (var e : relation.getOpinions().entrySet()) {
+				setRow(slot, e.getKey(), e.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Loads a single known opinion into the row of a new citizen.
+	 */
+	private void setRow(int slot, int targetId, Opinion o) {
+		float score = (float) o.getAverage();
+		Integer targetSlot = slotIndex.get(targetId);
+		if (targetSlot != null) {
+			opinions[slot * capacity + targetSlot] = score;
+			updateTop(slot, slots[targetSlot], score, Float.NaN);
+		}
+		else {
+			// Non citizens are held by Person in the overflow
+			Person target = Relation.getPerson(targetId);
+			if (target == null) {
+				return;
+			}
+			overflow.computeIfAbsent(slot, k -> new HashMap<>()).put(target, score);
+			updateTop(slot, target, score, Float.NaN);
+		}
+		rowTotal[slot] += score;
+		rowKnown[slot]++;
+	}
+
+	/**
+	 * Removes a citizen. The opinions other citizens hold about them are moved to the overflow.
+	 *
+	 * @param p
+	 */
+	public synchronized void removeCitizen(Person p) {
+		int slot = slotOf(p);
+		if (slot < 0) {
+			return;
+		}
+
+		for (int r = 0; r < capacity; r++) {
+			int idx = r * capacity + slot;
+			if ((slots[r] != null) && (r != slot) && !Float.isNaN(opinions[idx])) {
+				overflow.computeIfAbsent(r, k -> new HashMap<>()).put(p, opinions[idx]);
+			}
+			opinions[idx] = UNKNOWN;
+		}
+		Arrays.fill(opinions, slot * capacity, (slot + 1) * capacity, UNKNOWN);
+
+		overflow.remove(slot);
+		Arrays.fill(topPeople[slot], null);
+		topSize[slot] = 0;
+		slots[slot] = null;
+		slotIndex.remove(p.getIdentifier());
+	}
+
+	/**
+	 * Is this Person a citizen held in the matrix.
+	 *
+	 * @param p
+	 * @return
+	 */
+	public synchronized boolean contains(Person p) {
+		return slotOf(p) >= 0;
+	}
+
+	/**
+	 * Records the new average opinion that a citizen has of another Person.
+	 * It is ignored if the rater is not a citizen.
+	 *
+	 * @param rater
+	 * @param target
+	 * @param score
+	 */
+	public synchronized void update(Person rater, Person target, double score) {
+		int r = slotOf(rater);
+		if (r < 0) {
+			return;
+		}
+
+		float newScore = (float) score;
+		float oldScore;
+		int t = slotOf(target);
+		if (t >= 0) {
+			int idx = r * capacity + t;
+			oldScore = opinions[idx];
+			opinions[idx] = newScore;
+		}
+		else {
+			Float previous = overflow.computeIfAbsent(r, k -> new HashMap<>()).put(target, newScore);
+			oldScore = (previous == null ? UNKNOWN : previous);
+		}
+
+		if (Float.isNaN(oldScore)) {
+			rowKnown[r]++;
+			rowTotal[r] += newScore;
+		}
+		else {
+			rowTotal[r] += newScore - oldScore;
+		}
+		updateTop(r, target, newScore, oldScore);
+	}
+
+	/**
+	 * Gets the average opinion a citizen holds of another Person.
+	 *
+	 * @param rater
+	 * @param target
+	 * @return Opinion score or NaN if not known
+	 */
+	public synchronized double getOpinion(Person rater, Person target) {
+		int r = slotOf(rater);
+		if (r < 0) {
+			return Double.NaN;
+		}
+		int t = slotOf(target);
+		if (t >= 0) {
+			return opinions[r * capacity + t];
+		}
+		Map<Person, Float> extra = overflow.get(r);
+		if (extra != null) {
+			Float score = extra.get(target);
+			if (score != null) {
+				return score;
+			}
+		}
+		return Double.NaN;
+	}
+
+	/**
+	 * Gets the average of all the opinions that a citizen holds.
+	 *
+	 * @param rater
+	 * @return Average opinion or NaN if there are none
+	 */
+	public synchronized double getAverageOpinion(Person rater) {
+		int r = slotOf(rater);
+		if ((r < 0) || (rowKnown[r] == 0)) {
+			return Double.NaN;
+		}
+		return rowTotal[r] / rowKnown[r];
+	}
+
+	/**
+	 * Gets the sum of the opinions the people known by a citizen hold about that citizen.
+	 * Only the people that are citizens are covered.
+	 *
+	 * @param person
+	 * @return Total and count of the opinions; null if not a citizen
+	 */
+	synchronized double[] getCitizenOpinionsOf(Person person) {
+		int p = slotOf(person);
+		if (p < 0) {
+			return null;
+		}
+		double total = 0D;
+		int count = 0;
+		int rowStart = p * capacity;
+		for (int t = 0; t < capacity; t++) {
+			if (!Float.isNaN(opinions[rowStart + t])) {
+				float theirs = opinions[t * capacity + p];
+				total += (Float.isNaN(theirs) ? Relation.EMPTY_OPINION.getAverage() : theirs);
+				count++;
+			}
+		}
+		return new double[] {total, count};
+	}
+
+	/**
+	 * Gets the non citizens that a citizen knows.
+	 *
+	 * @param person
+	 * @return
+	 */
+	synchronized Person[] getKnownOutsiders(Person person) {
+		int p = slotOf(person);
+		Map<Person, Float> extra = (p < 0 ? null : overflow.get(p));
+		if (extra == null) {
+			return new Person[0];
+		}
+		return extra.keySet().toArray(new Person[0]);
+	}
+
+	/**
+	 * Gets all the opinions held by a citizen.
+	 *
+	 * @param rater
+	 * @return Map of people to opinion; null if not a citizen
+	 */
+	public synchronized Map<Person, Double> getOpinions(Person rater) {
+		int r = slotOf(rater);
+		if (r < 0) {
+			return null;
+		}
+		Map<Person, Double> result = new HashMap<>();
+		int rowStart = r * capacity;
+		for (int t = 0; t < capacity; t++) {
+			float score = opinions[rowStart + t];
+			if (!Float.isNaN(score)) {
+				result.put(slots[t], (double) score);
+			}
+		}
+		Map<Person, Float> extra = overflow.get(r);
+		if (extra != null) {
+			for (Entry<Person, Float> e : extra.entrySet()) {
+				result.put(e.getKey(), e.getValue().doubleValue());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the best friends of a citizen; this is everyone sharing the highest opinion.
+	 *
+	 * @param rater
+	 * @return Map of people to opinion; null if not a citizen
+	 */
+	public synchronized Map<Person, Double> getBestFriends(Person rater) {
+		int r = slotOf(rater);
+		if (r < 0) {
+			return null;
+		}
+		if (topDirty[r]) {
+			rebuildTop(r);
+		}
+
+		int size = topSize[r];
+		if ((size == TOP_FRIENDS) && (topScores[r][0] == topScores[r][size-1])) {
+			// Tie fills the whole list so need a full scan
+			Map<Person, Double> all = getOpinions(rater);
+			float best = topScores[r][0];
+			all.values().removeIf(v -> v < best);
+			return all;
+		}
+
+		Map<Person, Double> result = new HashMap<>();
+		for (int i = 0; i < size && (topScores[r][i] == topScores[r][0]); i++) {
+			result.put(topPeople[r][i], (double) topScores[r][i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Adjusts the top friends of a row after an opinion changes.
+	 */
+	private void updateTop(int r, Person target, float newScore, float oldScore) {
+		if (topDirty[r]) {
+			return;
+		}
+		Person[] people = topPeople[r];
+		float[] scores = topScores[r];
+		int size = topSize[r];
+
+		int pos = -1;
+		for (int i = 0; i < size && pos < 0; i++) {
+			if (people[i] == target) {
+				pos = i;
+			}
+		}
+
+		if (pos >= 0) {
+			if ((newScore < oldScore) && (size == TOP_FRIENDS)) {
+				// Someone outside the list may now be better
+				topDirty[r] = true;
+				return;
+			}
+			// Remove and reinsert below
+			System.arraycopy(people, pos + 1, people, pos, size - pos - 1);
+			System.arraycopy(scores, pos + 1, scores, pos, size - pos - 1);
+			size--;
+		}
+		else if ((size == TOP_FRIENDS) && (newScore <= scores[size-1])) {
+			return;
+		}
+
+		int insert = 0;
+		while ((insert < size) && (scores[insert] >= newScore)) {
+			insert++;
+		}
+		int moved = Math.min(size, TOP_FRIENDS - 1) - insert;
+		if (moved > 0) {
+			System.arraycopy(people, insert, people, insert + 1, moved);
+			System.arraycopy(scores, insert, scores, insert + 1, moved);
+		}
+		people[insert] = target;
+		scores[insert] = newScore;
+		topSize[r] = Math.min(size + 1, TOP_FRIENDS);
+	}
+
+	/**
+	 * Rebuilds the top friends of a row with a full scan.
+	 */
+	private void rebuildTop(int r) {
+		topDirty[r] = false;
+		topSize[r] = 0;
+		Arrays.fill(topPeople[r], null);
+
+		int rowStart = r * capacity;
+		for (int t = 0; t < capacity; t++) {
+			float score = opinions[rowStart + t];
+			if (!Float.isNaN(score)) {
+				updateTop(r, slots[t], score, UNKNOWN);
+			}
+		}
+		Map<Person, Float> extra = overflow.get(r);
+		if (extra != null) {
+			for (Entry<Person, Float> e : extra.entrySet()) {
+				updateTop(r, e.getKey(), e.getValue(), UNKNOWN);
+			}
+		}
+	}
+}
@@ -80,6 +80,36 @@ public class RelationshipUtil implements Serializable {
 			opinion = 100;
 		
 		person1.getRelation().setRandomOpinion(person2, opinion);
+		updateMatrix(person1, person2);
+	}
+
+	/**
+	 * Gets the relationship matrix of the person's settlement if they are held in it.
+	 * 
+	 * @param person
+	 * @return Matrix or null if not a citizen
+	 */
+	private static RelationshipMatrix getMatrix(Person person) {
+		var home = person.getAssociatedSettlement();
+		if (home == null) {
+			return null;
+		}
+		var matrix = home.getRelationshipMatrix();
+		return ((matrix != null) && matrix.contains(person) ? matrix : null);
+	}
+
+	/**
+	 * Copies the current opinion of person1 toward person2 into the settlement matrix.
+	 * 
+	 * @param person1
+	 * @param person2
+	 */
+	private static void updateMatrix(Person person1, Person person2) {
+		var home = person1.getAssociatedSettlement();
+		var opinion = person1.getRelation().getOpinion(person2);
+		if ((home != null) && (opinion != null) && (home.getRelationshipMatrix() != null)) {
+			home.getRelationshipMatrix().update(person1, person2, opinion.getAverage());
+		}
 	}
 
 	
@@ -92,6 +122,7 @@ public class RelationshipUtil implements Serializable {
 	 */
 	public static void changeOpinion(Person person1, Person person2, double mod) {
 		person1.getRelation().changeOpinion(person2, mod);
+		updateMatrix(person1, person2);
 	}
 	
 	/**
@@ -142,6 +173,11 @@ public class RelationshipUtil implements Serializable {
 	 * @return {@link Person} map
 	 */
 	public static Map<Person, Double> getMyOpinionsOfThem(Person person) {
+		var matrix = getMatrix(person);
+		if (matrix != null) {
+			return matrix.getOpinions(person);
+		}
+
 		Map<Person, Double> friends = new HashMap<>();
 		Collection<Person> list = getAllKnownPeople(person);
 		double highestScore = 0;
@@ -162,6 +198,18 @@ public class RelationshipUtil implements Serializable {
 	 * @return {@link Person} map
 	 */
 	public static double getAverageOpinionOfMe(Person person) {
+		var matrix = getMatrix(person);
+		if (matrix != null) {
+			double[] citizens = matrix.getCitizenOpinionsOf(person);
+			double total = citizens[0];
+			int size = (int) citizens[1];
+			for (Person pp : matrix.getKnownOutsiders(person)) {
+				total += getOpinionOfPerson(pp, person);
+				size++;
+			}
+			return (size > 0 ? total/size : 50);
+		}
+
 		Collection<Person> list = getAllKnownPeople(person);
 		int size = list.size();
 		double total = 0;
@@ -183,6 +231,12 @@ public class RelationshipUtil implements Serializable {
 	 * @return {@link Person} map
 	 */
 	public static double getMyAverageOpinionOfThem(Person person) {
+		var matrix = getMatrix(person);
+		if (matrix != null) {
+			double average = matrix.getAverageOpinion(person);
+			return (Double.isNaN(average) ? 50 : average);
+		}
+
 		Collection<Person> list = getAllKnownPeople(person);
 		int size = list.size();
 		double total = 0;
@@ -205,6 +259,11 @@ public class RelationshipUtil implements Serializable {
 	 * @return {@link Person} array
 	 */
 	public static Map<Person, Double> getBestFriends(Person person) {
+		var matrix = getMatrix(person);
+		if (matrix != null) {
+			return matrix.getBestFriends(person);
+		}
+
 		Map<Person, Double> bestFriends = getMyOpinionsOfThem(person);
 		if (bestFriends.isEmpty())
 			return bestFriends;
@@ -235,9 +294,18 @@ public class RelationshipUtil implements Serializable {
 	 *         friend).
 	 */
 	public static double getOpinionOfPerson(Person person1, Person person2) {
-		if (person1.getRelation().getOpinion(person2) == null)
+		var home = person1.getAssociatedSettlement();
+		if ((home != null) && (home.getRelationshipMatrix() != null)) {
+			double score = home.getRelationshipMatrix().getOpinion(person1, person2);
+			if (!Double.isNaN(score)) {
+				return score;
+			}
+		}
+
+		var opinion = person1.getRelation().getOpinion(person2);
+		if (opinion == null)
 			return Relation.EMPTY_OPINION.getAverage();
-		return person1.getRelation().getOpinion(person2).getAverage();
+		return opinion.getAverage();
 	}
 	
 	/**
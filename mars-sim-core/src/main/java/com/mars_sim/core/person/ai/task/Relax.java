@@ -103,6 +103,14 @@ extends Task {
 		}
 	}
 
+	/**
+	 * Relaxing only accumulates rest so can be advanced in one step.
+	 */
+	@Override
+	protected double getStableTime() {
+		return (RELAXING.equals(getPhase()) ? getTimeLeft() : 0D);
+	}
+
 	/**
 	 * Performs the relaxing phase of the task.
 	 * 
@@ -122,15 +130,15 @@ extends Task {
 			double f =  pc.getFatigue();
 			double perf = pc.getPerformanceFactor();		
 			
-	        // Reduce person's fatigue
-	        pc.reduceFatigue(f * fractionOfRest);
+	        // Reduce person's fatigue; closed form so a long step matches many short ones
+	        pc.reduceFatigue(f * (1D - Math.exp(-fractionOfRest)));
 	        
 	        pc.relaxMuscle(time);
 	        
 	        pc.reduceStress(time/2);   
 	        
 	        if (perf < 1) {
-	        	perf *= (1 + fractionOfRest);
+	        	perf *= Math.exp(fractionOfRest);
 	        	pc.setPerformanceFactor(perf);
 	        }
 		}
@@ -193,7 +193,10 @@ public class Sleep extends Task {
 
 		double f = pc.getFatigue();
 
-		double residualFatigue = f * RESIDUAL_MODIFIER;
+		// The residual is taken per standard pulse so compound it over a longer step
+		double pulseTime = Task.getStandardPulseTime();
+		double pulses = (pulseTime > 0D ? Math.max(1D, time / pulseTime) : 1D);
+		double residualFatigue = f * (1D - Math.pow(1D - RESIDUAL_MODIFIER, pulses));
 		// (1) Use the residualFatigue to speed up the recuperation for higher fatigue cases
 		// (2) Realistically speaking, the first hour of sleep restore more strength than the
 		//     the last hour.
@@ -224,6 +227,19 @@ public class Sleep extends Task {
 		return 0;
 	}
 
+	/**
+	 * Sleeping only accumulates rest so can be advanced in one step until the
+	 * person wakes or is fully rested.
+	 */
+	@Override
+	protected double getStableTime() {
+		if (!SLEEPING.equals(getPhase())) {
+			return 0D;
+		}
+		double fatigue = person.getPhysicalCondition().getFatigue();
+		return Math.max(0D, Math.min(getTimeLeft(), fatigue / TIME_FACTOR));
+	}
+
 	/**
 	 * Sets an alarm for a duration in the future.
 	 * 
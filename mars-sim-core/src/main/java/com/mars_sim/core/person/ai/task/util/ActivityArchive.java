@@ -0,0 +1,228 @@
+/*
+ * Mars Simulation Project
+ * ActivityArchive.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.person.ai.task.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import com.mars_sim.core.data.History.HistoryItem;
+import com.mars_sim.core.logging.SimLogger;
+
+/**
+ * Holds the old activities of workers in a file per worker so they do not take memory
+ * or go into the saved simulation, and a worker that moves settlement keeps them. Each
+ * block of activities is written with its own table of texts so the file stays small. The archive is disabled until a directory
+ * is set and it only covers the current run of the simulation.
+ * The files are only touched by a single background thread so the simulation never waits
+ * for the disk; a read waits for the blocks already queued.
+ */
+public final class ActivityArchive {
+
+	/**
+	 * An archived activity.
+	 */
+	record Entry(long when, int location,
+				String task, String description, String phase, String mission) {}
+
+	/**
+	 * The end of the complete blocks of a file.
+	 */
+	private record Snapshot(File file, long length) {}
+
+	private static final SimLogger logger = SimLogger.getLogger(ActivityArchive.class.getName());
+
+	private static final String SUFFIX = ".act";
+	private static final int NO_TEXT = -1;
+
+	private static final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "activity-archive");
+		t.setDaemon(true);
+		return t;
+	});
+
+	// Only changed by the writer
+	private static volatile File directory = null;
+
+	/**
+	 * Prevent creation of instance to enforce static helper
+	 */
+	private ActivityArchive() {}
+
+	/**
+	 * Enables the archive. Any archive files already in the directory are removed.
+	 *
+	 * @param dir Directory of the files; null disables the archive
+	 */
+	public static void setDirectory(File dir) {
+		// Queued behind any blocks for the old directory
+		waitFor(writer.submit(() -> changeDirectory(dir)));
+	}
+
+	private static void changeDirectory(File dir) {
+		if (dir != null) {
+			dir.mkdirs();
+			File[] old = dir.listFiles((d, n) -> n.endsWith(SUFFIX));
+			if (old != null) {
+				for (File f : old) {
+					if (!f.delete()) {
+						logger.warning("Cannot remove old activity archive " + f);
+					}
+				}
+			}
+		}
+		directory = dir;
+	}
+
+	public static boolean isEnabled() {
+		return directory != null;
+	}
+
+	private static File getFile(int workerId) {
+		return new File(directory, workerId + SUFFIX);
+	}
+
+	/**
+	 * Waits for a job of the writer.
+	 *
+	 * @param job
+	 * @return Result of the job; null if it failed
+	 */
+	private static <T> T waitFor(Future<T> job) {
+		try {
+			return job.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e) {
+			logger.severe("Problem with the activity archive", e.getCause());
+		}
+		return null;
+	}
+
+	/**
+	 * Queues a block of activities of a worker to be appended.
+	 *
+	 * @param workerId
+	 * @param entries No longer changed by the caller
+	 */
+	static void write(int workerId, List<Entry> entries) {
+		if (directory != null) {
+			writer.execute(() -> append(workerId, entries));
+		}
+	}
+
+	private static void append(int workerId, List<Entry> entries) {
+		if (directory == null) {
+			return;
+		}
+
+		try {
+			// Build the block first so the file gets a single write
+			Map<String, Integer> texts = new HashMap<>();
+			List<String> table = new ArrayList<>();
+			ByteArrayOutputStream rows = new ByteArrayOutputStream();
+			DataOutputStream r = new DataOutputStream(rows);
+			for (Entry e : entries) {
+				r.writeLong(e.when());
+				r.writeByte(e.location());
+				for (String t : new String[] {e.task(), e.description(), e.phase(), e.mission()}) {
+					r.writeShort(t == null ? NO_TEXT : texts.computeIfAbsent(t, k -> {
+						table.add(k);
+						return table.size() - 1;
+					}));
+				}
+			}
+
+			ByteArrayOutputStream block = new ByteArrayOutputStream();
+			DataOutputStream b = new DataOutputStream(block);
+			b.writeShort(table.size());
+			for (String t : table) {
+				b.writeUTF(t);
+			}
+			b.writeShort(entries.size());
+			rows.writeTo(b);
+			b.flush();
+
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+											new FileOutputStream(getFile(workerId), true)))) {
+				out.writeInt(block.size());
+				block.writeTo(out);
+			}
+		}
+		catch (IOException e) {
+			logger.severe("Problem archiving activities of worker " + workerId, e);
+		}
+	}
+
+	/**
+	 * Reads back the archived activities of a worker a block at a time. Blocks written
+	 * after the read starts are not included.
+	 *
+	 * @param workerId
+	 * @param action Given each activity, oldest first
+	 */
+	static void read(int workerId, Consumer<HistoryItem<OneActivity>> action) {
+		// Taken by the writer so it is the end of a complete block
+		Snapshot end = waitFor(writer.submit(() -> {
+			File f = (directory != null ? getFile(workerId) : null);
+			return new Snapshot(f, (f != null ? f.length() : 0L));
+		}));
+		if ((end == null) || (end.length() == 0L)) {
+			return;
+		}
+
+		File file = end.file();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			long position = 0L;
+			while (position < end.length()) {
+				int length = in.readInt();
+				position += Integer.BYTES + length;
+
+				String[] table = new String[in.readShort()];
+				for (int i = 0; i < table.length; i++) {
+					table[i] = in.readUTF();
+				}
+				int count = in.readShort();
+				for (int i = 0; i < count; i++) {
+					long when = in.readLong();
+					int location = in.readByte();
+					String task = textOf(table, in.readShort());
+					String description = textOf(table, in.readShort());
+					String phase = textOf(table, in.readShort());
+					String mission = textOf(table, in.readShort());
+
+					action.accept(new HistoryItem<>(ActivityJournal.toTime(when),
+									new OneActivity(ActivityJournal.getTaskLabel(task, location),
+													description, phase, mission)));
+				}
+			}
+		}
+		catch (IOException e) {
+			logger.severe("Problem reading activity archive " + file, e);
+		}
+	}
+
+	private static String textOf(String[] table, int idx) {
+		return (idx == NO_TEXT ? null : table[idx]);
+	}
+}
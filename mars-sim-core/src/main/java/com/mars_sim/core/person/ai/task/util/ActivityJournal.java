@@ -0,0 +1,393 @@
+/*
+ * Mars Simulation Project
+ * ActivityJournal.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.person.ai.task.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import com.mars_sim.core.data.History;
+import com.mars_sim.core.data.History.HistoryItem;
+import com.mars_sim.core.data.HistoryView;
+import com.mars_sim.core.time.MarsDate;
+import com.mars_sim.core.time.MarsTime;
+import com.mars_sim.core.time.MasterClock;
+
+/**
+ * The activities of a worker held in columns. The task and phase names come from a fixed
+ * set so each is replaced by the id of a shared copy; the description and mission are held
+ * as given as they can name places and missions. The time is held as ticks, so recording an
+ * activity does not create any objects. The {@link OneActivity} records are only created
+ * when the journal is read.
+ * When the journal is full the oldest activities are passed to the {@link ActivityArchive}
+ * if it is enabled; otherwise they are dropped.
+ */
+public class ActivityJournal implements HistoryView<OneActivity>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Flags of where the worker was. */
+	public static final int IN_VEHICLE = 1;
+	public static final int IN_SETTLEMENT = 2;
+	public static final int OUTSIDE = 4;
+
+	private static final int NO_NAME = -1;
+
+	// Shared task and phase names of all journals
+	private static final Map<String, Integer> nameIds = new ConcurrentHashMap<>();
+	private static volatile String[] names = new String[256];
+	private static int nameCount = 0;
+
+	private static MasterClock master;
+
+	private final int capacity;
+	private final Worker owner;
+	private int head = 0;
+	private int count = 0;
+
+	private long[] whens;
+	private byte[] locations;
+	private String[] descriptions;
+	private String[] missions;
+
+	// Replaced by the text when saved as the ids are not stable
+	private transient int[] tasks;
+	private transient int[] phases;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param capacity Maximum activities held in memory
+	 * @param owner Worker doing the activities
+	 */
+	public ActivityJournal(int capacity, Worker owner) {
+		this.capacity = capacity;
+		this.owner = owner;
+		whens = new long[capacity];
+		locations = new byte[capacity];
+		descriptions = new String[capacity];
+		missions = new String[capacity];
+		createIdColumns();
+	}
+
+	private void createIdColumns() {
+		tasks = new int[capacity];
+		phases = new int[capacity];
+		Arrays.fill(tasks, NO_NAME);
+		Arrays.fill(phases, NO_NAME);
+	}
+
+	/**
+	 * Gets the shared id of a task or phase name.
+	 *
+	 * @param text
+	 * @return
+	 */
+	static int intern(String text) {
+		if (text == null) {
+			return NO_NAME;
+		}
+		Integer id = nameIds.get(text);
+		if (id != null) {
+			return id;
+		}
+		synchronized (nameIds) {
+			id = nameIds.get(text);
+			if (id == null) {
+				id = nameCount;
+				String[] current = names;
+				if (id == current.length) {
+					current = Arrays.copyOf(current, id * 2);
+				}
+				current[id] = text;
+				// Publish the array before the id
+				names = current;
+				nameCount++;
+				nameIds.put(text, id);
+			}
+			return id;
+		}
+	}
+
+	/**
+	 * Gets the text of a shared id.
+	 *
+	 * @param id
+	 * @return
+	 */
+	static String nameOf(int id) {
+		return (id == NO_NAME ? null : names[id]);
+	}
+
+	/**
+	 * Converts ticks back to a time.
+	 *
+	 * @param ticks
+	 * @return
+	 */
+	static MarsTime toTime(long ticks) {
+		return master.getMarsTime().atTicks(ticks);
+	}
+
+	/**
+	 * Gets the full task name shown for an activity.
+	 *
+	 * @param task
+	 * @param location Flags of where the worker was
+	 * @return
+	 */
+	static String getTaskLabel(String task, int location) {
+		if (location == 0) {
+			return task;
+		}
+		StringBuilder label = new StringBuilder(task).append(" in");
+		if ((location & IN_VEHICLE) != 0) {
+			label.append(" V");
+		}
+		if ((location & IN_SETTLEMENT) != 0) {
+			label.append(" S");
+		}
+		if ((location & OUTSIDE) != 0) {
+			label.append(" O");
+		}
+		return label.toString();
+	}
+
+	private int slot(int index) {
+		return (head + index) % capacity;
+	}
+
+	/**
+	 * Records an activity at the current time. Follows the rules of {@link History#add(Object)}.
+	 *
+	 * @param task Name of the task
+	 * @param description
+	 * @param phase
+	 * @param mission Name of the mission; may be null
+	 * @param location Flags of where the worker is
+	 * @return Was a new activity recorded
+	 */
+	public boolean record(String task, String description, String phase, String mission,
+							int location) {
+		return record(master.getMarsTime().getTicks(), task, description, phase, mission, location);
+	}
+
+	private synchronized boolean record(long now, String task, String description, String phase,
+							String mission, int location) {
+		int taskId = intern(task);
+		int phaseId = intern(phase);
+
+		int s;
+		if (count > 0) {
+			int last = slot(count - 1);
+			if (whens[last] == now) {
+				// Time has not advanced so replace existing
+				s = last;
+			}
+			else if ((tasks[last] == taskId) && (phases[last] == phaseId)
+					&& Objects.equals(descriptions[last], description)
+					&& Objects.equals(missions[last], mission)
+					&& (locations[last] == location)) {
+				// Same activity as last time so ignore
+				return false;
+			}
+			else {
+				s = nextSlot();
+			}
+		}
+		else {
+			s = nextSlot();
+		}
+
+		whens[s] = now;
+		locations[s] = (byte) location;
+		tasks[s] = taskId;
+		descriptions[s] = description;
+		phases[s] = phaseId;
+		missions[s] = mission;
+		return true;
+	}
+
+	/**
+	 * Finds the slot for a new activity. If full then the oldest are archived or dropped.
+	 *
+	 * @return
+	 */
+	private int nextSlot() {
+		if (count == capacity) {
+			int released = 1;
+			if (ActivityArchive.isEnabled()) {
+				// Write a block at a time so the file is not touched on every activity
+				released = Math.max(1, capacity / 3);
+				archive(released);
+			}
+			head = (head + released) % capacity;
+			count -= released;
+		}
+		return slot(count++);
+	}
+
+	/**
+	 * Passes the oldest activities to the archive.
+	 *
+	 * @param number
+	 */
+	private void archive(int number) {
+		List<ActivityArchive.Entry> entries = new ArrayList<>(number);
+		for (int i = 0; i < number; i++) {
+			int s = slot(i);
+			entries.add(new ActivityArchive.Entry(whens[s], locations[s],
+									nameOf(tasks[s]), descriptions[s], nameOf(phases[s]),
+									missions[s]));
+		}
+		ActivityArchive.write(owner.getIdentifier(), entries);
+	}
+
+	/**
+	 * Copies the activities of a history, e.g. one from an older save. The location is
+	 * taken to be part of the task name.
+	 *
+	 * @param source
+	 */
+	void load(HistoryView<OneActivity> source) {
+		for (int i = 0; i < source.size(); i++) {
+			OneActivity a = source.getWhat(i);
+			record(source.getWhen(i).getTicks(), a.getTaskName(), a.getDescription(), a.getPhase(),
+					a.getMission(), 0);
+		}
+	}
+
+	@Override
+	public synchronized int size() {
+		return count;
+	}
+
+	@Override
+	public synchronized MarsTime getWhen(int index) {
+		checkRange(index);
+		int s = slot(index);
+		return toTime(whens[s]);
+	}
+
+	@Override
+	public synchronized OneActivity getWhat(int index) {
+		checkRange(index);
+		int s = slot(index);
+		return new OneActivity(getTaskLabel(nameOf(tasks[s]), locations[s]), descriptions[s],
+							nameOf(phases[s]), missions[s]);
+	}
+
+	private void checkRange(int index) {
+		if ((index < 0) || (index >= count)) {
+			throw new IndexOutOfBoundsException("Index " + index + " outside journal of " + count);
+		}
+	}
+
+	@Override
+	public synchronized List<HistoryItem<OneActivity>> getChanges() {
+		// Hold the lock so the activities do not move during the copy
+		return HistoryView.super.getChanges();
+	}
+
+	@Override
+	public synchronized List<MarsDate> getRange() {
+		return HistoryView.super.getRange();
+	}
+
+	/**
+	 * Removes all the activities held in memory.
+	 */
+	public synchronized void clear() {
+		head = 0;
+		count = 0;
+		Arrays.fill(descriptions, null);
+		Arrays.fill(missions, null);
+	}
+
+	/**
+	 * Passes the activities that have been moved to the archive to an action, oldest first.
+	 * The archive is read as the action takes the activities so it can stop part way.
+	 * Nothing is passed if the archive is disabled.
+	 *
+	 * @param action
+	 */
+	public void readArchived(Consumer<HistoryItem<OneActivity>> action) {
+		if (ActivityArchive.isEnabled()) {
+			ActivityArchive.read(owner.getIdentifier(), action);
+		}
+	}
+
+	/**
+	 * Loads up the reference to the master clock.
+	 *
+	 * @param mc
+	 */
+	public static void initializeInstances(MasterClock mc) {
+		master = mc;
+	}
+
+	/**
+	 * Saves the ids as a local table of texts.
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+
+		Map<Integer, Integer> local = new HashMap<>();
+		List<String> texts = new ArrayList<>();
+		int[][] columns = {tasks, phases};
+		int[][] saved = new int[columns.length][capacity];
+		for (int c = 0; c < columns.length; c++) {
+			for (int i = 0; i < capacity; i++) {
+				int id = columns[c][i];
+				if (id == NO_NAME) {
+					saved[c][i] = NO_NAME;
+				}
+				else {
+					saved[c][i] = local.computeIfAbsent(id, k -> {
+						texts.add(nameOf(k));
+						return texts.size() - 1;
+					});
+				}
+			}
+		}
+		out.writeObject(texts.toArray(new String[0]));
+		out.writeObject(saved);
+	}
+
+	/**
+	 * Restores the ids from the saved table of texts.
+	 *
+	 * @param in
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+
+		String[] texts = (String[]) in.readObject();
+		int[][] saved = (int[][]) in.readObject();
+		createIdColumns();
+		int[][] columns = {tasks, phases};
+		for (int c = 0; c < columns.length; c++) {
+			for (int i = 0; i < capacity; i++) {
+				int local = saved[c][i];
+				columns[c][i] = (local == NO_NAME ? NO_NAME : intern(texts[local]));
+			}
+		}
+	}
+}
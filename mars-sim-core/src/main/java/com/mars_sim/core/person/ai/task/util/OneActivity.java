@@ -26,6 +26,7 @@ public final class OneActivity implements Serializable {
 	public OneActivity(String taskName, String description, String phase, String missionName) {
 		this.taskName = taskName;
 		this.description = description;
+		this.missionName = missionName;
 		this.phase = phase;
 	}
 
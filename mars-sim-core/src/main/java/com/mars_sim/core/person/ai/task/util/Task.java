@@ -985,6 +985,30 @@ public abstract class Task implements Serializable, Comparable<Task> {
 	public double getTimeLeft() {
 		return duration - timeCompleted;
 	}
+
+	/**
+	 * Gets how long this task can be advanced in a single step. A task whose effects
+	 * simply accumulate over time, e.g. sleeping, can be given a whole pulse at once
+	 * rather than being sliced into standard pulses. Subclasses override this.
+	 * 
+	 * @return millisols; 0 if the task must be advanced in standard pulses
+	 */
+	protected double getStableTime() {
+		return 0D;
+	}
+
+	/**
+	 * Gets how long the task actually being performed, i.e. the innermost subtask,
+	 * can be advanced in a single step.
+	 * 
+	 * @return millisols; 0 if the task must be advanced in standard pulses
+	 */
+	public double getActiveStableTime() {
+		if ((subTask != null) && !subTask.isDone()) {
+			return subTask.getActiveStableTime();
+		}
+		return (done ? 0D : getStableTime());
+	}
 	
 	/**
 	 * Walks to an available activity spot for a specific task in a building.
@@ -6,6 +6,8 @@
  */
 package com.mars_sim.core.person.ai.task.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +19,8 @@ import com.mars_sim.core.UnitEventType;
 import com.mars_sim.core.data.History;
 import com.mars_sim.core.data.RatingLog;
 import com.mars_sim.core.data.RatingScore;
+import com.mars_sim.core.logging.PulseProfiler;
+import com.mars_sim.core.logging.PulseProfiler.Subsystem;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.person.ai.CacheCreator;
 import com.mars_sim.core.person.ai.mission.Mission;
@@ -38,7 +42,9 @@ public abstract class TaskManager implements Serializable {
 	/** default logger. */
 	private static final SimLogger logger = SimLogger.getLogger(TaskManager.class.getName());
 
-	/** Number of days to record Tack Activities. */	
+	/** Number of activities to record; equivalent of 3 days. */
+	private static final int MAX_ACTIVITIES = 150;
+
 	private static MasterClock master;
 
 	/**The worker **/
@@ -54,7 +60,9 @@ public abstract class TaskManager implements Serializable {
 
 
 	/** The history of tasks. */
-	private History<OneActivity> allActivities;
+	private ActivityJournal allActivities;
+	// Activities of a save made before the journal until the worker is known
+	private transient History<OneActivity> oldActivities;
 	/** The list of pending of tasks. */
 	private List<PendingTask> pendingTasks;
 	
@@ -65,7 +73,7 @@ public abstract class TaskManager implements Serializable {
 	 */
 	protected TaskManager(Worker worker) {
 		this.worker = worker;
-		allActivities = new History<>(150);   // Equivalent of 3 days
+		allActivities = new ActivityJournal(MAX_ACTIVITIES, worker);
 		pendingTasks = new CopyOnWriteArrayList<>();
 	}
 
@@ -322,24 +330,18 @@ public abstract class TaskManager implements Serializable {
 		String missionName = (mission != null ? mission.getName() : null);
 		
 		// This is temp.
-		String location = " in";
+		int location = 0;
 		if (worker.isInVehicle()) {
-			location += " V";
+			location |= ActivityJournal.IN_VEHICLE;
 		}
 		if (worker.isInSettlement()) {
-			location += " S";
+			location |= ActivityJournal.IN_SETTLEMENT;
 		}
 		if (worker.isOutside()) {
-			location += " O";
+			location |= ActivityJournal.OUTSIDE;
 		}
 
-		OneActivity newActivity = new OneActivity(
-											newTask + location,
-											newDescription,
-											newPhase, 
-											missionName);
-
-		allActivities.add(newActivity);
+		allActivities.record(newTask, newDescription, newPhase, missionName, location);
 	}
 	
 	
@@ -348,7 +350,7 @@ public abstract class TaskManager implements Serializable {
 	 * 
 	 * @return all activity schedules
 	 */
-	public History<OneActivity> getAllActivities() {
+	public ActivityJournal getAllActivities() {
 		return allActivities;
 	}
 	
@@ -442,6 +444,15 @@ public abstract class TaskManager implements Serializable {
 	 * to the manager to start working.
 	 */
 	public void startNewTask() {
+		long start = PulseProfiler.start(Subsystem.TASK);
+		selectNewTask();
+		PulseProfiler.stop(Subsystem.TASK, start);
+	}
+
+	/**
+	 * Selects the new task from the pending tasks or the task probability cache.
+	 */
+	private void selectNewTask() {
 		if (processPendingTask()) {
 			return;
 		}
@@ -503,6 +514,15 @@ public abstract class TaskManager implements Serializable {
 
 	}
 	
+	/**
+	 * Gets how long the current task can be advanced in a single step.
+	 * 
+	 * @return millisols; 0 if the task must be advanced in standard pulses
+	 */
+	public double getStableTime() {
+		return (currentTask != null ? currentTask.getActiveStableTime() : 0D);
+	}
+
 	/**
 	 * Checks to see if it's okay to replace a task.
 	 * 
@@ -703,6 +723,39 @@ public abstract class TaskManager implements Serializable {
 		if (lastTask != null)
 			lastTask.reinit();
 		this.worker = worker;
+
+		if (allActivities == null) {
+			allActivities = new ActivityJournal(MAX_ACTIVITIES, worker);
+			if (oldActivities != null) {
+				allActivities.load(oldActivities);
+				oldActivities = null;
+			}
+		}
+	}
+
+	/**
+	 * Loads the task manager. A save made before the activity journal holds the
+	 * activities as a History; they are copied into a journal once the worker is known.
+	 *
+	 * @param in
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = in.readFields();
+		currentTask = (Task) fields.get("currentTask", null);
+		currentScore = (RatingScore) fields.get("currentScore", null);
+		lastTask = (Task) fields.get("lastTask", null);
+		pendingTasks = (List<PendingTask>) fields.get("pendingTasks", null);
+
+		Object activities = fields.get("allActivities", null);
+		if (activities instanceof ActivityJournal journal) {
+			allActivities = journal;
+		}
+		else {
+			oldActivities = (History<OneActivity>) activities;
+		}
 	}
 	
 	/**
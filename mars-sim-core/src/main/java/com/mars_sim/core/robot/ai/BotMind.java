@@ -10,6 +10,8 @@ import java.io.Serializable;
 import java.util.logging.Level;
 
 import com.mars_sim.core.UnitEventType;
+import com.mars_sim.core.logging.PulseProfiler;
+import com.mars_sim.core.logging.PulseProfiler.Subsystem;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.person.ai.mission.Mission;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -104,11 +106,13 @@ public class BotMind implements Serializable, Temporal {
 			pTime = remaining;
 		}
 		while (remaining > 0) {
-			if (remaining > pTime) {
+			// A stable task is advanced in one larger step
+			double step = Math.max(pTime, Math.min(remaining, botTaskManager.getStableTime()));
+			if (remaining > step) {
 				// Call takeAction to perform a task and consume the pulse time.
-				takeAction(pTime);
+				takeAction(step);
 				// Reduce the total time by the pulse time
-				remaining -= pTime;
+				remaining -= step;
 			}
 			else {
 				// Call takeAction to perform a task and consume the pulse time.
@@ -191,7 +195,10 @@ public class BotMind implements Serializable, Temporal {
 	 */
 	private boolean resumeMission() {
 		if (robot.isFit() && !robot.getSystemCondition().isLowPower()) {
-			return mission.performMission(robot);
+			long start = PulseProfiler.start(Subsystem.MISSION);
+			boolean result = mission.performMission(robot);
+			PulseProfiler.stop(Subsystem.MISSION, start);
+			return result;
 		}
 
 		return false;
@@ -0,0 +1,248 @@
+/*
+ * Mars Simulation Project
+ * LocalAreaRegistry.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.structure;
+
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.mars_sim.core.LocalAreaUtil;
+import com.mars_sim.core.map.location.LocalBoundedObject;
+import com.mars_sim.core.map.location.LocalPosition;
+
+/**
+ * Registry of the objects that occupy space around a Settlement, i.e. the buildings,
+ * construction sites and parked vehicles. It holds a version number that is bumped
+ * whenever any of them are placed, moved or removed.
+ * The geometry of the objects is cached against the version and bucketed into a grid
+ * of square cells so collision checks only look at nearby objects.
+ * The cache is an immutable snapshot so it can be read by any thread.
+ */
+public class LocalAreaRegistry {
+
+	/** Size of a grid bucket in meters. */
+	private static final double BUCKET_SIZE = 10D;
+
+	/** Footprint of a single object. */
+	private record Obstacle(LocalBoundedObject source, Area area, Rectangle2D bounds) {}
+
+	/**
+	 * Geometry of all the objects at a specific version.
+	 */
+	private static final class Snapshot {
+		private final int version;
+		private final List<LocalBoundedObject> objects;
+		private final Obstacle[] obstacles;
+		private final int minX;
+		private final int minY;
+		private final int cols;
+		private final int rows;
+		private final int[][] buckets;
+
+		private Snapshot(int version, List<LocalBoundedObject> objects) {
+			this.version = version;
+			this.objects = Collections.unmodifiableList(objects);
+			this.obstacles = new Obstacle[objects.size()];
+
+			Rectangle2D total = null;
+			for (int i = 0; i < obstacles.length; i++) {
+				LocalBoundedObject o = objects.get(i);
+				Area a = LocalAreaUtil.getBoundedObjectArea(o);
+				obstacles[i] = new Obstacle(o, a, a.getBounds2D());
+				if (total == null) {
+					total = obstacles[i].bounds().getBounds2D();
+				}
+				else {
+					total.add(obstacles[i].bounds());
+				}
+			}
+
+			if (total == null) {
+				minX = 0;
+				minY = 0;
+				cols = 0;
+				rows = 0;
+				buckets = new int[0][];
+				return;
+			}
+
+			minX = toBucket(total.getMinX());
+			minY = toBucket(total.getMinY());
+			cols = toBucket(total.getMaxX()) - minX + 1;
+			rows = toBucket(total.getMaxY()) - minY + 1;
+
+			// Count then fill the bucket contents
+			int[] counts = new int[cols * rows];
+			for (Obstacle o : obstacles) {
+				forEachBucket(o.bounds(), b -> counts[b]++);
+			}
+			buckets = new int[cols * rows][];
+			for (int b = 0; b < buckets.length; b++) {
+				buckets[b] = new int[counts[b]];
+				counts[b] = 0;
+			}
+			for (int i = 0; i < obstacles.length; i++) {
+				final int idx = i;
+				forEachBucket(obstacles[i].bounds(), b -> buckets[b][counts[b]++] = idx);
+			}
+		}
+
+		private void forEachBucket(Rectangle2D r, java.util.function.IntConsumer action) {
+			int x0 = Math.max(toBucket(r.getMinX()) - minX, 0);
+			int x1 = Math.min(toBucket(r.getMaxX()) - minX, cols - 1);
+			int y0 = Math.max(toBucket(r.getMinY()) - minY, 0);
+			int y1 = Math.min(toBucket(r.getMaxY()) - minY, rows - 1);
+			for (int y = y0; y <= y1; y++) {
+				for (int x = x0; x <= x1; x++) {
+					action.accept((y * cols) + x);
+				}
+			}
+		}
+
+		/**
+		 * Finds the obstacles that may overlap a rectangle.
+		 */
+		private BitSet getCandidates(Rectangle2D r) {
+			BitSet result = new BitSet(obstacles.length);
+			if (cols > 0) {
+				forEachBucket(r, b -> {
+					for (int idx : buckets[b]) {
+						result.set(idx);
+					}
+				});
+			}
+			return result;
+		}
+	}
+
+	private final Settlement settlement;
+	private final AtomicInteger version = new AtomicInteger();
+	private volatile Snapshot snapshot;
+	private final ObstacleGrid obstacleGrid = new ObstacleGrid();
+
+	LocalAreaRegistry(Settlement settlement) {
+		this.settlement = settlement;
+	}
+
+	private static int toBucket(double v) {
+		return (int) Math.floor(v / BUCKET_SIZE);
+	}
+
+	/**
+	 * Something has been placed, moved or removed in the local area.
+	 */
+	public void placementChanged() {
+		version.incrementAndGet();
+	}
+
+	/**
+	 * Gets the current version of the placement of objects.
+	 *
+	 * @return
+	 */
+	public int getVersion() {
+		return version.get();
+	}
+
+	/**
+	 * Gets the up to date snapshot; rebuilding if the version has changed.
+	 */
+	private Snapshot getSnapshot() {
+		int current = version.get();
+		Snapshot s = snapshot;
+		if ((s == null) || (s.version != current)) {
+			synchronized (this) {
+				s = snapshot;
+				if ((s == null) || (s.version != current)) {
+					List<LocalBoundedObject> objects = new ArrayList<>();
+					objects.addAll(settlement.getBuildingManager().getBuildingSet());
+					var cm = settlement.getConstructionManager();
+					if (cm != null) {
+						objects.addAll(cm.getConstructionSites());
+					}
+					objects.addAll(settlement.getParkedGaragedVehicles());
+					s = new Snapshot(current, objects);
+					snapshot = s;
+				}
+			}
+		}
+		return s;
+	}
+
+	/**
+	 * Gets all the buildings, construction sites and parked vehicles.
+	 *
+	 * @return Unmodifiable list
+	 */
+	public List<LocalBoundedObject> getObjects() {
+		return getSnapshot().objects;
+	}
+
+	/**
+	 * Checks if a position is clear of every object.
+	 *
+	 * @param pos
+	 * @return
+	 */
+	public boolean isPositionCollisionFree(LocalPosition pos) {
+		Snapshot s = getSnapshot();
+		Rectangle2D point = new Rectangle2D.Double(pos.getX(), pos.getY(), 0D, 0D);
+		BitSet candidates = s.getCandidates(point);
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			if (s.obstacles[i].area().contains(pos.getX(), pos.getY())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if a path is clear of every object.
+	 *
+	 * @param exclude Object to ignore; may be null
+	 * @param path Path to check
+	 * @return
+	 */
+	public boolean isPathCollisionFree(Object exclude, Path2D path) {
+		Snapshot s = getSnapshot();
+		Rectangle2D pathBounds = path.getBounds2D();
+		BitSet candidates = s.getCandidates(pathBounds);
+
+		Area pathArea = null;
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			Obstacle o = s.obstacles[i];
+			if ((o.source() != exclude) && o.bounds().intersects(pathBounds)) {
+				if (pathArea == null) {
+					pathArea = new Area(path);
+				}
+				Area collide = new Area(pathArea);
+				collide.intersect(o.area());
+				if (!collide.isEmpty()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Finds a walking path around the objects.
+	 *
+	 * @param start
+	 * @param destination
+	 * @return Path including the start and destination; null if no path
+	 * @see ObstacleGrid#findPath(LocalPosition, LocalPosition, java.util.Collection, int)
+	 */
+	public List<LocalPosition> findPath(LocalPosition start, LocalPosition destination) {
+		Snapshot s = getSnapshot();
+		return obstacleGrid.findPath(start, destination, s.objects, s.version);
+	}
+}
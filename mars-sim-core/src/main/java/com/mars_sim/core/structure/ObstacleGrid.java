@@ -0,0 +1,517 @@
+/*
+ * Mars Simulation Project
+ * ObstacleGrid.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.structure;
+
+import java.awt.geom.Area;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mars_sim.core.LocalAreaUtil;
+import com.mars_sim.core.map.location.LocalBoundedObject;
+import com.mars_sim.core.map.location.LocalPosition;
+
+/**
+ * An occupancy grid of the obstacles in a local area, e.g. a settlement. Each cell is marked
+ * as blocked if it touches any building, construction site or vehicle.
+ * The grid is only rebuilt when the obstacles change. It supports an A* search to find a walking
+ * path around the obstacles and keeps a cache of recent paths.
+ */
+public class ObstacleGrid {
+
+	/** Default size of a cell in meters. */
+	public static final double DEFAULT_RESOLUTION = 1D;
+
+	/** Padding added around a cell so cells touching the edge of an obstacle are blocked. */
+	private static final double EDGE_TOLERANCE = 0.01D;
+	/** Number of free cells around the search area. */
+	private static final int SEARCH_MARGIN = 8;
+	/** Maximum number of cells in a search area. */
+	private static final int MAX_SEARCH_CELLS = 512 * 512;
+	/** Maximum number of paths kept in the cache. */
+	private static final int MAX_CACHED_PATHS = 256;
+
+	private static final float DIAGONAL_COST = (float) Math.sqrt(2D);
+
+	// Cache key of the absolute start and goal cells
+	private record PathKey(int sx, int sy, int gx, int gy) {}
+
+	private final double resolution;
+
+	/** Version or signature of the obstacles used to build the grid. */
+	private int obstacleVersion;
+	private boolean built = false;
+
+	// Raster of blocked cells; cell coordinates are absolute, i.e. x/resolution
+	private int rasterX;
+	private int rasterY;
+	private int rasterCols;
+	private int rasterRows;
+	private BitSet blocked = new BitSet();
+
+	@SuppressWarnings("serial")
+	private Map<PathKey, List<LocalPosition>> pathCache = new LinkedHashMap<>(16, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<PathKey, List<LocalPosition>> eldest) {
+			return size() > MAX_CACHED_PATHS;
+		}
+	};
+
+	/**
+	 * Creates a grid with the default resolution.
+	 */
+	public ObstacleGrid() {
+		this(DEFAULT_RESOLUTION);
+	}
+
+	/**
+	 * Creates a grid.
+	 *
+	 * @param resolution Size of a cell in meters
+	 */
+	public ObstacleGrid(double resolution) {
+		if (resolution <= 0D) {
+			throw new IllegalArgumentException("Resolution must be positive");
+		}
+		this.resolution = resolution;
+	}
+
+	public double getResolution() {
+		return resolution;
+	}
+
+	/**
+	 * Calculates a signature of the obstacles for callers that do not track a version.
+	 *
+	 * @param obstacles Current obstacles
+	 */
+	private static int getSignature(Collection<? extends LocalBoundedObject> obstacles) {
+		// Combined so the order of the obstacles does not matter
+		int signature = obstacles.size();
+		for (LocalBoundedObject o : obstacles) {
+			int h = Double.hashCode(o.getXLocation());
+			h = 31 * h + Double.hashCode(o.getYLocation());
+			h = 31 * h + Double.hashCode(o.getWidth());
+			h = 31 * h + Double.hashCode(o.getLength());
+			h = 31 * h + Double.hashCode(o.getFacing());
+			signature += h;
+		}
+		return signature;
+	}
+
+	/**
+	 * Checks the obstacles are still the same version as the ones in the raster; if not rebuild it.
+	 *
+	 * @param obstacles Current obstacles
+	 * @param version Version of the obstacles
+	 */
+	private void refresh(Collection<? extends LocalBoundedObject> obstacles, int version) {
+		if (!built || (version != obstacleVersion)) {
+			rebuild(obstacles);
+			obstacleVersion = version;
+			built = true;
+		}
+	}
+
+	/**
+	 * Rasterizes the obstacles.
+	 *
+	 * @param obstacles
+	 */
+	private void rebuild(Collection<? extends LocalBoundedObject> obstacles) {
+		pathCache.clear();
+		blocked.clear();
+
+		if (obstacles.isEmpty()) {
+			rasterCols = 0;
+			rasterRows = 0;
+			return;
+		}
+
+		Rectangle2D bounds = null;
+		for (LocalBoundedObject o : obstacles) {
+			Rectangle2D r = LocalAreaUtil.getBoundingRectangle(o);
+			if (bounds == null) {
+				bounds = r;
+			}
+			else {
+				bounds.add(r);
+			}
+		}
+
+		rasterX = toCell(bounds.getMinX()) - 1;
+		rasterY = toCell(bounds.getMinY()) - 1;
+		rasterCols = toCell(bounds.getMaxX()) - rasterX + 2;
+		rasterRows = toCell(bounds.getMaxY()) - rasterY + 2;
+
+		for (LocalBoundedObject o : obstacles) {
+			Area area = LocalAreaUtil.getBoundedObjectArea(o);
+			Rectangle2D r = area.getBounds2D();
+			int x0 = toCell(r.getMinX() - EDGE_TOLERANCE);
+			int x1 = toCell(r.getMaxX() + EDGE_TOLERANCE);
+			int y0 = toCell(r.getMinY() - EDGE_TOLERANCE);
+			int y1 = toCell(r.getMaxY() + EDGE_TOLERANCE);
+			for (int cy = y0; cy <= y1; cy++) {
+				for (int cx = x0; cx <= x1; cx++) {
+					if (area.intersects((cx * resolution) - EDGE_TOLERANCE, (cy * resolution) - EDGE_TOLERANCE,
+										resolution + (2 * EDGE_TOLERANCE), resolution + (2 * EDGE_TOLERANCE))) {
+						blocked.set(((cy - rasterY) * rasterCols) + (cx - rasterX));
+					}
+				}
+			}
+		}
+	}
+
+	private int toCell(double v) {
+		return (int) Math.floor(v / resolution);
+	}
+
+	private double toCenter(int cell) {
+		return (cell + 0.5D) * resolution;
+	}
+
+	/**
+	 * Is an absolute cell blocked by an obstacle.
+	 */
+	private boolean isBlocked(int cx, int cy) {
+		int rx = cx - rasterX;
+		int ry = cy - rasterY;
+		if ((rx < 0) || (ry < 0) || (rx >= rasterCols) || (ry >= rasterRows)) {
+			return false;
+		}
+		return blocked.get((ry * rasterCols) + rx);
+	}
+
+	/**
+	 * Is a position inside a blocked cell.
+	 *
+	 * @param obstacles Current obstacles
+	 * @param pos
+	 * @return
+	 */
+	public synchronized boolean isBlocked(Collection<? extends LocalBoundedObject> obstacles, LocalPosition pos) {
+		refresh(obstacles, getSignature(obstacles));
+		return isBlocked(toCell(pos.getX()), toCell(pos.getY()));
+	}
+
+	/**
+	 * Finds a path between 2 positions that avoids the obstacles.
+	 *
+	 * @param start Start position
+	 * @param destination Final position
+	 * @param obstacles The current obstacles in the area
+	 * @return List of positions including the start and destination; null if there is no path
+	 */
+	public List<LocalPosition> findPath(LocalPosition start, LocalPosition destination,
+							Collection<? extends LocalBoundedObject> obstacles) {
+		return findPath(start, destination, obstacles, getSignature(obstacles));
+	}
+
+	/**
+	 * Finds a path between 2 positions that avoids the obstacles. The grid is only rebuilt
+	 * if the version of the obstacles differs from the last call.
+	 *
+	 * @param start Start position
+	 * @param destination Final position
+	 * @param obstacles The current obstacles in the area
+	 * @param version Version of the obstacles
+	 * @return List of positions including the start and destination; null if there is no path
+	 * @see LocalAreaRegistry#getVersion()
+	 */
+	public synchronized List<LocalPosition> findPath(LocalPosition start, LocalPosition destination,
+							Collection<? extends LocalBoundedObject> obstacles, int version) {
+		refresh(obstacles, version);
+
+		int sx = toCell(start.getX());
+		int sy = toCell(start.getY());
+		int gx = toCell(destination.getX());
+		int gy = toCell(destination.getY());
+		PathKey key = new PathKey(sx, sy, gx, gy);
+
+		List<LocalPosition> waypoints = pathCache.get(key);
+		if ((waypoints == null) || !isValidCached(start, destination, waypoints)) {
+			waypoints = search(start, destination);
+			if (waypoints == null) {
+				return null;
+			}
+			pathCache.put(key, waypoints);
+		}
+
+		List<LocalPosition> result = new ArrayList<>(waypoints.size() + 2);
+		result.add(start);
+		result.addAll(waypoints);
+		result.add(destination);
+		return result;
+	}
+
+	/**
+	 * A cached path was found for another position in the same cells; check the
+	 * end segments are still clear.
+	 */
+	private boolean isValidCached(LocalPosition start, LocalPosition destination, List<LocalPosition> waypoints) {
+		LocalPosition first = (waypoints.isEmpty() ? destination : waypoints.get(0));
+		LocalPosition last = (waypoints.isEmpty() ? start : waypoints.get(waypoints.size() - 1));
+		return hasLineOfSight(start, first, start, destination)
+					&& hasLineOfSight(last, destination, start, destination);
+	}
+
+	/**
+	 * Does an A* search over the cells between 2 positions. The start and destination cells
+	 * are always passable.
+	 *
+	 * @return The intermediate waypoints; null if no path
+	 */
+	private List<LocalPosition> search(LocalPosition start, LocalPosition destination) {
+		int sx = toCell(start.getX());
+		int sy = toCell(start.getY());
+		int gx = toCell(destination.getX());
+		int gy = toCell(destination.getY());
+
+		// Search area covers the raster, start and goal
+		int minX = Math.min(sx, gx);
+		int maxX = Math.max(sx, gx);
+		int minY = Math.min(sy, gy);
+		int maxY = Math.max(sy, gy);
+		if (rasterCols > 0) {
+			minX = Math.min(minX, rasterX);
+			maxX = Math.max(maxX, rasterX + rasterCols - 1);
+			minY = Math.min(minY, rasterY);
+			maxY = Math.max(maxY, rasterY + rasterRows - 1);
+		}
+		minX -= SEARCH_MARGIN;
+		minY -= SEARCH_MARGIN;
+		int cols = maxX - minX + SEARCH_MARGIN + 1;
+		int rows = maxY - minY + SEARCH_MARGIN + 1;
+		if ((long) cols * rows > MAX_SEARCH_CELLS) {
+			return null;
+		}
+
+		int size = cols * rows;
+		int startIdx = ((sy - minY) * cols) + (sx - minX);
+		int goalIdx = ((gy - minY) * cols) + (gx - minX);
+
+		float[] gScore = new float[size];
+		Arrays.fill(gScore, Float.MAX_VALUE);
+		int[] cameFrom = new int[size];
+		BitSet closed = new BitSet(size);
+		CellHeap open = new CellHeap();
+
+		gScore[startIdx] = 0F;
+		cameFrom[startIdx] = -1;
+		open.push(startIdx, heuristic(sx, sy, gx, gy));
+
+		boolean found = false;
+		while (!open.isEmpty()) {
+			int current = open.pop();
+			if (current == goalIdx) {
+				found = true;
+				break;
+			}
+			if (closed.get(current)) {
+				continue;
+			}
+			closed.set(current);
+
+			int cx = (current % cols);
+			int cy = (current / cols);
+			for (int dy = -1; dy <= 1; dy++) {
+				for (int dx = -1; dx <= 1; dx++) {
+					int nx = cx + dx;
+					int ny = cy + dy;
+					if (((dx == 0) && (dy == 0)) || (nx < 0) || (ny < 0) || (nx >= cols) || (ny >= rows)) {
+						continue;
+					}
+					int next = (ny * cols) + nx;
+					if (closed.get(next) || !isPassable(nx + minX, ny + minY, sx, sy, gx, gy)) {
+						continue;
+					}
+					// No cutting corners of obstacles
+					if ((dx != 0) && (dy != 0)
+							&& (!isPassable(cx + dx + minX, cy + minY, sx, sy, gx, gy)
+								|| !isPassable(cx + minX, cy + dy + minY, sx, sy, gx, gy))) {
+						continue;
+					}
+
+					float tentative = gScore[current] + (((dx != 0) && (dy != 0)) ? DIAGONAL_COST : 1F);
+					if (tentative < gScore[next]) {
+						gScore[next] = tentative;
+						cameFrom[next] = current;
+						open.push(next, tentative + heuristic(nx + minX, ny + minY, gx, gy));
+					}
+				}
+			}
+		}
+
+		if (!found) {
+			return null;
+		}
+
+		// Walk back from the goal
+		List<LocalPosition> cells = new ArrayList<>();
+		for (int idx = cameFrom[goalIdx]; idx != startIdx && idx >= 0; idx = cameFrom[idx]) {
+			cells.add(new LocalPosition(toCenter((idx % cols) + minX), toCenter((idx / cols) + minY)));
+		}
+		Collections.reverse(cells);
+
+		return smooth(start, destination, cells);
+	}
+
+	/**
+	 * Removes any waypoints that can be skipped with a clear line of sight.
+	 */
+	private List<LocalPosition> smooth(LocalPosition start, LocalPosition destination, List<LocalPosition> cells) {
+		List<LocalPosition> path = new ArrayList<>(cells.size() + 2);
+		path.add(start);
+		path.addAll(cells);
+		path.add(destination);
+
+		List<LocalPosition> result = new ArrayList<>();
+		int anchor = 0;
+		while (anchor < path.size() - 1) {
+			int next = path.size() - 1;
+			while ((next > anchor + 1) && !hasLineOfSight(path.get(anchor), path.get(next), start, destination)) {
+				next--;
+			}
+			if (next < path.size() - 1) {
+				result.add(path.get(next));
+			}
+			anchor = next;
+		}
+		return result;
+	}
+
+	private boolean isPassable(int cx, int cy, int sx, int sy, int gx, int gy) {
+		return ((cx == sx) && (cy == sy)) || ((cx == gx) && (cy == gy)) || !isBlocked(cx, cy);
+	}
+
+	private static float heuristic(int x0, int y0, int x1, int y1) {
+		int dx = Math.abs(x1 - x0);
+		int dy = Math.abs(y1 - y0);
+		return (DIAGONAL_COST - 1F) * Math.min(dx, dy) + Math.max(dx, dy);
+	}
+
+	/**
+	 * Checks every cell crossed by a line is passable.
+	 */
+	private boolean hasLineOfSight(LocalPosition from, LocalPosition to, LocalPosition start, LocalPosition destination) {
+		int sx = toCell(start.getX());
+		int sy = toCell(start.getY());
+		int gx = toCell(destination.getX());
+		int gy = toCell(destination.getY());
+
+		double x0 = from.getX() / resolution;
+		double y0 = from.getY() / resolution;
+		double x1 = to.getX() / resolution;
+		double y1 = to.getY() / resolution;
+
+		int cx = (int) Math.floor(x0);
+		int cy = (int) Math.floor(y0);
+		int endX = (int) Math.floor(x1);
+		int endY = (int) Math.floor(y1);
+
+		double dx = x1 - x0;
+		double dy = y1 - y0;
+		int stepX = (dx > 0 ? 1 : -1);
+		int stepY = (dy > 0 ? 1 : -1);
+		double tDeltaX = (dx == 0 ? Double.MAX_VALUE : Math.abs(1D / dx));
+		double tDeltaY = (dy == 0 ? Double.MAX_VALUE : Math.abs(1D / dy));
+		double tMaxX = (dx == 0 ? Double.MAX_VALUE
+						: ((dx > 0 ? (cx + 1 - x0) : (x0 - cx)) * tDeltaX));
+		double tMaxY = (dy == 0 ? Double.MAX_VALUE
+						: ((dy > 0 ? (cy + 1 - y0) : (y0 - cy)) * tDeltaY));
+
+		int steps = Math.abs(endX - cx) + Math.abs(endY - cy);
+		for (int i = 0; i <= steps; i++) {
+			if (!isPassable(cx, cy, sx, sy, gx, gy)) {
+				return false;
+			}
+			if (tMaxX < tMaxY) {
+				tMaxX += tDeltaX;
+				cx += stepX;
+			}
+			else if (tMaxY < tMaxX) {
+				tMaxY += tDeltaY;
+				cy += stepY;
+			}
+			else {
+				// Passing exactly through a corner so check both side cells
+				if (!isPassable(cx + stepX, cy, sx, sy, gx, gy) || !isPassable(cx, cy + stepY, sx, sy, gx, gy)) {
+					return false;
+				}
+				tMaxX += tDeltaX;
+				tMaxY += tDeltaY;
+				cx += stepX;
+				cy += stepY;
+				i++;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Simple binary min heap of cell indexes ordered by a score. Stale entries are
+	 * skipped by the caller using the closed set.
+	 */
+	private static final class CellHeap {
+		private int[] cells = new int[64];
+		private float[] scores = new float[64];
+		private int size = 0;
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		void push(int cell, float score) {
+			if (size == cells.length) {
+				cells = Arrays.copyOf(cells, size * 2);
+				scores = Arrays.copyOf(scores, size * 2);
+			}
+			int i = size++;
+			while (i > 0) {
+				int parent = (i - 1) >>> 1;
+				if (scores[parent] <= score) {
+					break;
+				}
+				cells[i] = cells[parent];
+				scores[i] = scores[parent];
+				i = parent;
+			}
+			cells[i] = cell;
+			scores[i] = score;
+		}
+
+		int pop() {
+			int result = cells[0];
+			size--;
+			if (size > 0) {
+				int cell = cells[size];
+				float score = scores[size];
+				int i = 0;
+				int child;
+				while ((child = (2 * i) + 1) < size) {
+					if ((child + 1 < size) && (scores[child + 1] < scores[child])) {
+						child++;
+					}
+					if (score <= scores[child]) {
+						break;
+					}
+					cells[i] = cells[child];
+					scores[i] = scores[child];
+					i = child;
+				}
+				cells[i] = cell;
+				scores[i] = score;
+			}
+			return result;
+		}
+	}
+}
@@ -16,6 +16,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
@@ -53,6 +54,8 @@ import com.mars_sim.core.goods.CreditManager;
 import com.mars_sim.core.goods.GoodsManager;
 import com.mars_sim.core.goods.GoodsManager.CommerceType;
 import com.mars_sim.core.location.LocationStateType;
+import com.mars_sim.core.logging.PulseProfiler;
+import com.mars_sim.core.logging.PulseProfiler.Subsystem;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.manufacture.ManufacturingManager;
 import com.mars_sim.core.map.location.Coordinates;
@@ -71,6 +74,7 @@ import com.mars_sim.core.person.ai.role.RoleType;
 import com.mars_sim.core.person.ai.shift.ShiftManager;
 import com.mars_sim.core.person.ai.shift.ShiftPattern;
 import com.mars_sim.core.person.ai.social.Appraiser;
+import com.mars_sim.core.person.ai.social.RelationshipMatrix;
 import com.mars_sim.core.person.ai.task.Walk;
 import com.mars_sim.core.person.ai.task.util.SettlementTaskManager;
 import com.mars_sim.core.person.ai.task.util.Worker;
@@ -275,6 +279,12 @@ public class Settlement extends Unit implements Temporal,
 	private SettlementTaskManager taskManager;
 	private ScheduledEventManager futureEvents;
 	private ManufacturingManager manuManager;
+	/** The opinions held by the citizens; null if loaded from a save made before it existed. */
+	private volatile RelationshipMatrix relationshipMatrix = new RelationshipMatrix();
+	/** The buildings, construction sites and vehicles around the settlement. */
+	private transient volatile LocalAreaRegistry localArea;
+	/** The random stream used when this settlement is updated. */
+	private transient Random randomStream;
 	
 	/** The settlement objective type instance. */
 	private ObjectiveType objectiveType;
@@ -847,19 +857,33 @@ public class Settlement extends Unit implements Temporal,
 		
 		// Calls other time passings
 		futureEvents.timePassing(pulse);
+
+		long start = PulseProfiler.start(Subsystem.POWER);
 		powerGrid.timePassing(pulse);
+		PulseProfiler.stop(Subsystem.POWER, start);
+
+		start = PulseProfiler.start(Subsystem.THERMAL);
 		thermalSystem.timePassing(pulse);
+		PulseProfiler.stop(Subsystem.THERMAL, start);
+
+		start = PulseProfiler.start(Subsystem.BUILDING);
 		buildingManager.timePassing(pulse);
+		PulseProfiler.stop(Subsystem.BUILDING, start);
+
 		taskManager.timePassing();
 
 		// Update citizens
 		timePassingCitizens(pulse);
 
 		// Update vehicles
+		start = PulseProfiler.start(Subsystem.VEHICLE);
 		timePassing(pulse, ownedVehicles);
+		PulseProfiler.stop(Subsystem.VEHICLE, start);
 		
 		// Update robots
+		start = PulseProfiler.start(Subsystem.ROBOT);
 		timePassing(pulse, ownedRobots);
+		PulseProfiler.stop(Subsystem.ROBOT, start);
 	
 		if (pulse.isNewHalfSol()) {
 			// Reset the flag for water ratio review
@@ -971,7 +995,10 @@ public class Settlement extends Unit implements Temporal,
 				}
 			}
 			else {
+				// Timed per person so the histogram shows the spread across people
+				long start = PulseProfiler.start(Subsystem.PERSON);
 				p.timePassing(pulse);
+				PulseProfiler.stop(Subsystem.PERSON, start);
 			}
 		}
 
@@ -1674,6 +1701,8 @@ public class Settlement extends Unit implements Temporal,
 			// Update the numCtizens
 			numCitizens = citizens.size();
 
+			getRelationshipMatrix().addCitizen(p);
+
 			// Update mission limit dependent upon population
 			setMissionLimit(MissionLimitParameters.TOTAL_MISSIONS, 1, 5);
 			setMissionLimit(MissionType.MINING.name(), 0, 8);
@@ -1711,6 +1740,67 @@ public class Settlement extends Unit implements Temporal,
 		preferences.putValue(MissionLimitParameters.INSTANCE, id, optimalMissions);
 	}
 
+	/**
+	 * Gets the random stream of this settlement. It is derived from the master seed
+	 * and the settlement identifier so a seeded run is reproducible.
+	 *
+	 * @return
+	 */
+	public synchronized Random getRandomStream() {
+		if (randomStream == null) {
+			randomStream = RandomUtil.createStream(getIdentifier());
+		}
+		return randomStream;
+	}
+
+	/**
+	 * Gets the registry of the buildings, construction sites and vehicles
+	 * around the settlement.
+	 *
+	 * @return
+	 */
+	public LocalAreaRegistry getLocalArea() {
+		// Read on every collision check so only lock when it is created
+		var area = localArea;
+		if (area == null) {
+			synchronized (this) {
+				area = localArea;
+				if (area == null) {
+					area = new LocalAreaRegistry(this);
+					localArea = area;
+				}
+			}
+		}
+		return area;
+	}
+
+	/**
+	 * Gets the opinions held by the citizens of this settlement.
+	 *
+	 * @return
+	 */
+	public RelationshipMatrix getRelationshipMatrix() {
+		var matrix = relationshipMatrix;
+		if (matrix == null) {
+			matrix = buildRelationshipMatrix();
+		}
+		return matrix;
+	}
+
+	/**
+	 * Rebuilds the opinions of the citizens from their Relations.
+	 *
+	 * @return
+	 */
+	private synchronized RelationshipMatrix buildRelationshipMatrix() {
+		if (relationshipMatrix == null) {
+			var matrix = new RelationshipMatrix();
+			citizens.forEach(matrix::addCitizen);
+			relationshipMatrix = matrix;
+		}
+		return relationshipMatrix;
+	}
+
 	/**
 	 * Removes this person from being a legal citizen of this settlement.
 	 *
@@ -1722,6 +1812,7 @@ public class Settlement extends Unit implements Temporal,
 		if (citizens.remove(p)) {
 			
 			removePeopleWithin(p);
+			getRelationshipMatrix().removeCitizen(p);
 			// Update the numCtizens
 			numCitizens = citizens.size();
 			// Fire unit update
@@ -1831,6 +1922,7 @@ public class Settlement extends Unit implements Temporal,
 		if (vicinityParkedVehicles.add(vehicle)) {
 			// Directly update the location state type
 			vehicle.setLocationStateType(LocationStateType.SETTLEMENT_VICINITY);
+			getLocalArea().placementChanged();
 
 			fireUnitUpdate(UnitEventType.INVENTORY_STORING_UNIT_EVENT, vehicle);
 			
@@ -1851,7 +1943,9 @@ public class Settlement extends Unit implements Temporal,
 		
 		fireUnitUpdate(UnitEventType.INVENTORY_RETRIEVING_UNIT_EVENT, vehicle);
 
-		return vicinityParkedVehicles.remove(vehicle);
+		boolean removed = vicinityParkedVehicles.remove(vehicle);
+		getLocalArea().placementChanged();
+		return removed;
 	}
 
 	/**
@@ -65,6 +65,7 @@ import com.mars_sim.core.structure.building.function.Manufacture;
 import com.mars_sim.core.structure.building.function.MedicalCare;
 import com.mars_sim.core.structure.building.function.Recreation;
 import com.mars_sim.core.structure.building.function.Research;
+import com.mars_sim.core.structure.building.function.ResourceProcessNetwork;
 import com.mars_sim.core.structure.building.function.ResourceProcessing;
 import com.mars_sim.core.structure.building.function.RoboticStation;
 import com.mars_sim.core.structure.building.function.Storage;
@@ -118,6 +119,8 @@ public class BuildingManager implements Serializable {
 	private transient Map<FunctionType, Set<Building>> buildingFunctionsMap;
 	/** The settlement's map of adjacent buildings. */
 	private transient Map<Building, Set<Building>> adjacentBuildingMap = new HashMap<>();
+	/** The resource processes of all the buildings. */
+	private transient ResourceProcessNetwork processNetwork;
 	/** The settlement's maintenance parts map. */
 	private Map<Malfunctionable, Map<Integer, Integer>> partsMaint = new HashMap<>();
 	
@@ -224,6 +227,8 @@ public class BuildingManager implements Serializable {
 			oldBuilding.removeFunctionsFromSettlement();
 
 			buildings.remove(oldBuilding);
+			settlement.getLocalArea().placementChanged();
+			processesChanged();
 
 			// use this only after buildingFunctionsMap has been created
 			for (var f : oldBuilding.getFunctions()) {
@@ -323,6 +328,8 @@ public class BuildingManager implements Serializable {
 			unitManager.addUnit(newBuilding);
 
 			buildings.add(newBuilding);
+			settlement.getLocalArea().placementChanged();
+			processesChanged();
 			
 			// Insert this new building into buildingFunctionsMap
 			refreshFunctionMapForBuilding(newBuilding);
@@ -346,6 +353,17 @@ public class BuildingManager implements Serializable {
 	public void addMockBuilding(Building newBuilding) {
 		if (!buildings.contains(newBuilding)) {
 			buildings.add(newBuilding);
+			settlement.getLocalArea().placementChanged();
+			processesChanged();
+		}
+	}
+
+	/**
+	 * The resource processes have changed so the network is rebuilt on the next pulse.
+	 */
+	private void processesChanged() {
+		if (processNetwork != null) {
+			processNetwork.invalidate();
 		}
 	}
 
@@ -800,6 +818,12 @@ public class BuildingManager implements Serializable {
 				logger.severe(b, "Problem applying pulse to Building", rte);
 			}
 		}
+
+		// Run the resource processes together once every building has set its level
+		if (processNetwork == null) {
+			processNetwork = new ResourceProcessNetwork(settlement);
+		}
+		processNetwork.timePassing(pulse, buildings);
 		return true;
 	}
 
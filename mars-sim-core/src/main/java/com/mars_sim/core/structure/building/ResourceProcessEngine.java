@@ -22,7 +22,7 @@ public class ResourceProcessEngine implements Serializable {
     private int modules;
     private ResourceProcessSpec processSpec;
 
-    ResourceProcessEngine(ResourceProcessSpec processSpec, int modules) {
+    public ResourceProcessEngine(ResourceProcessSpec processSpec, int modules) {
         this.modules = modules;
         this.processSpec = processSpec;
     }
@@ -334,11 +334,7 @@ implements Lab {
 	 * @return
 	 */
 	public double getUsage(int solCache) {
-		double time = 0;
-		if (getHistory().containsKey(solCache)) {
-			time = getHistory().get(solCache);
-		}
-		return time;
+		return history.getDataValue(solCache);
 	}
 	
     /**
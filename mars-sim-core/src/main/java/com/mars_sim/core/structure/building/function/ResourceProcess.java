@@ -10,11 +10,9 @@ import java.io.Serializable;
 import java.util.Set;
 
 import com.mars_sim.core.goods.GoodsManager;
-import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.resource.ResourceUtil;
 import com.mars_sim.core.structure.Settlement;
 import com.mars_sim.core.structure.building.ResourceProcessEngine;
-import com.mars_sim.core.time.ClockPulse;
 import com.mars_sim.core.time.MarsTime;
 import com.mars_sim.core.time.MasterClock;
 import com.mars_sim.core.tool.RandomUtil;
@@ -27,8 +25,6 @@ public class ResourceProcess implements Serializable {
 
 	/** default serial id. */
 	private static final long serialVersionUID = 1L;
-	/** default logger. */
-	private static SimLogger logger = SimLogger.getLogger(ResourceProcess.class.getName());
 
 	private static final double RATE_FACTOR = 10;
 	private static final double INPUT_BIAS = 0.9;
@@ -293,123 +289,43 @@ public class ResourceProcess implements Serializable {
 	}
 
 	/**
-	 * Processes resources for a given amount of time.
+	 * Adds time to a running process and checks if it is due to be processed.
 	 *
-	 * @param pulse
-	 * @param productionLevel proportion of max process rate (0.0D - 1.0D)
-	 * @param inventory       the inventory pool to use for processes.
-	 * @throws Exception if error processing resources.
+	 * @param time Elapsed time (millisols)
+	 * @return Time to process or -1 if the process is not due or not running
 	 */
-	public void processResources(ClockPulse pulse, double productionLevel, Settlement settlement) {
-		double time = pulse.getElapsed();
-		double level = productionLevel;
-
-		if ((level < 0D) || (level > 1D) || (time < SMALL_AMOUNT))
-			return;
-
-		if (runningProcess) {
-
-			accumulatedTime += time;
-
-			double newCheckPeriod = PROCESS_CHECK_FREQUENCY * time;
-			
-			if (accumulatedTime >= newCheckPeriod) {
-				// Compute the remaining accumulatedTime
-				accumulatedTime -= newCheckPeriod;
-//				logger.info(settlement, 30_000, name + "  pulse width: " + Math.round(time * 10000.0)/10000.0 
-//						+ "  accumulatedTime: " + Math.round(accumulatedTime * 100.0)/100.0 
-//						+ "  processInterval: " + processInterval);
-	
-				double bottleneck = 1D;
-
-				// Input resources from inventory.
-				for (Integer resource : engine.getInputResources()) {
-					if (!engine.isAmbientInputResource(resource)) {
-						double fullRate = engine.getBaseFullInputRate(resource);
-						double resourceRate = fullRate * level;
-						double required = resourceRate * accumulatedTime;
-						double stored = settlement.getAmountResourceStored(resource);
-						
-						// Get resource bottleneck
-						double desiredResourceAmount = fullRate * time;
-						double proportionAvailable = 1D;
-						if (desiredResourceAmount > 0D)
-							proportionAvailable = stored / desiredResourceAmount;
-						if (bottleneck > proportionAvailable)
-							bottleneck = proportionAvailable;
-						
-						// Retrieve the right amount
-						if (stored > SMALL_AMOUNT) {
-							if (required > stored) {
-								logger.fine(settlement, 30_000, "Case A. Used up all '" + ResourceUtil.findAmountResourceName(resource)
-									+ "' input to start '" + name + "'. Required: " + Math.round(required * 1000.0)/1000.0 + " kg. Remaining: "
-									+ Math.round(stored * 1000.0)/1000.0 + " kg in storage.");
-								required = stored;
-								settlement.retrieveAmountResource(resource, required);
-								setProcessRunning(false);
-								break;
-								// Note: turn on a yellow flag and indicate which the input resource is missing
-							}
-							else
-								settlement.retrieveAmountResource(resource, required);
-							
-						}
-						else {
-							logger.fine(settlement, 30_000, "Case B. Not enough '" + ResourceUtil.findAmountResourceName(resource)
-								+ "' input to start '" + name + "'. Required: " + Math.round(required * 1000.0)/1000.0 + " kg. Remaining: "
-								+ Math.round(stored * 1000.0)/1000.0 + " kg in storage.");
-							setProcessRunning(false);
-							break;
-						}
-					}
-				}
-
-				// Set level
-				if (level > bottleneck)
-					level = bottleneck;
-				
-				// Output resources to inventory.
-				for (Integer resource : engine.getOutputResources()) {
-//					if (!engine.isWasteOutputResource(resource)) {
-						double maxRate = engine.getBaseFullOutputRate(resource);
-						double resourceRate = maxRate * level;
-						double required = resourceRate * accumulatedTime;
-						double remainingCap = settlement.getAmountResourceRemainingCapacity(resource);
-						
-						// Store the right amount
-						if (remainingCap > SMALL_AMOUNT) {
-							if (required > remainingCap) {
-								logger.fine(settlement, 30_000, "Case C. Used up all remaining space for storing '" 
-										+ ResourceUtil.findAmountResourceName(resource)
-										+ "' output in '" + name + "'. Required: " + Math.round((required - remainingCap) * 1000.0)/1000.0 
-										+ " kg of storage. Remaining cap: 0 kg.");
-								required = remainingCap;
-								settlement.storeAmountResource(resource, required);
-								setProcessRunning(false);						
-								break;
-								// Note: turn on a yellow flag and indicate which the output resource is missing
-							}
-							else
-								settlement.storeAmountResource(resource, required);
-							
-						}
-						else {
-							logger.fine(settlement, 30_000, "Case D. Not enough space for storing '" 
-									+ ResourceUtil.findAmountResourceName(resource)
-									+ "' output to continue '" + name + "'. Required: " + Math.round(required * 1000.0)/1000.0 
-									+ " kg of storage. Remaining cap: " + Math.round(remainingCap * 1000.0)/1000.0 + " kg.");
-							setProcessRunning(false);
-							break;
-						}
-//					}
-				}
-			}
+	double accumulate(double time) {
+		if (!runningProcess) {
+			return -1D;
+		}
 
-			// Set the current production level.
-			currentProductionLevel = level;
+		accumulatedTime += time;
+		double newCheckPeriod = PROCESS_CHECK_FREQUENCY * time;
+		if (accumulatedTime >= newCheckPeriod) {
+			// Compute the remaining accumulatedTime
+			accumulatedTime -= newCheckPeriod;
+			return accumulatedTime;
 		}
+		return -1D;
+	}
+
+	/**
+	 * Sets the current production level.
+	 *
+	 * @param level proportion of full production (0D - 1D)
+	 */
+	void setCurrentProductionLevel(double level) {
+		currentProductionLevel = level;
 	}
 
+	/**
+	 * Gets the engine that defines the process.
+	 *
+	 * @return
+	 */
+	ResourceProcessEngine getEngine() {
+		return engine;
+	}
 
 	/**
 	 * Gets the string value for this object.
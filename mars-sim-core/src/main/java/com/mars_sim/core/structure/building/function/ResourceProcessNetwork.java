@@ -0,0 +1,297 @@
+/*
+ * Mars Simulation Project
+ * ResourceProcessNetwork.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.structure.building.function;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.resource.ResourceUtil;
+import com.mars_sim.core.structure.Settlement;
+import com.mars_sim.core.structure.building.Building;
+import com.mars_sim.core.structure.building.ResourceProcessEngine;
+import com.mars_sim.core.time.ClockPulse;
+
+/**
+ * Runs all the resource processes of a Settlement together. The processes are compiled
+ * into a sparse matrix of input and output rates over a dense index of the resources used.
+ * A pulse reads the stock of each resource once, works out the total demand, clamps every
+ * process by the resource availability and then applies the net change of each resource
+ * in a single store or retrieve.
+ * The matrix is only rebuilt when the buildings change; stopped processes are skipped.
+ */
+public class ResourceProcessNetwork {
+
+	/** default logger. */
+	private static final SimLogger logger = SimLogger.getLogger(ResourceProcessNetwork.class.getName());
+
+	private static final double SMALL_AMOUNT = 0.000001;
+
+	private final Settlement settlement;
+
+	private boolean compiled = false;
+
+	// Dense resource index to resource id
+	private int[] resources;
+
+	// Process rows and the processor that owns them
+	private ResourceProcess[] processes;
+	private ResourceProcessor[] owners;
+
+	// Input matrix in compressed row form; ambient inputs are excluded
+	private int[] inStart;
+	private int[] inCol;
+	private double[] inRate;
+
+	// Output matrix in compressed row form
+	private int[] outStart;
+	private int[] outCol;
+	private double[] outRate;
+
+	// Working vectors per resource
+	private double[] stored;
+	private double[] demand;
+	private double[] consumed;
+	private double[] supply;
+	private double[] space;
+
+	// Working vectors per process
+	private double[] period;
+	private double[] level;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param settlement Owner of the resources
+	 */
+	public ResourceProcessNetwork(Settlement settlement) {
+		this.settlement = settlement;
+	}
+
+	/**
+	 * The buildings have changed so the network must be rebuilt.
+	 */
+	public void invalidate() {
+		compiled = false;
+	}
+
+	/**
+	 * Builds the matrix from the resource processors of the buildings.
+	 *
+	 * @param buildings
+	 */
+	private void compile(Collection<Building> buildings) {
+		List<ResourceProcess> procList = new ArrayList<>();
+		List<ResourceProcessor> ownerList = new ArrayList<>();
+		for (Building b : buildings) {
+			for (Function f : b.getFunctions()) {
+				if (f instanceof ResourceProcessor rp) {
+					for (ResourceProcess p : rp.getProcesses()) {
+						procList.add(p);
+						ownerList.add(rp);
+					}
+				}
+			}
+		}
+
+		int n = procList.size();
+		processes = procList.toArray(new ResourceProcess[n]);
+		owners = ownerList.toArray(new ResourceProcessor[n]);
+
+		Map<Integer, Integer> index = new HashMap<>();
+		List<Integer> resourceList = new ArrayList<>();
+		inStart = new int[n + 1];
+		outStart = new int[n + 1];
+		List<int[]> ins = new ArrayList<>();
+		List<int[]> outs = new ArrayList<>();
+		int inCount = 0;
+		int outCount = 0;
+		for (int p = 0; p < n; p++) {
+			ResourceProcessEngine engine = processes[p].getEngine();
+			int[] row = engine.getInputResources().stream()
+								.filter(r -> !engine.isAmbientInputResource(r))
+								.mapToInt(Integer::intValue).toArray();
+			ins.add(row);
+			inCount += row.length;
+			inStart[p + 1] = inCount;
+
+			row = engine.getOutputResources().stream().mapToInt(Integer::intValue).toArray();
+			outs.add(row);
+			outCount += row.length;
+			outStart[p + 1] = outCount;
+		}
+
+		inCol = new int[inCount];
+		inRate = new double[inCount];
+		outCol = new int[outCount];
+		outRate = new double[outCount];
+		for (int p = 0; p < n; p++) {
+			ResourceProcessEngine engine = processes[p].getEngine();
+			int k = inStart[p];
+			for (int r : ins.get(p)) {
+				inCol[k] = index.computeIfAbsent(r, i -> addResource(resourceList, i));
+				inRate[k++] = engine.getBaseFullInputRate(r);
+			}
+			k = outStart[p];
+			for (int r : outs.get(p)) {
+				outCol[k] = index.computeIfAbsent(r, i -> addResource(resourceList, i));
+				outRate[k++] = engine.getBaseFullOutputRate(r);
+			}
+		}
+
+		resources = resourceList.stream().mapToInt(Integer::intValue).toArray();
+		int m = resources.length;
+		stored = new double[m];
+		demand = new double[m];
+		consumed = new double[m];
+		supply = new double[m];
+		space = new double[m];
+		period = new double[n];
+		level = new double[n];
+
+		compiled = true;
+	}
+
+	private static int addResource(List<Integer> resourceList, int resource) {
+		resourceList.add(resource);
+		return resourceList.size() - 1;
+	}
+
+	/**
+	 * Runs the processes for a pulse. Only the processors that have been given the pulse
+	 * take part.
+	 *
+	 * @param pulse
+	 * @param buildings Buildings of the settlement
+	 */
+	public void timePassing(ClockPulse pulse, Collection<Building> buildings) {
+		double time = pulse.getElapsed();
+		if (time < SMALL_AMOUNT) {
+			return;
+		}
+		if (!compiled) {
+			compile(buildings);
+		}
+
+		// Find the processes that are due
+		boolean anyDue = false;
+		for (int p = 0; p < processes.length; p++) {
+			period[p] = -1D;
+			ResourceProcessor owner = owners[p];
+			double l = owner.getProductionLevel();
+			if (!owner.isPulsed(pulse.getId()) || (l < 0D) || (l > 1D)) {
+				continue;
+			}
+
+			period[p] = processes[p].accumulate(time);
+			level[p] = l;
+			if (period[p] >= 0D) {
+				anyDue = true;
+			}
+			else if (processes[p].isProcessRunning()) {
+				processes[p].setCurrentProductionLevel(l);
+			}
+		}
+		if (!anyDue) {
+			return;
+		}
+
+		// Read the stock once and total the demand
+		Arrays.fill(demand, 0D);
+		Arrays.fill(consumed, 0D);
+		Arrays.fill(supply, 0D);
+		for (int r = 0; r < resources.length; r++) {
+			stored[r] = settlement.getAmountResourceStored(resources[r]);
+		}
+		for (int p = 0; p < processes.length; p++) {
+			if (period[p] >= 0D) {
+				double amount = level[p] * period[p];
+				for (int k = inStart[p]; k < inStart[p + 1]; k++) {
+					demand[inCol[k]] += inRate[k] * amount;
+				}
+			}
+		}
+
+		// Clamp each process by the availability of its inputs
+		for (int p = 0; p < processes.length; p++) {
+			if (period[p] < 0D) {
+				continue;
+			}
+			double s = 1D;
+			double bottleneck = 1D;
+			int limit = -1;
+			for (int k = inStart[p]; k < inStart[p + 1]; k++) {
+				int r = inCol[k];
+				if (stored[r] <= SMALL_AMOUNT) {
+					s = 0D;
+					limit = r;
+					break;
+				}
+				if ((demand[r] > stored[r]) && (stored[r] / demand[r] < s)) {
+					s = stored[r] / demand[r];
+					limit = r;
+				}
+				double desired = inRate[k] * time;
+				if (desired > 0D) {
+					bottleneck = Math.min(bottleneck, stored[r] / desired);
+				}
+			}
+			if (limit >= 0) {
+				logger.fine(settlement, 30_000, "Not enough '" + ResourceUtil.findAmountResourceName(resources[limit])
+								+ "' input to continue '" + processes[p].getProcessName() + "'.");
+				processes[p].setProcessRunning(false);
+			}
+
+			// Inputs are taken at the production level; outputs are limited by the bottleneck
+			double amount = s * period[p] * level[p];
+			for (int k = inStart[p]; k < inStart[p + 1]; k++) {
+				consumed[inCol[k]] += inRate[k] * amount;
+			}
+			level[p] = Math.min(level[p], bottleneck);
+			amount = s * period[p] * level[p];
+			for (int k = outStart[p]; k < outStart[p + 1]; k++) {
+				supply[outCol[k]] += outRate[k] * amount;
+			}
+		}
+
+		// Outputs are limited by the space left; consumed resources free up space
+		for (int r = 0; r < resources.length; r++) {
+			space[r] = (supply[r] > 0D ?
+						settlement.getAmountResourceRemainingCapacity(resources[r]) + consumed[r] : 0D);
+		}
+		for (int p = 0; p < processes.length; p++) {
+			if (period[p] < 0D) {
+				continue;
+			}
+			for (int k = outStart[p]; k < outStart[p + 1]; k++) {
+				int r = outCol[k];
+				if ((supply[r] > SMALL_AMOUNT) && (supply[r] > space[r])) {
+					logger.fine(settlement, 30_000, "Not enough space for storing '"
+							+ ResourceUtil.findAmountResourceName(resources[r])
+							+ "' output to continue '" + processes[p].getProcessName() + "'.");
+					processes[p].setProcessRunning(false);
+					break;
+				}
+			}
+			processes[p].setCurrentProductionLevel(level[p]);
+		}
+
+		// Apply the net change of each resource
+		for (int r = 0; r < resources.length; r++) {
+			double net = Math.min(supply[r], space[r]) - consumed[r];
+			if (net > 0D) {
+				settlement.storeAmountResource(resources[r], net);
+			}
+			else if (net < 0D) {
+				settlement.retrieveAmountResource(resources[r], -net);
+			}
+		}
+	}
+}
@@ -32,6 +32,10 @@ public abstract class ResourceProcessor extends Function {
 
 	private double powerDownProcessingLevel;
 
+	private double productionLevel;
+
+	private long pulseId = -1;
+
 	private List<ResourceProcess> processes;
 
 	/**
@@ -130,7 +134,27 @@ public abstract class ResourceProcessor extends Function {
 	}
 
 	/**
-	 * Time passing for the building.
+	 * Gets the production level set by the power mode of the building.
+	 *
+	 * @return proportion of max processing rate (0D - 1D)
+	 */
+	double getProductionLevel() {
+		return productionLevel;
+	}
+
+	/**
+	 * Has this function been given a pulse? 
+	 *
+	 * @param id Pulse id
+	 * @return
+	 */
+	boolean isPulsed(long id) {
+		return pulseId == id;
+	}
+
+	/**
+	 * Time passing for the building. This only records the production level; the
+	 * processes are run by the {@link ResourceProcessNetwork} of the settlement.
 	 *
 	 * @param accumulatedTime amount of time passing (in millisols)
 	 * @throws BuildingException if error occurs.
@@ -139,16 +163,12 @@ public abstract class ResourceProcessor extends Function {
 	public boolean timePassing(ClockPulse pulse) {
 		boolean valid = isValid(pulse);
 		if (valid) {
-
-			double productionLevel = 0D;
+			productionLevel = 0D;
 			if (getBuilding().getPowerMode() == PowerMode.FULL_POWER)
 				productionLevel = 1D;
 			else if (getBuilding().getPowerMode() == PowerMode.LOW_POWER)
 				productionLevel = powerDownProcessingLevel;
-			// Run each resource process.
-			for (ResourceProcess p : processes) {
-				p.processResources(pulse, productionLevel, getBuilding().getSettlement());
-			}
+			pulseId = pulse.getId();
 		}
 		return valid;
 	}
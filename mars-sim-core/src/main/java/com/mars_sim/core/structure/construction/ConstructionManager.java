@@ -189,6 +189,7 @@ implements Serializable {
 		ConstructionSite site = new ConstructionSite(settlement);
 		sites.add(site);
     	unitManager.addUnit(site);
+		settlement.getLocalArea().placementChanged();
 
 		settlement.fireUnitUpdate(UnitEventType.START_CONSTRUCTION_SITE_EVENT, site);
 		logger.info(site, "Just created and registered in ConstructionManager.");
@@ -209,6 +210,7 @@ implements Serializable {
 	public void removeConstructionSite(ConstructionSite site) {
 		if (sites.contains(site)) {
 			sites.remove(site);
+			settlement.getLocalArea().placementChanged();
 		}
 		else throw new IllegalStateException("Construction site doesn't exist.");
 	}
@@ -122,6 +122,7 @@ public class ConstructionSite extends FixedUnit {
      */
     public void setWidth(double width) {
         this.width = width;
+        placementChanged();
     }
 
     @Override
@@ -136,6 +137,7 @@ public class ConstructionSite extends FixedUnit {
      */
     public void setLength(double length) {
         this.length = length;
+        placementChanged();
     }
 
     @Override
@@ -145,6 +147,7 @@ public class ConstructionSite extends FixedUnit {
     
 	public void setPosition(LocalPosition position2) {
 		this.position = position2;
+		placementChanged();
 	}
 	
     @Override
@@ -159,6 +162,17 @@ public class ConstructionSite extends FixedUnit {
      */
     public void setFacing(double facing) {
         this.facing = facing;
+        placementChanged();
+    }
+
+    /**
+     * The footprint of the site has changed so tell the settlement.
+     */
+    private void placementChanged() {
+        var settlement = getAssociatedSettlement();
+        if (settlement != null) {
+            settlement.getLocalArea().placementChanged();
+        }
     }
 
     /**
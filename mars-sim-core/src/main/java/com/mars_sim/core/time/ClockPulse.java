@@ -28,6 +28,8 @@ public class ClockPulse {
 	private double elapsed;
 
 	private MarsTime marsTime;
+	/** The time as ticks; worked out once for all the listeners. */
+	private long ticks;
 	private MasterClock master;
 
 	/**
@@ -52,6 +54,7 @@ public class ClockPulse {
 		this.id = id;
 		this.elapsed = elapsed;
 		this.marsTime = marsTime;
+		this.ticks = marsTime.getTicks();
 		this.master = master;
 		
 		this.isNewSol = newSol;
@@ -82,6 +85,16 @@ public class ClockPulse {
 		return marsTime;
 	}
 
+	/**
+	 * Gets the time of this pulse as ticks.
+	 * 
+	 * @return
+	 * @see MarsTime#getTicks()
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
 	/**
 	 * Gets MasterClock instance.
 	 * 
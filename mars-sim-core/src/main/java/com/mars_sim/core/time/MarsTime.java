@@ -17,6 +17,8 @@ import java.io.Serializable;
 
 /**
  * The MarsTime class keeps track of Martian time.
+ * A time can also be held as a primitive count of ticks, see {@link #getTicks()}, by
+ * anything that stores many timestamps; {@link #atTicks(long)} converts it back.
  */
 public class MarsTime implements Serializable {
 
@@ -38,6 +40,18 @@ public class MarsTime implements Serializable {
 	static final int SOLS_PER_MONTH_SHORT = 27;
 
 	private static final int SOLS_PER_ORBIT_LEAPYEAR = 669;
+
+	/** Ticks in a millisol. A tick is the primitive unit of time. */
+	public static final long TICKS_PER_MILLISOL = 1_000_000L;
+	private static final long TICKS_PER_SOL = 1000L * TICKS_PER_MILLISOL;
+
+	/**
+	 * The calendar date of a sol counted from the start of orbit 0.
+	 */
+	private record SolDate(long sol, int orbit, int month, int solOfMonth) {}
+
+	/** The last date converted; consecutive conversions are nearly always the same sol. */
+	private static volatile SolDate lastSolDate = new SolDate(0, 0, 1, 1);
 	private static final int MONTHS_PER_ORBIT = 24;
 
 	public static final int SOLS_PER_ORBIT_NON_LEAPYEAR = 668;
@@ -436,6 +450,66 @@ public class MarsTime implements Serializable {
 		return totalMillisols;
 	}
 
+	/**
+	 * Gets the time as a count of ticks since the start of orbit 0.
+	 * 
+	 * @return Ticks; see {@link #TICKS_PER_MILLISOL}
+	 */
+	public long getTicks() {
+		return Math.round(totalMillisols * TICKS_PER_MILLISOL);
+	}
+
+	/**
+	 * Gets the time at a count of ticks. This time is the reference for the mission sol
+	 * so should be from the same simulation, e.g. the current time.
+	 * 
+	 * @param ticks Ticks since the start of orbit 0
+	 * @return
+	 */
+	public MarsTime atTicks(long ticks) {
+		long sol = Math.floorDiv(ticks, TICKS_PER_SOL);
+		SolDate date = toSolDate(sol);
+		double newMillisol = (double) (ticks - sol * TICKS_PER_SOL) / TICKS_PER_MILLISOL;
+		int newMissionSol = missionSol + (int) (sol - Math.floorDiv(getTicks(), TICKS_PER_SOL));
+
+		return new MarsTime(date.orbit(), date.month(), date.solOfMonth(), newMillisol, newMissionSol);
+	}
+
+	/**
+	 * Converts a count of sols to the calendar date.
+	 * 
+	 * @param sol Sols since the start of orbit 0
+	 * @return
+	 */
+	private static SolDate toSolDate(long sol) {
+		SolDate last = lastSolDate;
+		if (last.sol() == sol) {
+			return last;
+		}
+
+		long remaining = sol;
+		int newOrbit = 0;
+		while (true) {
+			int inOrbit = (MarsTimeFormat.isLeapOrbit(newOrbit) ? SOLS_PER_ORBIT_LEAPYEAR
+									: SOLS_PER_ORBIT_NON_LEAPYEAR);
+			if (remaining < inOrbit) {
+				break;
+			}
+			remaining -= inOrbit;
+			newOrbit++;
+		}
+
+		int newMonth = 1;
+		while (remaining >= MarsTimeFormat.getSolsInMonth(newMonth, newOrbit)) {
+			remaining -= MarsTimeFormat.getSolsInMonth(newMonth, newOrbit);
+			newMonth++;
+		}
+
+		SolDate result = new SolDate(sol, newOrbit, newMonth, (int) remaining + 1);
+		lastSolDate = result;
+		return result;
+	}
+
 	/**
 	 * Returns the name of the current month.
 	 *
@@ -507,9 +581,9 @@ public class MarsTime implements Serializable {
 	 */
 	public boolean equals(Object object) {
 		boolean result = false;
-		if (object instanceof MarsTime) {
-			MarsTime otherClock = (MarsTime) object;
-			result = (totalMillisols == otherClock.totalMillisols);
+		if (object instanceof MarsTime otherClock) {
+			// Compare to the tick so a time rebuilt from its ticks is the same
+			result = (getTicks() == otherClock.getTicks());
 		}
 		return result;
 	}
@@ -520,7 +594,7 @@ public class MarsTime implements Serializable {
 	 * @return hash code.
 	 */
 	public int hashCode() {
-		return orbit * month * solOfMonth + ((int) (millisol * 1000D));
+		return Long.hashCode(getTicks());
 	}
 
 }
@@ -6,6 +6,8 @@
  */
 package com.mars_sim.core.time;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoField;
@@ -20,10 +22,14 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mars_sim.core.SimulationConfig;
 import com.mars_sim.core.SimulationRuntime;
+import com.mars_sim.core.logging.PulseProfiler;
+import com.mars_sim.core.logging.PulseProfiler.Subsystem;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.person.ai.task.util.Task;
 
@@ -87,6 +93,8 @@ public class MasterClock implements Serializable {
 	private transient boolean isPaused = false;
 	/** Flag for ending the simulation program. */
 	private transient boolean exitProgram;
+	/** The width of every pulse when pacing is disabled; zero means paced by real time. */
+	private transient double fixedPulseTime = 0D;
 	/** The last uptime in terms of number of pulses. */
 	private transient long tLast;
 	/** The thread for running the clock listeners. */
@@ -151,6 +159,8 @@ public class MasterClock implements Serializable {
 	private UpTimer uptimer;
 	/** The thread for running the game loop. */
 	private ClockThreadTask clockThreadTask;
+	/** Held for writing while the listeners apply a pulse. */
+	private transient ReentrantReadWriteLock pulseLock = new ReentrantReadWriteLock();
 
 	/**
 	 * Constructor. 
@@ -420,6 +430,31 @@ public class MasterClock implements Serializable {
 		exitProgram = true;
 	}
 
+	/**
+	 * Disables the real time pacing of the clock. The clock will run as fast as possible
+	 * using pulses of a fixed width, e.g. for benchmarking.
+	 *
+	 * @param pulseTime Width of each pulse in millisols; zero restores the real time pacing
+	 */
+	public void setFixedPulseTime(double pulseTime) {
+		if (pulseTime < 0D) {
+			throw new IllegalArgumentException("Pulse time cannot be negative");
+		}
+		this.fixedPulseTime = pulseTime;
+		if (pulseTime > 0D) {
+			Task.setStandardPulseTime(Math.min(pulseTime, MAX_PULSE_WIDTH));
+		}
+	}
+
+	/**
+	 * Is the clock running without real time pacing.
+	 *
+	 * @return
+	 */
+	public boolean isFixedPulseTime() {
+		return fixedPulseTime > 0D;
+	}
+
 	/*
 	 * Gets the total number of pulses since the start of the sim.
 	 */
@@ -588,6 +623,32 @@ public class MasterClock implements Serializable {
 		return acceptablePulse;
 	}
 
+	/**
+	 * Adds a fixed pulse of time without any pacing.
+	 */
+	private void addFixedTime() {
+		if (isPaused || !clockThreadTask.getRunning()) {
+			return;
+		}
+		if (listenerExecutor.isTerminated() || listenerExecutor.isShutdown()) {
+			resetListenerExecutor();
+		}
+
+		long earthMillisec = (long) (fixedPulseTime * MILLISECONDS_PER_MILLISOL);
+		long tnow = System.currentTimeMillis();
+		long realElapsedMillisec = tnow - tLast;
+		if (realElapsedMillisec > 0) {
+			actualTR = 0.9 * actualTR + 0.1 * earthMillisec / realElapsedMillisec;
+		}
+		uptimer.updateTime(realElapsedMillisec);
+		timestampPulseStart();
+
+		nextPulseTime = fixedPulseTime;
+		earthTime = earthTime.plus(earthMillisec, ChronoField.MILLI_OF_SECOND.getBaseUnit());
+		marsTime = marsTime.addTime(fixedPulseTime);
+		fireClockPulse(fixedPulseTime);
+	}
+
 	/**
 	 * Calculate the difference between the actualTR and the desiredTR.
 	 * 
@@ -797,6 +858,8 @@ public class MasterClock implements Serializable {
 	 * @param time
 	 */
 	private void fireClockPulse(double time) {
+		long profileStart = PulseProfiler.start(Subsystem.CLOCK);
+
 		////////////////////////////////////////////////////////////////////////////////////		
 		// NOTE: Any changes (Part 0 to Part 3) made below may need to be brought to ClockPulse's fireClockPulse()
 		////////////////////////////////////////////////////////////////////////////////////
@@ -900,8 +963,40 @@ public class MasterClock implements Serializable {
 		// Ensure that Settlements stay synch'ed and some don't get ahead of others as tasks queue
 		// May use parallelStream() after it's proven to be safe
 		if (clockListenerTasks != null) {
-			Collections.synchronizedSet(new HashSet<>(clockListenerTasks)).stream().forEach(this::executeClockListenerTask);
+			pulseLock.writeLock().lock();
+			try {
+				Collections.synchronizedSet(new HashSet<>(clockListenerTasks)).stream().forEach(this::executeClockListenerTask);
+			}
+			finally {
+				pulseLock.writeLock().unlock();
+			}
 		}
+
+		PulseProfiler.stop(Subsystem.CLOCK, profileStart);
+	}
+
+	/**
+	 * Gets the lock that the clock holds for writing while a pulse is applied. A reader
+	 * holding the read lock sees the simulation between two pulses; it also holds up the
+	 * next pulse so must be released quickly.
+	 *
+	 * @return
+	 */
+	public ReadWriteLock getPulseLock() {
+		return pulseLock;
+	}
+
+	/**
+	 * Reloads instances after loading from a saved sim.
+	 *
+	 * @param in
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+
+		pulseLock = new ReentrantReadWriteLock();
 	}
 
 	/**
@@ -1073,6 +1168,15 @@ public class MasterClock implements Serializable {
 		}
 	}
 
+	/**
+	 * Checks if the clock is still set to run pulses; it is not if it has been stopped.
+	 *
+	 * @return
+	 */
+	public boolean isRunning() {
+		return (clockThreadTask != null) && clockThreadTask.getRunning();
+	}
+
 	/**
 	 * Checks if the simulation is paused or not.
 	 *
@@ -1326,7 +1430,20 @@ public class MasterClock implements Serializable {
 		public void run() {
 			// Keep running until told not to by calling stop()
 			while (keepRunning) {
-				
+
+				if (fixedPulseTime > 0D) {
+					// No pacing so go as fast as possible
+					addFixedTime();
+					if (exitProgram) {
+						System.exit(0);
+					}
+					if (isPaused) {
+						sleepTime = NEW_SLEEP;
+						sleep();
+					}
+					continue;
+				}
+
 				long startTime = System.currentTimeMillis();
 
 				// Call addTime() to increment time in EarthClock and MarsClock
@@ -1359,13 +1476,7 @@ public class MasterClock implements Serializable {
 				
 				// If still going then wait
 				if (keepRunning && !isPaused && sleepTime > 0) {
-					// Pause the execution of this thread 
-					// and allow other threads to complete.
-					try {
-						Thread.sleep(sleepTime);
-					} catch (InterruptedException e) {
-						Thread.currentThread().interrupt();
-					}
+					sleep();
 				}
 
 				// Exit program if exitProgram flag is true.
@@ -1374,5 +1485,16 @@ public class MasterClock implements Serializable {
 				}
 			} // end of while
 		} // end of run
+
+		/**
+		 * Pauses the execution of this thread and allow other threads to complete.
+		 */
+		private void sleep() {
+			try {
+				Thread.sleep(sleepTime);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
 	}
 }
@@ -57,14 +57,6 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class RandomStringUtils {
 
-    /**
-     * <p>Random object used by random method. This has to be not local
-     * to the random method so as to not return the same value in the
-     * same millisecond.</p>
-     */
-
-	private static final Random RANDOM = RandomUtil.getRandom();
-
     /**
      * <p>{@code RandomStringUtils} instances should NOT be constructed in
      * standard programming. Instead, the class should be used as
@@ -304,7 +296,7 @@ public class RandomStringUtils {
      * @return the random string
      */
     public static String random(final int count, final int start, final int end, final boolean letters, final boolean numbers) {
-        return random(count, start, end, letters, numbers, null, RANDOM);
+        return random(count, start, end, letters, numbers, null, RandomUtil.getRandom());
     }
 
     /**
@@ -330,7 +322,7 @@ public class RandomStringUtils {
      *  {@code (end - start) + 1} characters in the set array.
      */
     public static String random(final int count, final int start, final int end, final boolean letters, final boolean numbers, final char... chars) {
-        return random(count, start, end, letters, numbers, chars, RANDOM);
+        return random(count, start, end, letters, numbers, chars, RandomUtil.getRandom());
     }
 
     /**
@@ -460,7 +452,7 @@ public class RandomStringUtils {
      */
     public static String random(final int count, final String chars) {
         if (chars == null) {
-            return random(count, 0, 0, false, false, null, RANDOM);
+            return random(count, 0, 0, false, false, null, RandomUtil.getRandom());
         }
         return random(count, chars.toCharArray());
     }
@@ -479,9 +471,9 @@ public class RandomStringUtils {
      */
     public static String random(final int count, final char... chars) {
         if (chars == null) {
-            return random(count, 0, 0, false, false, null, RANDOM);
+            return random(count, 0, 0, false, false, null, RandomUtil.getRandom());
         }
-        return random(count, 0, chars.length, false, false, chars, RANDOM);
+        return random(count, 0, chars.length, false, false, chars, RandomUtil.getRandom());
     }
 
 }
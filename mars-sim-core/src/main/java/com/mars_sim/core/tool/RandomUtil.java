@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.SplittableRandom;
 
 
 /**
@@ -37,12 +37,87 @@ public final class RandomUtil {
 	// See Mersenne Twister in JAVA 
 	// at http://www.math.sci.hiroshima-u.ac.jp/m-mat/MT/VERSIONS/JAVA/java.html
 	
-	private static final Random random = ThreadLocalRandom.current();
+	/** Master seed value meaning the simulation is not seeded and every run differs. */
+	public static final long UNSEEDED = 0L;
+
+	// Increment of the SplittableRandom family used to spread the stream seeds
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private static long masterSeed = System.nanoTime();
+
+	// Stream used when there is no active stream in the thread. Random is thread safe.
+	private static final Random globalStream = new Random(masterSeed);
+
+	// Stream of the settlement being updated by this thread
+	private static final ThreadLocal<Random> activeStream = new ThreadLocal<>();
 
 	private RandomUtil() {}
 
+	/**
+	 * Gets the random generator for the current thread. This is the stream of the active
+	 * settlement if there is one; otherwise the global stream.
+	 * 
+	 * @return
+	 */
 	public static Random getRandom() {
-		return random;
+		Random r = activeStream.get();
+		return (r != null ? r : globalStream);
+	}
+
+	/**
+	 * Sets the master seed that all the streams are derived from. This must be called before
+	 * any settlement streams are created. The same seed and the same inputs give an identical run.
+	 * 
+	 * @param seed Master seed; {@link #UNSEEDED} will pick a seed from the clock
+	 */
+	public static synchronized void setMasterSeed(long seed) {
+		masterSeed = (seed == UNSEEDED ? System.nanoTime() : seed);
+		globalStream.setSeed(mix64(masterSeed));
+	}
+
+	/**
+	 * Gets the master seed of the current run. Can be used to reproduce the run.
+	 * 
+	 * @return
+	 */
+	public static synchronized long getMasterSeed() {
+		return masterSeed;
+	}
+
+	/**
+	 * Creates an independent stream derived from the master seed. The stream is not
+	 * thread safe so it must only be used by one thread at a time, e.g. the thread
+	 * updating a settlement.
+	 * 
+	 * @param streamId Identifier of the stream, e.g. a Unit identifier
+	 * @return
+	 */
+	public static synchronized Random createStream(long streamId) {
+		long seed = mix64(masterSeed + ((streamId + 1) * GOLDEN_GAMMA));
+		return Random.from(new SplittableRandom(seed));
+	}
+
+	/**
+	 * Sets the stream used by the current thread.
+	 * 
+	 * @param stream Stream to use; null reverts to the global stream
+	 */
+	public static void setActiveStream(Random stream) {
+		if (stream == null) {
+			activeStream.remove();
+		}
+		else {
+			activeStream.set(stream);
+		}
+	}
+
+	/**
+	 * The mixing function of SplittableRandom (Stafford variant 13).
+	 */
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
 	}
 
 
@@ -85,7 +160,7 @@ public final class RandomUtil {
 	 * @return true if random percent is less than percentage limit
 	 */
 	public static boolean lessThanRandPercent(int randomLimit) {
-		int rand = random.nextInt(100) + 1;
+		int rand = getRandom().nextInt(100) + 1;
 		return rand < randomLimit;
 	}
 
@@ -96,7 +171,7 @@ public final class RandomUtil {
 	 * @return true if random percent is less than percentage limit
 	 */
 	public static boolean lessThanRandPercent(double randomLimit) {
-		double rand = random.nextDouble() * 100;
+		double rand = getRandom().nextDouble() * 100;
 		return rand < randomLimit;
 	}
 
@@ -109,7 +184,7 @@ public final class RandomUtil {
 	public static int getRandomInt(int ceiling) {
 		if (ceiling < 0)
 			throw new IllegalArgumentException(Msg.getString("RandomUtil.log.ceilingMustBePositive") + ceiling); //$NON-NLS-1$
-		return random.nextInt(ceiling + 1);
+		return getRandom().nextInt(ceiling + 1);
 	}
 
 	/**
@@ -123,7 +198,7 @@ public final class RandomUtil {
 	public static int getRandomInt(int base, int ceiling) {
 		if (ceiling < base)
 			throw new IllegalArgumentException(Msg.getString("RandomUtil.log.ceilingMustGreaterBase")); //$NON-NLS-1$
-		return random.nextInt(ceiling - base + 1) + base;
+		return getRandom().nextInt(ceiling - base + 1) + base;
 	}
 
 	/**
@@ -133,7 +208,7 @@ public final class RandomUtil {
 	 * @return the random number
 	 */
 	public static double getRandomDouble(double ceiling) {
-		return random.nextDouble() * ceiling;
+		return getRandom().nextDouble() * ceiling;
 	}
 
 	/**
@@ -146,7 +221,7 @@ public final class RandomUtil {
 		if (ceiling < base)
 			throw new IllegalArgumentException(Msg.getString("RandomUtil.log.ceilingMustGreaterBase")); //$NON-NLS-1$
 		// Note: switch from using ThreadLocalRandom.current().nextDouble(base, ceiling)
-		return (random.nextDouble() * (ceiling - base)) + base;
+		return (getRandom().nextDouble() * (ceiling - base)) + base;
 	}
 
 	/**
@@ -157,7 +232,7 @@ public final class RandomUtil {
 	 * @return the random number
 	 */
 	public static double getGaussianDouble() {
-		return random.nextGaussian();
+		return getRandom().nextGaussian();
 	}
 
 	/**
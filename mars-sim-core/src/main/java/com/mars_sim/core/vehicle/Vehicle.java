@@ -6,6 +6,8 @@
  */
 package com.mars_sim.core.vehicle;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -21,7 +23,7 @@ import com.mars_sim.core.Unit;
 import com.mars_sim.core.UnitEventType;
 import com.mars_sim.core.UnitType;
 import com.mars_sim.core.data.History;
-import com.mars_sim.core.data.MSolDataLogger;
+import com.mars_sim.core.data.SolTimeSeries;
 import com.mars_sim.core.data.UnitSet;
 import com.mars_sim.core.environment.MarsSurface;
 import com.mars_sim.core.equipment.Container;
@@ -84,6 +86,8 @@ public abstract class Vehicle extends AbstractMobileUnit
 	private static final SimLogger logger = SimLogger.getLogger(Vehicle.class.getName());
 	
 	private static final int MAX_NUM_SOLS = 14;
+	/** Road samples kept per sol; the averages still cover every sample. */
+	private static final int MAX_ROAD_SAMPLES = 50;
 	
 	private static final double MAXIMUM_RANGE = 10_000;
 	
@@ -187,9 +191,9 @@ public abstract class Vehicle extends AbstractMobileUnit
 	/** The vehicle's status log. */
 	private History<Set<StatusType>> vehicleLog = new History<>(40);
 	/** The vehicle's road speed history. */
-	private MSolDataLogger<Integer> roadSpeedHistory = new MSolDataLogger<>(MAX_NUM_SOLS);
+	private SolTimeSeries roadSpeedSamples = new SolTimeSeries(MAX_NUM_SOLS, MAX_ROAD_SAMPLES, 1);
 	/** The vehicle's road power history. */	
-	private MSolDataLogger<Integer> roadPowerHistory = new MSolDataLogger<>(MAX_NUM_SOLS);
+	private SolTimeSeries roadPowerSamples = new SolTimeSeries(MAX_NUM_SOLS, MAX_ROAD_SAMPLES, 1);
 
 	private LoadingController loadingController;
 	
@@ -398,6 +402,7 @@ public abstract class Vehicle extends AbstractMobileUnit
 		// Set new parked location for the vehicle.
 		setPosition(position);
 		this.facingParked = facing;
+		placementChanged();
 		
 		// Get current human crew positions relative to the vehicle.
 		Map<Person, LocalPosition> currentCrewPositions = getCurrentCrewPositions();
@@ -423,6 +428,17 @@ public abstract class Vehicle extends AbstractMobileUnit
 		// Set new parked location for the flyer.
 		setPosition(position);
 		this.facingParked = facing;
+		placementChanged();
+	}
+
+	/**
+	 * The parked footprint has changed so tell the settlement.
+	 */
+	private void placementChanged() {
+		Settlement settlement = getSettlement();
+		if (settlement != null) {
+			settlement.getLocalArea().placementChanged();
+		}
 	}
 	
 	/**
@@ -871,7 +887,7 @@ public abstract class Vehicle extends AbstractMobileUnit
 	 * @return
 	 */
 	public void setAverageRoadLoadSpeed(int value) {
-		roadSpeedHistory.addDataPoint(value);
+		roadSpeedSamples.addSample(value);
 	}
 	
 	/**
@@ -880,7 +896,7 @@ public abstract class Vehicle extends AbstractMobileUnit
 	 * @return
 	 */
 	public void setAverageRoadLoadPower(int value) {
-		roadPowerHistory.addDataPoint(value);
+		roadPowerSamples.addSample(value);
 	}
 	
 	/**
@@ -889,7 +905,7 @@ public abstract class Vehicle extends AbstractMobileUnit
 	 * @return
 	 */
 	public double getRoadPowerHistoryAverage() {
-		return roadPowerHistory.getAverageDouble();
+		return Math.max(0D, roadPowerSamples.getAverage(0, MAX_NUM_SOLS));
 	}
 	
 	/**
@@ -898,7 +914,7 @@ public abstract class Vehicle extends AbstractMobileUnit
 	 * @return
 	 */
 	public double getRoadSpeedHistoryAverage() {
-		return roadSpeedHistory.getAverageDouble();
+		return Math.max(0D, roadSpeedSamples.getAverage(0, MAX_NUM_SOLS));
 	}
 	
 	/**
@@ -2372,6 +2388,23 @@ public abstract class Vehicle extends AbstractMobileUnit
 				&& this.getIdentifier() == v.getIdentifier();
 	}
 
+	/**
+	 * Loads the vehicle. A save made before the road samples were kept as a time
+	 * series has none, so sampling starts again.
+	 *
+	 * @param in
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+
+		if (roadSpeedSamples == null) {
+			roadSpeedSamples = new SolTimeSeries(MAX_NUM_SOLS, MAX_ROAD_SAMPLES, 1);
+			roadPowerSamples = new SolTimeSeries(MAX_NUM_SOLS, MAX_ROAD_SAMPLES, 1);
+		}
+	}
+
 	/**
 	 * Gets the hash code value.
 	 *
@@ -91,4 +91,21 @@ public class HistoryTest extends AbstractMarsSimUnitTest {
         assertEquals("Last time", firstTime, changes.get(0).getWhen());
         assertEquals("Last value", Integer.valueOf(1), changes.get(0).getWhat());
     }
+
+    public void testMaxItems() {
+        History<Integer> h = new History<>(3);
+        MasterClock master = sim.getMasterClock();
+
+        for (int i = 1; i <= 5; i++) {
+            master.setMarsTime(master.getMarsTime().addTime(10));
+            h.add(i);
+        }
+
+        List<HistoryItem<Integer>> changes = h.getChanges();
+        assertEquals("History size", 3, changes.size());
+        assertEquals("Oldest value", Integer.valueOf(3), changes.get(0).getWhat());
+        assertEquals("Newest value", Integer.valueOf(5), changes.get(2).getWhat());
+        assertEquals("Newest by index", Integer.valueOf(5), h.getWhat(2));
+        assertTrue("Times in order", changes.get(0).getWhen().getTimeDiff(changes.get(2).getWhen()) < 0);
+    }
 }
@@ -0,0 +1,79 @@
+package com.mars_sim.core.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import com.mars_sim.core.time.MarsTime;
+
+class SolTimeSeriesTest {
+
+    private static void setTime(int missionSol, int msol) {
+        DataLogger.changeTime(new MarsTime(1, 1, missionSol, msol, missionSol));
+    }
+
+    @Test
+    void testSamples() {
+        var series = new SolTimeSeries(3, 2, 2);
+
+        setTime(1, 100);
+        series.startSample();
+        series.setValue(0, 10D);
+        series.setValue(1, -1D);
+        setTime(1, 200);
+        series.startSample();
+        series.setValue(0, 20D);
+        series.setValue(1, -2D);
+
+        assertEquals(2, series.getSampleCount(1), "Samples on sol 1");
+        assertEquals(200, series.getMsol(1, 1), "Msol of 2nd sample");
+        assertEquals(-2D, series.getValue(1, 1, 1), "Value of 2nd sample");
+
+        // Sample over the limit is only counted in the aggregates
+        setTime(1, 300);
+        series.startSample();
+        series.setValue(0, 30D);
+        series.setValue(1, -3D);
+        assertEquals(2, series.getSampleCount(1), "Samples retained on sol 1");
+        assertEquals(20D, series.getAverage(0, 1), "Average of sol 1");
+        assertEquals(30D, series.getMax(0, 1), "Max of sol 1");
+        assertEquals(-3D, series.getMin(1, 1), "Min of sol 1");
+    }
+
+    @Test
+    void testRolling() {
+        var series = new SolTimeSeries(3, 10, 1);
+
+        for (int sol = 1; sol <= 5; sol++) {
+            setTime(sol, 0);
+            series.addSample(sol);
+            series.addSample(sol * 10D);
+        }
+
+        assertEquals(5, series.getLatestSol(), "Latest sol");
+        assertEquals(0, series.getSampleCount(2), "Sol 2 dropped");
+        assertEquals(2, series.getSampleCount(3), "Sol 3 retained");
+        assertEquals(5D, series.getMin(0, 1), "Min of latest sol");
+        assertEquals(3D, series.getMin(0, 5), "Min of retained sols");
+        assertEquals(50D, series.getMax(0, 3), "Max of retained sols");
+        assertEquals((4 + 40 + 5 + 50) / 4D, series.getAverage(0, 2), "Average of 2 sols");
+    }
+
+    @Test
+    void testDataLoggerRing() {
+        var logger = new SolSingleMetricDataLogger(3);
+
+        for (int sol = 1; sol <= 5; sol++) {
+            setTime(sol, 500);
+            logger.increaseDataPoint((double) sol);
+        }
+
+        var history = logger.getHistory();
+        assertEquals(3, history.size(), "Sols retained");
+        assertEquals(3D, history.get(3).doubleValue(), "Oldest sol");
+        assertNull(logger.getSolData(2), "Dropped sol");
+        assertEquals(4D, logger.getYestersolData().doubleValue(), "Yestersol");
+        assertEquals(5D, logger.getTodayDataValue(), "Today");
+    }
+}
@@ -161,4 +161,43 @@ public class EquipmentInventoryTest extends AbstractMarsSimUnitTest {
 		inv.storeAmountResource(resource2, CAPACITY_AMOUNT/4);
 		assertEquals("Total mass after combined load", (CAPACITY_AMOUNT/2 + CAPACITY_AMOUNT/4), inv.getStoredMass());
 	}
+
+	/*
+	 * Test the container lookups follow changes to the containers.
+	 */
+	public void testContainerIndex() {
+		EquipmentInventory inv = new EquipmentInventory(settlement, CAPACITY_AMOUNT);
+		int rock = ResourceUtil.rockSamplesID;
+
+		Equipment bag = EquipmentFactory.createEquipment(EquipmentType.BAG, settlement);
+		Equipment box = EquipmentFactory.createEquipment(EquipmentType.SPECIMEN_BOX, settlement);
+		inv.addEquipment(bag);
+		inv.addEquipment(box);
+
+		assertEquals("Bags", 1, inv.findNumContainersOfType(EquipmentType.BAG));
+		assertEquals("Empty boxes", 1, inv.findNumEmptyContainersOfType(EquipmentType.SPECIMEN_BOX, false));
+		assertEquals("Empty box found", box, inv.findContainer(EquipmentType.SPECIMEN_BOX, true, rock));
+
+		// Filling the box takes it off the empty list
+		((Container)box).storeAmountResource(rock, 1D);
+		assertEquals("Empty boxes after fill", 0, inv.findNumEmptyContainersOfType(EquipmentType.SPECIMEN_BOX, false));
+		assertNull("No empty box", inv.findContainer(EquipmentType.SPECIMEN_BOX, true, rock));
+		assertEquals("Box holding rock", box, inv.findContainer(EquipmentType.SPECIMEN_BOX, false, rock));
+
+		// Reusable box is free again once emptied
+		((Container)box).retrieveAmountResource(rock, 1D);
+		assertEquals("Empty boxes after emptying", 1, inv.findNumEmptyContainersOfType(EquipmentType.SPECIMEN_BOX, false));
+
+		// Owner lookups
+		var person = buildPerson("Owner", settlement);
+		assertEquals("New bags", 1, inv.findNumEmptyContainersOfType(EquipmentType.BAG, true));
+		bag.setRegisteredOwner(person);
+		assertEquals("New bags after owned", 0, inv.findNumEmptyContainersOfType(EquipmentType.BAG, true));
+		assertEquals("Owned bag", bag, inv.findOwnedContainer(EquipmentType.BAG, person.getIdentifier(), rock));
+
+		// Removed containers are no longer found
+		inv.removeEquipment(bag);
+		assertNull("Removed bag", inv.findOwnedContainer(EquipmentType.BAG, person.getIdentifier(), rock));
+		assertEquals("Bags after remove", 0, inv.findNumContainersOfType(EquipmentType.BAG));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.mars_sim.core.events;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+import com.mars_sim.core.Unit;
+import com.mars_sim.core.person.EventType;
+import com.mars_sim.core.time.MarsTime;
+
+public class EventStoreTest extends AbstractMarsSimUnitTest {
+
+    private static final String[] TOWNS = {"Alpha", "Beta"};
+    private static final HistoricalEventCategory[] CATEGORIES = {HistoricalEventCategory.MEDICAL,
+                            HistoricalEventCategory.MALFUNCTION, HistoricalEventCategory.HAZARD};
+
+    private EventStore createStore() {
+        var clock = sim.getMasterClock();
+        return new EventStore(t -> clock.getMarsTime().atTicks(t), unitManager::getUnitByID);
+    }
+
+    /**
+     * Adds events one millisol apart. The category and town cycle through the choices.
+     */
+    private MarsTime addEvents(EventStore store, int count, Unit entity) {
+        var time = sim.getMasterClock().getMarsTime();
+        for (int i = 0; i < count; i++) {
+            time = time.addTime(1D);
+            store.add(new ArchivedEvent(CATEGORIES[i % CATEGORIES.length], EventType.HAZARD_ACTS_OF_GOD,
+                            "Source " + i, "Cause " + i, "Working", "Worker", ((i % 10) == 0 ? entity : null),
+                            TOWNS[i % TOWNS.length], "Here", time));
+        }
+        return time;
+    }
+
+    public void testMemoryOnly() {
+        var store = createStore();
+        int held = EventStore.SEGMENT_SIZE * EventStore.MEMORY_SEGMENTS;
+        addEvents(store, held + 1, null);
+
+        // Oldest segment dropped to make room for a new one
+        int expected = held - EventStore.SEGMENT_SIZE + 1;
+        assertEquals("Events held", expected, store.size());
+        var events = store.getInMemory();
+        assertEquals("In memory", expected, events.size());
+        assertEquals("Oldest", "Cause " + EventStore.SEGMENT_SIZE, events.get(0).getWhatCause());
+
+        var latest = store.getLatest(3);
+        assertEquals("Latest", "Cause " + held, latest.get(0).getWhatCause());
+        assertEquals("Latest size", 3, latest.size());
+    }
+
+    public void testArchive() throws IOException {
+        var s = buildSettlement();
+        var store = createStore();
+        File dir = Files.createTempDirectory("events").toFile();
+        store.setDirectory(dir);
+        try {
+            int total = EventStore.SEGMENT_SIZE * (EventStore.MEMORY_SEGMENTS + 2);
+            var last = addEvents(store, total, s);
+            store.flush();
+            assertEquals("Nothing dropped", total, store.size());
+            assertEquals("In memory", EventStore.SEGMENT_SIZE * EventStore.MEMORY_SEGMENTS,
+                            store.getInMemory().size());
+
+            // Every event
+            var all = store.query(EventQuery.all());
+            assertEquals("All events", total, all.size());
+            assertEquals("Newest first", "Cause " + (total - 1), all.get(0).getWhatCause());
+            assertEquals("Oldest from archive", "Cause 0", all.get(total - 1).getWhatCause());
+            assertEquals("Archived source", "Source 0", all.get(total - 1).getSource());
+            assertEquals("Archived time", 0D,
+                            all.get(total - 1).getTimestamp().getTimeDiff(last.addTime(1D - total)), 0.001D);
+
+            // Indexes
+            var medical = store.query(EventQuery.all().withCategory(HistoricalEventCategory.MEDICAL)
+                                        .withSettlement(TOWNS[0]));
+            assertEquals("Medical in Alpha", (total + 5) / 6, medical.size());
+            assertTrue("Only medical", medical.stream()
+                                .allMatch(e -> e.getCategory() == HistoricalEventCategory.MEDICAL
+                                            && e.getHomeTown().equals(TOWNS[0])));
+
+            var byUnit = store.query(EventQuery.all().withUnit(s));
+            assertEquals("By unit", total / 10 + 1, byUnit.size());
+            assertEquals("Archived unit", s, byUnit.get(byUnit.size() - 1).getEntity());
+
+            // Time range that only covers archived events
+            var range = store.query(EventQuery.all().between(last.addTime(0.5D - total + 10),
+                                        last.addTime(1.5D - total + 19)));
+            assertEquals("Range", 10, range.size());
+            assertEquals("Range start", "Cause 19", range.get(0).getWhatCause());
+
+            assertEquals("Limit", 5, store.query(EventQuery.all().limit(5)).size());
+        }
+        finally {
+            store.close();
+            assertEquals("Archive removed", 0, dir.list().length);
+            dir.delete();
+        }
+    }
+
+    public void testSharedDirectory() throws IOException {
+        var first = createStore();
+        var second = createStore();
+        File dir = Files.createTempDirectory("events").toFile();
+        first.setDirectory(dir);
+        second.setDirectory(dir);
+        try {
+            int total = EventStore.SEGMENT_SIZE * (EventStore.MEMORY_SEGMENTS + 1);
+            addEvents(first, total, null);
+            addEvents(second, total, null);
+            first.flush();
+            second.flush();
+            assertEquals("Folder per store", 2, dir.list().length);
+
+            // Closing one store leaves the other alone
+            first.close();
+            assertEquals("Other folder kept", 1, dir.list().length);
+            assertEquals("Other archive readable", total, second.query(EventQuery.all()).size());
+        }
+        finally {
+            first.close();
+            second.close();
+            dir.delete();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.mars_sim.core.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PulseHistogramTest {
+
+    private static void assertNear(long expected, long actual, String message) {
+        assertTrue(Math.abs(expected - actual) <= expected * 0.07D,
+                        message + " expected " + expected + " was " + actual);
+    }
+
+    @Test
+    void testBuckets() {
+        // Every bucket holds the values that map to it
+        for (long v : new long[] {0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int b = PulseHistogram.bucketOf(v);
+            assertTrue(PulseHistogram.lowestOf(b) <= v, "Lowest of bucket for " + v);
+            if (v < Long.MAX_VALUE / 2) {
+                assertTrue(PulseHistogram.lowestOf(b + 1) > v, "Next bucket above " + v);
+            }
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        var h = new PulseHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            h.record(i * 1000L);
+        }
+
+        assertEquals(10_000, h.getCount(), "Count");
+        assertEquals(10_000_000L, h.getMax(), "Max");
+        assertNear(5_000_000L, h.getValueAtPercentile(50D), "Median");
+        assertNear(9_900_000L, h.getValueAtPercentile(99D), "99th percentile");
+        assertEquals(10_000_000L, h.getValueAtPercentile(100D), "100th percentile");
+
+        h.reset();
+        assertEquals(0, h.getCount(), "Count after reset");
+        assertEquals(0L, h.getValueAtPercentile(50D), "Empty median");
+    }
+}
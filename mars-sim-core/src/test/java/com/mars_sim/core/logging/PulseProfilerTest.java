@@ -0,0 +1,112 @@
+package com.mars_sim.core.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mars_sim.core.logging.PulseProfiler.Subsystem;
+
+class PulseProfilerTest {
+
+    /** Keeps the allocations alive so they are not optimised away. */
+    private static byte[] sink;
+
+    @BeforeEach
+    void setUp() {
+        PulseProfiler.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        PulseProfiler.setEnabled(false);
+        PulseProfiler.setAllocationTracking(false);
+        PulseProfiler.reset();
+    }
+
+    private static void time(Subsystem s, String source, long sleepMs) throws InterruptedException {
+        long start = PulseProfiler.start(s);
+        Thread.sleep(sleepMs);
+        if (source == null) {
+            PulseProfiler.stop(s, start);
+        }
+        else {
+            PulseProfiler.stop(s, start, source);
+        }
+    }
+
+    @Test
+    void testDisabled() throws InterruptedException {
+        PulseProfiler.setEnabled(false);
+        assertEquals(0L, PulseProfiler.start(Subsystem.TASK), "No marker when disabled");
+
+        time(Subsystem.TASK, null, 1);
+        assertEquals(0L, PulseProfiler.getSample(Subsystem.TASK).calls(), "Nothing recorded");
+        assertTrue(PulseProfiler.getTopSubsystems(5).isEmpty(), "No top subsystems");
+    }
+
+    @Test
+    void testSubsystem() throws InterruptedException {
+        PulseProfiler.setEnabled(true);
+        for (int i = 0; i < 3; i++) {
+            time(Subsystem.TASK, null, 2);
+        }
+
+        var sample = PulseProfiler.getSample(Subsystem.TASK);
+        assertEquals("TASK", sample.name(), "Name");
+        assertEquals(3L, sample.calls(), "Calls");
+        assertTrue(sample.getMillis() >= 6D, "Total time");
+        assertTrue(sample.getMeanMicros() >= 2000D, "Mean time");
+        assertTrue(sample.maxNanos() >= sample.p50Nanos(), "Max above median");
+        assertEquals(0L, PulseProfiler.getSample(Subsystem.PERSON).calls(), "Other subsystem untouched");
+
+        var top = PulseProfiler.getTopSubsystems(5);
+        assertEquals(1, top.size(), "Only used subsystems");
+        assertEquals("TASK", top.get(0).name(), "Top subsystem");
+        assertEquals(Subsystem.values().length, PulseProfiler.getSamples().size(), "Sample per subsystem");
+    }
+
+    @Test
+    void testSources() throws InterruptedException {
+        PulseProfiler.setEnabled(true);
+        time(Subsystem.SETTLEMENT, "Alpha", 1);
+        time(Subsystem.SETTLEMENT, "Alpha", 1);
+        time(Subsystem.SETTLEMENT, "Beta", 30);
+
+        assertEquals(3L, PulseProfiler.getSample(Subsystem.SETTLEMENT).calls(), "Subsystem has every call");
+
+        var top = PulseProfiler.getTopSources(5);
+        assertEquals(2, top.size(), "Sources");
+        assertEquals("Beta", top.get(0).name(), "Slowest source first");
+        assertEquals(2L, top.get(1).calls(), "Calls of source");
+        assertEquals(1, PulseProfiler.getTopSources(1).size(), "Limited");
+    }
+
+    @Test
+    void testReset() throws InterruptedException {
+        PulseProfiler.setEnabled(true);
+        time(Subsystem.VEHICLE, "Alpha", 1);
+
+        PulseProfiler.reset();
+        assertEquals(0L, PulseProfiler.getSample(Subsystem.VEHICLE).calls(), "Subsystem cleared");
+        assertTrue(PulseProfiler.getTopSources(5).isEmpty(), "Sources cleared");
+    }
+
+    @Test
+    void testAllocation() {
+        PulseProfiler.setEnabled(true);
+        PulseProfiler.setAllocationTracking(true);
+        if (!PulseProfiler.isAllocationTracking()) {
+            // JVM cannot count allocations
+            return;
+        }
+
+        long start = PulseProfiler.start(Subsystem.GOODS);
+        sink = new byte[1024 * 1024];
+        PulseProfiler.stop(Subsystem.GOODS, start);
+
+        assertTrue(PulseProfiler.getSample(Subsystem.GOODS).allocatedBytes() >= sink.length, "Allocation counted");
+    }
+}
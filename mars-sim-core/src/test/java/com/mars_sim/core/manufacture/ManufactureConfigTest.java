@@ -114,7 +114,29 @@ public class ManufactureConfigTest {
         assertEquals("Antenna expected outputs", expectedOutputs, process.getOutputList());
     }
 
-    
+    @Test
+    void testCatalog() {
+        var conf = getManufactureConfig();
+        var catalog = conf.getCatalog();
+
+        // Index by tech and skill matches a scan of the tech level
+        for(int skill = 0; skill <= 5; skill++) {
+            final int s = skill;
+            var expected = conf.getManufactureProcessesForTechLevel(2).stream()
+                                .filter(p -> p.getSkillLevelRequired() <= s)
+                                .toList();
+            var found = catalog.getProcessesForTechSkillLevel(2, skill);
+            assertEquals("Processes for skill " + skill, expected.size(), found.size());
+            assertTrue("Same processes for skill " + skill, found.containsAll(expected));
+        }
+
+        // Index by output matches a scan of all processes
+        var all = conf.getManufactureProcessList();
+        var expectedOutput = all.stream().filter(p -> p.isOutput("radio antenna")).toList();
+        assertEquals("Processes with output", expectedOutput, catalog.getProcessesWithOutput("Radio Antenna"));
+        assertTrue("No processes", catalog.getProcessesWithOutput("non-existent").isEmpty());
+    }
+
     public static ProcessItem createPart(String name, double amount) {
         int id = ItemResourceUtil.findIDbyItemResourceName(name);
         return new ProcessItem(id, name, ItemType.PART, amount);
@@ -0,0 +1,57 @@
+package com.mars_sim.core.map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class IntegerMapDataTest {
+
+    private static final int WIDTH = 1200;
+    private static final int HEIGHT = 600;
+    private static final int BOX_WIDTH = 301;
+    private static final int BOX_HEIGHT = 200;
+
+    private static int[] createPixels() {
+        int[] pixels = new int[WIDTH * HEIGHT];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = 0xff000000 | ((i * 40503) & 0xffffff);
+        }
+        return pixels;
+    }
+
+    private static void assertSameAsReference(int[] pixels, MapTiles tiles, double phi, double theta,
+                                              double rho, String view) {
+        int[] expected = new int[BOX_WIDTH * BOX_HEIGHT];
+        int[] actual = new int[BOX_WIDTH * BOX_HEIGHT];
+
+        IntegerMapData.cpu0(pixels, WIDTH, phi, theta, BOX_WIDTH, BOX_HEIGHT, rho, expected);
+        IntegerMapData.cpu(tiles, 0, phi, theta, BOX_WIDTH, BOX_HEIGHT, rho, actual);
+        assertArrayEquals(expected, actual, view);
+    }
+
+    @Test
+    void testFullResolution() {
+        int[] pixels = createPixels();
+        var tiles = new MapTiles(pixels, WIDTH, new MapTileCache(MapTileCache.DEFAULT_BUDGET));
+        double rho = HEIGHT / Math.PI;
+
+        assertSameAsReference(pixels, tiles, Math.PI / 3D, Math.PI / 4D, rho, "Default view");
+        assertSameAsReference(pixels, tiles, Math.PI / 2D, 0D, rho, "Prime meridian");
+        assertSameAsReference(pixels, tiles, Math.PI / 2D, 2D * Math.PI - 0.01, rho, "Wraps around");
+        assertSameAsReference(pixels, tiles, 0.05, Math.PI, rho, "North pole");
+        assertSameAsReference(pixels, tiles, Math.PI - 0.05, Math.PI, rho, "South pole");
+        assertSameAsReference(pixels, tiles, 1.2, 4.5, rho * 4D, "Zoomed in");
+    }
+
+    @Test
+    void testZoomedOut() {
+        int[] pixels = createPixels();
+        var tiles = new MapTiles(pixels, WIDTH, new MapTileCache(MapTileCache.DEFAULT_BUDGET));
+        double rho = HEIGHT / Math.PI / 4D;
+
+        // Zoomed out reads a smaller level so only level 0 matches the reference
+        assertTrue(tiles.chooseLevel(rho) > 0, "Smaller level chosen");
+        assertSameAsReference(pixels, tiles, Math.PI / 3D, Math.PI / 4D, rho, "Zoomed out at level 0");
+    }
+}
@@ -0,0 +1,86 @@
+package com.mars_sim.core.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class MapTilesTest {
+
+    private static final int WIDTH = 600;
+    private static final int HEIGHT = 300;
+
+    private static int[] createPixels() {
+        int[] pixels = new int[WIDTH * HEIGHT];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = 0xff000000 | ((i * 40503) & 0xffffff);
+        }
+        return pixels;
+    }
+
+    @Test
+    void testLevelZero() {
+        int[] pixels = createPixels();
+        var tiles = new MapTiles(pixels, WIDTH, new MapTileCache(MapTileCache.DEFAULT_BUDGET));
+
+        var reader = tiles.reader(0);
+        for (int row = 0; row < HEIGHT; row += 7) {
+            for (int col = 0; col < WIDTH; col += 5) {
+                assertEquals(pixels[(row * WIDTH) + col], reader.get(row, col), "Pixel " + row + "," + col);
+            }
+        }
+    }
+
+    @Test
+    void testReducedLevel() {
+        int[] pixels = createPixels();
+        var tiles = new MapTiles(pixels, WIDTH, new MapTileCache(MapTileCache.DEFAULT_BUDGET));
+        assertEquals(3, tiles.getLevels(), "Levels");
+        assertEquals(WIDTH / 2, tiles.getWidth(1), "Level 1 width");
+
+        int row = 40;
+        int col = 130;
+        int expected = MapTiles.average(pixels[(2 * row * WIDTH) + (2 * col)],
+                                        pixels[(2 * row * WIDTH) + (2 * col) + 1],
+                                        pixels[(((2 * row) + 1) * WIDTH) + (2 * col)],
+                                        pixels[(((2 * row) + 1) * WIDTH) + (2 * col) + 1]);
+        assertEquals(expected, tiles.reader(1).get(row, col), "Averaged pixel");
+    }
+
+    @Test
+    void testAverage() {
+        assertEquals(0x80402010, MapTiles.average(0x80402010, 0x80402010, 0x80402010, 0x80402010), "Same pixels");
+        assertEquals(0x00000080, MapTiles.average(0x000000ff, 0x000000ff, 0, 0x00000002), "Blue channel");
+    }
+
+    @Test
+    void testChooseLevel() {
+        var tiles = new MapTiles(createPixels(), WIDTH, new MapTileCache(MapTileCache.DEFAULT_BUDGET));
+        double rhoDefault = HEIGHT / Math.PI;
+
+        assertEquals(0, tiles.chooseLevel(rhoDefault), "Default rho");
+        assertEquals(0, tiles.chooseLevel(rhoDefault * 2), "Zoomed in");
+        assertEquals(1, tiles.chooseLevel(rhoDefault / 2), "Half rho");
+        assertEquals(2, tiles.chooseLevel(rhoDefault / 100), "Smallest level");
+    }
+
+    @Test
+    void testCacheBudget() {
+        long tileBytes = MapTiles.TILE_SIZE * MapTiles.TILE_SIZE * (long) Integer.BYTES;
+        var cache = new MapTileCache(2 * tileBytes);
+        var tiles = new MapTiles(createPixels(), WIDTH, cache);
+
+        var reader = tiles.reader(0);
+        reader.get(0, 0);
+        reader.get(0, MapTiles.TILE_SIZE);
+        reader.get(0, 2 * MapTiles.TILE_SIZE);
+        assertEquals(2, cache.getTileCount(), "Oldest tile evicted");
+        assertTrue(cache.getUsedBytes() <= cache.getBudget(), "Within budget");
+
+        tiles.getTile(0, 0, 2);
+        assertEquals(1, cache.getHitCount(), "Cache hit");
+
+        tiles.release();
+        assertEquals(0, cache.getTileCount(), "Tiles released");
+    }
+}
@@ -0,0 +1,55 @@
+package com.mars_sim.core.map.megdr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class MEGDRPageCacheTest {
+
+    private static short valueAt(int index) {
+        return (short) (index % 30_000);
+    }
+
+    private static void fill(int page, short[] data) {
+        for (int i = 0; i < data.length; i++) {
+            data[i] = valueAt(page * MEGDRPageCache.PAGE_VALUES + i);
+        }
+    }
+
+    @Test
+    void testValues() {
+        int[] loads = new int[1];
+        var cache = new MEGDRPageCache(8, (p, d) -> {
+            loads[0]++;
+            fill(p, d);
+        });
+
+        // Same page is only loaded once
+        for (int i = 0; i < MEGDRPageCache.PAGE_VALUES; i++) {
+            assertEquals("Value at " + i, valueAt(i), cache.get(i));
+        }
+        assertEquals("Pages loaded", 1, loads[0]);
+        assertEquals("Requests", MEGDRPageCache.PAGE_VALUES, cache.getRequests());
+        assertEquals("Hits", MEGDRPageCache.PAGE_VALUES - 1, cache.getHits());
+    }
+
+    @Test
+    void testEviction() {
+        var cache = new MEGDRPageCache(8, MEGDRPageCacheTest::fill);
+
+        // Touch many more pages than fit
+        int pages = 100;
+        for (int p = 0; p < pages; p++) {
+            int index = p * MEGDRPageCache.PAGE_VALUES + 7;
+            assertEquals("Value on page " + p, valueAt(index), cache.get(index));
+        }
+        assertTrue("Pages held are bounded", cache.getPageCount() <= 8);
+
+        // Values are still correct after eviction
+        for (int p = pages - 1; p >= 0; p--) {
+            int index = p * MEGDRPageCache.PAGE_VALUES + 11;
+            assertEquals("Reloaded value on page " + p, valueAt(index), cache.get(index));
+        }
+    }
+}
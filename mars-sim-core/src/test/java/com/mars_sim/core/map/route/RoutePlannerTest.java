@@ -0,0 +1,62 @@
+package com.mars_sim.core.map.route;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.mars_sim.core.map.location.Coordinates;
+
+class RoutePlannerTest {
+
+    private static final Coordinates FROM = new Coordinates("10.0 N", "20.0 E");
+    private static final Coordinates TO = new Coordinates("5.0 S", "35.0 E");
+
+    @Test
+    void testFlatRoute() {
+        var planner = new RoutePlanner(new TerrainCostGrid(1D, (phi, theta) -> 0D));
+        var route = planner.getRoute(FROM, TO);
+
+        double straight = FROM.getDistance(TO);
+        assertEquals(route.getDistance(), route.getEffort(), 0.001D, "Flat effort is the distance");
+        assertTrue(route.getDistance() >= straight * 0.95D, "Route not shorter than straight line");
+        assertTrue(route.getDistance() < straight * 1.2D, "Route close to straight line");
+        assertTrue(route.getTerrainFactor() < 1.2D, "Flat terrain factor");
+
+        var waypoints = route.getWaypoints();
+        assertEquals(0D, waypoints.get(0).getDistance(FROM), 100D, "Route starts at the origin");
+        assertEquals(0D, waypoints.get(waypoints.size() - 1).getDistance(TO), 100D, "Route ends at the destination");
+    }
+
+    @Test
+    void testRoughRoute() {
+        var flat = new RoutePlanner(new TerrainCostGrid(1D, (phi, theta) -> 0D));
+        var rough = new RoutePlanner(new TerrainCostGrid(1D, (phi, theta) -> Math.sin(theta * 300D) * 2D));
+
+        assertTrue(rough.getRoute(FROM, TO).getTerrainFactor() > flat.getRoute(FROM, TO).getTerrainFactor(),
+                        "Rough terrain is harder");
+    }
+
+    @Test
+    void testCache() {
+        var planner = new RoutePlanner(new TerrainCostGrid(1D, (phi, theta) -> 0D));
+        var route = planner.getRoute(FROM, TO);
+
+        assertSame(route, planner.getRoute(FROM, TO), "Route is cached");
+        assertEquals(1, planner.getCachedRoutes(), "Cached routes");
+
+        var same = planner.getRoute(FROM, FROM);
+        assertEquals(0D, same.getDistance(), "Route within a cell");
+    }
+
+    @Test
+    void testAcrossZeroLongitude() {
+        var planner = new RoutePlanner(new TerrainCostGrid(1D, (phi, theta) -> 0D));
+        var west = new Coordinates("0.0 N", "355.0 E");
+        var east = new Coordinates("0.0 N", "5.0 E");
+        var route = planner.getRoute(west, east);
+
+        assertTrue(route.getDistance() < west.getDistance(east) * 1.2D, "Route wraps around longitude");
+    }
+}
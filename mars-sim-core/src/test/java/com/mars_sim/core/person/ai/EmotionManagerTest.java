@@ -0,0 +1,45 @@
+package com.mars_sim.core.person.ai;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+
+public class EmotionManagerTest extends AbstractMarsSimUnitTest {
+
+    private static double drift(double value) {
+        if (value > 0.4) {
+            return value - 0.005;
+        }
+        return (value < 0.4 ? value + 0.005 : 0.4);
+    }
+
+    public void testBoundedHistory() {
+        var p = buildPerson("Emotional", buildSettlement());
+        var emotion = new EmotionManager(p);
+        var pVector = p.getMind().getTraitManager().getPersonalityVector();
+
+        for (int i = 0; i < EmotionManager.HISTORY_SIZE * 3; i++) {
+            var before = emotion.getEmotionVector().clone();
+            emotion.updateEmotion(pVector);
+            if (i == 0) {
+                // Each update only drifts the state toward the mid-point
+                var after = emotion.getEmotionVector();
+                assertEquals("Appeal drift", drift(before[0]), after[0], 0.000001D);
+                assertEquals("Engagement drift", drift(before[1]), after[1], 0.000001D);
+            }
+        }
+
+        var history = emotion.getOmegaVector();
+        assertEquals("History is bounded", EmotionManager.HISTORY_SIZE, history.size());
+
+        // Newest saved state is the one before the last update
+        var current = emotion.getEmotionVector();
+        emotion.saveEmotion();
+        var latest = emotion.getOmegaVector();
+        assertEquals("Latest appeal", current[0], latest.get(latest.size() - 1)[0], 0.000001D);
+        assertEquals("Latest engagement", current[1], latest.get(latest.size() - 1)[1], 0.000001D);
+        assertEquals("Oldest dropped", history.get(1)[0], latest.get(0)[0], 0.000001D);
+
+        var average = emotion.getAverageVector();
+        assertTrue("Average appeal in range", (average[0] >= 0D) && (average[0] <= 1D));
+        assertTrue("Average engagement in range", (average[1] >= 0D) && (average[1] <= 1D));
+    }
+}
@@ -0,0 +1,72 @@
+package com.mars_sim.core.person.ai.social;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+import com.mars_sim.core.person.Person;
+
+public class RelationshipMatrixTest extends AbstractMarsSimUnitTest {
+
+    private static double relationOpinion(Person p1, Person p2) {
+        return p1.getRelation().getOpinion(p2).getAverage();
+    }
+
+    public void testMatchesRelation() {
+        var s = buildSettlement();
+        var p1 = buildPerson("P1", s);
+        var p2 = buildPerson("P2", s);
+
+        var matrix = s.getRelationshipMatrix();
+        assertTrue("P1 is held", matrix.contains(p1));
+        assertTrue("Unknown opinion", Double.isNaN(matrix.getOpinion(p1, p2)));
+
+        RelationshipUtil.changeOpinion(p1, p2, RelationshipType.FACE_TO_FACE_COMMUNICATION, 5);
+        assertEquals("Opinion after create", relationOpinion(p1, p2), matrix.getOpinion(p1, p2), 0.001D);
+
+        RelationshipUtil.changeOpinion(p1, p2, -3);
+        assertEquals("Opinion after change", relationOpinion(p1, p2),
+                            RelationshipUtil.getOpinionOfPerson(p1, p2), 0.001D);
+        assertEquals("Average opinion", relationOpinion(p1, p2),
+                            RelationshipUtil.getMyAverageOpinionOfThem(p1), 0.001D);
+    }
+
+    public void testBestFriends() {
+        var s = buildSettlement();
+        var p1 = buildPerson("P1", s);
+        Person best = null;
+        for (int i = 0; i < RelationshipMatrix.TOP_FRIENDS + 3; i++) {
+            var p = buildPerson("F" + i, s);
+            RelationshipUtil.changeOpinion(p1, p, RelationshipType.FACE_TO_FACE_COMMUNICATION, 0);
+            if ((best == null) || (relationOpinion(p1, p) > relationOpinion(p1, best))) {
+                best = p;
+            }
+        }
+
+        var friends = RelationshipUtil.getBestFriends(p1);
+        assertEquals("One best friend", 1, friends.size());
+        assertTrue("Best friend found", friends.containsKey(best));
+
+        // Make the best friend the worst
+        RelationshipUtil.changeOpinion(p1, best, -500);
+        friends = RelationshipUtil.getBestFriends(p1);
+        assertFalse("Old best friend dropped", friends.containsKey(best));
+        var newBest = friends.keySet().iterator().next();
+        for (var p : RelationshipUtil.getAllKnownPeople(p1)) {
+            assertTrue("New best is highest", relationOpinion(p1, newBest) >= relationOpinion(p1, p));
+        }
+    }
+
+    public void testRemoveCitizen() {
+        var s = buildSettlement();
+        var p1 = buildPerson("P1", s);
+        var p2 = buildPerson("P2", s);
+        RelationshipUtil.changeOpinion(p1, p2, RelationshipType.FACE_TO_FACE_COMMUNICATION, 5);
+        var expected = relationOpinion(p1, p2);
+
+        var matrix = s.getRelationshipMatrix();
+        matrix.removeCitizen(p2);
+        assertFalse("P2 removed", matrix.contains(p2));
+        assertEquals("Opinion moved to overflow", expected, matrix.getOpinion(p1, p2), 0.001D);
+
+        matrix.addCitizen(p2);
+        assertEquals("Opinion back in matrix", expected, matrix.getOpinion(p1, p2), 0.001D);
+    }
+}
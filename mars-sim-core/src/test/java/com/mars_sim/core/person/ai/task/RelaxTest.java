@@ -0,0 +1,45 @@
+package com.mars_sim.core.person.ai.task;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+
+public class RelaxTest extends AbstractMarsSimUnitTest {
+
+    public void testStableTime() {
+        var s = buildSettlement("Relax");
+        var p = buildPerson("relaxer", s);
+
+        var task = new Relax(p);
+        executeTaskUntilSubTask(p, task, 100);
+        assertFalse("Task still active", task.isDone());
+
+        var tm = p.getMind().getTaskManager();
+        assertEquals("Relaxing is stable for the rest of the task", task.getTimeLeft(), tm.getStableTime());
+
+        // One step for the whole task
+        tm.executeTask(task.getTimeLeft());
+        assertTrue("Task completed in one step", task.isDone());
+    }
+
+    public void testStepSizeIndependent() {
+        var s = buildSettlement("Relax");
+        var small = buildPerson("small", s);
+        var large = buildPerson("large", s);
+        small.getPhysicalCondition().setFatigue(800D);
+        large.getPhysicalCondition().setFatigue(800D);
+
+        var smallTask = new Relax(small);
+        executeTaskUntilSubTask(small, smallTask, 100);
+        var largeTask = new Relax(large);
+        executeTaskUntilSubTask(large, largeTask, 100);
+
+        double time = Math.min(smallTask.getTimeLeft(), largeTask.getTimeLeft()) * 0.9D;
+        var smallTm = small.getMind().getTaskManager();
+        for (int i = 0; i < 10; i++) {
+            smallTm.executeTask(time / 10);
+        }
+        large.getMind().getTaskManager().executeTask(time);
+
+        assertEquals("Same fatigue for any step size", small.getPhysicalCondition().getFatigue(),
+                        large.getPhysicalCondition().getFatigue(), 0.001D);
+    }
+}
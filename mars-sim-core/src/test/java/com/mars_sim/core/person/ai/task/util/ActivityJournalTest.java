@@ -0,0 +1,90 @@
+package com.mars_sim.core.person.ai.task.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+import com.mars_sim.core.data.History.HistoryItem;
+import com.mars_sim.core.time.MasterClock;
+
+public class ActivityJournalTest extends AbstractMarsSimUnitTest {
+
+    private void advance() {
+        MasterClock master = sim.getMasterClock();
+        master.setMarsTime(master.getMarsTime().addTime(10));
+    }
+
+    public void testRecord() {
+        var p = buildPerson("Worker", buildSettlement());
+        var journal = new ActivityJournal(3, p);
+
+        var start = sim.getMasterClock().getMarsTime();
+        journal.record("Walk", "Walking", "Walking inside", null, ActivityJournal.IN_SETTLEMENT);
+        advance();
+        assertFalse("Same activity ignored",
+                        journal.record("Walk", "Walking", "Walking inside", null, ActivityJournal.IN_SETTLEMENT));
+
+        var first = journal.getWhat(0);
+        assertEquals("Task label", "Walk in S", first.getTaskName());
+        assertEquals("Description", "Walking", first.getDescription());
+        assertNull("No mission", first.getMission());
+        assertEquals("When", start, journal.getWhen(0));
+
+        // Same time replaces
+        journal.record("Sleep", "Sleeping", "Sleeping", null, 0);
+        journal.record("Rest", "Resting", "Resting", null, 0);
+        assertEquals("Size after replace", 2, journal.size());
+        assertEquals("Replaced task", "Rest", journal.getWhat(1).getTaskName());
+
+        for (int i = 0; i < 4; i++) {
+            advance();
+            journal.record("Task " + i, "Doing " + i, "Phase", "Mission", 0);
+        }
+        assertEquals("Size is bounded", 3, journal.size());
+        assertEquals("Oldest kept", "Task 1", journal.getWhat(0).getTaskName());
+        assertEquals("Newest", "Task 3", journal.getChanges().get(2).getWhat().getTaskName());
+        assertEquals("Mission", "Mission", journal.getWhat(2).getMission());
+        assertEquals("Description", "Doing 3", journal.getWhat(2).getDescription());
+    }
+
+    public void testArchive() throws IOException {
+        var p = buildPerson("Worker", buildSettlement());
+        var journal = new ActivityJournal(6, p);
+        File dir = Files.createTempDirectory("activity").toFile();
+        ActivityArchive.setDirectory(dir);
+        try {
+            for (int i = 0; i < 8; i++) {
+                advance();
+                journal.record("Task " + i, "Doing " + i, "Phase", null, ActivityJournal.OUTSIDE);
+            }
+
+            // A block of 2 is archived when full
+            List<HistoryItem<OneActivity>> archived = new ArrayList<>();
+            journal.readArchived(archived::add);
+            assertEquals("Archived", 2, archived.size());
+            assertEquals("Oldest archived", "Task 0 in O", archived.get(0).getWhat().getTaskName());
+            assertEquals("Archived description", "Doing 1", archived.get(1).getWhat().getDescription());
+            assertEquals("In memory", 6, journal.size());
+            assertEquals("Oldest in memory", "Task 2 in O", journal.getWhat(0).getTaskName());
+            assertTrue("Archived before memory",
+                        journal.getWhen(0).getTimeDiff(archived.get(1).getWhen()) > 0);
+
+            // Archive is kept by worker
+            assertTrue("File of the worker", new File(dir, p.getIdentifier() + ".act").exists());
+            var other = new ActivityJournal(6, buildPerson("Other", p.getAssociatedSettlement()));
+            List<HistoryItem<OneActivity>> otherArchived = new ArrayList<>();
+            other.readArchived(otherArchived::add);
+            assertTrue("Nothing archived for another worker", otherArchived.isEmpty());
+        }
+        finally {
+            ActivityArchive.setDirectory(null);
+            for (File f : dir.listFiles()) {
+                f.delete();
+            }
+            dir.delete();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Mars Simulation Project
+ * LocalAreaRegistryTest.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.core.structure;
+
+import java.awt.geom.Line2D;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+import com.mars_sim.core.LocalAreaUtil;
+import com.mars_sim.core.map.location.LocalPosition;
+
+/**
+ * Test the cached geometry of a settlement's local area.
+ */
+public class LocalAreaRegistryTest extends AbstractMarsSimUnitTest {
+
+	public void testVersionBumped() {
+		var s = buildSettlement();
+		var area = s.getLocalArea();
+		int start = area.getVersion();
+
+		var b = buildBuilding(s.getBuildingManager(), new LocalPosition(0D, 0D), 0D, 0);
+		assertTrue("Version changed on add", area.getVersion() > start);
+		assertTrue("Building registered", area.getObjects().contains(b));
+
+		int added = area.getVersion();
+		var r = buildRover(s, "R1", new LocalPosition(30D, 30D));
+		assertTrue("Version changed on parking", area.getVersion() > added);
+		assertTrue("Rover registered", area.getObjects().contains(r));
+		assertFalse("Rover blocks", area.isPositionCollisionFree(new LocalPosition(30D, 30D)));
+
+		r.setParkedLocation(new LocalPosition(-30D, -30D), 0D);
+		assertTrue("Rover moved", area.isPositionCollisionFree(new LocalPosition(30D, 30D)));
+	}
+
+	public void testPositionCollision() {
+		var s = buildSettlement();
+		var area = s.getLocalArea();
+		buildBuilding(s.getBuildingManager(), new LocalPosition(0D, 0D), 0D, 0);
+		buildBuilding(s.getBuildingManager(), new LocalPosition(50D, 50D), 0D, 1);
+
+		assertFalse("Inside first building", area.isPositionCollisionFree(new LocalPosition(1D, 1D)));
+		assertFalse("Inside second building", area.isPositionCollisionFree(new LocalPosition(51D, 49D)));
+		assertTrue("Between buildings", area.isPositionCollisionFree(new LocalPosition(25D, 25D)));
+		assertEquals("Matches LocalAreaUtil", area.isPositionCollisionFree(new LocalPosition(25D, 25D)),
+							LocalAreaUtil.isPositionCollisionFree(new LocalPosition(25D, 25D), s.getCoordinates()));
+	}
+
+	public void testPathCollision() {
+		var s = buildSettlement();
+		buildBuilding(s.getBuildingManager(), new LocalPosition(0D, 0D), 0D, 0);
+
+		var crossing = new Line2D.Double(-20D, 0D, 20D, 0D);
+		assertFalse("Line crosses building", LocalAreaUtil.isLinePathCollisionFree(crossing, s.getCoordinates(), true));
+
+		var clear = new Line2D.Double(-20D, 20D, 20D, 20D);
+		assertTrue("Line misses building", LocalAreaUtil.isLinePathCollisionFree(clear, s.getCoordinates(), true));
+
+		// Move into the path
+		buildBuilding(s.getBuildingManager(), new LocalPosition(0D, 20D), 0D, 1);
+		assertFalse("Line crosses new building", LocalAreaUtil.isLinePathCollisionFree(clear, s.getCoordinates(), true));
+	}
+
+	public void testFindPathAfterPlacement() {
+		var s = buildSettlement();
+		var area = s.getLocalArea();
+		var start = new LocalPosition(-30D, 0D);
+		var end = new LocalPosition(30D, 0D);
+
+		assertEquals("Direct path", 2, area.findPath(start, end).size());
+
+		// New building bumps the version so the grid is rebuilt
+		buildBuilding(s.getBuildingManager(), new LocalPosition(0D, 0D), 0D, 0);
+		var path = area.findPath(start, end);
+		assertTrue("Path around new building", path.size() > 2);
+		for (var p : path) {
+			assertTrue("Waypoint clear " + p, area.isPositionCollisionFree(p));
+		}
+	}
+}
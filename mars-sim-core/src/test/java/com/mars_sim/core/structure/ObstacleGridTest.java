@@ -0,0 +1,97 @@
+package com.mars_sim.core.structure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.mars_sim.core.map.location.BoundedObject;
+import com.mars_sim.core.map.location.LocalBoundedObject;
+import com.mars_sim.core.map.location.LocalPosition;
+
+class ObstacleGridTest {
+
+    private static final LocalPosition WEST = new LocalPosition(-20D, 0D);
+    private static final LocalPosition EAST = new LocalPosition(20D, 0D);
+
+    /**
+     * Checks no leg of a path crosses a rectangle.
+     */
+    private static void assertAvoids(List<LocalPosition> path, Rectangle2D obstacle) {
+        for (int i = 1; i < path.size(); i++) {
+            var from = path.get(i - 1);
+            var to = path.get(i);
+            var leg = new Line2D.Double(from.getX(), from.getY(), to.getX(), to.getY());
+            assertFalse("Leg " + i + " crosses obstacle", leg.intersects(obstacle));
+        }
+    }
+
+    @Test
+    void testStraightPath() {
+        var grid = new ObstacleGrid();
+        List<LocalBoundedObject> obstacles = List.of(new BoundedObject(0D, 30D, 10D, 10D, 0D));
+
+        var path = grid.findPath(WEST, EAST, obstacles);
+        assertEquals("Direct path", List.of(WEST, EAST), path);
+    }
+
+    @Test
+    void testAroundBuilding() {
+        var grid = new ObstacleGrid();
+        List<LocalBoundedObject> obstacles = List.of(new BoundedObject(0D, 0D, 10D, 10D, 0D));
+        assertTrue("Building blocks", grid.isBlocked(obstacles, new LocalPosition(0D, 0D)));
+
+        var path = grid.findPath(WEST, EAST, obstacles);
+        assertNotNull("Path found", path);
+        assertTrue("Path has waypoints", path.size() > 2);
+        assertEquals("Starts at start", WEST, path.get(0));
+        assertEquals("Ends at destination", EAST, path.get(path.size() - 1));
+        assertAvoids(path, new Rectangle2D.Double(-5D, -5D, 10D, 10D));
+    }
+
+    @Test
+    void testNoPath() {
+        var grid = new ObstacleGrid();
+
+        // Destination is walled in
+        List<LocalBoundedObject> obstacles = List.of(new BoundedObject(0D, 10D, 22D, 2D, 0D),
+                                                 new BoundedObject(0D, -10D, 22D, 2D, 0D),
+                                                 new BoundedObject(10D, 0D, 2D, 22D, 0D),
+                                                 new BoundedObject(-10D, 0D, 2D, 22D, 0D));
+
+        assertNull("No path in", grid.findPath(new LocalPosition(40D, 40D), new LocalPosition(0D, 0D), obstacles));
+        assertNull("No path out", grid.findPath(new LocalPosition(0D, 0D), new LocalPosition(40D, 40D), obstacles));
+    }
+
+    @Test
+    void testRebuiltOnVersion() {
+        var grid = new ObstacleGrid();
+        List<LocalBoundedObject> obstacles = new ArrayList<>();
+
+        var path = grid.findPath(WEST, EAST, obstacles, 1);
+        assertEquals("Direct path on an empty area", 2, path.size());
+
+        // Same version so the grid is not rebuilt
+        obstacles.add(new BoundedObject(0D, 0D, 10D, 10D, 0D));
+        path = grid.findPath(WEST, EAST, obstacles, 1);
+        assertEquals("Grid kept for the same version", 2, path.size());
+
+        // New version so the building is seen
+        path = grid.findPath(WEST, EAST, obstacles, 2);
+        assertTrue("Path goes around new building", path.size() > 2);
+        assertAvoids(path, new Rectangle2D.Double(-5D, -5D, 10D, 10D));
+
+        // Building removed
+        obstacles.clear();
+        path = grid.findPath(WEST, EAST, obstacles, 3);
+        assertEquals("Direct path once removed", 2, path.size());
+    }
+}
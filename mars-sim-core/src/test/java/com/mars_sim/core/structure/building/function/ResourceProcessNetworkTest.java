@@ -0,0 +1,140 @@
+package com.mars_sim.core.structure.building.function;
+
+import java.util.List;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+import com.mars_sim.core.map.location.LocalPosition;
+import com.mars_sim.core.resource.ResourceUtil;
+import com.mars_sim.core.structure.Settlement;
+import com.mars_sim.core.structure.building.Building;
+import com.mars_sim.core.structure.building.BuildingCategory;
+import com.mars_sim.core.structure.building.ResourceProcessEngine;
+import com.mars_sim.core.structure.building.ResourceProcessSpec;
+import com.mars_sim.core.structure.building.utility.power.PowerMode;
+
+public class ResourceProcessNetworkTest extends AbstractMarsSimUnitTest {
+
+    private static final String LANDER_HAB = "Lander Hab";
+
+    // Pulses that make a new process due once with a period of 2 millisols
+    private static final double[] CYCLE = {1D, 1D, 1D, 1D, 0.5D};
+    private static final double PERIOD = 2D;
+
+    private static final double DELTA = 0.00001D;
+
+    private Building buildProcess(Settlement s, double x, String name, int input, double inRate,
+                                    int output, double outRate) {
+        var b = buildFunction(s.getBuildingManager(), LANDER_HAB, BuildingCategory.PROCESSING,
+                                FunctionType.RESOURCE_PROCESSING, new LocalPosition(x, 0D), 0D, false);
+        b.setPowerMode(PowerMode.FULL_POWER);
+
+        var spec = new ResourceProcessSpec(name, 0D, 1, 0, true);
+        spec.addBaseInputResourceRate(input, inRate, false);
+        spec.addBaseOutputResourceRate(output, outRate, false);
+
+        var processes = b.getResourceProcessing().getProcesses();
+        processes.clear();
+        processes.add(new ResourceProcess(new ResourceProcessEngine(spec, 1)));
+        return b;
+    }
+
+    private static ResourceProcess getProcess(Building b) {
+        return b.getResourceProcessing().getProcesses().get(0);
+    }
+
+    /**
+     * Pulses every processor of the settlement and then runs the network over some buildings.
+     */
+    private void runPulses(Settlement s, ResourceProcessNetwork network, List<Building> buildings,
+                            double... elapsed) {
+        for (double e : elapsed) {
+            var pulse = createPulse(e);
+            for (Building b : s.getBuildingManager().getBuildingSet()) {
+                b.getResourceProcessing().timePassing(pulse);
+            }
+            network.timePassing(pulse, buildings);
+        }
+    }
+
+    public void testSharedInput() {
+        var s = buildSettlement();
+        var small = buildProcess(s, 0D, "Small", ResourceUtil.waterID, 1D, ResourceUtil.oxygenID, 1D);
+        var large = buildProcess(s, 20D, "Large", ResourceUtil.waterID, 3D, ResourceUtil.hydrogenID, 3D);
+
+        // Only a quarter of the water needed
+        double water = PERIOD * (1D + 3D) / 4D;
+        s.storeAmountResource(ResourceUtil.waterID, water);
+
+        var network = new ResourceProcessNetwork(s);
+        runPulses(s, network, List.of(small, large), CYCLE);
+
+        assertEquals("Water used", 0D, s.getAmountResourceStored(ResourceUtil.waterID), DELTA);
+        assertEquals("Small share", water / 4D, s.getAmountResourceStored(ResourceUtil.oxygenID), DELTA);
+        assertEquals("Large share", water * 3D / 4D, s.getAmountResourceStored(ResourceUtil.hydrogenID), DELTA);
+        assertFalse("Small stopped on shortage", getProcess(small).isProcessRunning());
+        assertFalse("Large stopped on shortage", getProcess(large).isProcessRunning());
+    }
+
+    public void testNetChange() {
+        var s = buildSettlement();
+        var first = buildProcess(s, 0D, "First", ResourceUtil.waterID, 1D, ResourceUtil.oxygenID, 1D);
+        var second = buildProcess(s, 20D, "Second", ResourceUtil.oxygenID, 1D, ResourceUtil.methaneID, 1D);
+
+        // Oxygen store is full but the second process uses what the first makes
+        s.getEquipmentInventory().setResourceCapacity(ResourceUtil.oxygenID, 10D);
+        s.storeAmountResource(ResourceUtil.oxygenID, 10D);
+        s.storeAmountResource(ResourceUtil.waterID, 10D);
+
+        var network = new ResourceProcessNetwork(s);
+        runPulses(s, network, List.of(first, second), CYCLE);
+
+        assertEquals("Water used", 10D - PERIOD, s.getAmountResourceStored(ResourceUtil.waterID), DELTA);
+        assertEquals("Oxygen unchanged", 10D, s.getAmountResourceStored(ResourceUtil.oxygenID), DELTA);
+        assertEquals("Methane made", PERIOD, s.getAmountResourceStored(ResourceUtil.methaneID), DELTA);
+        assertTrue("First running", getProcess(first).isProcessRunning());
+        assertTrue("Second running", getProcess(second).isProcessRunning());
+    }
+
+    public void testOutputCapacity() {
+        var s = buildSettlement();
+        var b = buildProcess(s, 0D, "Limited", ResourceUtil.waterID, 1D, ResourceUtil.oxygenID, 1D);
+
+        // Only room for half the output
+        s.getEquipmentInventory().setResourceCapacity(ResourceUtil.oxygenID, PERIOD / 2D);
+        s.storeAmountResource(ResourceUtil.waterID, 10D);
+
+        var network = new ResourceProcessNetwork(s);
+        runPulses(s, network, List.of(b), CYCLE);
+
+        assertFalse("Stopped on full output", getProcess(b).isProcessRunning());
+        assertEquals("Oxygen up to capacity", PERIOD / 2D, s.getAmountResourceStored(ResourceUtil.oxygenID), DELTA);
+        assertEquals("Water used", 10D - PERIOD, s.getAmountResourceStored(ResourceUtil.waterID), DELTA);
+    }
+
+    public void testRebuild() {
+        var s = buildSettlement();
+        var first = buildProcess(s, 0D, "First", ResourceUtil.waterID, 1D, ResourceUtil.oxygenID, 1D);
+        var second = buildProcess(s, 20D, "Second", ResourceUtil.waterID, 1D, ResourceUtil.methaneID, 1D);
+        s.storeAmountResource(ResourceUtil.waterID, 100D);
+
+        var network = new ResourceProcessNetwork(s);
+        runPulses(s, network, List.of(first), CYCLE);
+        assertEquals("First ran", PERIOD, s.getAmountResourceStored(ResourceUtil.oxygenID), DELTA);
+
+        // Building added but the network is not told
+        runPulses(s, network, List.of(first, second), CYCLE);
+        assertEquals("Second not in network", 0D, s.getAmountResourceStored(ResourceUtil.methaneID), DELTA);
+
+        // Rebuilt with the new building
+        network.invalidate();
+        runPulses(s, network, List.of(first, second), CYCLE);
+        assertEquals("Second added", PERIOD, s.getAmountResourceStored(ResourceUtil.methaneID), DELTA);
+
+        // Rebuilt without the first building
+        double oxygen = s.getAmountResourceStored(ResourceUtil.oxygenID);
+        network.invalidate();
+        runPulses(s, network, List.of(second), 1D, 1D, 0.5D);
+        assertEquals("Second still running", 2 * PERIOD, s.getAmountResourceStored(ResourceUtil.methaneID), DELTA);
+        assertEquals("First removed", oxygen, s.getAmountResourceStored(ResourceUtil.oxygenID), DELTA);
+    }
+}
@@ -60,4 +60,21 @@ public class MarsTimeTest extends TestCase {
         later = new MarsTime(1,1, 2, 150D, 1);
         assertNotEquals("Difference of different MarsDates", start.getDate(), later.getDate());
     }
+
+    public void testTicks() {
+        MarsTime start = new MarsTime(1, 1, 1, 100D, 1);
+
+        // Cross a leap orbit and the short months
+        MarsTime later = start.addTime(2500000.25D);
+        MarsTime converted = start.atTicks(later.getTicks());
+        assertEquals("Converted from ticks", later, converted);
+        assertEquals("Orbit", later.getOrbit(), converted.getOrbit());
+        assertEquals("Month", later.getMonth(), converted.getMonth());
+        assertEquals("Sol of month", later.getSolOfMonth(), converted.getSolOfMonth());
+        assertEquals("Millisol", later.getMillisol(), converted.getMillisol(), 0.000001D);
+        assertEquals("Mission sol", later.getMissionSol(), converted.getMissionSol());
+
+        assertEquals("Tick difference", 2500000.25D * MarsTime.TICKS_PER_MILLISOL,
+                        (double) (later.getTicks() - start.getTicks()));
+    }
 }
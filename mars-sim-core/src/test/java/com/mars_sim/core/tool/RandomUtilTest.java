@@ -0,0 +1,57 @@
+package com.mars_sim.core.tool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RandomUtilTest {
+
+    private static final long SEED = 1234L;
+
+    @AfterEach
+    void tearDown() {
+        RandomUtil.setActiveStream(null);
+        RandomUtil.setMasterSeed(RandomUtil.UNSEEDED);
+    }
+
+    @Test
+    void testSameSeedSameStream() {
+        RandomUtil.setMasterSeed(SEED);
+        var first = RandomUtil.createStream(1);
+        long a = first.nextLong();
+
+        RandomUtil.setMasterSeed(SEED);
+        var second = RandomUtil.createStream(1);
+        assertEquals(a, second.nextLong(), "Same seed gives same values");
+    }
+
+    @Test
+    void testStreamsIndependent() {
+        RandomUtil.setMasterSeed(SEED);
+        var s1 = RandomUtil.createStream(1);
+        var s2 = RandomUtil.createStream(2);
+        assertNotEquals(s1.nextLong(), s2.nextLong(), "Different streams");
+    }
+
+    @Test
+    void testGlobalReproducible() {
+        RandomUtil.setMasterSeed(SEED);
+        int a = RandomUtil.getRandomInt(1000000);
+        RandomUtil.setMasterSeed(SEED);
+        assertEquals(a, RandomUtil.getRandomInt(1000000), "Global stream reseeded");
+    }
+
+    @Test
+    void testActiveStream() {
+        RandomUtil.setMasterSeed(SEED);
+        var stream = RandomUtil.createStream(5);
+        RandomUtil.setActiveStream(stream);
+        assertSame(stream, RandomUtil.getRandom(), "Active stream used");
+
+        RandomUtil.setActiveStream(null);
+        assertNotEquals(stream, RandomUtil.getRandom(), "Global stream restored");
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Mars Simulation Project
+ * BenchmarkRunner.java
+ * @date 2026-10-19
+ */
+
+package com.mars_sim.headless;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.mars_sim.core.Simulation;
+import com.mars_sim.core.SimulationRuntime;
+import com.mars_sim.core.logging.PulseProfiler;
+import com.mars_sim.core.time.MarsTime;
+import com.mars_sim.core.time.MasterClock;
+import com.mars_sim.core.tool.RandomUtil;
+
+/**
+ * Runs a started simulation for a fixed number of sols as fast as possible and writes
+ * a JSON report of the throughput, memory and the time spent in each subsystem.
+ * The clock must have been started with a fixed pulse time so it is not paced.
+ * The run gives up if the clock stops or the wall clock time runs out; the report is
+ * still written with the outcome.
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * How a benchmark run ended.
+	 */
+	public enum Outcome {
+		/** All the sols were simulated. */
+		COMPLETE,
+		/** The clock stopped or was paused before the end. */
+		STOPPED,
+		/** The wall clock time ran out before the end. */
+		TIMEOUT
+	}
+
+	private static final Logger logger = Logger.getLogger(BenchmarkRunner.class.getName());
+
+	private static final long POLL_MS = 250;
+	/** Default wall clock time allowed for each sol. */
+	private static final long DEFAULT_TIMEOUT_PER_SOL_MS = TimeUnit.MINUTES.toMillis(10);
+	private static final double MILLISOLS_PER_SOL = 1000D;
+	private static final double MS_PER_HOUR = 3_600_000D;
+	private static final double BYTES_PER_MB = 1024D * 1024D;
+
+	private final int sols;
+	private final File reportFile;
+	private final String scenario;
+	private final long timeoutMs;
+
+	/**
+	 * Constructor with the default timeout.
+	 *
+	 * @param sols Number of sols to run
+	 * @param reportFile Where the report is written
+	 * @param scenario Name of the scenario or template run; only used in the report
+	 */
+	public BenchmarkRunner(int sols, File reportFile, String scenario) {
+		this(sols, reportFile, scenario, sols * DEFAULT_TIMEOUT_PER_SOL_MS);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param sols Number of sols to run
+	 * @param reportFile Where the report is written
+	 * @param scenario Name of the scenario or template run; only used in the report
+	 * @param timeoutMs Wall clock time allowed for the whole run
+	 */
+	public BenchmarkRunner(int sols, File reportFile, String scenario, long timeoutMs) {
+		if (sols <= 0) {
+			throw new IllegalArgumentException("Number of sols must be positive");
+		}
+		if (timeoutMs <= 0) {
+			throw new IllegalArgumentException("Timeout must be positive");
+		}
+		this.sols = sols;
+		this.reportFile = reportFile;
+		this.scenario = scenario;
+		this.timeoutMs = timeoutMs;
+	}
+
+	/**
+	 * Runs the simulation for the number of sols and then pauses the clock.
+	 *
+	 * @param sim Simulation that has been started
+	 * @return How the run ended
+	 * @throws IOException Problem writing the report
+	 * @throws InterruptedException
+	 */
+	public Outcome run(Simulation sim) throws IOException, InterruptedException {
+		return run(sim.getMasterClock());
+	}
+
+	/**
+	 * Runs the clock for the number of sols and then pauses it.
+	 *
+	 * @param clock Clock that has been started
+	 * @return How the run ended
+	 * @throws IOException Problem writing the report
+	 * @throws InterruptedException
+	 */
+	Outcome run(MasterClock clock) throws IOException, InterruptedException {
+		if (!clock.isFixedPulseTime()) {
+			logger.warning("Clock is paced by real time; the benchmark will not be accurate");
+		}
+
+		PulseProfiler.setEnabled(true);
+		PulseProfiler.reset();
+
+		MarsTime startTime = clock.getMarsTime();
+		long startPulses = clock.getTotalPulses();
+		long startAlloc = getAllocatedBytes();
+		long startGcCount = getGcCount();
+		long startGcMs = getGcTime();
+		long startNanos = System.nanoTime();
+		long peakHeap = 0;
+
+		logger.info("Benchmark running " + sols + " sols from " + startTime);
+
+		double target = sols * MILLISOLS_PER_SOL;
+		long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+		Outcome outcome = Outcome.COMPLETE;
+		while (clock.getMarsTime().getTimeDiff(startTime) < target) {
+			if (!clock.isRunning() || clock.isPaused()) {
+				outcome = Outcome.STOPPED;
+				break;
+			}
+			if (System.nanoTime() - startNanos >= timeoutNanos) {
+				outcome = Outcome.TIMEOUT;
+				break;
+			}
+			TimeUnit.MILLISECONDS.sleep(POLL_MS);
+			peakHeap = Math.max(peakHeap, getUsedHeap());
+		}
+		clock.setPaused(true, false);
+
+		long elapsedNanos = System.nanoTime() - startNanos;
+		double elapsedMs = elapsedNanos / 1_000_000D;
+		double simSols = clock.getMarsTime().getTimeDiff(startTime) / MILLISOLS_PER_SOL;
+		long pulses = clock.getTotalPulses() - startPulses;
+		long allocated = (startAlloc < 0 ? -1 : getAllocatedBytes() - startAlloc);
+		peakHeap = Math.max(peakHeap, getUsedHeap());
+
+		try (PrintWriter out = new PrintWriter(reportFile, StandardCharsets.UTF_8)) {
+			out.println("{");
+			writeValue(out, "outcome", outcome.name().toLowerCase(Locale.ROOT));
+			writeValue(out, "version", SimulationRuntime.VERSION.getDescription());
+			writeValue(out, "scenario", scenario);
+			writeValue(out, "seed", RandomUtil.getMasterSeed());
+			writeValue(out, "cores", Runtime.getRuntime().availableProcessors());
+			writeValue(out, "sols", simSols);
+			writeValue(out, "pulses", pulses);
+			writeValue(out, "elapsedMs", elapsedMs);
+			writeValue(out, "pulsesPerSec", pulses * 1000D / elapsedMs);
+			writeValue(out, "solsPerHour", simSols * MS_PER_HOUR / elapsedMs);
+			writeValue(out, "peakHeapMB", peakHeap / BYTES_PER_MB);
+			writeValue(out, "allocatedMB", (allocated < 0 ? -1D : allocated / BYTES_PER_MB));
+			writeValue(out, "allocationMBPerSec", (allocated < 0 ? -1D : allocated / BYTES_PER_MB * 1000D / elapsedMs));
+			writeValue(out, "gcCount", getGcCount() - startGcCount);
+			writeValue(out, "gcMs", getGcTime() - startGcMs);
+
+			out.println("  \"subsystems\": {");
+			var samples = PulseProfiler.getSamples();
+			for (int i = 0; i < samples.size(); i++) {
+				var s = samples.get(i);
+				out.printf(Locale.ROOT, "    \"%s\": {\"calls\": %d, \"ms\": %.3f, \"percent\": %.2f, \"p99Us\": %.1f}%s%n",
+							s.name().toLowerCase(Locale.ROOT), s.calls(), s.getMillis(),
+							(100D * s.nanos()) / elapsedNanos, s.p99Nanos() / 1000D,
+							(i < samples.size() - 1 ? "," : ""));
+			}
+			out.println("  }");
+			out.println("}");
+		}
+
+		PulseProfiler.setEnabled(false);
+		String summary = pulses + " pulses in " + Math.round(elapsedMs) + " ms. Report in "
+							+ reportFile.getAbsolutePath();
+		if (outcome == Outcome.COMPLETE) {
+			logger.info("Benchmark complete: " + summary);
+		}
+		else {
+			logger.severe("Benchmark failed as " + outcome.name().toLowerCase(Locale.ROOT) + " after "
+							+ Math.round(simSols * 100D) / 100D + " of " + sols + " sols: " + summary);
+		}
+		return outcome;
+	}
+
+	private static void writeValue(PrintWriter out, String name, Object value) {
+		String text;
+		if (value instanceof Double d) {
+			text = String.format(Locale.ROOT, "%.3f", d);
+		}
+		else if (value instanceof Number) {
+			text = value.toString();
+		}
+		else {
+			text = "\"" + String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+		}
+		out.println("  \"" + name + "\": " + text + ",");
+	}
+
+	private static long getUsedHeap() {
+		Runtime rt = Runtime.getRuntime();
+		return rt.totalMemory() - rt.freeMemory();
+	}
+
+	/**
+	 * Gets the bytes allocated by all threads if the JVM supports it.
+	 *
+	 * @return Bytes or -1 if unsupported
+	 */
+	private static long getAllocatedBytes() {
+		if ((ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean t)
+				&& t.isThreadAllocatedMemorySupported() && t.isThreadAllocatedMemoryEnabled()) {
+			return t.getTotalThreadAllocatedBytes();
+		}
+		return -1;
+	}
+
+	private static long getGcCount() {
+		long total = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			total += Math.max(0, gc.getCollectionCount());
+		}
+		return total;
+	}
+
+	private static long getGcTime() {
+		long total = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			total += Math.max(0, gc.getCollectionTime());
+		}
+		return total;
+	}
+}
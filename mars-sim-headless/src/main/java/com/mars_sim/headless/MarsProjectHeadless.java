@@ -28,6 +28,8 @@ import com.mars_sim.console.chat.service.RemoteChatService;
 import com.mars_sim.core.Simulation;
 import com.mars_sim.core.SimulationBuilder;
 import com.mars_sim.core.SimulationRuntime;
+import com.mars_sim.core.logging.PulseMetrics;
+import com.mars_sim.core.person.ai.task.util.ActivityArchive;
 import com.mars_sim.core.tool.RandomStringUtils;
 
 /**
@@ -41,6 +43,16 @@ public class MarsProjectHeadless {
 	private static final String DISPLAYHELP = "help";
 	private static final String RESETADMIN = "resetadmin";
 	private static final String LOAD_ARG = "load";
+	private static final String BENCHMARK_ARG = "benchmark";
+	private static final String PULSE_ARG = "pulse";
+	private static final String REPORT_ARG = "report";
+	private static final String ARCHIVE_ARG = "activityarchive";
+	private static final String ARCHIVE_DIR = "activity";
+	private static final String EVENT_ARCHIVE_ARG = "eventarchive";
+	private static final String EVENT_ARCHIVE_DIR = "events";
+
+	private static final double DEFAULT_BENCHMARK_PULSE = 1D;
+	private static final String DEFAULT_REPORT = "benchmark.json";
 
 
 	/** initialized logger for this class. */
@@ -99,9 +111,21 @@ public class MarsProjectHeadless {
 		options.addOptionGroup(remoteGrp);
 		options.addOption(Option.builder(RESETADMIN)
 				.desc("Reset the internal admin password").build());
+		options.addOption(Option.builder(BENCHMARK_ARG).argName("sols").hasArg()
+				.desc("Run a new simulation for a number of sols as fast as possible and then exit").build());
+		options.addOption(Option.builder(PULSE_ARG).argName("millisols").hasArg()
+				.desc("Fixed pulse width of the benchmark [default " + DEFAULT_BENCHMARK_PULSE + "]").build());
+		options.addOption(Option.builder(REPORT_ARG).argName("path to report").hasArg()
+				.desc("File for the benchmark report [default " + DEFAULT_REPORT + "]").build());
+		options.addOption(Option.builder(ARCHIVE_ARG)
+				.desc("Move old worker activities to files in the data directory").build());
+		options.addOption(Option.builder(EVENT_ARCHIVE_ARG)
+				.desc("Move old historical events to files in the data directory").build());
 
 		CommandLineParser commandline = new DefaultParser();
 		boolean resetAdmin = false;
+		BenchmarkRunner benchmark = null;
+		File eventArchive = null;
 		try {
 			CommandLine line = commandline.parse(options, args);
 
@@ -131,6 +155,25 @@ public class MarsProjectHeadless {
 				}
 				builder.setSimFile(simFile);
 			}
+			if (line.hasOption(ARCHIVE_ARG)) {
+				ActivityArchive.setDirectory(new File(SimulationRuntime.getDataDir(), ARCHIVE_DIR));
+			}
+			if (line.hasOption(EVENT_ARCHIVE_ARG)) {
+				eventArchive = new File(SimulationRuntime.getDataDir(), EVENT_ARCHIVE_DIR);
+			}
+			if (line.hasOption(BENCHMARK_ARG)) {
+				int sols = Integer.parseInt(line.getOptionValue(BENCHMARK_ARG));
+				double pulse = DEFAULT_BENCHMARK_PULSE;
+				if (line.hasOption(PULSE_ARG)) {
+					pulse = Double.parseDouble(line.getOptionValue(PULSE_ARG));
+				}
+				File report = new File(line.getOptionValue(REPORT_ARG, DEFAULT_REPORT));
+				String scenario = line.getOptionValue("template", line.getOptionValue("scenario", "default"));
+
+				builder.setFixedPulseTime(pulse);
+				benchmark = new BenchmarkRunner(sols, report, scenario);
+				startServer = false;
+			}
 		}
 		catch (Exception e1) {
 			usage("Problem with arguments: " + e1.getMessage(), options);
@@ -141,9 +184,22 @@ public class MarsProjectHeadless {
 			// Build and run the simulator
 			builder.start();
 
+			if (eventArchive != null) {
+				// Archive belongs to the running simulation
+				Simulation.instance().getEventManager().setArchiveDirectory(eventArchive);
+			}
+
 			if (startServer) {
+				// Remote instances are monitored over JMX
+				PulseMetrics.register();
 				startRemoteConsole(serverPort, resetAdmin);
 			}
+
+			if (benchmark != null) {
+				var outcome = benchmark.run(Simulation.instance());
+				Simulation.instance().endSimulation();
+				System.exit(outcome == BenchmarkRunner.Outcome.COMPLETE ? 0 : 1);
+			}
 		}
 		catch(Exception e) {
 			// Catch everything
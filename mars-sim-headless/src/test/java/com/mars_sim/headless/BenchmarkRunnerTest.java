@@ -0,0 +1,95 @@
+package com.mars_sim.headless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mars_sim.core.Simulation;
+import com.mars_sim.core.SimulationConfig;
+import com.mars_sim.core.time.MasterClock;
+
+class BenchmarkRunnerTest {
+
+    private MasterClock clock;
+    private File report;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        SimulationConfig.instance().loadConfig();
+        var sim = Simulation.instance();
+        sim.testRun();
+        clock = sim.getMasterClock();
+        report = Files.createTempFile("benchmark", ".json").toFile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        report.delete();
+    }
+
+    private String readReport() throws IOException {
+        return Files.readString(report.toPath(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testComplete() throws Exception {
+        var runner = new BenchmarkRunner(2, report, "Test");
+
+        // Simulation moves on whilst the runner waits
+        Thread pulses = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                clock.setMarsTime(clock.getMarsTime().addTime(2001));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        pulses.start();
+
+        assertEquals("Outcome", BenchmarkRunner.Outcome.COMPLETE, runner.run(clock));
+        pulses.join();
+        assertTrue("Clock paused at the end", clock.isPaused());
+
+        String content = readReport();
+        assertTrue("Outcome reported", content.contains("\"outcome\": \"complete\""));
+        assertTrue("Scenario reported", content.contains("\"scenario\": \"Test\""));
+        assertTrue("Subsystems reported", content.contains("\"subsystems\": {"));
+    }
+
+    @Test
+    void testTimeout() throws Exception {
+        var runner = new BenchmarkRunner(1, report, "Test", 300);
+
+        // Clock is running but never advances
+        long start = System.currentTimeMillis();
+        assertEquals("Outcome", BenchmarkRunner.Outcome.TIMEOUT, runner.run(clock));
+        assertTrue("Gave up after the timeout", System.currentTimeMillis() - start < 10_000);
+
+        assertTrue("Timeout reported", readReport().contains("\"outcome\": \"timeout\""));
+    }
+
+    @Test
+    void testStopped() throws Exception {
+        var runner = new BenchmarkRunner(1, report, "Test");
+
+        clock.stop();
+        assertEquals("Outcome", BenchmarkRunner.Outcome.STOPPED, runner.run(clock));
+        assertTrue("Stop reported", readReport().contains("\"outcome\": \"stopped\""));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BenchmarkRunner(0, report, "Test"));
+        assertThrows(IllegalArgumentException.class, () -> new BenchmarkRunner(1, report, "Test", 0));
+    }
+}
@@ -6,8 +6,8 @@
  */
 package com.mars_sim.tools.helpgenerator;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import com.github.mustachejava.DefaultMustacheFactory;
@@ -88,7 +89,9 @@ public class HelpContext {
 
 	private DefaultMustacheFactory mf;
 	private String templateDir;
+	private Map<String, Mustache> templates = new ConcurrentHashMap<>();
 	private Map<String, Object> baseScope = null;
+	private String generatedOn;
 
 	private Map<String, ResourceUse> resourceUses = null;
 	private SimulationConfig config;
@@ -115,8 +118,8 @@ public class HelpContext {
 
 		this.baseScope = new HashMap<>();
 		this.baseScope.put("version", SimulationRuntime.VERSION.getVersionTag());
-		this.baseScope.put("generatedOn",
-						DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now()));
+		this.generatedOn = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now());
+		this.baseScope.put("generatedOn", generatedOn);
 		
 		// Location of other generated file; used for links
 		for(var f : GENERATORS) {
@@ -171,7 +174,7 @@ public class HelpContext {
 	 * @param name
 	 * @return
 	 */
-	ResourceUse getResourceUsageByName(String name) {
+	synchronized ResourceUse getResourceUsageByName(String name) {
 		if (resourceUses == null) {
 			resourceUses = new HashMap<>();
 			for (var m: config.getManufactureConfiguration().getManufactureProcessList()) {
@@ -210,7 +213,8 @@ public class HelpContext {
 	}
 
 	/**
-	 * Generates all configurations.
+	 * Generates all configurations. Only pages that have changed since the last generation
+	 * into the same location are written and pages of entities that have gone are removed.
 	 * 
 	 * @param outputDir Root location for generated files
 	 * @throws IOException
@@ -223,8 +227,9 @@ public class HelpContext {
 		}
 
 		// Generate all subtype
+		var pages = openPages(outputDir);
 		for(var g : gens) {
-			g.generateAll(outputDir);
+			g.generateAll(outputDir, pages);
 		}
 
 		Map<String,Object> topScope = createScopeMap("Configurations");
@@ -234,11 +239,23 @@ public class HelpContext {
 			var topTemplate = getTemplate("top-list");
 
 			// Generate configuration overview page
-			try (FileOutputStream topIndex = new FileOutputStream(new File(outputDir,
-															generateFileName(indexName)))) {
-				generateContent(topTemplate, topScope, topIndex);
-			}
+			pages.write(new File(outputDir, generateFileName(indexName)),
+						generateContent(topTemplate, topScope));
 		}
+
+		pages.save(true);
+	}
+
+	/**
+	 * Opens the store for the pages generated in a location.
+	 * 
+	 * @param outputDir Root location for generated files
+	 * @return
+	 * @throws IOException
+	 */
+	PageStore openPages(File outputDir) throws IOException {
+		// The generation time is on every page but is not a change
+		return new PageStore(outputDir, generatedOn);
 	}
 
     public SimulationConfig getConfig() {
@@ -254,13 +271,13 @@ public class HelpContext {
 
 	/**
 	 * Looks up a template. This will select the appropriate Mustache template for the defined
-	 * template set.
+	 * template set. Templates are only compiled once.
 	 * 
 	 * @param template
 	 * @return
 	 */
 	Mustache getTemplate(String template) {
-		return mf.compile(templateDir + template + ".mustache");
+		return templates.computeIfAbsent(template, t -> mf.compile(templateDir + t + ".mustache"));
 	}
 
 	/**
@@ -278,6 +295,20 @@ public class HelpContext {
         writer.flush();
 	}
 
+	/**
+	 * Creates the content of a page in memory by applying a template to a scope.
+	 * 
+	 * @param template Template to use to generate content
+	 * @param scope Scope of properties to apply
+	 * @return
+	 * @throws IOException
+	 */
+	byte[] generateContent(Mustache template, Map<String, Object> scope) throws IOException {
+		var output = new ByteArrayOutputStream();
+		generateContent(template, scope, output);
+		return output.toByteArray();
+	}
+
 	/**
 	 * Factory method to create a Type Generator
 	 * @param name Name of the generator
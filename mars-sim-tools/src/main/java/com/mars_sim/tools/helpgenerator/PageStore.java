@@ -0,0 +1,145 @@
+/*
+ * Mars Simulation Project
+ * PageStore.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.tools.helpgenerator;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Writes the generated pages under a folder. A digest of every page is kept in the
+ * folder so a page that is the same as the last time it was generated is not written
+ * again. Pages can be written by many threads at once.
+ */
+final class PageStore {
+
+    // Holds the digest of each page by the relative path
+    static final String DIGEST_FILE = "page-digests.properties";
+
+    private static Logger logger = Logger.getLogger(PageStore.class.getName());
+
+    private final Path root;
+    private final String volatileText;
+    private final Map<String, String> previous = new HashMap<>();
+    private final Map<String, String> current = new ConcurrentHashMap<>();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    /**
+     * Create a store for a folder loading the digests of any pages already there.
+     * @param root Top folder of the generated pages
+     * @param volatileText Text that changes on every run, e.g. generation time, so is ignored when comparing pages; can be null
+     * @throws IOException
+     */
+    PageStore(File root, String volatileText) throws IOException {
+        root.mkdirs();
+        this.root = root.toPath();
+        this.volatileText = volatileText;
+
+        File digests = new File(root, DIGEST_FILE);
+        if (digests.exists()) {
+            Properties saved = new Properties();
+            try (FileInputStream source = new FileInputStream(digests)) {
+                saved.load(source);
+            }
+            saved.stringPropertyNames().forEach(k -> previous.put(k, saved.getProperty(k)));
+        }
+    }
+
+    /**
+     * Write a page unless it is the same as the existing one.
+     * @param file Destination of the page
+     * @param content Complete content of the page
+     * @return Was the page written
+     * @throws IOException
+     */
+    boolean write(File file, byte[] content) throws IOException {
+        String key = root.relativize(file.toPath()).toString().replace(File.separatorChar, '/');
+        String digest = digestOf(content);
+        current.put(key, digest);
+
+        if (digest.equals(previous.get(key)) && file.exists()) {
+            skipped.incrementAndGet();
+            return false;
+        }
+
+        // Single write of the whole page
+        Files.write(file.toPath(), content);
+        written.incrementAndGet();
+        return true;
+    }
+
+    private String digestOf(byte[] content) {
+        String text = new String(content, StandardCharsets.UTF_8);
+        if (volatileText != null) {
+            text = text.replace(volatileText, "");
+        }
+
+        try {
+            var md = MessageDigest.getInstance("SHA-256");
+            return toHex(md.digest(text.getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("No digest available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder result = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16))
+                  .append(Character.forDigit(b & 0xF, 16));
+        }
+        return result.toString();
+    }
+
+    int getWritten() {
+        return written.get();
+    }
+
+    int getSkipped() {
+        return skipped.get();
+    }
+
+    /**
+     * Save the digests of the pages for the next run.
+     * @param removeOld Remove any pages from the last run that have not been written in this one
+     * @throws IOException
+     */
+    void save(boolean removeOld) throws IOException {
+        Properties saved = new Properties();
+        for (var e : previous.entrySet()) {
+            String key = e.getKey();
+            if (current.containsKey(key)) {
+                continue;
+            }
+            if (removeOld) {
+                Files.deleteIfExists(root.resolve(key));
+            }
+            else {
+                saved.setProperty(key, e.getValue());
+            }
+        }
+        current.forEach(saved::setProperty);
+
+        try (FileOutputStream sink = new FileOutputStream(new File(root.toFile(), DIGEST_FILE))) {
+            saved.store(sink, "Digests of generated pages");
+        }
+        logger.info("Pages written " + written.get() + ", unchanged " + skipped.get());
+    }
+}
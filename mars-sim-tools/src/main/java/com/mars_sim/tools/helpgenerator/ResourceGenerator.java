@@ -38,7 +38,7 @@ public class ResourceGenerator extends TypeGenerator<AmountResource> {
 	 * Get the usage of a Resource by it's name. This will return where is an inout or output
 	 * to a process.
 	 */
-	private ResourceUse getFoodUsageByName(String name) {
+	private synchronized ResourceUse getFoodUsageByName(String name) {
 		if (foodProductionUse == null) {
 			foodProductionUse = new HashMap<>();
 			for (var m: getParent().getConfig().getFoodProductionConfiguration().getProcessList()) {
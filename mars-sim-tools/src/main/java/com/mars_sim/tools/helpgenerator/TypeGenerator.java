@@ -6,10 +6,11 @@
  */
 package com.mars_sim.tools.helpgenerator;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -35,9 +36,6 @@ public abstract class TypeGenerator<T> {
     // CReate an empty reosurce use
     protected static final ResourceUse EMPTY_USE = HelpContext.buildEmptyResourceUse();
 
-	private static Mustache indexTemplate;
-	private static Mustache groupedTemplate;
-
     private HelpContext parent;
     private String typeName;
     private String title;
@@ -121,9 +119,9 @@ public abstract class TypeGenerator<T> {
 	 * 
 	 * @param entites List of Entities to render
 	 * @param outputDir Target root folder for the file
-	 * 
+	 * @param pages Destination of the generated page
 	 */
-	 private void createIndex(List<T> entities, File outputDir) 
+	 private void createIndex(List<T> entities, File outputDir, PageStore pages) 
                     throws IOException {
         var context = getParent();
         Mustache template;
@@ -144,35 +142,40 @@ public abstract class TypeGenerator<T> {
             scope.put("groups", groups);
             scope.put("groupname", groupName);
     
-            // Load the template
-            if (groupedTemplate == null) {
-                groupedTemplate = context.getTemplate("entity-grouped");
-            }
-            template = groupedTemplate;
+            template = context.getTemplate("entity-grouped");
         }
         else {
             scope.put("entities", entities);
 
-            // Load the template
-            if (indexTemplate == null) {
-                indexTemplate = getParent().getTemplate("entity-list");
-            }
-            template = indexTemplate;
+            template = context.getTemplate("entity-list");
         }
        
         // Generate file
         File indexFile = new File(outputDir, getParent().generateFileName(getParent().getIndexName()));
-        try (FileOutputStream dest = new FileOutputStream(indexFile)) {
-            getParent().generateContent(template, scope, dest);
-        }
+        pages.write(indexFile, getParent().generateContent(template, scope));
     }
 
     /**
 	 * Generate the files for all the entities of this type including an index.
+     * Only the files that have changed are written.
      * @param outputDir The top levle folder of generated files
 	 * @throws IOException
 	 */
 	public void generateAll(File outputDir) throws IOException {
+        var pages = parent.openPages(outputDir);
+        generateAll(outputDir, pages);
+
+        // Other types are not generated so keep their pages
+        pages.save(false);
+    }
+
+    /**
+	 * Generate the files for all the entities of this type including an index.
+     * @param outputDir The top levle folder of generated files
+     * @param pages Destination of the generated pages
+	 * @throws IOException
+	 */
+	void generateAll(File outputDir, PageStore pages) throws IOException {
 		logger.info("Generating files for " + typeName);
 
 		File targetDir = new File(outputDir, typeName);
@@ -181,17 +184,31 @@ public abstract class TypeGenerator<T> {
 		List<T> vTypes = getEntities(); 
 	
 		// Create index
-        createIndex(vTypes, targetDir);
-
-		// Individual entity pages
-		for(T v : vTypes) {
-            File targetFile = new File(targetDir, parent.generateFileName(getEntityName(v)));
-            try(FileOutputStream dest = new FileOutputStream(targetFile)) {
-                generateEntity(v, dest);
-            }
-		}
+        createIndex(vTypes, targetDir, pages);
+
+		// Individual entity pages do not depend on each other so render them together
+        try {
+            vTypes.parallelStream().forEach(v -> {
+                File targetFile = new File(targetDir, parent.generateFileName(getEntityName(v)));
+                try {
+                    pages.write(targetFile, renderEntity(v));
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
 	}
 
+    private byte[] renderEntity(T v) throws IOException {
+        var output = new ByteArrayOutputStream();
+        generateEntity(v, output);
+        return output.toByteArray();
+    }
+
     /**
 	 * Prepare the scope to support the process-inout template
 	 * @param scope Scop of properties
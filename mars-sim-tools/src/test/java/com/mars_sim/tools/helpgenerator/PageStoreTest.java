@@ -0,0 +1,71 @@
+package com.mars_sim.tools.helpgenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+class PageStoreTest {
+
+    private static byte[] page(String body, String generatedOn) {
+        return ("<p>" + body + "</p><small>Generated on: " + generatedOn + "</small>")
+                        .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testUnchangedSkipped() throws IOException {
+        File output = Files.createTempDirectory("pages").toFile();
+        try {
+            File page = new File(output, "part.html");
+            var first = new PageStore(output, "Monday");
+            assertTrue("First page written", first.write(page, page("Drill", "Monday")));
+            first.save(true);
+
+            // Only the generation time differs
+            var second = new PageStore(output, "Tuesday");
+            assertFalse("Same page skipped", second.write(page, page("Drill", "Tuesday")));
+            assertTrue("Changed page written", second.write(new File(output, "other.html"),
+                                                        page("Saw", "Tuesday")));
+            assertEquals("Pages skipped", 1, second.getSkipped());
+            assertEquals("Pages written", 1, second.getWritten());
+            assertTrue("Old content kept", Files.readString(page.toPath()).contains("Monday"));
+        }
+        finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    void testRemoveOld() throws IOException {
+        File output = Files.createTempDirectory("pages").toFile();
+        try {
+            File kept = new File(output, "kept.html");
+            File gone = new File(output, "gone.html");
+            var first = new PageStore(output, null);
+            first.write(kept, page("Kept", ""));
+            first.write(gone, page("Gone", ""));
+            first.save(true);
+
+            var partial = new PageStore(output, null);
+            partial.write(kept, page("Kept", ""));
+            partial.save(false);
+            assertTrue("Page kept on partial generation", gone.exists());
+
+            var full = new PageStore(output, null);
+            full.write(kept, page("Kept again", ""));
+            full.save(true);
+            assertFalse("Page removed", gone.exists());
+            assertTrue("Page rewritten", Files.readString(kept.toPath()).contains("Kept again"));
+        }
+        finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+}
@@ -7,12 +7,18 @@
 package com.mars_sim.ui.swing.tool.monitor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.SwingUtilities;
 
@@ -23,17 +29,43 @@ import com.mars_sim.ui.swing.utils.ColumnSpec;
  * a single simulation entity. The properties of the entity are mapped into columns
  * by the sub implementation. It provides the ability to cache specific columns in a 
  * backing store to reduce the computation effort.
- * 
+ * Changes reported by the simulation refresh the cached columns of rows already in the
+ * cache when they happen. At most every {@link #PUBLISH_PERIOD} ms the table is told of
+ * all the changes in one event.
  */
 @SuppressWarnings("serial")
 public abstract class EntityTableModel<T> extends AbstractMonitorModel {
 
+    /**
+     * The range of columns of a row that have changed since the last publish.
+     */
+    private record ChangedColumns(int first, int last) {
+        ChangedColumns merge(ChangedColumns other) {
+            return new ChangedColumns(Math.min(first, other.first), Math.max(last, other.last));
+        }
+    }
+
+    /** Minimum time between updates of the table in milliseconds. */
+    static final long PUBLISH_PERIOD = 500;
+
+    // Shared by all models so the cached columns are never calculated in the UI Thread
+    private static final ScheduledExecutorService publisher =
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread t = new Thread(r, "monitor-publisher");
+                    t.setDaemon(true);
+                    return t;
+                });
 
     private List<T> entities;
-    private Map<T ,Map<Integer, Object>> rowCache;
+    // The rows of cached values are replaced as a whole and never changed once added
+    private Map<T, Object[]> rowCache;
     private Set<Integer> cachedColumns;
     private boolean fireEnabled;
 
+    private Map<T, ChangedColumns> changed = new ConcurrentHashMap<>();
+    private AtomicBoolean publishPending = new AtomicBoolean(false);
+    private volatile boolean destroyed = false;
+
     /**
 	 * Constructor.
 	 *
@@ -66,7 +98,7 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
     }
 
     protected void resetCache() {
-        rowCache = new HashMap<>();   
+        rowCache = new ConcurrentHashMap<>();
     }
 
     /**
@@ -118,11 +150,6 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
     private void addRow(T newEntity) {
         entities.add(newEntity);
 
-        if (rowCache != null) {
-            // Add the data row now
-            rowCache.put(newEntity, new HashMap<>());
-        }
-
         if (fireEnabled) {
             int idx = entities.indexOf(newEntity);
             fireTableRowsInserted(idx, idx);
@@ -152,6 +179,7 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
         if (rowCache != null) {
             rowCache.remove(oldEntity);
         }
+        changed.remove(oldEntity);
 
         if (fireEnabled) {
             fireTableRowsDeleted(idx, idx);
@@ -242,67 +270,161 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
     }
 
     private Object getCacheValue(T entity, int columnIndex) {
-        Map<Integer, Object> rowValues = rowCache.get(entity);
-        if (rowValues != null) {
-            return rowValues.get(columnIndex);
+        Object[] rowValues = rowCache.get(entity);
+        if ((rowValues != null) && (columnIndex < rowValues.length)) {
+            return rowValues[columnIndex];
         }
         return null;
     }
 
     private void setCacheValue(T entity, int columnIndex, Object value) {
-        rowCache.computeIfAbsent(entity, k -> new HashMap<Integer, Object>()).put(columnIndex, value);
+        rowCache.compute(entity, (k, old) -> {
+            Object[] row = (old == null ? new Object[Math.max(getColumnCount(), columnIndex + 1)]
+                                    : old.clone());
+            row[columnIndex] = value;
+            return row;
+        });
     }
 
     /**
-     * Updates a range of column values that have been changed. 
-     * This will recalculate any cached columns if needed
-     * and always fire a model change event asynchronously.
+     * Records that a range of column values have changed. Any cached values are
+     * recalculated in this Thread to avoid problem with calculating derived values
+     * in the UI Thread; the table is updated the next time changes are published.
      * 
      * @param entity
      * @param firstCol
      * @param lastCol
      */
 	protected void entityValueUpdated(T entity, int firstCol, int lastCol) {
-        int rowIndex = entities.indexOf(entity);
-        if (rowIndex < 0) {
+        if (!refreshCache(entity, firstCol, lastCol)) {
+            // Nothing visible has changed
             return;
         }
 
-        for(int i = firstCol; i<= lastCol; i++) {
-            if (cachedColumns.contains(i)) {
-                // Recalculate cached value in this Thread to avoid problem
-                // with calculating derived values in the UI Thread
+        changed.merge(entity, new ChangedColumns(firstCol, lastCol), ChangedColumns::merge);
+
+        if (!destroyed && publishPending.compareAndSet(false, true)) {
+            publisher.schedule(this::publishChanges, PUBLISH_PERIOD, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Recalculates the cached columns of a changed row. Only rows already in the cache
+     * are calculated; others are calculated when first displayed.
+     * 
+     * @param entity
+     * @param firstCol
+     * @param lastCol
+     * @return Could something visible have changed
+     */
+    private boolean refreshCache(T entity, int firstCol, int lastCol) {
+        Object[] oldRow = (rowCache != null ? rowCache.get(entity) : null);
+        if (oldRow == null) {
+            return true;
+        }
+
+        boolean onlyCached = true;
+        Map<Integer, Object> newValues = null;
+        for (int i = firstCol; i <= lastCol; i++) {
+            if (!cachedColumns.contains(i)) {
+                onlyCached = false;
+            }
+            else {
                 Object newValue = getEntityValue(entity, i);
-                Object cachedValue = getCacheValue(entity, i);
-                if ((cachedValue == null) || !cachedValue.equals(newValue)) {
-                    setCacheValue(entity, i, getEntityValue(entity, i));
+                Object oldValue = (i < oldRow.length ? oldRow[i] : null);
+                if ((oldValue == null) || !oldValue.equals(newValue)) {
+                    if (newValues == null) {
+                        newValues = new HashMap<>();
+                    }
+                    newValues.put(i, newValue);
                 }
             }
+        }
 
-            // Fire the cell update in the background thread
-            SwingUtilities.invokeLater(new TableCellUpdater(rowIndex, i));
+        if (newValues == null) {
+            return !onlyCached;
         }
+
+        // Replace the row as a whole; the row may have been removed in the meantime
+        final Map<Integer, Object> values = newValues;
+        rowCache.computeIfPresent(entity, (k, old) -> {
+            Object[] row = Arrays.copyOf(old, Math.max(old.length, lastCol + 1));
+            values.forEach((i, v) -> row[i] = v);
+            return row;
+        });
+        return true;
     }
 
     /**
-     * Gets the real value of this entity for a specific column. This implementation
-     * may involve expensive calculations.
+     * Takes the changes recorded since the last publish and tells the table of them
+     * in one go in the UI Thread.
      */
-    protected abstract Object getEntityValue(T entity, int column);
+    private void publishChanges() {
+        publishPending.set(false);
+        Map<T, ChangedColumns> batch = new HashMap<>();
+        for (T entity : changed.keySet()) {
+            ChangedColumns cols = changed.remove(entity);
+            if (cols != null) {
+                batch.put(entity, cols);
+            }
+        }
 
-    private class TableCellUpdater implements Runnable {
+        if (!batch.isEmpty()) {
+            SwingUtilities.invokeLater(() -> applyChanges(batch));
+        }
+    }
 
-        private int colIndex;
-        private int rowIndex;
+    /**
+     * Fires a single event covering all the changed rows.
+     * The table only repaints the part of this that is visible.
+     * 
+     * @param batch Changed columns of each row
+     */
+    private void applyChanges(Map<T, ChangedColumns> batch) {
+        if (destroyed) {
+            return;
+        }
 
-        public TableCellUpdater(int rowIndex, int colIndex) {
-            this.rowIndex = rowIndex;
-            this.colIndex = colIndex;
+        int firstRow = -1;
+        int lastRow = -1;
+        int firstCol = Integer.MAX_VALUE;
+        int lastCol = -1;
+        for (int i = 0; i < entities.size(); i++) {
+            ChangedColumns cols = batch.get(entities.get(i));
+            if (cols != null) {
+                if (firstRow < 0) {
+                    firstRow = i;
+                }
+                lastRow = i;
+                firstCol = Math.min(firstCol, cols.first());
+                lastCol = Math.max(lastCol, cols.last());
+            }
         }
 
-        @Override
-        public void run() {
-            fireTableCellUpdated(rowIndex, colIndex);
+        if (firstRow < 0) {
+            return;
+        }
+        if ((firstRow == lastRow) && (firstCol == lastCol)) {
+            fireTableCellUpdated(firstRow, firstCol);
         }
+        else {
+            fireTableRowsUpdated(firstRow, lastRow);
+        }
+    }
+
+    /**
+     * Gets the real value of this entity for a specific column. This implementation
+     * may involve expensive calculations.
+     */
+    protected abstract Object getEntityValue(T entity, int column);
+
+    /**
+     * Stops any further updates of the table.
+     */
+    @Override
+    public void destroy() {
+        destroyed = true;
+        changed.clear();
+        super.destroy();
     }
 }
@@ -7,6 +7,8 @@
 package com.mars_sim.ui.swing.tool.monitor;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -14,6 +16,7 @@ import java.util.Set;
 import javax.swing.SwingUtilities;
 
 import com.mars_sim.core.Entity;
+import com.mars_sim.core.events.EventQuery;
 import com.mars_sim.core.events.HistoricalEvent;
 import com.mars_sim.core.events.HistoricalEventCategory;
 import com.mars_sim.core.events.HistoricalEventListener;
@@ -46,6 +49,9 @@ public class EventTableModel extends AbstractMonitorModel implements HistoricalE
 	
 	private static final int COLUMNCOUNT = 9;
 
+	/** Most events shown; the oldest are removed. */
+	private static final int MAX_ROWS = 2000;
+
 	// Event that are too low level to display
 	private static final Set<EventType> BLOCKED_EVENTS = Set.of(
 //			EventType.MEDICAL_STARTS,
@@ -114,13 +120,18 @@ public class EventTableModel extends AbstractMonitorModel implements HistoricalE
 		// Clean out existing cached events for the Event Table.
 		cachedEvents = new ArrayList<>();
 
-		List<HistoricalEvent> events = new ArrayList<>(eventManager.getEvents());
-
-		for (HistoricalEvent event : events) {
-			if (isDisplayable(event)) {
-				cachedEvents.add(event);
+		// Only fetch the latest of the displayed categories
+		Set<HistoricalEventCategory> shown = EnumSet.allOf(HistoricalEventCategory.class);
+		shown.removeAll(blockedTypes);
+		if (!shown.isEmpty()) {
+			List<HistoricalEvent> events = eventManager.getEvents(EventQuery.all()
+											.withCategories(shown).limit(MAX_ROWS));
+			Collections.reverse(events);
+			for (HistoricalEvent event : events) {
+				if (isDisplayable(event)) {
+					cachedEvents.add(event);
+				}
 			}
-
 		}
 
 		// Update all table listeners.
@@ -245,6 +256,10 @@ public class EventTableModel extends AbstractMonitorModel implements HistoricalE
 		if (isDisplayable(event)) {
 			cachedEvents.add(event);
 			fireTableRowsInserted(cachedEvents.size()-1, cachedEvents.size()-1);
+			if (cachedEvents.size() > MAX_ROWS) {
+				cachedEvents.remove(0);
+				fireTableRowsDeleted(0, 0);
+			}
 		}
 	}
 
@@ -18,8 +18,6 @@ import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.apache.batik.gvt.GraphicsNode;
 
@@ -28,6 +26,7 @@ import com.mars_sim.core.map.location.LocalPosition;
 
 /**
  * This class provides basic method to draw on the Settlement Map panel.
+ * Rendered labels and structures are held in the shared {@link MapImageCache}.
  */
 public abstract class AbstractMapLayer implements SettlementMapLayer {
     // A data record to represent a color choice.
@@ -47,9 +46,6 @@ public abstract class AbstractMapLayer implements SettlementMapLayer {
 	private static final BasicStroke THICK_DASH = new BasicStroke(10.0f,
 			  BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 50.0f, DASHES, 0.0f);
 
-    private Map<String, BufferedImage> labelImageCache = new HashMap<>();
-	private Map<Double, Map<StructureKey, BufferedImage>> svgImageCache = new HashMap<>();
-
     /**
 	 * Draws an oval at a settlement.
 	 * 
@@ -268,16 +264,10 @@ public abstract class AbstractMapLayer implements SettlementMapLayer {
 		String label, Font font, FontRenderContext fontRenderContext, ColorChoice labelColor,
 		boolean hasOutline
 	) { 
-		BufferedImage labelImage = null;
-		String labelId = label + font.toString() + labelColor.toString();
-		if (labelImageCache.containsKey(labelId)) {
-			labelImage = labelImageCache.get(labelId);
-		} else {
-			labelImage = createLabelImage(label, font, fontRenderContext, labelColor.text(),
-							labelColor.outline(), hasOutline);
-			labelImageCache.put(labelId, labelImage);
-		}
-		return labelImage;
+		String labelId = label + font.toString() + labelColor.toString() + hasOutline;
+		return MapImageCache.getInstance().getFixedImage(labelId,
+						() -> createLabelImage(label, font, fontRenderContext, labelColor.text(),
+											labelColor.outline(), hasOutline));
 	}
 
 	/**
@@ -336,7 +326,8 @@ public abstract class AbstractMapLayer implements SettlementMapLayer {
 	}
 
 	/**
-     * Gets a buffered image for a given graphics node.
+     * Gets a buffered image for a given graphics node. The image is rendered at a zoom
+     * level close to the scale so must be drawn at the size of the structure.
      * 
      * @param svg the SVG graphics node.
      * @param width the structure width (meters).
@@ -348,28 +339,9 @@ public abstract class AbstractMapLayer implements SettlementMapLayer {
             GraphicsNode svg, double width, double length,
             GraphicsNode patternSVG, double scale) {
 
-        // Get image cache for current scale or create it if it doesn't exist.
-        Map<StructureKey, BufferedImage> imageCache = null;
-        if (svgImageCache.containsKey(scale)) {
-            imageCache = svgImageCache.get(scale);
-        }
-        else {
-            imageCache = new HashMap<>(100);
-            svgImageCache.put(scale, imageCache);
-        }
-
-        // Get image from image cache or create it if it doesn't exist.
-        BufferedImage image = null;
         StructureKey buildingKey = new StructureKey(svg, width, length);
-        if (imageCache.containsKey(buildingKey)) {
-            image = imageCache.get(buildingKey);
-        }
-        else {
-            image = createBufferedImage(svg, width, length, patternSVG, scale);
-            imageCache.put(buildingKey, image);
-        }
-
-        return image;
+        return MapImageCache.getInstance().getImage(buildingKey, scale,
+                        s -> createBufferedImage(svg, width, length, patternSVG, s));
     }
 
     /**
@@ -500,7 +472,8 @@ public abstract class AbstractMapLayer implements SettlementMapLayer {
 			newTransform.rotate(facingRadian, centerX + boundsPosX, centerY + boundsPosY);
 			
 			g2d.transform(newTransform);
-			g2d.drawImage(image, 0, 0, null);
+			g2d.drawImage(image, 0, 0, Math.max(1, (int) (width * scale)),
+							Math.max(1, (int) (length * scale)), null);
 		}
 
         if (selectedColor != null) {   
@@ -577,7 +550,6 @@ public abstract class AbstractMapLayer implements SettlementMapLayer {
 	
     @Override
     public void destroy() {
-		labelImageCache.clear();
-        svgImageCache.clear();
+		// Images are held in the shared cache which is cleared by the map panel
     }   
 }
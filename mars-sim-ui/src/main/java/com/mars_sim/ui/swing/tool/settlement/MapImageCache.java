@@ -0,0 +1,333 @@
+/*
+ * Mars Simulation Project
+ * MapImageCache.java
+ * @date 2026-10-19
+ */
+package com.mars_sim.ui.swing.tool.settlement;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.DoubleFunction;
+import java.util.function.Supplier;
+
+import com.mars_sim.core.logging.SimLogger;
+
+/**
+ * A cache of the images drawn on the settlement map that is shared by all the layers.
+ * The memory held is limited to a budget of bytes and the least recently used images
+ * are dropped first.
+ * Images of structures are rendered at fixed zoom levels; a scale between two levels
+ * uses the image of the level above which the caller shrinks to fit. A level not yet
+ * rendered is drawn in the background, as are the levels either side of a new one,
+ * while the nearest level held is used instead.
+ */
+final class MapImageCache {
+
+	/**
+	 * Draws an image of a source at a scale.
+	 */
+	interface Renderer extends DoubleFunction<BufferedImage> {}
+
+	/** The key of an image of a source at a zoom level. */
+	private record LevelKey(Object source, int level) {}
+
+	/** The key of an image that is only ever used at one size. */
+	private record FixedKey(Object source) {}
+
+	private static final SimLogger logger = SimLogger.getLogger(MapImageCache.class.getName());
+
+	/** Default memory budget of 64 MB. */
+	static final long DEFAULT_BUDGET = 64L * 1024 * 1024;
+
+	/** Zoom levels in each doubling of the scale. */
+	static final int LEVELS_PER_OCTAVE = 4;
+
+	/** How far to look for another level of a source. */
+	private static final int NEAREST_SEARCH = 2 * LEVELS_PER_OCTAVE;
+
+	private static final double LOG_2 = Math.log(2D);
+
+	private static MapImageCache instance;
+
+	private final Map<Object, BufferedImage> images = new LinkedHashMap<>(128, 0.75f, true);
+	private final Set<LevelKey> pending = ConcurrentHashMap.newKeySet();
+	private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+	private final ExecutorService worker;
+	// Rendering SVGs changes their transform so only one may run at a time
+	private final Object renderLock = new Object();
+
+	private long budget;
+	private long used = 0L;
+	private int generation = 0;
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param budget Maximum bytes held
+	 * @param background Are missing levels rendered in the background; if not all are
+	 * 				rendered when requested
+	 */
+	MapImageCache(long budget, boolean background) {
+		this.budget = budget;
+		if (background) {
+			worker = Executors.newSingleThreadExecutor(r -> {
+				Thread t = new Thread(r, "map-image-cache");
+				t.setDaemon(true);
+				t.setPriority(Thread.MIN_PRIORITY);
+				return t;
+			});
+		}
+		else {
+			worker = null;
+		}
+	}
+
+	/**
+	 * Gets the cache shared by the settlement map.
+	 *
+	 * @return
+	 */
+	static synchronized MapImageCache getInstance() {
+		if (instance == null) {
+			instance = new MapImageCache(DEFAULT_BUDGET, true);
+		}
+		return instance;
+	}
+
+	/**
+	 * Gets the zoom level that holds a scale.
+	 *
+	 * @param scale Pixels per meter
+	 * @return
+	 */
+	static int levelOf(double scale) {
+		// Small margin so a scale exactly on a level is not pushed up one
+		return (int) Math.ceil((Math.log(scale) / LOG_2) * LEVELS_PER_OCTAVE - 1e-9);
+	}
+
+	/**
+	 * Gets the scale of a zoom level.
+	 *
+	 * @param level
+	 * @return Pixels per meter
+	 */
+	static double scaleOf(int level) {
+		return Math.pow(2D, (double) level / LEVELS_PER_OCTAVE);
+	}
+
+	/**
+	 * Changes the memory budget. Images are dropped if it is now exceeded.
+	 *
+	 * @param budget Maximum bytes held
+	 */
+	synchronized void setBudget(long budget) {
+		this.budget = budget;
+		trim();
+	}
+
+	synchronized long getBudget() {
+		return budget;
+	}
+
+	/**
+	 * Gets the bytes currently held.
+	 *
+	 * @return
+	 */
+	synchronized long getUsed() {
+		return used;
+	}
+
+	synchronized int size() {
+		return images.size();
+	}
+
+	/**
+	 * Adds a listener that is told when an image has been rendered in the background.
+	 *
+	 * @param listener
+	 */
+	void addListener(Runnable listener) {
+		listeners.add(listener);
+	}
+
+	void removeListener(Runnable listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Gets the image of a source for a scale. The image may be of a nearby level, so the
+	 * caller must scale it to the size needed.
+	 *
+	 * @param source Identifies what is drawn; must implement equals and hashCode
+	 * @param scale Pixels per meter
+	 * @param renderer Draws the source at the scale of a level
+	 * @return
+	 */
+	BufferedImage getImage(Object source, double scale, Renderer renderer) {
+		int level = levelOf(scale);
+		LevelKey key = new LevelKey(source, level);
+		BufferedImage nearest = null;
+		synchronized (this) {
+			BufferedImage found = images.get(key);
+			if (found != null) {
+				return found;
+			}
+			if (worker != null) {
+				nearest = findNearest(source, level);
+			}
+		}
+
+		if (nearest != null) {
+			// Use what is held for now and render the exact level behind
+			requestLevel(source, level, renderer);
+			return nearest;
+		}
+
+		BufferedImage image = render(renderer, level);
+		int gen;
+		synchronized (this) {
+			store(key, image);
+			gen = generation;
+		}
+
+		// Get ready for the next zoom either way
+		if (worker != null) {
+			requestLevel(source, level + 1, renderer, gen);
+			requestLevel(source, level - 1, renderer, gen);
+		}
+		return image;
+	}
+
+	/**
+	 * Gets an image that is only ever drawn at one size, e.g. a label, creating it if needed.
+	 *
+	 * @param source Identifies what is drawn
+	 * @param creator
+	 * @return
+	 */
+	BufferedImage getFixedImage(Object source, Supplier<BufferedImage> creator) {
+		FixedKey key = new FixedKey(source);
+		synchronized (this) {
+			BufferedImage found = images.get(key);
+			if (found != null) {
+				return found;
+			}
+		}
+
+		BufferedImage image = creator.get();
+		synchronized (this) {
+			store(key, image);
+		}
+		return image;
+	}
+
+	/**
+	 * Finds the closest level of a source that is held. Higher levels are tried first as
+	 * shrinking looks better than stretching.
+	 */
+	private BufferedImage findNearest(Object source, int level) {
+		for (int d = 1; d <= NEAREST_SEARCH; d++) {
+			BufferedImage found = images.get(new LevelKey(source, level + d));
+			if (found == null) {
+				found = images.get(new LevelKey(source, level - d));
+			}
+			if (found != null) {
+				return found;
+			}
+		}
+		return null;
+	}
+
+	private void requestLevel(Object source, int level, Renderer renderer) {
+		int gen;
+		synchronized (this) {
+			gen = generation;
+		}
+		requestLevel(source, level, renderer, gen);
+	}
+
+	/**
+	 * Queues a level to be rendered in the background if not already held or queued.
+	 */
+	private void requestLevel(Object source, int level, Renderer renderer, int gen) {
+		LevelKey key = new LevelKey(source, level);
+		synchronized (this) {
+			if (images.containsKey(key)) {
+				return;
+			}
+		}
+		if (!pending.add(key)) {
+			return;
+		}
+
+		worker.execute(() -> {
+			try {
+				BufferedImage image = render(renderer, level);
+				synchronized (this) {
+					// Drop work queued before the cache was cleared
+					if (gen != generation) {
+						return;
+					}
+					store(key, image);
+				}
+				listeners.forEach(Runnable::run);
+			}
+			catch (RuntimeException e) {
+				logger.warning("Problem rendering map image: " + e.getMessage());
+			}
+			finally {
+				pending.remove(key);
+			}
+		});
+	}
+
+	private BufferedImage render(Renderer renderer, int level) {
+		synchronized (renderLock) {
+			return renderer.apply(scaleOf(level));
+		}
+	}
+
+	/**
+	 * Adds an image and drops the oldest ones over the budget. Must hold the lock.
+	 */
+	private void store(Object key, BufferedImage image) {
+		BufferedImage old = images.put(key, image);
+		if (old != null) {
+			used -= bytesOf(old);
+		}
+		used += bytesOf(image);
+		trim();
+	}
+
+	private void trim() {
+		Iterator<BufferedImage> it = images.values().iterator();
+		// Always keep the newest image even if it is larger than the budget
+		while ((used > budget) && (images.size() > 1)) {
+			used -= bytesOf(it.next());
+			it.remove();
+		}
+	}
+
+	private static long bytesOf(BufferedImage image) {
+		// All the map images are ARGB ints
+		return (long) image.getWidth() * image.getHeight() * Integer.BYTES;
+	}
+
+	/**
+	 * Drops all the images and any background work not yet finished.
+	 */
+	synchronized void clear() {
+		images.clear();
+		used = 0L;
+		generation++;
+	}
+}
@@ -72,6 +72,7 @@ public class SettlementMapPanel extends JPanel {
 	private static final String Y_PROP = "YPOS";
 	private static final String SCALE_PROP = "SCALE";
 	private static final String ROTATION_PROP = "ROTATION";
+	private static final String IMAGE_CACHE_PROP = "IMAGE_CACHE_MB";
 
 	// Static members.
 	public static final double DEFAULT_SCALE = 10D;
@@ -86,6 +87,11 @@ public class SettlementMapPanel extends JPanel {
 	private double yPos;
 	private double rotation;
 	private double scale;
+	/** Memory allowed for the rendered images in MB. */
+	private double imageCacheMB;
+
+	/** Repaints when the image cache has rendered a zoom level in the background. */
+	private Runnable imageListener = this::repaint;
 
 	/** Last X mouse drag position. */
 	private int xLast;
@@ -158,6 +164,8 @@ public class SettlementMapPanel extends JPanel {
 		yPos = UIConfig.extractDouble(userSettings, Y_PROP, 0D);
 		rotation = UIConfig.extractDouble(userSettings, ROTATION_PROP, 0D);
 		scale = UIConfig.extractDouble(userSettings, SCALE_PROP, DEFAULT_SCALE);
+		imageCacheMB = UIConfig.extractDouble(userSettings, IMAGE_CACHE_PROP,
+							MapImageCache.DEFAULT_BUDGET / (1024D * 1024D));
 		for(DisplayOption op : DisplayOption.values()) {
 			if (UIConfig.extractBoolean(userSettings, op.name(), false)) {
 				displayOptions.add(op);
@@ -201,6 +209,10 @@ public class SettlementMapPanel extends JPanel {
 	 */
 	public void initLayers(MainDesktopPane desktop) {
 
+		var imageCache = MapImageCache.getInstance();
+		imageCache.setBudget((long) (imageCacheMB * 1024 * 1024));
+		imageCache.addListener(imageListener);
+
 		// Set up the dayNightMapLayer layers
 		dayNightMapLayer = new DayNightMapLayer(this);
 
@@ -882,6 +894,8 @@ public class SettlementMapPanel extends JPanel {
 			g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 			g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
 			g2d.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+			// Cached images are drawn between their zoom levels
+			g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
 
 			// Display all map layers.
 			var viewpoint = new MapViewPoint(g2d, xPos, yPos, getWidth(), getHeight(), rotation, scale);
@@ -915,6 +929,7 @@ public class SettlementMapPanel extends JPanel {
 		props.setProperty(Y_PROP, Double.toString(yPos));
 		props.setProperty(ROTATION_PROP, Double.toString(rotation));
 		props.setProperty(SCALE_PROP, Double.toString(scale));
+		props.setProperty(IMAGE_CACHE_PROP, Double.toString(imageCacheMB));
 
 		for(FunctionType ft : showSpotLabels) {
 			props.setProperty(SPOT_LBL_PROP + ft.name(), "true");
@@ -942,5 +957,8 @@ public class SettlementMapPanel extends JPanel {
 		mapLayers = null;
 		selectedRobot = null;
 		settlementTransparentPanel = null;
+
+		// The cache is shared with other maps so only stop listening
+		MapImageCache.getInstance().removeListener(imageListener);
 	}
 }
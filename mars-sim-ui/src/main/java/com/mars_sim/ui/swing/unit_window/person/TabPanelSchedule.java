@@ -17,7 +17,7 @@ import javax.swing.JTextField;
 import javax.swing.SwingConstants;
 
 import com.mars_sim.core.Unit;
-import com.mars_sim.core.data.History;
+import com.mars_sim.core.data.HistoryView;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.shift.Shift;
 import com.mars_sim.core.person.ai.shift.ShiftSlot;
@@ -258,7 +258,7 @@ public class TabPanelSchedule extends TabPanel {
 								new ColumnSpec(Msg.getString("TabPanelSchedule.column.missionName"), String.class)
 										};
 
-		ActivityPanel(History<OneActivity> source) {
+		ActivityPanel(HistoryView<OneActivity> source) {
 			super(source, COLUMNS);
 		}
 
@@ -21,7 +21,7 @@ import javax.swing.table.AbstractTableModel;
 import javax.swing.table.TableColumnModel;
 import javax.swing.table.TableModel;
 
-import com.mars_sim.core.data.History;
+import com.mars_sim.core.data.HistoryView;
 import com.mars_sim.core.data.History.HistoryItem;
 import com.mars_sim.core.time.MarsDate;
 import com.mars_sim.core.time.MarsTime;
@@ -93,7 +93,7 @@ public abstract class JHistoryPanel<T> extends JPanel {
 		}
 	}
 
-	private History<T> source;
+	private HistoryView<T> source;
 	private ColumnSpec[] columns;
 	private MarsTime lastTime = null;
 	private int lastSize = 0;
@@ -108,7 +108,7 @@ public abstract class JHistoryPanel<T> extends JPanel {
      * @param source The source of the History details
      * @param columns Details of the extra columns from the Item type
      */
-	protected JHistoryPanel(History<T> source, ColumnSpec[] columns) {
+	protected JHistoryPanel(HistoryView<T> source, ColumnSpec[] columns) {
 		super(new BorderLayout());
 		this.source = source;
 		this.columns = columns;
@@ -0,0 +1,71 @@
+package com.mars_sim.ui.swing.tool.settlement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+class MapImageCacheTest {
+
+    private static BufferedImage square(double scale) {
+        int size = (int) Math.ceil(10 * scale);
+        return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Test
+    void testLevels() {
+        // Scale on a level stays on it; others round up
+        assertEquals(4, MapImageCache.levelOf(2D), "Level of 2");
+        assertEquals(5, MapImageCache.levelOf(2.1D), "Level of 2.1");
+        assertEquals(2D, MapImageCache.scaleOf(4), 0.000001D, "Scale of level 4");
+        assertTrue(MapImageCache.scaleOf(MapImageCache.levelOf(7.3D)) >= 7.3D, "Level covers scale");
+    }
+
+    @Test
+    void testSameLevel() {
+        var cache = new MapImageCache(MapImageCache.DEFAULT_BUDGET, false);
+        int[] renders = new int[1];
+        MapImageCache.Renderer renderer = s -> {
+            renders[0]++;
+            return square(s);
+        };
+
+        var first = cache.getImage("Hab", 10D, renderer);
+        var second = cache.getImage("Hab", 9.9D, renderer);
+        assertSame(first, second, "Nearby scales share an image");
+        assertEquals(1, renders[0], "Renders");
+    }
+
+    @Test
+    void testBudget() {
+        long budget = 1000L * 1000 * Integer.BYTES;
+        var cache = new MapImageCache(budget, false);
+
+        // Zoom through many scales of many structures
+        for (int i = 0; i < 20; i++) {
+            for (double scale = 1D; scale < 20D; scale += 0.5D) {
+                cache.getImage("Building " + i, scale, MapImageCacheTest::square);
+            }
+        }
+        assertTrue(cache.getUsed() <= budget, "Memory within budget");
+
+        cache.setBudget(budget / 10);
+        assertTrue(cache.getUsed() <= budget / 10, "Memory within smaller budget");
+
+        cache.clear();
+        assertEquals(0, cache.size(), "Images after clear");
+        assertEquals(0L, cache.getUsed(), "Memory after clear");
+    }
+
+    @Test
+    void testFixed() {
+        var cache = new MapImageCache(MapImageCache.DEFAULT_BUDGET, false);
+        var label = cache.getFixedImage("Label", () -> square(1D));
+
+        assertSame(label, cache.getFixedImage("Label", () -> square(2D)), "Label reused");
+        assertEquals(100L * Integer.BYTES, cache.getUsed(), "Memory of label");
+    }
+}